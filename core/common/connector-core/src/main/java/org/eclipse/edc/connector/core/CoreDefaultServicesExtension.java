@@ -21,12 +21,14 @@ import org.eclipse.edc.connector.core.base.EdcHttpClientImpl;
 import org.eclipse.edc.connector.core.base.OkHttpClientFactory;
 import org.eclipse.edc.connector.core.base.RetryPolicyFactory;
 import org.eclipse.edc.connector.core.base.agent.NoOpParticipantIdMapper;
+import org.eclipse.edc.connector.core.entity.StateMachineWakeUpSignalImpl;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.connector.core.vault.InMemoryVault;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.spi.agent.ParticipantIdMapper;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
@@ -75,6 +77,11 @@ public class CoreDefaultServicesExtension implements ServiceExtension {
         return ExecutorInstrumentation.noop();
     }
 
+    @Provider(isDefault = true)
+    public StateMachineWakeUpSignal stateMachineWakeUpSignal() {
+        return new StateMachineWakeUpSignalImpl();
+    }
+
     @Provider(isDefault = true)
     public EventExecutorServiceContainer eventExecutorServiceContainer() {
         return new EventExecutorServiceContainer(Executors.newFixedThreadPool(1));
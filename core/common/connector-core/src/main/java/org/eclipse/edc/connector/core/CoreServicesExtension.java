@@ -36,6 +36,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.agent.ParticipantAgentService;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
 import org.eclipse.edc.spi.event.EventRouter;
@@ -53,6 +54,7 @@ import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
 import java.time.Duration;
+import java.util.Arrays;
 
 import static org.eclipse.edc.spi.agent.ParticipantAgentService.DEFAULT_IDENTITY_CLAIM_KEY;
 
@@ -77,6 +79,26 @@ public class CoreServicesExtension implements ServiceExtension {
     @Setting
     public static final String IDENTITY_KEY = "edc.agent.identity.key";
 
+    private static final int DEFAULT_POLICY_FILTER_CACHE_SIZE = 0;
+    @Setting(value = "Maximum number of scope-filtered policies cached by the policy engine. Rule bindings registered after the first evaluation are not reflected by cached entries. 0 disables the cache",
+            type = "int", defaultValue = DEFAULT_POLICY_FILTER_CACHE_SIZE + "")
+    public static final String POLICY_FILTER_CACHE_SIZE = "edc.policy.engine.filter.cache.size";
+
+    private static final int DEFAULT_EVENT_QUEUE_CAPACITY = 0;
+    @Setting(value = "Capacity of the queue of every asynchronous event subscriber, that receives the events in order on its own thread. 0 runs the subscribers on the shared event executor without bound",
+            type = "int", defaultValue = DEFAULT_EVENT_QUEUE_CAPACITY + "")
+    public static final String EVENT_QUEUE_CAPACITY = "edc.events.subscriber.queue.capacity";
+
+    private static final String DEFAULT_EVENT_QUEUE_OVERFLOW = "DROP_NEWEST";
+    @Setting(value = "What to do with an event published when the queue of an asynchronous subscriber is full: BLOCK the publisher, DROP_OLDEST or DROP_NEWEST event",
+            defaultValue = DEFAULT_EVENT_QUEUE_OVERFLOW)
+    public static final String EVENT_QUEUE_OVERFLOW = "edc.events.subscriber.queue.overflow";
+
+    private static final long DEFAULT_EVENT_QUEUE_BLOCK_TIMEOUT = 1000;
+    @Setting(value = "How long a publisher waits for room in a full queue with the BLOCK overflow policy, before the event gets dropped",
+            type = "long", defaultValue = DEFAULT_EVENT_QUEUE_BLOCK_TIMEOUT + "")
+    public static final String EVENT_QUEUE_BLOCK_TIMEOUT = "edc.events.subscriber.queue.block-timeout-ms";
+
     public static final String NAME = "Core Services";
     private static final long DEFAULT_DURATION = 60;
     private static final int DEFAULT_TP_SIZE = 3;
@@ -96,6 +118,7 @@ public class CoreServicesExtension implements ServiceExtension {
 
     private HealthCheckServiceImpl healthCheckService;
     private RuleBindingRegistry ruleBindingRegistry;
+    private EventRouterImpl eventRouter;
 
 
     @Override
@@ -118,6 +141,9 @@ public class CoreServicesExtension implements ServiceExtension {
     @Override
     public void shutdown() {
         healthCheckService.stop();
+        if (eventRouter != null) {
+            eventRouter.shutdown();
+        }
         ServiceExtension.super.shutdown();
     }
 
@@ -157,14 +183,19 @@ public class CoreServicesExtension implements ServiceExtension {
     }
 
     @Provider
-    public PolicyEngine policyEngine() {
+    public PolicyEngine policyEngine(ServiceExtensionContext context) {
         var scopeFilter = new ScopeFilter(ruleBindingRegistry);
-        return new PolicyEngineImpl(scopeFilter);
+        return new PolicyEngineImpl(scopeFilter, context.getSetting(POLICY_FILTER_CACHE_SIZE, DEFAULT_POLICY_FILTER_CACHE_SIZE));
     }
 
     @Provider
     public EventRouter eventRouter(ServiceExtensionContext context) {
-        return new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService());
+        var queueCapacity = context.getSetting(EVENT_QUEUE_CAPACITY, DEFAULT_EVENT_QUEUE_CAPACITY);
+        var overflowPolicy = overflowPolicy(context.getSetting(EVENT_QUEUE_OVERFLOW, DEFAULT_EVENT_QUEUE_OVERFLOW));
+        var blockTimeout = context.getSetting(EVENT_QUEUE_BLOCK_TIMEOUT, DEFAULT_EVENT_QUEUE_BLOCK_TIMEOUT);
+        eventRouter = new EventRouterImpl(context.getMonitor(), eventExecutorServiceContainer.getExecutorService(), executorInstrumentation,
+                queueCapacity, overflowPolicy, blockTimeout);
+        return eventRouter;
     }
 
 
@@ -193,6 +224,14 @@ public class CoreServicesExtension implements ServiceExtension {
         return CriterionOperatorRegistryImpl.ofDefaults();
     }
 
+    private EventRouterImpl.OverflowPolicy overflowPolicy(String value) {
+        try {
+            return EventRouterImpl.OverflowPolicy.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new EdcException(String.format("Invalid setting %s=%s, the allowed values are %s", EVENT_QUEUE_OVERFLOW, value, Arrays.toString(EventRouterImpl.OverflowPolicy.values())));
+        }
+    }
+
     private HealthCheckServiceConfiguration getHealthCheckConfig(ServiceExtensionContext context) {
         return HealthCheckServiceConfiguration.Builder.newInstance()
                 .livenessPeriod(Duration.ofSeconds(context.getSetting(LIVENESS_PERIOD_SECONDS_SETTING, DEFAULT_DURATION)))
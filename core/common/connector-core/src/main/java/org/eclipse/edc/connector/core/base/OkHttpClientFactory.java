@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.core.base;
 
+import okhttp3.Dispatcher;
 import okhttp3.EventListener;
 import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
@@ -34,6 +35,8 @@ public class OkHttpClientFactory {
 
     private static final String DEFAULT_TIMEOUT = "30";
     private static final String DEFAULT_HTTPS_ENFORCE = "false";
+    private static final int DEFAULT_MAX_REQUESTS = 64;
+    private static final int DEFAULT_MAX_REQUESTS_PER_HOST = 5;
 
     @Setting(value = "If true, enable HTTPS call enforcement.", defaultValue = DEFAULT_HTTPS_ENFORCE, type = "boolean")
     public static final String EDC_HTTP_CLIENT_HTTPS_ENFORCE = "edc.http.client.https.enforce";
@@ -44,6 +47,12 @@ public class OkHttpClientFactory {
     @Setting(value = "HTTP Client read timeout, in seconds", defaultValue = DEFAULT_TIMEOUT, type = "int")
     public static final String EDC_HTTP_CLIENT_TIMEOUT_READ = "edc.http.client.timeout.read";
 
+    @Setting(value = "Maximum number of asynchronous requests the HTTP Client executes concurrently, further requests are queued", defaultValue = DEFAULT_MAX_REQUESTS + "", type = "int")
+    public static final String EDC_HTTP_CLIENT_MAX_REQUESTS = "edc.http.client.max-requests";
+
+    @Setting(value = "Maximum number of asynchronous requests the HTTP Client executes concurrently towards a single host, further requests are queued", defaultValue = DEFAULT_MAX_REQUESTS_PER_HOST + "", type = "int")
+    public static final String EDC_HTTP_CLIENT_MAX_REQUESTS_PER_HOST = "edc.http.client.max-requests-per-host";
+
     /**
      * Create an OkHttpClient instance
      *
@@ -56,7 +65,12 @@ public class OkHttpClientFactory {
         var connectTimeout = context.getSetting(EDC_HTTP_CLIENT_TIMEOUT_CONNECT, parseInt(DEFAULT_TIMEOUT));
         var readTimeout = context.getSetting(EDC_HTTP_CLIENT_TIMEOUT_READ, parseInt(DEFAULT_TIMEOUT));
 
+        var dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(context.getSetting(EDC_HTTP_CLIENT_MAX_REQUESTS, DEFAULT_MAX_REQUESTS));
+        dispatcher.setMaxRequestsPerHost(context.getSetting(EDC_HTTP_CLIENT_MAX_REQUESTS_PER_HOST, DEFAULT_MAX_REQUESTS_PER_HOST));
+
         var builder = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
                 .connectTimeout(connectTimeout, SECONDS)
                 .readTimeout(readTimeout, SECONDS);
 
@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.core.entity;
 
 import org.eclipse.edc.spi.entity.StateEntityManager;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.entity.StatefulEntity;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.persistence.StateEntityStore;
@@ -25,13 +26,24 @@ import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.StateMachineManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessFactory;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Abstraction that provides a common ground for state machine manager implementation.
+ * <p>
+ * When an entity gets updated in one of the states handled by the processors (see {@link #actionableState(int)}) the
+ * state machine gets woken up, so the entity is picked up without waiting for the wait strategy delay. When a
+ * {@link TransactionContext} is set, the wake-up happens after the current transaction commits, so that the state
+ * machine can see the entity. The state machine is also woken up every time the {@link StateMachineWakeUpSignal} is raised for its
+ * {@link #wakeUpTopic()}, e.g. when entities are changed by another component or by another replica.
  *
  * @param <E> the entity type.
  * @param <S> the store type.
@@ -40,11 +52,14 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
 
     public static final long DEFAULT_ITERATION_WAIT = 1000;
     public static final int DEFAULT_BATCH_SIZE = 20;
+    public static final int DEFAULT_WORKERS = 1;
     public static final int DEFAULT_SEND_RETRY_LIMIT = 7;
     public static final long DEFAULT_SEND_RETRY_BASE_DELAY = 1000L;
 
     protected Monitor monitor;
     protected int batchSize = DEFAULT_BATCH_SIZE;
+    protected int workers = DEFAULT_WORKERS;
+    protected final Map<Integer, Integer> concurrencyByState = new HashMap<>();
     protected WaitStrategy waitStrategy = () -> DEFAULT_ITERATION_WAIT;
     protected ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
     protected Telemetry telemetry = new Telemetry();
@@ -52,25 +67,52 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
     protected EntityRetryProcessFactory entityRetryProcessFactory;
     protected StateMachineManager stateMachineManager;
     protected Clock clock = Clock.systemUTC();
+    protected StateMachineWakeUpSignal wakeUpSignal;
+    protected TransactionContext transactionContext;
     protected S store;
+    private final Set<Integer> actionableStates = ConcurrentHashMap.newKeySet();
+    private Runnable wakeUpListener;
 
     @Override
     public void start() {
         entityRetryProcessFactory = new EntityRetryProcessFactory(monitor, clock, entityRetryProcessConfiguration);
         var stateMachineManagerBuilder = StateMachineManager.Builder
-                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy);
+                .newInstance(getClass().getSimpleName(), monitor, executorInstrumentation, waitStrategy)
+                .workers(workers);
         stateMachineManager = configureStateMachineManager(stateMachineManagerBuilder).build();
 
         stateMachineManager.start();
+
+        if (wakeUpSignal != null) {
+            wakeUpListener = stateMachineManager::wakeUp;
+            var topic = wakeUpTopic();
+            if (topic == null) {
+                wakeUpSignal.subscribe(wakeUpListener);
+            } else {
+                wakeUpSignal.subscribe(topic, wakeUpListener);
+            }
+        }
     }
 
     @Override
     public void stop() {
+        if (wakeUpSignal != null && wakeUpListener != null) {
+            wakeUpSignal.unsubscribe(wakeUpListener);
+        }
         if (stateMachineManager != null) {
             stateMachineManager.stop();
         }
     }
 
+    /**
+     * The topic of the {@link StateMachineWakeUpSignal} the state machine subscribes to, usually the managed entity type.
+     *
+     * @return the topic, null to be woken up whatever the topic.
+     */
+    protected String wakeUpTopic() {
+        return null;
+    }
+
     /**
      * configures the State Machine Manager builder
      *
@@ -84,15 +126,51 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
         return new EntityRetryProcessConfiguration(DEFAULT_SEND_RETRY_LIMIT, () -> new ExponentialWaitStrategy(DEFAULT_SEND_RETRY_BASE_DELAY));
     }
 
+    /**
+     * The number of lanes the processor of a state runs in when the state machine has more than one worker.
+     *
+     * @param state the state code.
+     * @return the concurrency, 1 if not configured.
+     */
+    protected int concurrency(int state) {
+        return concurrencyByState.getOrDefault(state, 1);
+    }
+
+    /**
+     * Registers a state as actionable, meaning that there's a processor that handles entities in that state.
+     *
+     * @param state the state code.
+     */
+    protected void actionableState(int state) {
+        actionableStates.add(state);
+    }
+
     protected void update(E entity) {
         store.save(entity);
         monitor.debug(() -> "[%s] %s %s is now in state %s"
                 .formatted(this.getClass().getSimpleName(), entity.getClass().getSimpleName(),
                         entity.getId(), entity.stateAsString()));
+        if (stateMachineManager != null && !entity.isPending() && actionableStates.contains(entity.getState())) {
+            if (transactionContext != null) {
+                transactionContext.afterCommit(stateMachineManager::wakeUp);
+            } else {
+                stateMachineManager.wakeUp();
+            }
+        }
     }
 
+    /**
+     * Gives back an entity that has been leased but not updated: if it has been changed it gets saved, otherwise just
+     * its lease is released.
+     *
+     * @param entity the entity.
+     */
     protected void breakLease(E entity) {
-        store.save(entity);
+        if (entity.hasChanges()) {
+            store.save(entity);
+        } else {
+            store.releaseLease(entity.getId());
+        }
     }
 
     public abstract static class Builder<E extends StatefulEntity<E>, S extends StateEntityStore<E>, M extends AbstractStateEntityManager<E, S>, B extends Builder<E, S, M, B>> {
@@ -115,6 +193,28 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B workers(int workers) {
+            manager.workers = workers;
+            return self();
+        }
+
+        /**
+         * Number of lanes the processor of a state runs in concurrently, applied only with more than one worker.
+         *
+         * @param state       the state code.
+         * @param concurrency the concurrency.
+         * @return the builder.
+         */
+        public B concurrency(int state, int concurrency) {
+            manager.concurrencyByState.put(state, concurrency);
+            return self();
+        }
+
+        public B concurrency(Map<Integer, Integer> concurrencyByState) {
+            manager.concurrencyByState.putAll(concurrencyByState);
+            return self();
+        }
+
         public B waitStrategy(WaitStrategy waitStrategy) {
             manager.waitStrategy = waitStrategy;
             return self();
@@ -140,6 +240,16 @@ public abstract class AbstractStateEntityManager<E extends StatefulEntity<E>, S
             return self();
         }
 
+        public B wakeUpSignal(StateMachineWakeUpSignal wakeUpSignal) {
+            manager.wakeUpSignal = wakeUpSignal;
+            return self();
+        }
+
+        public B transactionContext(TransactionContext transactionContext) {
+            manager.transactionContext = transactionContext;
+            return self();
+        }
+
         public B store(S store) {
             manager.store = store;
             return self();
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.lang.String.format;
+
+/**
+ * Reads the concurrency of the processors of a state machine from the configuration entries under a key, one entry per
+ * state named after it, e.g. {@code edc.transfer.state-machine.concurrency.STARTING=4}.
+ */
+public final class StateConcurrencyConfiguration {
+
+    private StateConcurrencyConfiguration() {
+    }
+
+    /**
+     * Reads the concurrency by state code.
+     *
+     * @param context   the service extension context.
+     * @param key       the key the entries are under.
+     * @param stateCode maps a state name to its code, throws {@link IllegalArgumentException} for unknown states.
+     * @return the concurrency by state code.
+     */
+    public static Map<Integer, Integer> fromConfig(ServiceExtensionContext context, String key, Function<String, Integer> stateCode) {
+        var concurrencyByState = new HashMap<Integer, Integer>();
+        context.getConfig(key).getRelativeEntries().forEach((state, value) -> {
+            var setting = key + "." + state;
+            int code;
+            int concurrency;
+            try {
+                code = stateCode.apply(state);
+                concurrency = Integer.parseInt(value);
+            } catch (IllegalArgumentException e) {
+                throw new EdcException(format("Invalid setting %s=%s: the key should end with a state name and the value should be an integer", setting, value), e);
+            }
+            if (concurrency < 1) {
+                throw new EdcException(format("Invalid setting %s=%s: the concurrency should be at least 1", setting, value));
+            }
+            concurrencyByState.put(code, concurrency);
+        });
+        return concurrencyByState;
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * In-process {@link StateMachineWakeUpSignal} implementation.
+ */
+public class StateMachineWakeUpSignalImpl implements StateMachineWakeUpSignal {
+
+    private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void subscribe(Runnable listener) {
+        subscriptions.add(new Subscription(null, listener));
+    }
+
+    @Override
+    public void subscribe(String topic, Runnable listener) {
+        subscriptions.add(new Subscription(topic, listener));
+    }
+
+    @Override
+    public void unsubscribe(Runnable listener) {
+        subscriptions.removeIf(subscription -> subscription.listener() == listener);
+    }
+
+    @Override
+    public void raise() {
+        subscriptions.forEach(subscription -> subscription.listener().run());
+    }
+
+    @Override
+    public void raise(String topic) {
+        subscriptions.stream()
+                .filter(subscription -> subscription.topic() == null || subscription.topic().equals(topic))
+                .forEach(subscription -> subscription.listener().run());
+    }
+
+    private record Subscription(String topic, Runnable listener) {
+    }
+}
@@ -20,68 +20,191 @@ import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
-import java.util.function.Supplier;
-import java.util.stream.Stream;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static java.lang.String.format;
 import static java.util.concurrent.CompletableFuture.runAsync;
 
+/**
+ * Routes events to the subscribers registered for their class or one of its super classes. The subscribers of every
+ * concrete event class are resolved once and then cached until a new subscriber is registered.
+ * <p>
+ * Asynchronous subscribers run on the shared executor by default. When a queue capacity is set, every asynchronous
+ * subscriber gets its own bounded queue, consumed by a single thread so that it receives the events in the order they
+ * were published, and the {@link OverflowPolicy} decides what happens when the queue is full. A publisher never waits
+ * longer than the configured block timeout, since it could hold resources (e.g. a database connection in a transaction)
+ * needed by the subscriber it waits for, or be a subscriber that another queue waits for. Subscribers registered with
+ * {@link #registerLossless(Class, EventSubscriber)} get an unbounded queue instead, so their events are never dropped.
+ * The queues are instrumented with the {@link ExecutorInstrumentation}, which reports their depth, the time spent by the
+ * handlers and the dropped events.
+ */
 public class EventRouterImpl implements EventRouter {
 
     private final Map<Class<?>, List<EventSubscriber>> subscribers = new ConcurrentHashMap<>();
     private final Map<Class<?>, List<EventSubscriber>> syncSubscribers = new ConcurrentHashMap<>();
+    private final Map<EventSubscriber, ExecutorService> subscriberQueues = new ConcurrentHashMap<>();
+    private final AtomicInteger queueCounter = new AtomicInteger();
+    private volatile Map<Class<?>, List<EventSubscriber>> dispatchTable = new ConcurrentHashMap<>();
+    private volatile Map<Class<?>, List<EventSubscriber>> syncDispatchTable = new ConcurrentHashMap<>();
 
     private final Monitor monitor;
     private final ExecutorService executor;
+    private final ExecutorInstrumentation executorInstrumentation;
+    private final int queueCapacity;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMillis;
 
     public EventRouterImpl(Monitor monitor, ExecutorService executor) {
+        this(monitor, executor, ExecutorInstrumentation.noop(), 0, OverflowPolicy.DROP_NEWEST, 0);
+    }
+
+    /**
+     * Creates a router that delivers the events to every asynchronous subscriber through a bounded queue.
+     *
+     * @param monitor                 the monitor.
+     * @param executor                the executor for asynchronous subscribers, used when queueCapacity is 0.
+     * @param executorInstrumentation the instrumentation of the subscriber queues.
+     * @param queueCapacity           the capacity of the queue of every asynchronous subscriber, 0 to use the shared executor.
+     * @param overflowPolicy          what to do with events published when a queue is full.
+     * @param blockTimeoutMillis      how long a publisher waits for room in a full queue with {@link OverflowPolicy#BLOCK}.
+     */
+    public EventRouterImpl(Monitor monitor, ExecutorService executor, ExecutorInstrumentation executorInstrumentation, int queueCapacity,
+                           OverflowPolicy overflowPolicy, long blockTimeoutMillis) {
         this.monitor = monitor;
         this.executor = executor;
+        this.executorInstrumentation = executorInstrumentation;
+        this.queueCapacity = queueCapacity;
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMillis = blockTimeoutMillis;
     }
 
     @Override
-    public <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
-        syncSubscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+    public synchronized <E extends Event> void registerSync(Class<E> eventKind, EventSubscriber subscriber) {
+        syncSubscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        syncDispatchTable = new ConcurrentHashMap<>();
     }
 
     @Override
     public <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber) {
-        subscribers.computeIfAbsent(eventKind, s -> new ArrayList<>()).add(subscriber);
+        register(eventKind, subscriber, true);
+    }
+
+    @Override
+    public <E extends Event> void registerLossless(Class<E> eventKind, EventSubscriber subscriber) {
+        register(eventKind, subscriber, false);
     }
-    
+
     @Override
     public <E extends Event> void publish(EventEnvelope<E> event) {
-        subscriberFor(event, this::getSyncSubscribers).forEach(subscriber -> subscriber.on(event));
-
-        subscriberFor(event, this::getSubscribers)
-                .map(subscriber -> runAsync(() -> subscriber.on(event), executor).thenApply(v -> subscriber))
-                .forEach(future -> future.whenComplete((subscriber, throwable) -> {
-                    if (throwable != null) {
-                        var subscriberName = subscriber.getClass().getSimpleName();
-                        var eventName = event.getClass().getSimpleName();
-                        monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
-                    }
-                }));
+        var eventClass = event.getPayload().getClass();
+
+        subscribersFor(eventClass, syncDispatchTable, syncSubscribers).forEach(subscriber -> subscriber.on(event));
+
+        subscribersFor(eventClass, dispatchTable, subscribers).forEach(subscriber ->
+                runAsync(() -> subscriber.on(event), subscriberQueues.getOrDefault(subscriber, executor))
+                        .whenComplete((v, throwable) -> {
+                            if (throwable != null) {
+                                var subscriberName = subscriber.getClass().getSimpleName();
+                                var eventName = event.getClass().getSimpleName();
+                                monitor.severe(format("Subscriber %s failed to handle event %s", subscriberName, eventName), throwable);
+                            }
+                        }));
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSubscribers() {
-        return subscribers;
+    /**
+     * Stops the subscriber queues. Events that are still queued are discarded.
+     */
+    public void shutdown() {
+        subscriberQueues.values().forEach(ExecutorService::shutdownNow);
+    }
+
+    private synchronized void register(Class<?> eventKind, EventSubscriber subscriber, boolean bounded) {
+        if (queueCapacity > 0) {
+            subscriberQueues.computeIfAbsent(subscriber, s -> createQueue(s, bounded));
+        }
+        subscribers.computeIfAbsent(eventKind, s -> new CopyOnWriteArrayList<>()).add(subscriber);
+        dispatchTable = new ConcurrentHashMap<>();
+    }
+
+    private List<EventSubscriber> subscribersFor(Class<?> eventClass, Map<Class<?>, List<EventSubscriber>> table, Map<Class<?>, List<EventSubscriber>> registrations) {
+        return table.computeIfAbsent(eventClass, key -> registrations.entrySet().stream()
+                .filter(entry -> entry.getKey().isAssignableFrom(key))
+                .flatMap(entry -> entry.getValue().stream())
+                .toList());
+    }
+
+    private ExecutorService createQueue(EventSubscriber subscriber, boolean bounded) {
+        var name = format("event-router-%d-%s", queueCounter.incrementAndGet(), subscriber.getClass().getSimpleName());
+        var tasks = bounded ? new ArrayBlockingQueue<Runnable>(queueCapacity) : new LinkedBlockingQueue<Runnable>();
+        var queue = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS, tasks,
+                runnable -> new Thread(runnable, name), overflowHandler(name));
+        queue.allowCoreThreadTimeOut(true);
+        return executorInstrumentation.instrument(queue, name);
+    }
+
+    private RejectedExecutionHandler overflowHandler(String name) {
+        return (runnable, queue) -> {
+            if (queue.isShutdown()) {
+                return;
+            }
+            switch (overflowPolicy) {
+                case DROP_OLDEST -> {
+                    queue.getQueue().poll();
+                    dropped(name, "Queue %s is full, the oldest event has been dropped".formatted(name));
+                    queue.execute(runnable);
+                }
+                case DROP_NEWEST -> dropped(name, "Queue %s is full, the event has been dropped".formatted(name));
+                default -> {
+                    if (Thread.currentThread().getName().equals(name)) {
+                        dropped(name, "Queue %s is full and the event has been published by its own subscriber, the event has been dropped".formatted(name));
+                        return;
+                    }
+                    try {
+                        if (!queue.getQueue().offer(runnable, blockTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                            dropped(name, "Queue %s is still full after %d ms, the event has been dropped".formatted(name, blockTimeoutMillis));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        dropped(name, "Interrupted while waiting for queue %s, the event has been dropped".formatted(name));
+                    }
+                }
+            }
+        };
     }
 
-    private Map<Class<?>, List<EventSubscriber>> getSyncSubscribers() {
-        return syncSubscribers;
+    private void dropped(String name, String message) {
+        executorInstrumentation.rejected(name);
+        monitor.warning(message);
     }
 
-    private <E extends Event> Stream<EventSubscriber> subscriberFor(EventEnvelope<E> envelope, Supplier<Map<Class<?>, List<EventSubscriber>>> supplier) {
-        return supplier.get().entrySet()
-                .stream()
-                .filter(entry -> entry.getKey().isAssignableFrom(envelope.getPayload().getClass()))
-                .flatMap(entry -> entry.getValue().stream());
+    /**
+     * What to do with an event published when the queue of an asynchronous subscriber is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The publisher waits until the queue has room for the event, up to the block timeout, then the event is
+         * dropped.
+         */
+        BLOCK,
+        /**
+         * The oldest event in the queue is dropped.
+         */
+        DROP_OLDEST,
+        /**
+         * The published event is dropped.
+         */
+        DROP_NEWEST
     }
 }
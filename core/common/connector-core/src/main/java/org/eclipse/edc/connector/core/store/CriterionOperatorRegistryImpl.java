@@ -23,7 +23,6 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.function.Predicate;
 
 import static java.lang.String.format;
@@ -44,6 +43,7 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
         registry.registerOperatorPredicate(IN, new InOperatorPredicate());
         registry.registerOperatorPredicate(LIKE, new LikeOperatorPredicate());
         registry.registerOperatorPredicate(CONTAINS, new ContainsOperatorPredicate());
+        registry.registerOperatorPredicate(GREATER_THAN, new GreaterThanOperatorPredicate());
         return registry;
     }
 
@@ -74,23 +74,27 @@ public class CriterionOperatorRegistryImpl implements CriterionOperatorRegistry
             throw new IllegalArgumentException(format("Operator [%s] is not supported.", criterion.getOperator()));
         }
 
-        return t -> {
-
-            var operandLeft = (String) criterion.getOperandLeft();
-
-            var property = propertyLookups.stream()
-                    .map(it -> it.getProperty(operandLeft, t))
-                    .filter(Objects::nonNull)
-                    .findFirst()
-                    .orElse(null);
+        var operandLeft = (String) criterion.getOperandLeft();
+        var operandRight = criterion.getOperandRight();
 
+        return t -> {
+            var property = lookupProperty(operandLeft, t);
             if (property == null) {
                 return false;
             }
 
-            return predicate.test(property, criterion.getOperandRight());
+            return predicate.test(property, operandRight);
         };
+    }
 
+    private Object lookupProperty(String key, Object object) {
+        for (var propertyLookup : propertyLookups) {
+            var property = propertyLookup.getProperty(key, object);
+            if (property != null) {
+                return property;
+            }
+        }
+        return null;
     }
 
 }
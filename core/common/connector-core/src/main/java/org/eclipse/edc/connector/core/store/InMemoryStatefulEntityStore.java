@@ -29,21 +29,32 @@ import org.jetbrains.annotations.Nullable;
 import java.time.Clock;
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyNavigableSet;
 import static java.util.Comparator.comparingLong;
 import static java.util.stream.Collectors.toList;
 
 /**
  * An in-memory, threadsafe entity store for a {@link StatefulEntity}. This implementation is intended for testing
  * purposes only.
+ * <p>
+ * Entities are indexed by state, ordered by state timestamp, so that {@link #nextNotLeased(int, Criterion...)} with a
+ * {@link StateEntityStore#hasState(int)} criterion only visits the oldest entities in that state instead of scanning
+ * and sorting the whole store. Subclasses can provide a correlation id through {@link #correlationId(StatefulEntity)}
+ * to get constant time lookups with {@link #findByCorrelationId(String)}.
  */
 public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements StateEntityStore<T> {
     private static final Duration DEFAULT_LEASE_TIME = Duration.ofSeconds(60);
@@ -53,6 +64,9 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     private final String lockId;
     private final Clock clock;
     private final Map<String, Lease> leases = new HashMap<>();
+    private final Map<Integer, NavigableSet<StateIndexEntry>> stateIndex = new HashMap<>();
+    private final Map<String, IndexedEntity> indexedEntities = new HashMap<>();
+    private final Map<String, Set<String>> correlationIndex = new ConcurrentHashMap<>();
     protected final CriterionOperatorRegistry criterionOperatorRegistry;
 
     public InMemoryStatefulEntityStore(Class<T> clazz, String lockId, Clock clock, CriterionOperatorRegistry criterionOperatorRegistry) {
@@ -74,11 +88,13 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     @Override
     public @NotNull List<T> nextNotLeased(int max, Criterion... criteria) {
         return lockManager.writeLock(() -> {
-            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::toPredicate).reduce(x -> true, Predicate::and);
-            var entities = entitiesById.values().stream()
-                    .filter(filterPredicate)
+            var filterPredicate = Arrays.stream(criteria).map(criterionOperatorRegistry::<T>toPredicate).reduce(x -> true, Predicate::and);
+            var state = indexedState(criteria);
+            var candidates = state == null ? scanAll(filterPredicate) : scanState(state, filterPredicate);
+            var now = clock.millis();
+            var entities = candidates
+                    .filter(e -> e.getNextEligibleAt() <= now)
                     .filter(e -> !isLeased(e.getId()))
-                    .sorted(comparingLong(StatefulEntity::getStateTimestamp)) //order by state timestamp, oldest first
                     .limit(max)
                     .toList();
             entities.forEach(i -> acquireLease(i.getId()));
@@ -96,7 +112,7 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
             try {
                 acquireLease(id);
-                return StoreResult.success(entity);
+                return StoreResult.success(entity.copy());
             } catch (IllegalStateException e) {
                 return StoreResult.alreadyLeased(format("Entity %s is already leased: %s", id, e.getMessage()));
             }
@@ -105,16 +121,37 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
 
     @Override
     public void save(T entity) {
-        acquireLease(entity.getId());
-        entitiesById.put(entity.getId(), entity.copy());
-        freeLease(entity.getId());
+        lockManager.writeLock(() -> {
+            acquireLease(entity.getId());
+            var copy = entity.copy();
+            entitiesById.put(entity.getId(), copy);
+            unindex(entity.getId());
+            index(copy);
+            freeLease(entity.getId());
+            entity.markSaved();
+            return null;
+        });
+    }
+
+    @Override
+    public void releaseLease(String id) {
+        lockManager.writeLock(() -> {
+            if (isLeasedBy(id, lockId)) {
+                freeLease(id);
+            }
+            return null;
+        });
     }
 
     public void delete(String id) {
-        if (isLeased(id)) {
-            throw new IllegalStateException("Entity is leased and cannot be deleted!");
-        }
-        entitiesById.remove(id);
+        lockManager.writeLock(() -> {
+            if (isLeased(id)) {
+                throw new IllegalStateException("Entity is leased and cannot be deleted!");
+            }
+            entitiesById.remove(id);
+            unindex(id);
+            return null;
+        });
     }
 
     public Stream<T> findAll(QuerySpec querySpec) {
@@ -126,15 +163,45 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     public void acquireLease(String id, String lockId, Duration leaseTime) {
-        if (!isLeased(id) || isLeasedBy(id, lockId)) {
-            leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
-        } else {
-            throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
-        }
+        lockManager.writeLock(() -> {
+            if (!isLeased(id) || isLeasedBy(id, lockId)) {
+                leases.put(id, new Lease(lockId, clock.millis(), leaseTime.toMillis()));
+            } else {
+                throw new IllegalStateException("Cannot acquire lease, is already leased by someone else!");
+            }
+            return null;
+        });
     }
 
     public boolean isLeasedBy(String id, String lockId) {
-        return isLeased(id) && leases.get(id).getLeasedBy().equals(lockId);
+        return lockManager.readLock(() -> isLeased(id) && leases.get(id).getLeasedBy().equals(lockId));
+    }
+
+    /**
+     * Returns the correlation id of the entity, which will be indexed for {@link #findByCorrelationId(String)}. The
+     * default implementation does not index any correlation id.
+     *
+     * @param entity the entity.
+     * @return the correlation id, null if none.
+     */
+    @Nullable
+    protected String correlationId(T entity) {
+        return null;
+    }
+
+    /**
+     * Finds the entity with the given correlation id, as provided by {@link #correlationId(StatefulEntity)}.
+     *
+     * @param correlationId the correlation id.
+     * @return a copy of the entity if found, null otherwise.
+     */
+    @Nullable
+    protected T findByCorrelationId(String correlationId) {
+        var ids = correlationIndex.get(correlationId);
+        if (ids == null) {
+            return null;
+        }
+        return ids.stream().map(this::findById).filter(Objects::nonNull).findFirst().orElse(null);
     }
 
     private void freeLease(String id) {
@@ -146,7 +213,81 @@ public class InMemoryStatefulEntityStore<T extends StatefulEntity<T>> implements
     }
 
     private boolean isLeased(String id) {
-        return leases.containsKey(id) && !leases.get(id).isExpired(clock.millis());
+        var lease = leases.get(id);
+        return lease != null && !lease.isExpired(clock.millis());
+    }
+
+    private Stream<T> scanAll(Predicate<T> filter) {
+        return entitiesById.values().stream()
+                .filter(filter)
+                .sorted(comparingLong(StatefulEntity::getStateTimestamp)); //order by state timestamp, oldest first
+    }
+
+    private Stream<T> scanState(int state, Predicate<T> filter) {
+        return stateIndex.getOrDefault(state, emptyNavigableSet()).stream() // already ordered by state timestamp
+                .map(entry -> entitiesById.get(entry.id()))
+                .filter(filter);
+    }
+
+    private void index(T entity) {
+        var entry = StateIndexEntry.of(entity);
+        stateIndex.computeIfAbsent(entity.getState(), s -> new TreeSet<>()).add(entry);
+        var correlationId = correlationId(entity);
+        if (correlationId != null) {
+            correlationIndex.computeIfAbsent(correlationId, c -> ConcurrentHashMap.newKeySet()).add(entity.getId());
+        }
+        indexedEntities.put(entity.getId(), new IndexedEntity(entity.getState(), entry, correlationId));
+    }
+
+    /**
+     * Removes the index entries of the entity, as they were created by {@link #index(StatefulEntity)}.
+     */
+    private void unindex(String id) {
+        var indexed = indexedEntities.remove(id);
+        if (indexed == null) {
+            return;
+        }
+        var entries = stateIndex.get(indexed.state());
+        if (entries != null) {
+            entries.remove(indexed.entry());
+        }
+        if (indexed.correlationId() != null) {
+            correlationIndex.computeIfPresent(indexed.correlationId(), (c, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    /**
+     * Returns the state that can be served by the state index, if the criteria contain an equality criterion on the
+     * state.
+     */
+    @Nullable
+    private Integer indexedState(Criterion... criteria) {
+        for (var criterion : criteria) {
+            if ("state".equals(criterion.getOperandLeft()) && "=".equals(criterion.getOperator()) && criterion.getOperandRight() instanceof Integer state) {
+                return state;
+            }
+        }
+        return null;
+    }
+
+    private record IndexedEntity(int state, StateIndexEntry entry, @Nullable String correlationId) {
+    }
+
+    private record StateIndexEntry(long stateTimestamp, String id) implements Comparable<StateIndexEntry> {
+
+        private static final Comparator<StateIndexEntry> ORDER = comparingLong(StateIndexEntry::stateTimestamp).thenComparing(StateIndexEntry::id);
+
+        static StateIndexEntry of(StatefulEntity<?> entity) {
+            return new StateIndexEntry(entity.getStateTimestamp(), entity.getId());
+        }
+
+        @Override
+        public int compareTo(@NotNull StateIndexEntry other) {
+            return ORDER.compare(this, other);
+        }
     }
 
 }
@@ -18,10 +18,13 @@ import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QueryResolver;
 import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.util.reflection.PropertyPath;
 import org.eclipse.edc.util.reflection.ReflectionUtil;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BinaryOperator;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -30,13 +33,18 @@ import static java.lang.String.format;
 
 /**
  * Default implementation of {@link QueryResolver} that applies query on a stream. Uses reflection to fetch object fields. Used in stores implementations.
+ * Property paths are compiled once into {@link PropertyPath}s and sort comparators are cached per sort field and order,
+ * so repeated queries do not pay the reflective lookup for every element.
  *
  * @param <T> type of the stream elements.
  */
 public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
 
+    private static final int MAX_CACHED_COMPARATORS = 256;
+
     private final Class<T> typeParameterClass;
     private final CriterionOperatorRegistry criterionOperatorRegistry;
+    private final Map<String, Comparator<T>> comparators = new ConcurrentHashMap<>();
 
     /**
      * Constructor for ReflectionBasedQueryResolver
@@ -73,22 +81,34 @@ public class ReflectionBasedQueryResolver<T> implements QueryResolver<T> {
         var sortField = spec.getSortField();
 
         if (sortField != null) {
-            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
-                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
-            }
-            var comparator = propertyComparator(spec.getSortOrder() == SortOrder.ASC, sortField);
-            filteredStream = filteredStream.sorted(comparator);
+            filteredStream = filteredStream.sorted(comparator(sortField, spec.getSortOrder()));
         }
 
         // limit
         return filteredStream.skip(spec.getOffset()).limit(spec.getLimit());
     }
 
+    private Comparator<T> comparator(String sortField, SortOrder sortOrder) {
+        var key = sortOrder + ":" + sortField;
+        var comparator = comparators.get(key);
+        if (comparator == null) {
+            if (ReflectionUtil.getFieldRecursive(typeParameterClass, sortField) == null) {
+                throw new IllegalArgumentException(format("Cannot sort by %s, the field does not exist in %s", sortField, typeParameterClass));
+            }
+            if (comparators.size() >= MAX_CACHED_COMPARATORS) {
+                comparators.clear();
+            }
+            comparator = comparators.computeIfAbsent(key, k -> propertyComparator(sortOrder == SortOrder.ASC, sortField));
+        }
+        return comparator;
+    }
+
     @NotNull
     private Comparator<T> propertyComparator(boolean isAscending, String property) {
+        var path = PropertyPath.of(property);
         return (obj1, obj2) -> {
-            var o1 = ReflectionUtil.getFieldValue(property, obj1);
-            var o2 = ReflectionUtil.getFieldValue(property, obj2);
+            var o1 = path.getValue(obj1);
+            var o2 = path.getValue(obj2);
 
             if (o1 == null || o2 == null) {
                 return 0;
@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.core;
 import org.eclipse.edc.connector.core.event.EventExecutorServiceContainer;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.policy.model.PolicyRegistrationTypes;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
@@ -28,8 +29,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import java.util.concurrent.Executors;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.connector.core.CoreServicesExtension.EVENT_QUEUE_OVERFLOW;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class CoreServicesExtensionTest {
@@ -59,4 +63,14 @@ class CoreServicesExtensionTest {
         PolicyRegistrationTypes.TYPES.forEach(t -> verify(typeManager).registerTypes(t));
     }
 
+    @Test
+    void eventRouter_shouldReportTheSetting_whenOverflowPolicyIsInvalid() {
+        when(context.getSetting(EVENT_QUEUE_OVERFLOW, "DROP_NEWEST")).thenReturn("DROP_ALL");
+
+        assertThatThrownBy(() -> extension.eventRouter(context))
+                .isInstanceOf(EdcException.class)
+                .hasMessageContaining(EVENT_QUEUE_OVERFLOW)
+                .hasMessageContaining("DROP_ALL");
+    }
+
 }
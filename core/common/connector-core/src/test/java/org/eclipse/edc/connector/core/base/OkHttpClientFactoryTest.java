@@ -35,9 +35,12 @@ import java.util.List;
 import java.util.Map;
 
 import static java.util.Collections.emptyMap;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.eclipse.edc.connector.core.base.OkHttpClientFactory.EDC_HTTP_CLIENT_HTTPS_ENFORCE;
+import static org.eclipse.edc.connector.core.base.OkHttpClientFactory.EDC_HTTP_CLIENT_MAX_REQUESTS;
+import static org.eclipse.edc.connector.core.base.OkHttpClientFactory.EDC_HTTP_CLIENT_MAX_REQUESTS_PER_HOST;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
@@ -77,6 +80,27 @@ class OkHttpClientFactoryTest {
         verify(monitor, never()).info(argThat(messageContains("HTTPS enforcement")));
     }
 
+    @Test
+    void shouldUseDefaultDispatcherLimits() {
+        var context = createContextWithConfig(emptyMap());
+
+        var dispatcher = OkHttpClientFactory.create(context, eventListener).dispatcher();
+
+        assertThat(dispatcher.getMaxRequests()).isEqualTo(64);
+        assertThat(dispatcher.getMaxRequestsPerHost()).isEqualTo(5);
+    }
+
+    @Test
+    void shouldConfigureDispatcherLimits() {
+        var config = Map.of(EDC_HTTP_CLIENT_MAX_REQUESTS, "128", EDC_HTTP_CLIENT_MAX_REQUESTS_PER_HOST, "32");
+        var context = createContextWithConfig(config);
+
+        var dispatcher = OkHttpClientFactory.create(context, eventListener).dispatcher();
+
+        assertThat(dispatcher.getMaxRequests()).isEqualTo(128);
+        assertThat(dispatcher.getMaxRequestsPerHost()).isEqualTo(32);
+    }
+
     @NotNull
     private Interceptor dummySuccessfulResponse() {
         return it -> new Response.Builder()
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StateConcurrencyConfigurationTest {
+
+    private static final String KEY = "edc.test.state-machine.concurrency";
+    private final Function<String, Integer> stateCode = state -> State.valueOf(state).code;
+    private final ServiceExtensionContext context = mock();
+
+    @Test
+    void shouldMapStateNamesToCodes() {
+        when(context.getConfig(any())).thenAnswer(i -> ConfigFactory.fromMap(Map.of(KEY + ".STARTING", "4", KEY + ".STARTED", "2")).getConfig(i.getArgument(0)));
+
+        var concurrency = StateConcurrencyConfiguration.fromConfig(context, KEY, stateCode);
+
+        assertThat(concurrency).containsExactlyInAnyOrderEntriesOf(Map.of(100, 4, 200, 2));
+    }
+
+    @Test
+    void shouldBeEmpty_whenNotConfigured() {
+        when(context.getConfig(any())).thenAnswer(i -> ConfigFactory.fromMap(Map.of()).getConfig(i.getArgument(0)));
+
+        assertThat(StateConcurrencyConfiguration.fromConfig(context, KEY, stateCode)).isEmpty();
+    }
+
+    @Test
+    void shouldThrowException_whenStateIsUnknown() {
+        when(context.getConfig(any())).thenAnswer(i -> ConfigFactory.fromMap(Map.of(KEY + ".UNKNOWN", "4")).getConfig(i.getArgument(0)));
+
+        assertThatThrownBy(() -> StateConcurrencyConfiguration.fromConfig(context, KEY, stateCode))
+                .isInstanceOf(EdcException.class).hasMessageContaining(KEY + ".UNKNOWN");
+    }
+
+    @Test
+    void shouldThrowException_whenConcurrencyIsNotPositive() {
+        when(context.getConfig(any())).thenAnswer(i -> ConfigFactory.fromMap(Map.of(KEY + ".STARTING", "0")).getConfig(i.getArgument(0)));
+
+        assertThatThrownBy(() -> StateConcurrencyConfiguration.fromConfig(context, KEY, stateCode))
+                .isInstanceOf(EdcException.class).hasMessageContaining(KEY + ".STARTING");
+    }
+
+    private enum State {
+        STARTING(100), STARTED(200);
+
+        private final int code;
+
+        State(int code) {
+            this.code = code;
+        }
+    }
+}
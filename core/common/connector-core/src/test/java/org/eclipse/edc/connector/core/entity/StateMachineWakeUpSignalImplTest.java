@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.entity;
+
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class StateMachineWakeUpSignalImplTest {
+
+    private final StateMachineWakeUpSignalImpl signal = new StateMachineWakeUpSignalImpl();
+
+    @Test
+    void raise_shouldNotifyAllListeners() {
+        var listener = mock(Runnable.class);
+        var anotherListener = mock(Runnable.class);
+        signal.subscribe(listener);
+        signal.subscribe(anotherListener);
+
+        signal.raise();
+
+        verify(listener).run();
+        verify(anotherListener).run();
+    }
+
+    @Test
+    void raise_shouldNotNotifyUnsubscribedListeners() {
+        var listener = mock(Runnable.class);
+        signal.subscribe(listener);
+        signal.unsubscribe(listener);
+
+        signal.raise();
+
+        verifyNoInteractions(listener);
+    }
+
+    @Test
+    void raiseTopic_shouldNotifyListenersOfTopicAndOfAllTopics() {
+        var listener = mock(Runnable.class);
+        var otherTopicListener = mock(Runnable.class);
+        var allTopicsListener = mock(Runnable.class);
+        signal.subscribe("topic", listener);
+        signal.subscribe("other", otherTopicListener);
+        signal.subscribe(allTopicsListener);
+
+        signal.raise("topic");
+
+        verify(listener).run();
+        verify(allTopicsListener).run();
+        verifyNoInteractions(otherTopicListener);
+    }
+
+    @Test
+    void raise_shouldNotifyListenersOfEveryTopic() {
+        var listener = mock(Runnable.class);
+        signal.subscribe("topic", listener);
+
+        signal.raise();
+
+        verify(listener).run();
+    }
+}
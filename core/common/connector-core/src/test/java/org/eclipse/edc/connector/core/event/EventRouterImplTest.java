@@ -18,18 +18,32 @@ import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
 import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
 import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
@@ -149,6 +163,213 @@ class EventRouterImplTest {
         verifyNoInteractions(subscriberB);
     }
 
+    @Test
+    void shouldPublishToSubscriberRegisteredAfterFirstPublish() {
+        var subscriber = mock(EventSubscriber.class);
+        var lateSubscriber = mock(EventSubscriber.class);
+        eventRouter.registerSync(TestEvent.class, subscriber);
+        eventRouter.publish(envelope());
+
+        eventRouter.registerSync(Event.class, lateSubscriber);
+        var event = envelope();
+        eventRouter.publish(event);
+
+        verify(lateSubscriber).on(eq(event));
+    }
+
+    @Nested
+    class SubscriberQueue {
+
+        @Test
+        void shouldDeliverEventsInOrder() {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 10, EventRouterImpl.OverflowPolicy.BLOCK, 5000);
+            var subscriber = new BlockingSubscriber();
+            subscriber.release.countDown();
+            router.register(TestEvent.class, subscriber);
+
+            var events = IntStream.range(0, 50).mapToObj(i -> envelope()).toList();
+            events.forEach(router::publish);
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(subscriber.received).containsExactlyElementsOf(events));
+            router.shutdown();
+        }
+
+        @Test
+        void shouldInstrumentQueue() {
+            var instrumentation = spy(ExecutorInstrumentation.noop());
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), instrumentation, 10, EventRouterImpl.OverflowPolicy.BLOCK, 5000);
+
+            router.register(TestEvent.class, mock(EventSubscriber.class));
+
+            verify(instrumentation).instrument(any(ExecutorService.class), anyString());
+            router.shutdown();
+        }
+
+        @Test
+        void shouldDropNewestEvent_whenQueueIsFull() throws InterruptedException {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 1, EventRouterImpl.OverflowPolicy.DROP_NEWEST, 5000);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.register(TestEvent.class, blockingSubscriber);
+
+            var first = envelope();
+            var second = envelope();
+            var third = envelope();
+            router.publish(first);
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(second);
+            router.publish(third);
+            blockingSubscriber.release.countDown();
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blockingSubscriber.received).containsExactly(first, second));
+            verify(monitor).warning(anyString());
+            router.shutdown();
+        }
+
+        @Test
+        void shouldCountDroppedEvents() throws InterruptedException {
+            var instrumentation = spy(ExecutorInstrumentation.noop());
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), instrumentation, 1, EventRouterImpl.OverflowPolicy.DROP_NEWEST, 5000);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.register(TestEvent.class, blockingSubscriber);
+
+            router.publish(envelope());
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(envelope());
+            router.publish(envelope());
+            router.publish(envelope());
+            blockingSubscriber.release.countDown();
+
+            verify(instrumentation, times(2)).rejected(startsWith("event-router-"));
+            router.shutdown();
+        }
+
+        @Test
+        void shouldNotDropEvents_whenSubscriberIsLossless() throws InterruptedException {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 1, EventRouterImpl.OverflowPolicy.DROP_NEWEST, 5000);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.registerLossless(TestEvent.class, blockingSubscriber);
+
+            var first = envelope();
+            var second = envelope();
+            var third = envelope();
+            router.publish(first);
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(second);
+            router.publish(third);
+            blockingSubscriber.release.countDown();
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blockingSubscriber.received).containsExactly(first, second, third));
+            verify(monitor, never()).warning(anyString());
+            router.shutdown();
+        }
+
+        @Test
+        void shouldDropOldestEvent_whenQueueIsFull() throws InterruptedException {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 1, EventRouterImpl.OverflowPolicy.DROP_OLDEST, 5000);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.register(TestEvent.class, blockingSubscriber);
+
+            var first = envelope();
+            var second = envelope();
+            var third = envelope();
+            router.publish(first);
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(second);
+            router.publish(third);
+            blockingSubscriber.release.countDown();
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blockingSubscriber.received).containsExactly(first, third));
+            verify(monitor).warning(anyString());
+            router.shutdown();
+        }
+
+        @Test
+        void shouldBlockPublisher_whenQueueIsFull() throws InterruptedException {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 1, EventRouterImpl.OverflowPolicy.BLOCK, 5000);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.register(TestEvent.class, blockingSubscriber);
+
+            var first = envelope();
+            var second = envelope();
+            var third = envelope();
+            router.publish(first);
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(second);
+            var publisher = new Thread(() -> router.publish(third));
+            publisher.start();
+
+            await().atMost(1, TimeUnit.SECONDS).until(() -> publisher.getState() == Thread.State.TIMED_WAITING);
+            blockingSubscriber.release.countDown();
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blockingSubscriber.received).containsExactly(first, second, third));
+            verifyNoInteractions(monitor);
+            router.shutdown();
+        }
+
+        @Test
+        void shouldDropEvent_whenQueueIsStillFullAfterBlockTimeout() throws InterruptedException {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 1, EventRouterImpl.OverflowPolicy.BLOCK, 50);
+            var blockingSubscriber = new BlockingSubscriber();
+            router.register(TestEvent.class, blockingSubscriber);
+
+            var first = envelope();
+            var second = envelope();
+            var third = envelope();
+            router.publish(first);
+            blockingSubscriber.started.await(1, TimeUnit.SECONDS);
+            router.publish(second);
+            router.publish(third);
+            blockingSubscriber.release.countDown();
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> assertThat(blockingSubscriber.received).containsExactly(first, second));
+            verify(monitor).warning(anyString());
+            router.shutdown();
+        }
+
+        @Test
+        void shouldNotInterruptDelivery_whenSubscriberThrowsException() {
+            var router = new EventRouterImpl(monitor, Executors.newSingleThreadExecutor(), ExecutorInstrumentation.noop(), 10, EventRouterImpl.OverflowPolicy.BLOCK, 5000);
+            var subscriber = mock(EventSubscriber.class);
+            doThrow(new RuntimeException("unexpected exception")).when(subscriber).on(any());
+            router.register(TestEvent.class, subscriber);
+
+            var first = envelope();
+            var second = envelope();
+            router.publish(first);
+            router.publish(second);
+
+            await().atMost(1, TimeUnit.SECONDS).untilAsserted(() -> {
+                verify(subscriber).on(eq(first));
+                verify(subscriber).on(eq(second));
+            });
+            router.shutdown();
+        }
+    }
+
+    private EventEnvelope<TestEvent> envelope() {
+        return EventEnvelope.Builder.newInstance()
+                .at(clock.millis())
+                .payload(TestEvent.Builder.newInstance().build())
+                .build();
+    }
+
+    private static class BlockingSubscriber implements EventSubscriber {
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<EventEnvelope<?>> received = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public <E extends Event> void on(EventEnvelope<E> event) {
+            started.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            received.add(event);
+        }
+    }
+
     private abstract static class TestEventBase extends Event {
     }
 
@@ -0,0 +1,45 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.core.store;
+
+import org.eclipse.edc.spi.query.OperatorPredicate;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GreaterThanOperatorPredicateTest {
+
+    private final OperatorPredicate predicate = new GreaterThanOperatorPredicate();
+
+    @Test
+    void shouldCompareStrings() {
+        assertThat(predicate.test("b", "a")).isTrue();
+        assertThat(predicate.test("a", "a")).isFalse();
+        assertThat(predicate.test("a", "b")).isFalse();
+    }
+
+    @Test
+    void shouldCompareNumbers() {
+        assertThat(predicate.test(2, 1L)).isTrue();
+        assertThat(predicate.test(1.5, 1)).isTrue();
+        assertThat(predicate.test(1, 1.0)).isFalse();
+    }
+
+    @Test
+    void shouldReturnFalse_whenTypesAreNotComparable() {
+        assertThat(predicate.test("b", 1)).isFalse();
+        assertThat(predicate.test(new Object(), new Object())).isFalse();
+    }
+}
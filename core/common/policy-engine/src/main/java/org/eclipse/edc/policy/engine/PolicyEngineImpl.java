@@ -30,10 +30,13 @@ import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiFunction;
 
 import static java.util.stream.Collectors.toList;
@@ -42,6 +45,12 @@ import static org.eclipse.edc.spi.result.Result.success;
 
 /**
  * Default implementation of the policy engine.
+ * <p>
+ * The validators and functions that apply to a scope are collected in an {@link EvaluationPlan} on the first evaluation
+ * for that scope, and the plan is reused until a new validator or function is registered. Optionally, the result of
+ * applying a scope to a policy is cached as well, keyed by scope and policy. As rules have no value equality, entries
+ * are only reused for the same rule instances, e.g. policies held by an in-memory store. The cache is not notified of
+ * changes to the rule bindings, so it should only be enabled when all bindings are registered at startup.
  */
 public class PolicyEngineImpl implements PolicyEngine {
 
@@ -54,70 +63,56 @@ public class PolicyEngineImpl implements PolicyEngine {
     private final Map<String, List<RuleFunctionEntry<Rule>>> ruleFunctions = new TreeMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> preValidators = new HashMap<>();
     private final Map<String, List<BiFunction<Policy, PolicyContext, Boolean>>> postValidators = new HashMap<>();
+    private final Map<String, EvaluationPlan> evaluationPlans = new ConcurrentHashMap<>();
+    private final Map<FilteredPolicyKey, Policy> filteredPolicies;
     private final ScopeFilter scopeFilter;
 
     public PolicyEngineImpl(ScopeFilter scopeFilter) {
+        this(scopeFilter, 0);
+    }
+
+    /**
+     * Creates a policy engine that caches up to {@code filteredPolicyCacheSize} scope-filtered policies. 0 disables the
+     * cache.
+     */
+    public PolicyEngineImpl(ScopeFilter scopeFilter, int filteredPolicyCacheSize) {
         this.scopeFilter = scopeFilter;
+        this.filteredPolicies = filteredPolicyCacheSize > 0 ? lruMap(filteredPolicyCacheSize) : null;
     }
 
     @Override
     public Policy filter(Policy policy, String scope) {
-        return scopeFilter.applyScope(policy, scope);
+        if (filteredPolicies == null) {
+            return scopeFilter.applyScope(policy, scope);
+        }
+        var key = new FilteredPolicyKey(scope, policy);
+        var filtered = filteredPolicies.get(key);
+        if (filtered == null) {
+            filtered = scopeFilter.applyScope(policy, scope);
+            filteredPolicies.put(key, filtered);
+        }
+        return filtered;
     }
 
     @Override
     public Result<Void> evaluate(String scope, Policy policy, PolicyContext context) {
-        var delimitedScope = scope + ".";
+        var plan = evaluationPlans.computeIfAbsent(scope, this::createEvaluationPlan);
 
-        var scopedPreValidators = preValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-        for (var validator : scopedPreValidators) {
+        for (var validator : plan.preValidators) {
             if (!validator.apply(policy, context)) {
                 return failValidator("Pre-validator", validator, context);
             }
         }
 
-        var evalBuilder = PolicyEvaluator.Builder.newInstance();
-
-        ruleFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
-            }
-        });
-
-        constraintFunctions.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
-            }
-        });
-
-        dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).forEach(entry -> {
-            if (Duty.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
-            } else if (Permission.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
-            } else if (Prohibition.class.isAssignableFrom(entry.type)) {
-                evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
-            }
-        });
-
-        var evaluator = evalBuilder.build();
+        var evaluator = plan.evaluator(context);
 
-        var filteredPolicy = scopeFilter.applyScope(policy, scope);
+        var filteredPolicy = filter(policy, scope);
 
         var result = evaluator.evaluate(filteredPolicy);
 
         if (result.valid()) {
 
-            var scopedPostValidators = postValidators.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(l -> l.getValue().stream()).toList();
-            for (var validator : scopedPostValidators) {
+            for (var validator : plan.postValidators) {
                 if (!validator.apply(policy, context)) {
                     return failValidator("Post-validator", validator, context);
                 }
@@ -133,28 +128,56 @@ public class PolicyEngineImpl implements PolicyEngine {
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, String key, AtomicConstraintFunction<R> function) {
         constraintFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new ConstraintFunctionEntry(type, key, function));
+        evaluationPlans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, DynamicAtomicConstraintFunction<R> function) {
         dynamicConstraintFunctions.add(new DynamicConstraintFunctionEntry(type, scope + DELIMITER, function));
+        evaluationPlans.clear();
     }
 
     @Override
     @SuppressWarnings({ "unchecked", "rawtypes" })
     public <R extends Rule> void registerFunction(String scope, Class<R> type, RuleFunction<R> function) {
         ruleFunctions.computeIfAbsent(scope + ".", k -> new ArrayList<>()).add(new RuleFunctionEntry(type, function));
+        evaluationPlans.clear();
     }
 
     @Override
     public void registerPreValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         preValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        evaluationPlans.clear();
     }
 
     @Override
     public void registerPostValidator(String scope, BiFunction<Policy, PolicyContext, Boolean> validator) {
         postValidators.computeIfAbsent(scope + DELIMITER, k -> new ArrayList<>()).add(validator);
+        evaluationPlans.clear();
+    }
+
+    private EvaluationPlan createEvaluationPlan(String scope) {
+        var delimitedScope = scope + DELIMITER;
+        return new EvaluationPlan(
+                inScope(preValidators, delimitedScope),
+                inScope(ruleFunctions, delimitedScope),
+                inScope(constraintFunctions, delimitedScope),
+                dynamicConstraintFunctions.stream().filter(entry -> scopeFilter(entry.scope, delimitedScope)).toList(),
+                inScope(postValidators, delimitedScope));
+    }
+
+    private <T> List<T> inScope(Map<String, List<T>> entries, String delimitedScope) {
+        return entries.entrySet().stream().filter(entry -> scopeFilter(entry.getKey(), delimitedScope)).flatMap(entry -> entry.getValue().stream()).toList();
+    }
+
+    private static <K, V> Map<K, V> lruMap(int capacity) {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > capacity;
+            }
+        });
     }
 
     private boolean scopeFilter(String entry, String scope) {
@@ -166,6 +189,59 @@ public class PolicyEngineImpl implements PolicyEngine {
         return failure(context.hasProblems() ? context.getProblems() : List.of(type + " failed: " + validator.getClass().getName()));
     }
 
+    /**
+     * The validators and functions that apply to a scope.
+     */
+    private record EvaluationPlan(List<BiFunction<Policy, PolicyContext, Boolean>> preValidators,
+                                  List<RuleFunctionEntry<Rule>> ruleFunctions,
+                                  List<ConstraintFunctionEntry<Rule>> constraintFunctions,
+                                  List<DynamicConstraintFunctionEntry<Rule>> dynamicConstraintFunctions,
+                                  List<BiFunction<Policy, PolicyContext, Boolean>> postValidators) {
+
+        /**
+         * Creates an evaluator whose functions are bound to the context. An evaluator collects the problems of a single
+         * evaluation, so it cannot be shared between evaluations.
+         */
+        PolicyEvaluator evaluator(PolicyContext context) {
+            var evalBuilder = PolicyEvaluator.Builder.newInstance();
+
+            ruleFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionRuleFunction((rule) -> entry.function.evaluate(rule, context));
+                }
+            });
+
+            constraintFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dutyFunction(entry.key, (operator, value, duty) -> entry.function.evaluate(operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.permissionFunction(entry.key, (operator, value, permission) -> entry.function.evaluate(operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.prohibitionFunction(entry.key, (operator, value, prohibition) -> entry.function.evaluate(operator, value, prohibition, context));
+                }
+            });
+
+            dynamicConstraintFunctions.forEach(entry -> {
+                if (Duty.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicDutyFunction(entry.function::canHandle, (key, operator, value, duty) -> entry.function.evaluate(key, operator, value, duty, context));
+                } else if (Permission.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicPermissionFunction(entry.function::canHandle, (key, operator, value, permission) -> entry.function.evaluate(key, operator, value, permission, context));
+                } else if (Prohibition.class.isAssignableFrom(entry.type)) {
+                    evalBuilder.dynamicProhibitionFunction(entry.function::canHandle, (key, operator, value, prohibition) -> entry.function.evaluate(key, operator, value, prohibition, context));
+                }
+            });
+
+            return evalBuilder.build();
+        }
+    }
+
+    private record FilteredPolicyKey(String scope, Policy policy) {
+    }
+
     private static class ConstraintFunctionEntry<R extends Rule> {
         Class<R> type;
         String key;
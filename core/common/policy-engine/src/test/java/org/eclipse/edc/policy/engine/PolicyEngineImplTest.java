@@ -385,6 +385,35 @@ class PolicyEngineImplTest {
         verifyNoInteractions(function);
     }
 
+    @Test
+    void shouldApplyFunction_whenRegisteredAfterPreviousEvaluation() {
+        bindingRegistry.bind("foo", ALL_SCOPES);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var policy = createTestPolicy();
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+
+        policyEngine.registerFunction(ALL_SCOPES, Prohibition.class, "foo", (op, rv, prohibition, ctx) -> true);
+
+        assertThat(policyEngine.evaluate(TEST_SCOPE, policy, context)).isFailed();
+    }
+
+    @Test
+    void shouldApplyScopeOnce_whenFilteredPolicyCacheIsEnabled() {
+        var scopeFilter = mock(ScopeFilter.class);
+        var emptyPolicy = Policy.Builder.newInstance().build();
+        when(scopeFilter.applyScope(any(Policy.class), any())).thenReturn(emptyPolicy);
+        var cachingEngine = new PolicyEngineImpl(scopeFilter, 10);
+        var context = PolicyContextImpl.Builder.newInstance().build();
+        var policy = createTestPolicy();
+
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+        assertThat(cachingEngine.evaluate(TEST_SCOPE, policy, context)).isSucceeded();
+        assertThat(cachingEngine.evaluate("other", policy, context)).isSucceeded();
+
+        verify(scopeFilter).applyScope(any(Policy.class), eq(TEST_SCOPE));
+        verify(scopeFilter).applyScope(any(Policy.class), eq("other"));
+    }
+
     private Policy createTestPolicy() {
         var left = new LiteralExpression("foo");
         var right = new LiteralExpression("bar");
@@ -17,15 +17,19 @@ package org.eclipse.edc.statemachine;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.retry.WaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
-import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
@@ -35,27 +39,36 @@ import static java.util.concurrent.TimeUnit.SECONDS;
  * Handles a loop that processes entities continuously.
  * On every iteration it runs all the set processors sequentially,
  * applying a wait strategy in the case no entities are processed on the iteration.
+ * <p>
+ * When configured with more than one worker, every processor runs in its own lane, that's a loop that gets scheduled
+ * on a shared pool of worker threads, so a slow processor does not stall the other ones. A lane never runs
+ * concurrently with itself and it's re-queued after every iteration, so all the lanes get a fair share of the workers.
+ * A processor registered with a concurrency greater than one gets that many lanes, so it can run on more workers at the
+ * same time: this requires the processor to be safe for concurrent use, e.g. by leasing the entities it processes.
+ * <p>
+ * A lane that is waiting because its last iteration did not process any entity can be woken up with {@link #wakeUp()},
+ * e.g. when an entity has been persisted in a state that one of the processors handles, to avoid waiting for the
+ * whole wait strategy delay.
  */
 public class StateMachineManager {
 
     private final List<Processor> processors = new ArrayList<>();
-    private final ScheduledExecutorService executor;
+    private final Map<Processor, Integer> concurrency = new IdentityHashMap<>();
     private final AtomicBoolean active = new AtomicBoolean();
     private final WaitStrategy waitStrategy;
     private final Monitor monitor;
     private final String name;
+    private final ExecutorInstrumentation instrumentation;
+    private ScheduledExecutorService executor;
     private int shutdownTimeout = 10;
+    private int workers = 1;
+    private volatile List<Lane> lanes = List.of();
 
     private StateMachineManager(String name, Monitor monitor, ExecutorInstrumentation instrumentation, WaitStrategy waitStrategy) {
         this.name = name;
         this.monitor = monitor;
         this.waitStrategy = waitStrategy;
-        executor = instrumentation.instrument(
-                Executors.newSingleThreadScheduledExecutor(r -> {
-                    var thread = Executors.defaultThreadFactory().newThread(r);
-                    thread.setName("StateMachineManager-" + name);
-                    return thread;
-                }), name);
+        this.instrumentation = instrumentation;
     }
 
     /**
@@ -65,7 +78,22 @@ public class StateMachineManager {
      */
     public Future<?> start() {
         active.set(true);
-        return scheduleNextIterationIn(0L);
+        var processorsByLane = workers > 1 ? processors.stream().flatMap(this::lanesOf).toList() : List.of(processors);
+        lanes = processorsByLane.stream().map(Lane::new).toList();
+        var firstIterations = lanes.stream()
+                .map(lane -> {
+                    var firstIteration = new CompletableFuture<Void>();
+                    executor.schedule(() -> {
+                        try {
+                            lane.run();
+                        } finally {
+                            firstIteration.complete(null);
+                        }
+                    }, 0L, MILLISECONDS);
+                    return firstIteration;
+                })
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(firstIterations);
     }
 
     /**
@@ -95,37 +123,73 @@ public class StateMachineManager {
         return active.get();
     }
 
-    private Runnable loop() {
-        return () -> {
+    /**
+     * Wake up the loop: lanes that are waiting for the next iteration get rescheduled immediately, lanes that are
+     * running will start the next iteration without waiting.
+     */
+    public void wakeUp() {
+        if (active.get()) {
+            lanes.forEach(Lane::wakeUp);
+        }
+    }
+
+    private Stream<List<Processor>> lanesOf(Processor processor) {
+        return Stream.generate(() -> List.of(processor)).limit(concurrency.getOrDefault(processor, 1));
+    }
+
+    private class Lane implements Runnable {
+
+        private final List<Processor> processors;
+        private final AtomicBoolean wakeUpRequested = new AtomicBoolean();
+        private volatile ScheduledFuture<?> nextIteration;
+
+        Lane(List<Processor> processors) {
+            this.processors = processors;
+        }
+
+        @Override
+        public void run() {
             if (active.get()) {
                 performLogic();
             }
-        };
-    }
+        }
+
+        void wakeUp() {
+            wakeUpRequested.set(true);
+            var next = nextIteration;
+            if (next != null && next.getDelay(MILLISECONDS) > 0 && next.cancel(false)) {
+                scheduleNextIterationIn(0);
+            }
+        }
 
-    private void performLogic() {
-        try {
-            var processed = processors.stream()
-                    .mapToLong(Processor::process)
-                    .sum();
+        private void performLogic() {
+            wakeUpRequested.set(false);
+            try {
+                var processed = processors.stream()
+                        .mapToLong(Processor::process)
+                        .sum();
 
-            waitStrategy.success();
+                waitStrategy.success();
 
-            var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
+                var delay = processed == 0 ? waitStrategy.waitForMillis() : 0;
 
-            scheduleNextIterationIn(delay);
-        } catch (Error e) {
-            active.set(false);
-            monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
-        } catch (Throwable e) {
-            monitor.severe(format("StateMachineManager [%s] error caught", name), e);
-            scheduleNextIterationIn(waitStrategy.retryInMillis());
+                scheduleNextIterationIn(delay);
+            } catch (Error e) {
+                active.set(false);
+                monitor.severe(format("StateMachineManager [%s] unrecoverable error", name), e);
+            } catch (Throwable e) {
+                monitor.severe(format("StateMachineManager [%s] error caught", name), e);
+                scheduleNextIterationIn(waitStrategy.retryInMillis());
+            }
         }
-    }
 
-    @NotNull
-    private Future<?> scheduleNextIterationIn(long delayMillis) {
-        return executor.schedule(loop(), delayMillis, MILLISECONDS);
+        private void scheduleNextIterationIn(long delayMillis) {
+            var delay = wakeUpRequested.get() ? 0 : delayMillis;
+            nextIteration = executor.schedule(this, delay, MILLISECONDS);
+            if (delay > 0 && wakeUpRequested.get()) {
+                wakeUp();
+            }
+        }
     }
 
     public static class Builder {
@@ -145,12 +209,52 @@ public class StateMachineManager {
             return this;
         }
 
+        /**
+         * Adds a processor that runs in up to the given number of lanes concurrently. The concurrency is applied only
+         * with more than one worker, and the processor must be safe for concurrent use.
+         *
+         * @param processor   the processor.
+         * @param concurrency the maximum number of concurrent executions of the processor.
+         * @return the builder.
+         */
+        public Builder processor(Processor processor, int concurrency) {
+            if (concurrency < 1) {
+                throw new IllegalArgumentException("StateMachineManager processor concurrency should be at least 1, but was " + concurrency);
+            }
+            loop.processors.add(processor);
+            loop.concurrency.put(processor, concurrency);
+            return this;
+        }
+
         public Builder shutdownTimeout(int seconds) {
             loop.shutdownTimeout = seconds;
             return this;
         }
 
+        /**
+         * Number of worker threads. With more than one worker every processor runs in its own lane, otherwise
+         * processors run sequentially on a single thread.
+         *
+         * @param workers the number of worker threads.
+         * @return the builder.
+         */
+        public Builder workers(int workers) {
+            if (workers < 1) {
+                throw new IllegalArgumentException("StateMachineManager workers should be at least 1, but was " + workers);
+            }
+            loop.workers = workers;
+            return this;
+        }
+
         public StateMachineManager build() {
+            var threadCount = new AtomicInteger();
+            loop.executor = loop.instrumentation.instrument(
+                    Executors.newScheduledThreadPool(loop.workers, r -> {
+                        var thread = Executors.defaultThreadFactory().newThread(r);
+                        var suffix = loop.workers > 1 ? "-" + threadCount.getAndIncrement() : "";
+                        thread.setName("StateMachineManager-" + loop.name + suffix);
+                        return thread;
+                    }), loop.name);
             return loop;
         }
     }
@@ -75,6 +75,7 @@ public class CompletableFutureRetryProcess<E extends StatefulEntity<E>, C, SELF
                                     throwable.getMessage());
                             monitor.debug(message, throwable);
 
+                            scheduleRetry(reloadedEntity);
                             onFailureHandler.accept(reloadedEntity, throwable);
                         }
                     }
@@ -39,4 +39,21 @@ public class EntityRetryProcessConfiguration {
     public Supplier<WaitStrategy> getDelayStrategySupplier() {
         return delayStrategySupplier;
     }
+
+    /**
+     * Returns the delay to be waited before the next attempt, after the given number of failed attempts.
+     *
+     * @param failures the number of failed attempts.
+     * @return the delay in milliseconds.
+     */
+    public long retryDelayMillis(int failures) {
+        // Get a new instance of WaitStrategy.
+        var delayStrategy = delayStrategySupplier.get();
+
+        // Set the WaitStrategy to have observed <failures> previous failures.
+        // This is relevant for stateful strategies such as exponential wait.
+        delayStrategy.failures(failures);
+
+        return delayStrategy.retryInMillis();
+    }
 }
@@ -59,6 +59,8 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
             var delay = delayMillis(entity);
             if (delay > 0) {
                 monitor.debug(String.format("Entity %s %s retry #%d will not be attempted before %d ms.", entity.getId(), entity.getClass().getSimpleName(), entity.getStateCount() - 1, delay));
+                // persisted when the lease is broken, so that the store skips the entity until then
+                entity.setNextEligibleAt(clock.millis() + delay);
                 if (onDelay != null) {
                     onDelay.accept(entity);
                 }
@@ -79,6 +81,17 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
         return (SELF) this;
     }
 
+    /**
+     * Marks the entity as not eligible for processing before the delay following the failed attempt has elapsed,
+     * so that the store does not hand it out in the meantime. Must be called before the failure handler, that
+     * transitions the entity to the same state again to get it retried.
+     *
+     * @param entity the entity whose current attempt failed.
+     */
+    protected void scheduleRetry(E entity) {
+        entity.setNextEligibleAt(clock.millis() + configuration.retryDelayMillis(entity.getStateCount()));
+    }
+
     /**
      * Determines whether retries for sending the given entity have been exhausted.
      *
@@ -90,15 +103,7 @@ public abstract class RetryProcess<E extends StatefulEntity<E>, SELF extends Ret
     }
 
     private long delayMillis(E entity) {
-        // Get a new instance of WaitStrategy.
-        var delayStrategy = configuration.getDelayStrategySupplier().get();
-
-        // Set the WaitStrategy to have observed <retryCount> previous failures.
-        // This is relevant for stateful strategies such as exponential wait.
-        delayStrategy.failures(entity.getStateCount() - 1);
-
-        // Get the delay time following the number of failures.
-        var waitMillis = delayStrategy.retryInMillis();
+        var waitMillis = configuration.retryDelayMillis(entity.getStateCount() - 1);
 
         return entity.getStateTimestamp() + waitMillis - clock.millis();
     }
@@ -88,6 +88,7 @@ public class StatusResultRetryProcess<E extends StatefulEntity<E>, C> extends Re
                 monitor.debug(message);
 
                 if (onFailureHandler != null) {
+                    scheduleRetry(entity);
                     onFailureHandler.accept(entity, result.getFailure());
                 }
             }
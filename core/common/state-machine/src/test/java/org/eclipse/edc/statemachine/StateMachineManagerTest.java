@@ -21,13 +21,20 @@ import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
@@ -135,4 +142,132 @@ class StateMachineManagerTest {
             verify(waitStrategy).retryInMillis();
         });
     }
+
+    @Test
+    void shouldRunProcessorsConcurrently_whenMoreWorkersAreConfigured() {
+        var slowProcessor = mock(Processor.class);
+        var slowProcessorLatch = new CountDownLatch(1);
+        when(slowProcessor.process()).thenAnswer(i -> {
+            slowProcessorLatch.await();
+            return 1L;
+        });
+        var fastProcessor = mock(Processor.class);
+        when(fastProcessor.process()).thenReturn(1L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(slowProcessor)
+                .processor(fastProcessor)
+                .workers(2)
+                .shutdownTimeout(1)
+                .build();
+
+        stateMachine.start();
+
+        await().untilAsserted(() -> verify(fastProcessor, atLeast(2)).process());
+        verify(slowProcessor).process();
+        slowProcessorLatch.countDown();
+        assertThat(stateMachine.stop()).succeedsWithin(2, SECONDS);
+    }
+
+    @Test
+    void shouldNotRunTheSameProcessorConcurrently_whenMoreWorkersAreConfigured() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        Processor processor = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return 1L;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .workers(4)
+                .build();
+
+        stateMachine.start();
+
+        await().during(200, MILLISECONDS).atMost(1, SECONDS).untilAsserted(() -> assertThat(maxRunning).hasValue(1));
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunTheSameProcessorConcurrently_upToItsConcurrency() {
+        var running = new AtomicInteger();
+        var maxRunning = new AtomicInteger();
+        Processor processor = () -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(10L);
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            running.decrementAndGet();
+            return 1L;
+        };
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor, 2)
+                .workers(4)
+                .build();
+
+        stateMachine.start();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> assertThat(maxRunning).hasValue(2));
+        await().during(200, MILLISECONDS).atMost(1, SECONDS).untilAsserted(() -> assertThat(maxRunning).hasValue(2));
+        stateMachine.stop();
+    }
+
+    @Test
+    void shouldRunNextIterationImmediately_whenWokenUp() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+        verify(processor, times(1)).process();
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> verify(processor, times(2)).process());
+    }
+
+    @Test
+    void shouldWakeUpAllTheLanes_whenMoreWorkersAreConfigured() {
+        var processor = mock(Processor.class);
+        when(processor.process()).thenReturn(0L);
+        var anotherProcessor = mock(Processor.class);
+        when(anotherProcessor.process()).thenReturn(0L);
+        when(waitStrategy.waitForMillis()).thenReturn(60_000L);
+        var stateMachine = StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy)
+                .processor(processor)
+                .processor(anotherProcessor)
+                .workers(2)
+                .build();
+
+        assertThat(stateMachine.start()).succeedsWithin(1, SECONDS);
+
+        stateMachine.wakeUp();
+
+        await().atMost(1, SECONDS).untilAsserted(() -> {
+            verify(processor, times(2)).process();
+            verify(anotherProcessor, times(2)).process();
+        });
+    }
+
+    @Test
+    void shouldThrowException_whenWorkersIsLessThanOne() {
+        assertThatThrownBy(() -> StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy).workers(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void shouldThrowException_whenProcessorConcurrencyIsLessThanOne() {
+        assertThatThrownBy(() -> StateMachineManager.Builder.newInstance("test", monitor, instrumentation, waitStrategy).processor(() -> 0L, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
 }
@@ -93,4 +93,28 @@ class StatusResultRetryProcessTest {
 
         verify(onFailure).accept(entity, statusResult.getFailure());
     }
+
+    @Test
+    void shouldScheduleNextAttempt_whenFailureAndRetriesHaveNotBeenExhausted() {
+        var configuration = new EntityRetryProcessConfiguration(retryLimit, () -> () -> 1000L);
+        when(process.get()).thenReturn(StatusResult.failure(ERROR_RETRY, "error"));
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).stateCount(1).stateTimestamp(millis - 1000L).build();
+        var retryProcess = new StatusResultRetryProcess<>(entity, process, mock(Monitor.class), clock, configuration);
+
+        retryProcess.onFailure(onFailure).execute("any");
+
+        assertThat(entity.getNextEligibleAt()).isEqualTo(millis + 1000L);
+    }
+
+    @Test
+    void shouldScheduleNextAttempt_whenDelayHasNotElapsed() {
+        var configuration = new EntityRetryProcessConfiguration(retryLimit, () -> () -> 1000L);
+        var entity = TestEntity.Builder.newInstance().id(UUID.randomUUID().toString()).clock(clock).stateCount(2).stateTimestamp(millis - 400L).build();
+        var retryProcess = new StatusResultRetryProcess<>(entity, process, mock(Monitor.class), clock, configuration);
+
+        var result = retryProcess.execute("any");
+
+        assertThat(result).isFalse();
+        assertThat(entity.getNextEligibleAt()).isEqualTo(millis + 600L);
+    }
 }
@@ -19,23 +19,35 @@ import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
+/**
+ * Default {@link TypeTransformerRegistry}. The transformer resolved for each pair of input runtime class and output type
+ * is indexed, so that the registered transformers are scanned only on the first lookup of that pair.
+ */
 public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
     private final Map<String, Class<?>> aliases = new HashMap<>();
     private final List<TypeTransformer<?, ?>> transformers = new ArrayList<>();
+    private final Map<DispatchKey, Optional<TypeTransformer<?, ?>>> dispatchIndex = new ConcurrentHashMap<>();
     private final Map<String, TypeTransformerRegistry> contextRegistries = new HashMap<>();
+    private final AtomicLong lookupHits = new AtomicLong();
+    private final AtomicLong lookupMisses = new AtomicLong();
 
     @Override
     public void register(TypeTransformer<?, ?> transformer) {
         this.transformers.add(transformer);
+        dispatchIndex.clear();
     }
 
     @Override
@@ -45,11 +57,11 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
 
     @Override
     public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-        return transformers.stream()
-                .filter(t -> t.getInputType().isInstance(input) && t.getOutputType().equals(outputType))
-                .findAny()
-                .map(it -> (TypeTransformer<INPUT, OUTPUT>) it)
-                .orElseThrow(() -> new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType)));
+        var transformer = findTransformer(input.getClass(), outputType);
+        if (transformer == null) {
+            throw new EdcException(format("No Transformer registered that can handle %s -> %s", input.getClass(), outputType));
+        }
+        return (TypeTransformer<INPUT, OUTPUT>) transformer;
     }
 
     @Override
@@ -81,11 +93,48 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         aliases.put(alias, type);
     }
 
+    /**
+     * Number of transformer lookups served by the dispatch index.
+     */
+    public long lookupHits() {
+        return lookupHits.get();
+    }
+
+    /**
+     * Number of transformer lookups that required scanning the registered transformers.
+     */
+    public long lookupMisses() {
+        return lookupMisses.get();
+    }
+
+    /**
+     * Returns the transformer able to transform instances of the input type to the output type, or null if none is
+     * registered.
+     */
+    @Nullable
+    protected TypeTransformer<?, ?> findTransformer(Class<?> inputType, Class<?> outputType) {
+        var key = new DispatchKey(inputType, outputType);
+        var indexed = dispatchIndex.get(key);
+        if (indexed != null) {
+            lookupHits.incrementAndGet();
+            return indexed.orElse(null);
+        }
+        lookupMisses.incrementAndGet();
+        var resolved = transformers.stream()
+                .filter(t -> t.getInputType().isAssignableFrom(inputType) && t.getOutputType().equals(outputType))
+                .findFirst();
+        dispatchIndex.put(key, resolved);
+        return resolved.orElse(null);
+    }
+
+    private record DispatchKey(Class<?> inputType, Class<?> outputType) {
+    }
+
     private static class ContextTransformerRegistry extends TypeTransformerRegistryImpl {
 
-        private final TypeTransformerRegistry parent;
+        private final TypeTransformerRegistryImpl parent;
 
-        ContextTransformerRegistry(TypeTransformerRegistry parent) {
+        ContextTransformerRegistry(TypeTransformerRegistryImpl parent) {
             this.parent = parent;
         }
 
@@ -95,12 +144,9 @@ public class TypeTransformerRegistryImpl implements TypeTransformerRegistry {
         }
 
         @Override
-        public @NotNull <INPUT, OUTPUT> TypeTransformer<INPUT, OUTPUT> transformerFor(@NotNull INPUT input, @NotNull Class<OUTPUT> outputType) {
-            try {
-                return super.transformerFor(input, outputType);
-            } catch (EdcException e) {
-                return parent.transformerFor(input, outputType);
-            }
+        protected @Nullable TypeTransformer<?, ?> findTransformer(Class<?> inputType, Class<?> outputType) {
+            var transformer = super.findTransformer(inputType, outputType);
+            return transformer != null ? transformer : parent.findTransformer(inputType, outputType);
         }
     }
 }
@@ -15,7 +15,11 @@
 package org.eclipse.edc.core.transform;
 
 import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.transform.spi.TransformerContext;
+import org.eclipse.edc.transform.spi.TypeTransformer;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -26,7 +30,7 @@ import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
 
 public class TypeTransformerRegistryImplTest {
 
-    private final TypeTransformerRegistry registry = new TypeTransformerRegistryImpl();
+    private final TypeTransformerRegistryImpl registry = new TypeTransformerRegistryImpl();
 
     @BeforeEach
     void setUp() {
@@ -51,6 +55,35 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transformerFor(notString, Integer.class)).isInstanceOf(EdcException.class);
             assertThatThrownBy(() -> registry.transformerFor(notString, Float.class)).isInstanceOf(EdcException.class);
         }
+
+        @Test
+        void shouldResolveTransformerThroughTypeHierarchy() {
+            var numberTransformer = new NumberStringTypeTransformer();
+            registry.register(numberTransformer);
+
+            assertThat(registry.transformerFor(5, String.class)).isSameAs(numberTransformer);
+            assertThat(registry.transformerFor(5L, String.class)).isSameAs(numberTransformer);
+        }
+
+        @Test
+        void shouldIndexResolvedTransformer() {
+            registry.transformerFor("a string", Integer.class);
+            registry.transformerFor("another string", Integer.class);
+            assertThatThrownBy(() -> registry.transformerFor(4L, Integer.class)).isInstanceOf(EdcException.class);
+            assertThatThrownBy(() -> registry.transformerFor(4L, Integer.class)).isInstanceOf(EdcException.class);
+
+            assertThat(registry.lookupMisses()).isEqualTo(2);
+            assertThat(registry.lookupHits()).isEqualTo(2);
+        }
+
+        @Test
+        void shouldResolveNewTransformer_whenRegisteredAfterLookup() {
+            assertThatThrownBy(() -> registry.transformerFor(5, String.class)).isInstanceOf(EdcException.class);
+
+            registry.register(new IntegerStringTypeTransformer());
+
+            assertThat(registry.transformerFor(5, String.class)).isInstanceOf(IntegerStringTypeTransformer.class);
+        }
     }
 
     @Nested
@@ -74,6 +107,19 @@ public class TypeTransformerRegistryImplTest {
             assertThatThrownBy(() -> registry.transform(5, String.class)).isInstanceOf(EdcException.class);
         }
 
+        @Test
+        void shouldPreferContextTransformer_overDefaultOne() {
+            var contextTransformer = new StringIntegerTypeTransformer();
+            contextRegistry.register(contextTransformer);
+
+            assertThat(contextRegistry.transformerFor("5", Integer.class)).isSameAs(contextTransformer);
+        }
+
+        @Test
+        void shouldThrowException_whenTransformerIsMissingInContextAndDefault() {
+            assertThatThrownBy(() -> contextRegistry.transformerFor(5, Float.class)).isInstanceOf(EdcException.class);
+        }
+
         @Test
         void shouldThrowException_whenForContextIsCalled() {
             assertThatThrownBy(() -> contextRegistry.forContext("any")).isInstanceOf(EdcException.class);
@@ -107,6 +153,24 @@ public class TypeTransformerRegistryImplTest {
         }
     }
 
+    private static class NumberStringTypeTransformer implements TypeTransformer<Number, String> {
+
+        @Override
+        public Class<Number> getInputType() {
+            return Number.class;
+        }
+
+        @Override
+        public Class<String> getOutputType() {
+            return String.class;
+        }
+
+        @Override
+        public @Nullable String transform(@NotNull Number number, @NotNull TransformerContext context) {
+            return number.toString();
+        }
+    }
+
     @Nested
     class TypeAlias {
         @Test
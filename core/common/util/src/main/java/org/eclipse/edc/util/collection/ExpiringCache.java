@@ -0,0 +1,164 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * A thread-safe cache with a bounded capacity, in which every entry expires at its own point in time.
+ * <p>
+ * Expired entries are never returned and are purged when the capacity is reached. If the cache is still full after
+ * the purge, the entry that would expire first is evicted. Entries are indexed by expiration, so that both take
+ * logarithmic time. Reads are lock-free, while writes are serialized. Hits and misses are counted, so that the
+ * effectiveness of the cache can be observed.
+ *
+ * @param <K> the type of keys maintained by this cache
+ * @param <V> the type of cached values
+ */
+public class ExpiringCache<K, V> {
+    private final Map<K, Entry<K, V>> entries = new ConcurrentHashMap<>();
+    private final NavigableSet<Entry<K, V>> expirations = new TreeSet<>(Comparator.<Entry<K, V>, Instant>comparing(Entry::expiresAt)
+            .thenComparingLong(Entry::sequence));
+    private final int capacity;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private long sequence;
+
+    public ExpiringCache(int capacity, Clock clock) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be greater than 0, was " + capacity);
+        }
+        this.capacity = capacity;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the value associated to the key, or null if there is none or if it has expired.
+     */
+    @Nullable
+    public V get(K key) {
+        var entry = entries.get(key);
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.isExpired(clock.instant())) {
+            remove(entry);
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.value();
+    }
+
+    /**
+     * Associates the value to the key until the given expiration. Values already expired are not stored.
+     */
+    public synchronized void put(K key, V value, Instant expiresAt) {
+        var now = clock.instant();
+        var previous = entries.remove(key);
+        if (previous != null) {
+            expirations.remove(previous);
+        }
+        if (!expiresAt.isAfter(now)) {
+            return;
+        }
+        if (entries.size() >= capacity) {
+            evict(now);
+        }
+        var entry = new Entry<>(key, value, expiresAt, sequence++);
+        entries.put(key, entry);
+        expirations.add(entry);
+    }
+
+    /**
+     * Associates the value to the key for the given time to live.
+     */
+    public void put(K key, V value, Duration ttl) {
+        put(key, value, clock.instant().plus(ttl));
+    }
+
+    /**
+     * Removes the value associated to the key, if any.
+     */
+    public synchronized void invalidate(K key) {
+        var entry = entries.remove(key);
+        if (entry != null) {
+            expirations.remove(entry);
+        }
+    }
+
+    /**
+     * Removes all the values whose key matches the predicate.
+     */
+    public synchronized void invalidateIf(Predicate<K> predicate) {
+        expirations.removeIf(entry -> predicate.test(entry.key()) && entries.remove(entry.key(), entry));
+    }
+
+    /**
+     * Removes all the values that match the predicate.
+     */
+    public synchronized void invalidateValuesIf(Predicate<V> predicate) {
+        expirations.removeIf(entry -> predicate.test(entry.value()) && entries.remove(entry.key(), entry));
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+        expirations.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    private synchronized void remove(Entry<K, V> entry) {
+        if (entries.remove(entry.key(), entry)) {
+            expirations.remove(entry);
+        }
+    }
+
+    private void evict(Instant now) {
+        while (!expirations.isEmpty() && (expirations.first().isExpired(now) || entries.size() >= capacity)) {
+            var eldest = expirations.pollFirst();
+            entries.remove(eldest.key(), eldest);
+        }
+    }
+
+    private record Entry<K, V>(K key, V value, Instant expiresAt, long sequence) {
+        boolean isExpired(Instant now) {
+            return !expiresAt.isAfter(now);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.eclipse.edc.spi.types.PathItem;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Pre-parsed representation of a property path as understood by {@link ReflectionUtil#getFieldValue(String, Object)}.
+ * The path is parsed once, and field getters are resolved into {@link MethodHandle}s once per (class, field name)
+ * pair, so that evaluating the same path over many objects does not walk the class hierarchy every time.
+ */
+public final class PropertyPath {
+
+    private static final int MAX_CACHED_PATHS = 1024;
+    private static final Map<String, PropertyPath> PATHS = new ConcurrentHashMap<>();
+    private static final ClassValue<Map<String, FieldGetter>> GETTERS = new ClassValue<>() {
+        @Override
+        protected Map<String, FieldGetter> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final String ARRAY_INDEXER_REGEX = ".*\\[([0-9])+\\]";
+    private static final String OPENING_BRACKET = "[";
+    private static final String CLOSING_BRACKET = "]";
+
+    private final String path;
+    private final Segment[] segments;
+
+    private PropertyPath(String path) {
+        this.path = path;
+        this.segments = PathItem.parse(path).stream().map(PathItem::toString).map(Segment::parse).toArray(Segment[]::new);
+    }
+
+    /**
+     * Returns the compiled representation of the given path. Compiled paths are cached.
+     *
+     * @param path the property path, e.g. "someObject.someValue" or "someObject[2].someValue"
+     * @return the compiled path
+     */
+    public static PropertyPath of(String path) {
+        Objects.requireNonNull(path, "propertyName");
+        var compiled = PATHS.get(path);
+        if (compiled == null) {
+            if (PATHS.size() >= MAX_CACHED_PATHS) {
+                PATHS.clear();
+            }
+            compiled = PATHS.computeIfAbsent(path, PropertyPath::new);
+        }
+        return compiled;
+    }
+
+    /**
+     * Get the value the path points to in the given object.
+     *
+     * @param object the object
+     * @return the value, null if any intermediate value is null
+     * @throws ReflectionException if a field does not exist or is not accessible
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getValue(Object object) {
+        Objects.requireNonNull(object, "object");
+
+        var current = segments[0].resolve(object);
+        for (var i = 1; i < segments.length; i++) {
+            if (current == null) {
+                return null;
+            }
+            current = segments[i].resolve(current);
+        }
+        return (T) current;
+    }
+
+    @Override
+    public String toString() {
+        return path;
+    }
+
+    private static Object getField(String name, Object object) {
+        var getter = GETTERS.get(object.getClass()).computeIfAbsent(name, n -> FieldGetter.resolve(object.getClass(), n));
+        return getter.get(name, object);
+    }
+
+    private record Segment(String name, int index) {
+
+        static Segment parse(String item) {
+            if (item.matches(ARRAY_INDEXER_REGEX)) {
+                var openingBracketIx = item.indexOf(OPENING_BRACKET);
+                var closingBracketIx = item.indexOf(CLOSING_BRACKET);
+                return new Segment(item.substring(0, openingBracketIx), Integer.parseInt(item.substring(openingBracketIx + 1, closingBracketIx)));
+            }
+            return new Segment(item, -1);
+        }
+
+        Object resolve(Object object) {
+            var value = resolveName(object);
+            if (index >= 0) {
+                return ((List<?>) value).get(index);
+            }
+            return value;
+        }
+
+        private Object resolveName(Object object) {
+            if (object instanceof Map<?, ?> map) {
+                return map.get(name);
+            } else if (object instanceof List<?> list) {
+                return list.stream().filter(Objects::nonNull).map(it -> getField(name, it)).toList();
+            } else {
+                return getField(name, object);
+            }
+        }
+    }
+
+    /**
+     * Getter for a single field of a class, {@code handle} is null when the class has no such field.
+     */
+    private record FieldGetter(MethodHandle handle) {
+
+        static FieldGetter resolve(Class<?> type, String name) {
+            var field = ReflectionUtil.getFieldRecursive(type, name);
+            if (field == null) {
+                return new FieldGetter(null);
+            }
+            field.setAccessible(true);
+            try {
+                var handle = MethodHandles.lookup().unreflectGetter(field);
+                if (Modifier.isStatic(field.getModifiers())) {
+                    handle = MethodHandles.dropArguments(handle, 0, Object.class);
+                }
+                return new FieldGetter(handle.asType(methodType(Object.class, Object.class)));
+            } catch (IllegalAccessException e) {
+                throw new ReflectionException(e);
+            }
+        }
+
+        Object get(String name, Object object) {
+            if (handle == null) {
+                throw new ReflectionException(name);
+            }
+            try {
+                return (Object) handle.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ReflectionException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ExpiringCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final ExpiringCache<String, String> cache = new ExpiringCache<>(2, clock);
+
+    @Test
+    void get_shouldReturnValue_whenNotExpired() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("key", "value", Duration.ofSeconds(10));
+
+        assertThat(cache.get("key")).isEqualTo("value");
+        assertThat(cache.get("unknown")).isNull();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldReturnNull_whenExpired() {
+        when(clock.instant()).thenReturn(now, now.plusSeconds(10));
+        cache.put("key", "value", Duration.ofSeconds(10));
+
+        assertThat(cache.get("key")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldNotStore_whenAlreadyExpired() {
+        when(clock.instant()).thenReturn(now);
+
+        cache.put("key", "value", now.minusSeconds(1));
+
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void put_shouldEvictExpiredEntriesFirst_whenFull() {
+        when(clock.instant()).thenReturn(now, now, now.plusSeconds(5));
+        cache.put("short", "value", Duration.ofSeconds(1));
+        cache.put("long", "value", Duration.ofSeconds(60));
+
+        cache.put("new", "value", now.plusSeconds(30));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("long")).isNotNull();
+        assertThat(cache.get("new")).isNotNull();
+    }
+
+    @Test
+    void put_shouldEvictEntryExpiringFirst_whenFullOfValidEntries() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("first", "value", Duration.ofSeconds(10));
+        cache.put("second", "value", Duration.ofSeconds(60));
+
+        cache.put("third", "value", Duration.ofSeconds(30));
+
+        assertThat(cache.get("first")).isNull();
+        assertThat(cache.get("second")).isNotNull();
+        assertThat(cache.get("third")).isNotNull();
+    }
+
+    @Test
+    void put_shouldEvictByLatestExpiration_whenKeyIsUpdated() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("first", "value", Duration.ofSeconds(10));
+        cache.put("second", "value", Duration.ofSeconds(60));
+        cache.put("first", "updated", Duration.ofSeconds(120));
+
+        cache.put("third", "value", Duration.ofSeconds(30));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.get("first")).isEqualTo("updated");
+        assertThat(cache.get("second")).isNull();
+        assertThat(cache.get("third")).isNotNull();
+    }
+
+    @Test
+    void invalidate() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("key1", "value", Duration.ofSeconds(10));
+        cache.put("key2", "value", Duration.ofSeconds(10));
+
+        cache.invalidate("key1");
+        assertThat(cache.get("key1")).isNull();
+
+        cache.invalidateIf(key -> key.endsWith("2"));
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void invalidateValuesIf() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("key1", "value1", Duration.ofSeconds(10));
+        cache.put("key2", "value2", Duration.ofSeconds(10));
+
+        cache.invalidateValuesIf("value1"::equals);
+
+        assertThat(cache.get("key1")).isNull();
+        assertThat(cache.get("key2")).isEqualTo("value2");
+    }
+
+    @Test
+    void shouldThrow_whenCapacityNotPositive() {
+        assertThatThrownBy(() -> new ExpiringCache<>(0, Clock.fixed(now, ZoneOffset.UTC)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.concurrency;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.condition.JRE.JAVA_20;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+
+class VirtualThreadsTest {
+
+    @Test
+    @EnabledForJreRange(max = JAVA_20)
+    void newVirtualThreadPerTaskExecutor_shouldThrow_whenNotSupported() {
+        assertThat(VirtualThreads.isSupported()).isFalse();
+        assertThatThrownBy(VirtualThreads::newVirtualThreadPerTaskExecutor).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @EnabledForJreRange(min = JAVA_21)
+    void newVirtualThreadPerTaskExecutor_shouldRunTasksOnVirtualThreads() {
+        assertThat(VirtualThreads.isSupported()).isTrue();
+        var executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+        var future = executor.submit(() -> Thread.currentThread().toString());
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).asString().startsWith("VirtualThread");
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.util.reflection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PropertyPathTest {
+
+    @Test
+    void of_shouldReturnCachedInstance() {
+        assertThat(PropertyPath.of("description")).isSameAs(PropertyPath.of("description"));
+    }
+
+    @Test
+    void getValue_shouldResolveSameFieldOnDifferentClasses() {
+        var path = PropertyPath.of("description");
+
+        assertThat(path.<String>getValue(new TestObject("plain", 1))).isEqualTo("plain");
+        assertThat(path.<String>getValue(new TestObjectWithList("with-list", 1, List.of()))).isEqualTo("with-list");
+    }
+
+    @Test
+    void getValue_shouldResolveNestedPath() {
+        var object = new TestObjectWithList("desc", 1, List.of(), new TestObject("nested", 2));
+
+        assertThat(PropertyPath.of("nestedObject.description").<String>getValue(object)).isEqualTo("nested");
+    }
+
+    @Test
+    void getValue_shouldReturnNull_whenIntermediateValueIsNull() {
+        var object = new TestObjectWithList("desc", 1, List.of());
+
+        assertThat(PropertyPath.of("nestedObject.description").<String>getValue(object)).isNull();
+    }
+
+    @Test
+    void getValue_shouldResolveIndexedAndListPaths() {
+        var object = new TestObjectWithList("desc", 1, List.of(new TestObject("first", 1), new TestObject("second", 2)));
+
+        assertThat(PropertyPath.of("nestedObjects[1].description").<String>getValue(object)).isEqualTo("second");
+        assertThat(PropertyPath.of("nestedObjects.description").<List<String>>getValue(object)).containsExactly("first", "second");
+    }
+
+    @Test
+    void getValue_shouldResolveQuotedMapKey() {
+        var object = Map.of("https://w3id.org/edc/v0.0.1/ns/id", "value");
+
+        assertThat(PropertyPath.of("'https://w3id.org/edc/v0.0.1/ns/id'").<String>getValue(object)).isEqualTo("value");
+    }
+
+    @Test
+    void getValue_shouldThrow_whenFieldDoesNotExist() {
+        var path = PropertyPath.of("notExist");
+
+        assertThatThrownBy(() -> path.getValue(new TestObject("desc", 1))).isInstanceOf(ReflectionException.class);
+        assertThatThrownBy(() -> path.getValue(new TestObject("desc", 1))).isInstanceOf(ReflectionException.class);
+    }
+}
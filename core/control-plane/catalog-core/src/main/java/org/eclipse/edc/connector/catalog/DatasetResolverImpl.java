@@ -21,23 +21,56 @@ import org.eclipse.edc.connector.contract.spi.ContractOfferId;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.types.offer.ContractDefinition;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
+import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.policy.model.PolicyType;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.eclipse.edc.spi.result.AbstractResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
-import static java.lang.Integer.MAX_VALUE;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyIterator;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.naturalOrder;
+import static org.eclipse.edc.spi.query.CriterionOperatorRegistry.GREATER_THAN;
 
+/**
+ * Resolves the {@link Dataset}s of the catalog, paging through the {@link AssetIndex}.
+ * <p>
+ * Assets are fetched per distinct asset selector, pushing the selector down to the {@link AssetIndex}, in chunks
+ * ordered by asset id: definitions sharing the same selector read the index only once. An asset matching more than one
+ * selector is returned only once, together with the selector whose first definition comes first (definitions are
+ * sorted by id). Iteration is lazy, so it stops as soon as the page is full. The position in the iteration can be passed back through a continuation token, see
+ * {@link DatasetResolver#CONTINUATION_TOKEN}.
+ */
 public class DatasetResolverImpl implements DatasetResolver {
 
+    private static final int MAX_CHUNK_SIZE = 1000;
+    private static final String TOKEN_SEPARATOR = ".";
+
     private final ContractDefinitionResolver contractDefinitionResolver;
     private final AssetIndex assetIndex;
     private final PolicyDefinitionStore policyDefinitionStore;
@@ -57,48 +90,251 @@ public class DatasetResolverImpl implements DatasetResolver {
     @Override
     @NotNull
     public Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
-        var assetsQuery = QuerySpec.Builder.newInstance().offset(0).limit(MAX_VALUE).filter(querySpec.getFilterExpression()).build();
-        return assetIndex.queryAssets(assetsQuery)
-                .map(asset -> toDataset(contractDefinitions, asset))
-                .filter(Dataset::hasOffers)
+        var offers = resolveOffers(agent);
+
+        var filter = new ArrayList<Criterion>();
+        ContinuationToken token = null;
+        for (var criterion : querySpec.getFilterExpression()) {
+            if (CONTINUATION_TOKEN.equals(criterion.getOperandLeft())) {
+                token = ContinuationToken.parse(criterion.getOperandRight());
+            } else {
+                filter.add(criterion);
+            }
+        }
+
+        var chunkSize = (int) Math.max(1, Math.min((long) querySpec.getOffset() + querySpec.getLimit(), MAX_CHUNK_SIZE));
+        var datasets = new DatasetIterator(offers, filter, token, chunkSize);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(datasets, Spliterator.ORDERED | Spliterator.NONNULL), false)
                 .skip(querySpec.getOffset())
                 .limit(querySpec.getLimit());
     }
 
+    @Override
+    public Result<Void> validate(QuerySpec querySpec) {
+        for (var criterion : querySpec.getFilterExpression()) {
+            if (CONTINUATION_TOKEN.equals(criterion.getOperandLeft())) {
+                try {
+                    ContinuationToken.parse(criterion.getOperandRight());
+                } catch (IllegalArgumentException e) {
+                    return Result.failure(e.getMessage());
+                }
+            }
+        }
+        return Result.success();
+    }
+
     @Override
     public Dataset getById(ParticipantAgent agent, String id) {
-        var contractDefinitions = contractDefinitionResolver.definitionsFor(agent).toList();
+        var offers = resolveOffers(agent);
         return Optional.of(id)
                 .map(assetIndex::findById)
-                .map(asset -> toDataset(contractDefinitions, asset))
+                .map(asset -> toDataset(offers, asset))
                 .orElse(null);
     }
 
-    private Dataset toDataset(List<ContractDefinition> contractDefinitions, Asset asset) {
+    @Override
+    public @Nullable String continuationToken(Dataset last) {
+        return last.getOffers().keySet().stream()
+                .map(ContractOfferId::parseId)
+                .filter(AbstractResult::succeeded)
+                .map(result -> result.getContent().definitionPart())
+                .min(naturalOrder())
+                .map(definitionId -> new ContinuationToken(definitionId, last.getId()).toString())
+                .orElse(null);
+    }
 
+    /**
+     * Resolves the contract definitions for the agent together with their offer policy, sorted by definition id.
+     * Definitions whose policy does not exist are discarded, as they cannot produce any offer.
+     * <p>
+     * Policies and asset selectors are resolved once per catalog request: definitions sharing the same contract policy
+     * or the same asset selector reuse the same offer {@link Policy} and compiled {@link Predicate}.
+     */
+    private List<DefinitionOffer> resolveOffers(ParticipantAgent agent) {
+        var offerPolicies = new HashMap<String, Optional<Policy>>();
+        var selectors = new HashMap<List<Criterion>, Predicate<Asset>>();
+        return contractDefinitionResolver.definitionsFor(agent)
+                .sorted(comparing(ContractDefinition::getId))
+                .map(definition -> offerPolicies.computeIfAbsent(definition.getContractPolicyId(), this::offerPolicy)
+                        .map(policy -> new DefinitionOffer(definition, policy, selectors.computeIfAbsent(definition.getAssetsSelector(), this::compileSelector)))
+                        .orElse(null))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    private Optional<Policy> offerPolicy(String policyId) {
+        return Optional.ofNullable(policyDefinitionStore.findById(policyId))
+                .map(policyDefinition -> policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build());
+    }
+
+    private Predicate<Asset> compileSelector(List<Criterion> assetsSelector) {
+        return assetsSelector.stream()
+                .map(criterionOperatorRegistry::<Asset>toPredicate)
+                .reduce(x -> true, Predicate::and);
+    }
+
+    private Dataset toDataset(List<DefinitionOffer> offers, Asset asset) {
         var distributions = distributionResolver.getDistributions(asset);
         var datasetBuilder = Dataset.Builder.newInstance()
                 .id(asset.getId())
                 .distributions(distributions)
                 .properties(asset.getProperties());
 
-        contractDefinitions.stream()
-                .filter(definition -> definition.getAssetsSelector().stream()
-                        .map(criterionOperatorRegistry::toPredicate)
-                        .reduce(x -> true, Predicate::and)
-                        .test(asset)
-                )
-                .forEach(contractDefinition -> {
-                    var policyDefinition = policyDefinitionStore.findById(contractDefinition.getContractPolicyId());
-                    if (policyDefinition != null) {
-                        var contractId = ContractOfferId.create(contractDefinition.getId(), asset.getId());
-                        var offerPolicy = policyDefinition.getPolicy().toBuilder().type(PolicyType.OFFER).build();
-                        datasetBuilder.offer(contractId.toString(), offerPolicy);
-                    }
+        offers.stream()
+                .filter(offer -> offer.selector().test(asset))
+                .forEach(offer -> {
+                    var contractId = ContractOfferId.create(offer.definition().getId(), asset.getId());
+                    datasetBuilder.offer(contractId.toString(), offer.policy());
                 });
 
         return datasetBuilder.build();
     }
 
+    private record DefinitionOffer(ContractDefinition definition, Policy policy, Predicate<Asset> selector) {
+    }
+
+    /**
+     * The definitions sharing the same asset selector, identified by the id of the first one.
+     */
+    private record SelectorGroup(String definitionId, List<Criterion> assetsSelector, Predicate<Asset> selector) {
+    }
+
+    /**
+     * Position in the catalog: the id of the contract definition and the id of the last asset returned for it.
+     */
+    private record ContinuationToken(String definitionId, String assetId) {
+
+        static ContinuationToken parse(Object token) {
+            var parts = token instanceof String string ? string.split(Pattern.quote(TOKEN_SEPARATOR)) : new String[0];
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid continuation token: " + token);
+            }
+            try {
+                var decoder = Base64.getUrlDecoder();
+                return new ContinuationToken(new String(decoder.decode(parts[0]), UTF_8), new String(decoder.decode(parts[1]), UTF_8));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid continuation token: " + token, e);
+            }
+        }
+
+        @Override
+        public String toString() {
+            var encoder = Base64.getUrlEncoder().withoutPadding();
+            return encoder.encodeToString(definitionId.getBytes(UTF_8)) + TOKEN_SEPARATOR + encoder.encodeToString(assetId.getBytes(UTF_8));
+        }
+    }
+
+    /**
+     * Iterates over the datasets selector by selector, fetching the assets from the index in chunks ordered by id.
+     */
+    private class DatasetIterator implements Iterator<Dataset> {
+
+        private final List<DefinitionOffer> offers;
+        private final List<SelectorGroup> groups;
+        private final List<Criterion> filter;
+        private final ContinuationToken token;
+        private final int chunkSize;
+
+        private int groupIndex;
+        private String cursor;
+        private Iterator<Asset> chunk = emptyIterator();
+        private boolean lastChunk = true;
+        private Dataset next;
+
+        DatasetIterator(List<DefinitionOffer> offers, List<Criterion> filter, @Nullable ContinuationToken token, int chunkSize) {
+            this.offers = offers;
+            this.groups = groupBySelector(offers);
+            this.filter = filter;
+            this.token = token;
+            this.chunkSize = chunkSize;
+            this.groupIndex = -1;
+            if (token != null) {
+                while (groupIndex + 1 < groups.size() && groups.get(groupIndex + 1).definitionId().compareTo(token.definitionId()) < 0) {
+                    groupIndex++;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = computeNext();
+            }
+            return next != null;
+        }
+
+        @Override
+        public Dataset next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            var result = next;
+            next = null;
+            return result;
+        }
+
+        private Dataset computeNext() {
+            while (true) {
+                while (chunk.hasNext()) {
+                    var asset = chunk.next();
+                    cursor = asset.getId();
+                    if (isFirstMatch(asset)) {
+                        return toDataset(offers, asset);
+                    }
+                }
+
+                if (lastChunk) {
+                    if (++groupIndex >= groups.size()) {
+                        return null;
+                    }
+                    cursor = token != null && token.definitionId().equals(groups.get(groupIndex).definitionId()) ? token.assetId() : null;
+                }
+
+                var assets = fetchChunk(groups.get(groupIndex).assetsSelector());
+                lastChunk = assets.size() < chunkSize;
+                chunk = assets.iterator();
+            }
+        }
+
+        /**
+         * Whether the asset matches the current selector and has not been returned already for a previous one.
+         */
+        private boolean isFirstMatch(Asset asset) {
+            for (var i = 0; i < groupIndex; i++) {
+                if (groups.get(i).selector().test(asset)) {
+                    return false;
+                }
+            }
+            return groups.get(groupIndex).selector().test(asset);
+        }
+
+        private List<SelectorGroup> groupBySelector(List<DefinitionOffer> offers) {
+            var groups = new LinkedHashMap<List<Criterion>, SelectorGroup>();
+            for (var offer : offers) {
+                var assetsSelector = offer.definition().getAssetsSelector();
+                groups.putIfAbsent(assetsSelector, new SelectorGroup(offer.definition().getId(), assetsSelector, offer.selector()));
+            }
+            return List.copyOf(groups.values());
+        }
+
+        private List<Asset> fetchChunk(List<Criterion> assetsSelector) {
+            var criteria = new ArrayList<>(filter);
+            criteria.addAll(assetsSelector);
+            if (cursor != null) {
+                criteria.add(new Criterion(Asset.PROPERTY_ID, GREATER_THAN, cursor));
+            }
+            var query = QuerySpec.Builder.newInstance()
+                    .filter(criteria)
+                    .sortField(Asset.PROPERTY_ID)
+                    .sortOrder(SortOrder.ASC)
+                    .offset(0)
+                    .limit(chunkSize)
+                    .build();
+
+            try (var assets = assetIndex.queryAssets(query)) {
+                return assets.toList();
+            }
+        }
+    }
+
 }
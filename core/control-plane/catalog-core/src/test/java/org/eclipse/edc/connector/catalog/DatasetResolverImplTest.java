@@ -37,11 +37,15 @@ import org.eclipse.edc.spi.types.domain.asset.Asset;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
 import static java.util.stream.IntStream.range;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
@@ -53,6 +57,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -149,7 +154,7 @@ class DatasetResolverImplTest {
         var additionalCriterion = new Criterion(EDC_NAMESPACE + "key", "=", "value");
         var querySpec = QuerySpec.Builder.newInstance().filter(additionalCriterion).build();
 
-        datasetResolver.query(createParticipantAgent(), querySpec);
+        datasetResolver.query(createParticipantAgent(), querySpec).toList();
 
         verify(assetIndex).queryAssets(and(
                 isA(QuerySpec.class),
@@ -163,7 +168,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
         when(policyStore.findById("contractPolicyId")).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(2, 5)).build();
 
@@ -178,7 +183,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(7, 15)).build();
 
@@ -191,15 +196,15 @@ class DatasetResolverImplTest {
     void query_shouldLimitDataset_whenMultipleDefinitionAndMultipleAssets_across() {
         var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).build()).toList();
         var contractPolicy = Policy.Builder.newInstance().build();
-        var assets = range(0, 20).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        var assets = range(0, 20).mapToObj(it -> createAsset("%02d".formatted(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 14)).build();
 
         var datasets = datasetResolver.query(createParticipantAgent(), querySpec);
 
-        assertThat(datasets).hasSize(8).map(getId()).containsExactly("6", "7", "8", "9", "10", "11", "12", "13");
+        assertThat(datasets).hasSize(8).map(getId()).containsExactly("06", "07", "08", "09", "10", "11", "12", "13");
     }
 
     @Test
@@ -208,7 +213,7 @@ class DatasetResolverImplTest {
         var contractPolicy = Policy.Builder.newInstance().build();
         var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
         when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
-        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(i -> assets.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
         when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(contractPolicy).build());
         var querySpec = QuerySpec.Builder.newInstance().range(new Range(6, 8)).build();
 
@@ -219,6 +224,131 @@ class DatasetResolverImplTest {
                 .map(getId()).containsExactly("6", "7");
     }
 
+    @Test
+    void query_shouldPushDefinitionSelectorDownToAssetIndex() {
+        var selector = new Criterion(EDC_NAMESPACE + "key", "=", "value");
+        var contractDefinition = contractDefinitionBuilder("definitionId").assetsSelector(List.of(selector)).build();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(Stream.of(contractDefinition));
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(List.of(createAsset("id").property(EDC_NAMESPACE + "key", "value").build())));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none());
+
+        assertThat(datasets).hasSize(1);
+        verify(assetIndex).queryAssets(argThat(q -> q.getFilterExpression().contains(selector) && Asset.PROPERTY_ID.equals(q.getSortField())));
+    }
+
+    @Test
+    void query_shouldStopFetchingAssets_whenPageIsFull() {
+        var contractDefinitions = range(0, 2).mapToObj(it -> contractDefinitionBuilder(String.valueOf(it)).build()).toList();
+        var assets = range(0, 100).mapToObj(it -> createAsset("%03d".formatted(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var querySpec = QuerySpec.Builder.newInstance().range(new Range(0, 10)).build();
+
+        var datasets = datasetResolver.query(createParticipantAgent(), querySpec).toList();
+
+        assertThat(datasets).hasSize(10);
+        verify(assetIndex).queryAssets(argThat(q -> q.getLimit() == 10));
+        verify(policyStore).findById("contract");
+    }
+
+    @Test
+    void query_shouldResolveEachPolicyOnce_whenSharedByDefinitions() {
+        var contractDefinitions = List.of(
+                contractDefinitionBuilder("definition1").contractPolicyId("policy1").build(),
+                contractDefinitionBuilder("definition2").contractPolicyId("policy2").build(),
+                contractDefinitionBuilder("definition3").contractPolicyId("policy1").build());
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenReturn(contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.none()).toList();
+
+        assertThat(datasets).hasSize(5).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(policyStore).findById("policy1");
+        verify(policyStore).findById("policy2");
+    }
+
+    @Test
+    void query_shouldContinueFromContinuationToken() {
+        var contractDefinitions = List.of(
+                contractDefinitionBuilder("definition1").assetsSelector(List.of(new Criterion(EDC_NAMESPACE + "group", "=", "a"))).build(),
+                contractDefinitionBuilder("definition2").build());
+        var assets = range(0, 10).mapToObj(it -> createAsset(String.valueOf(it)).property(EDC_NAMESPACE + "group", it % 2 == 0 ? "a" : "b").build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var ids = new ArrayList<Object>();
+        var querySpec = QuerySpec.Builder.newInstance().limit(3).build();
+        while (true) {
+            var page = datasetResolver.query(createParticipantAgent(), querySpec).toList();
+            page.stream().map(getId()).forEach(ids::add);
+            if (page.size() < 3) {
+                break;
+            }
+            var token = datasetResolver.continuationToken(page.get(page.size() - 1));
+            querySpec = QuerySpec.Builder.newInstance().limit(3).filter(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", token)).build();
+        }
+
+        assertThat(ids).containsExactly("0", "2", "4", "6", "8", "1", "3", "5", "7", "9");
+    }
+
+    @Test
+    void query_shouldReadAssetIndexOnce_whenDefinitionsShareSelector() {
+        var contractDefinitions = List.of(contractDefinitionBuilder("definition1").build(),
+                contractDefinitionBuilder("definition2").build(), contractDefinitionBuilder("definition3").build());
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+
+        var datasets = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().limit(10).build()).toList();
+
+        assertThat(datasets).hasSize(5).allSatisfy(dataset -> assertThat(dataset.getOffers()).hasSize(3));
+        verify(assetIndex, times(1)).queryAssets(any());
+    }
+
+    @Test
+    void query_shouldContinueFromContinuationToken_whenDefinitionsShareSelector() {
+        var contractDefinitions = List.of(contractDefinitionBuilder("definition1").build(), contractDefinitionBuilder("definition2").build());
+        var assets = range(0, 5).mapToObj(it -> createAsset(String.valueOf(it)).build()).toList();
+        when(contractDefinitionResolver.definitionsFor(any())).thenAnswer(it -> contractDefinitions.stream());
+        when(assetIndex.queryAssets(isA(QuerySpec.class))).thenAnswer(queryAssets(assets));
+        when(policyStore.findById(any())).thenReturn(PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build());
+        var firstPage = datasetResolver.query(createParticipantAgent(), QuerySpec.Builder.newInstance().limit(2).build()).toList();
+        var token = datasetResolver.continuationToken(firstPage.get(1));
+
+        var querySpec = QuerySpec.Builder.newInstance().limit(10).filter(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", token)).build();
+        var secondPage = datasetResolver.query(createParticipantAgent(), querySpec).toList();
+
+        assertThat(secondPage).extracting(getId()).containsExactly("2", "3", "4");
+    }
+
+    @Test
+    void validate_shouldFail_whenContinuationTokenIsMalformed() {
+        var querySpec = QuerySpec.Builder.newInstance().filter(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", "not-a-token")).build();
+
+        var result = datasetResolver.validate(querySpec);
+
+        assertThat(result).isFailed();
+    }
+
+    @Test
+    void validate_shouldSucceed_whenContinuationTokenIsWellFormed() {
+        var dataset = Dataset.Builder.newInstance().id("assetId")
+                .offer(ContractOfferId.create("definitionId", "assetId").toString(), Policy.Builder.newInstance().build()).build();
+        var token = datasetResolver.continuationToken(dataset);
+        var querySpec = QuerySpec.Builder.newInstance().filter(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", token)).build();
+
+        var result = datasetResolver.validate(querySpec);
+
+        assertThat(result).isSucceeded();
+    }
+
     @Test
     void getById_shouldReturnDataset() {
         var policy1 = Policy.Builder.newInstance().inheritsFrom("inherits1").build();
@@ -281,6 +411,24 @@ class DatasetResolverImplTest {
         return DataService.Builder.newInstance().build();
     }
 
+    /**
+     * Emulates an asset index, applying filter, sorting and paging of the query on the passed assets.
+     */
+    private Answer<Stream<Asset>> queryAssets(List<Asset> assets) {
+        var criterionOperatorRegistry = CriterionOperatorRegistryImpl.ofDefaults();
+        return invocation -> {
+            QuerySpec querySpec = invocation.getArgument(0);
+            var predicate = querySpec.getFilterExpression().stream()
+                    .map(criterionOperatorRegistry::<Asset>toPredicate)
+                    .reduce(x -> true, Predicate::and);
+            return assets.stream()
+                    .filter(predicate)
+                    .sorted(comparing(Asset::getId))
+                    .skip(querySpec.getOffset())
+                    .limit(querySpec.getLimit());
+        };
+    }
+
     @NotNull
     private ThrowingExtractor<Dataset, Object, RuntimeException> getId() {
         return it -> it.getProperty(Asset.PROPERTY_ID);
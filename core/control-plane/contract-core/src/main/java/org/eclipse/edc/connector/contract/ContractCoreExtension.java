@@ -28,8 +28,10 @@ import org.eclipse.edc.connector.contract.spi.negotiation.ProviderContractNegoti
 import org.eclipse.edc.connector.contract.spi.negotiation.observe.ContractNegotiationObservable;
 import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiationStore;
 import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiation;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractNegotiationStates;
 import org.eclipse.edc.connector.contract.spi.validation.ContractValidationService;
 import org.eclipse.edc.connector.contract.validation.ContractValidationServiceImpl;
+import org.eclipse.edc.connector.core.entity.StateConcurrencyConfiguration;
 import org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
@@ -41,6 +43,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.AssetIndex;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -52,6 +55,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -61,6 +65,7 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 import static org.eclipse.edc.connector.core.policy.ContractExpiryCheckFunction.CONTRACT_EXPIRY_EVALUATION_KEY;
 import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.ODRL_USE_ACTION_ATTRIBUTE;
 
@@ -83,6 +88,20 @@ public class ContractCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the provider negotiation state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE = "edc.negotiation.provider.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the consumer negotiation state machine, with more than one worker every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS = "edc.negotiation.consumer.state-machine.workers";
+
+    @Setting(value = "the number of worker threads in the provider negotiation state machine, with more than one worker every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS = "edc.negotiation.provider.state-machine.workers";
+
+    @Setting(value = "the concurrency of the processor of a state in the consumer negotiation state machine, as entries named after the state, e.g. edc.negotiation.consumer.state-machine.concurrency.REQUESTING=4. " +
+            "Applied only with more than one worker, default value 1", type = "int")
+    private static final String NEGOTIATION_CONSUMER_STATE_MACHINE_CONCURRENCY = "edc.negotiation.consumer.state-machine.concurrency";
+
+    @Setting(value = "the concurrency of the processor of a state in the provider negotiation state machine, as entries named after the state, e.g. edc.negotiation.provider.state-machine.concurrency.AGREEING=4. " +
+            "Applied only with more than one worker, default value 1", type = "int")
+    private static final String NEGOTIATION_PROVIDER_STATE_MACHINE_CONCURRENCY = "edc.negotiation.provider.state-machine.concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the consumer negotiation with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String NEGOTIATION_CONSUMER_SEND_RETRY_LIMIT = "edc.negotiation.consumer.send.retry.limit";
 
@@ -144,6 +163,12 @@ public class ContractCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineWakeUpSignal wakeUpSignal;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Override
     public String name() {
         return NAME;
@@ -199,9 +224,13 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .wakeUpSignal(wakeUpSignal)
+                .transactionContext(transactionContext)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_CONSUMER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .concurrency(StateConcurrencyConfiguration.fromConfig(context, NEGOTIATION_CONSUMER_STATE_MACHINE_CONCURRENCY, state -> ContractNegotiationStates.valueOf(state).code()))
                 .entityRetryProcessConfiguration(consumerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
@@ -216,9 +245,13 @@ public class ContractCoreExtension implements ServiceExtension {
                 .clock(clock)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .wakeUpSignal(wakeUpSignal)
+                .transactionContext(transactionContext)
                 .store(store)
                 .policyStore(policyStore)
                 .batchSize(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(NEGOTIATION_PROVIDER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .concurrency(StateConcurrencyConfiguration.fromConfig(context, NEGOTIATION_PROVIDER_STATE_MACHINE_CONCURRENCY, state -> ContractNegotiationStates.valueOf(state).code()))
                 .entityRetryProcessConfiguration(providerEntityRetryProcessConfiguration(context))
                 .protocolWebhook(protocolWebhook)
                 .pendingGuard(pendingGuard)
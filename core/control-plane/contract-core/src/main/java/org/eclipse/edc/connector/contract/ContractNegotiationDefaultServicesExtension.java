@@ -15,6 +15,7 @@
 package org.eclipse.edc.connector.contract;
 
 import org.eclipse.edc.connector.contract.observe.ContractNegotiationObservableImpl;
+import org.eclipse.edc.connector.contract.offer.AccessPolicyDecisionCache;
 import org.eclipse.edc.connector.contract.offer.ConsumerOfferResolverImpl;
 import org.eclipse.edc.connector.contract.offer.ContractDefinitionResolverImpl;
 import org.eclipse.edc.connector.contract.policy.PolicyArchiveImpl;
@@ -24,15 +25,21 @@ import org.eclipse.edc.connector.contract.spi.negotiation.store.ContractNegotiat
 import org.eclipse.edc.connector.contract.spi.offer.ConsumerOfferResolver;
 import org.eclipse.edc.connector.contract.spi.offer.ContractDefinitionResolver;
 import org.eclipse.edc.connector.contract.spi.offer.store.ContractDefinitionStore;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.policy.spi.store.PolicyDefinitionStore;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
+import java.time.Clock;
+import java.time.Duration;
+
 /**
  * Contract Negotiation Default Services Extension
  */
@@ -41,6 +48,15 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
 
     public static final String NAME = "Contract Negotiation Default Services";
 
+    private static final long DEFAULT_ACCESS_POLICY_CACHE_TTL_MS = 30_000;
+    private static final int DEFAULT_ACCESS_POLICY_CACHE_SIZE = 10_000;
+
+    @Setting(value = "How long the outcome of a contract definition access policy evaluation for a participant is cached, in milliseconds. 0 disables the cache", type = "long", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_TTL_MS + "")
+    private static final String ACCESS_POLICY_CACHE_TTL_MS = "edc.contract.definitions.access-policy.cache.ttl-ms";
+
+    @Setting(value = "Maximum number of cached contract definition access policy evaluation outcomes", type = "int", defaultValue = DEFAULT_ACCESS_POLICY_CACHE_SIZE + "")
+    private static final String ACCESS_POLICY_CACHE_SIZE = "edc.contract.definitions.access-policy.cache.size";
+
     @Inject
     private ContractDefinitionStore contractDefinitionStore;
 
@@ -53,9 +69,18 @@ public class ContractNegotiationDefaultServicesExtension implements ServiceExten
     @Inject
     private ContractNegotiationStore store;
 
+    @Inject
+    private EventRouter eventRouter;
+
+    @Inject
+    private Clock clock;
+
     @Provider
     public ContractDefinitionResolver contractDefinitionResolver(ServiceExtensionContext context) {
-        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore);
+        var ttl = Duration.ofMillis(context.getSetting(ACCESS_POLICY_CACHE_TTL_MS, DEFAULT_ACCESS_POLICY_CACHE_TTL_MS));
+        var decisionCache = new AccessPolicyDecisionCache(context.getSetting(ACCESS_POLICY_CACHE_SIZE, DEFAULT_ACCESS_POLICY_CACHE_SIZE), ttl, clock);
+        eventRouter.registerSync(PolicyDefinitionEvent.class, decisionCache);
+        return new ContractDefinitionResolverImpl(context.getMonitor(), contractDefinitionStore, policyEngine, policyStore, decisionCache);
     }
 
     @Provider
@@ -43,6 +43,8 @@ import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
 
 public abstract class AbstractContractNegotiationManager extends AbstractStateEntityManager<ContractNegotiation, ContractNegotiationStore> {
 
+    public static final String WAKE_UP_TOPIC = "contract-negotiation";
+
     protected String participantId;
     protected RemoteMessageDispatcherRegistry dispatcherRegistry;
     protected ContractNegotiationObservable observable;
@@ -52,7 +54,13 @@ public abstract class AbstractContractNegotiationManager extends AbstractStateEn
 
     abstract ContractNegotiation.Type type();
 
+    @Override
+    protected String wakeUpTopic() {
+        return WAKE_UP_TOPIC;
+    }
+
     protected Processor processNegotiationsInState(ContractNegotiationStates state, Function<ContractNegotiation, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), new Criterion("type", "=", type().name()) };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
@@ -52,12 +52,12 @@ public class ConsumerContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(INITIAL, this::processInitial))
-                .processor(processNegotiationsInState(REQUESTING, this::processRequesting))
-                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting))
-                .processor(processNegotiationsInState(AGREED, this::processAgreed))
-                .processor(processNegotiationsInState(VERIFYING, this::processVerifying))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(processNegotiationsInState(INITIAL, this::processInitial), concurrency(INITIAL.code()))
+                .processor(processNegotiationsInState(REQUESTING, this::processRequesting), concurrency(REQUESTING.code()))
+                .processor(processNegotiationsInState(ACCEPTING, this::processAccepting), concurrency(ACCEPTING.code()))
+                .processor(processNegotiationsInState(AGREED, this::processAgreed), concurrency(AGREED.code()))
+                .processor(processNegotiationsInState(VERIFYING, this::processVerifying), concurrency(VERIFYING.code()))
+                .processor(processNegotiationsInState(TERMINATING, this::processTerminating), concurrency(TERMINATING.code()));
     }
 
     /**
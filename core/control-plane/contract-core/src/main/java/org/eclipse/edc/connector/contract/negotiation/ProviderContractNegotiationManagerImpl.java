@@ -52,13 +52,13 @@ public class ProviderContractNegotiationManagerImpl extends AbstractContractNego
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processNegotiationsInState(OFFERING, this::processOffering))
-                .processor(processNegotiationsInState(REQUESTED, this::processRequested))
-                .processor(processNegotiationsInState(ACCEPTED, this::processAccepted))
-                .processor(processNegotiationsInState(AGREEING, this::processAgreeing))
-                .processor(processNegotiationsInState(VERIFIED, this::processVerified))
-                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing))
-                .processor(processNegotiationsInState(TERMINATING, this::processTerminating));
+                .processor(processNegotiationsInState(OFFERING, this::processOffering), concurrency(OFFERING.code()))
+                .processor(processNegotiationsInState(REQUESTED, this::processRequested), concurrency(REQUESTED.code()))
+                .processor(processNegotiationsInState(ACCEPTED, this::processAccepted), concurrency(ACCEPTED.code()))
+                .processor(processNegotiationsInState(AGREEING, this::processAgreeing), concurrency(AGREEING.code()))
+                .processor(processNegotiationsInState(VERIFIED, this::processVerified), concurrency(VERIFIED.code()))
+                .processor(processNegotiationsInState(FINALIZING, this::processFinalizing), concurrency(FINALIZING.code()))
+                .processor(processNegotiationsInState(TERMINATING, this::processTerminating), concurrency(TERMINATING.code()));
     }
 
     @Override
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionEvent;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.event.EventSubscriber;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches the outcome of access policy evaluations, as the same counterparties request the catalog repeatedly.
+ * <p>
+ * Decisions are keyed by the identity of the {@link ParticipantAgent}, by a digest of its claims and attributes and by
+ * the access policy id, and they expire after a configurable time to live. The digest leaves out the claims that change
+ * with every token ({@code iat}, {@code exp}, {@code nbf}, {@code jti}) and is computed on the JSON representation of
+ * the claims, so that agents built from different tokens of the same participant share decisions. When the claims
+ * cannot be represented as JSON the decision is not cached. Decisions about a policy are discarded as soon as the policy
+ * definition is updated or deleted, when subscribed to {@link PolicyDefinitionEvent}s, and a decision evaluated while
+ * such an event is handled is returned but not cached, as it may be based on the previous policy. The time to live
+ * bounds the staleness of a decision when the change is not observed, for example when it happens on another runtime
+ * sharing the same store. A zero time to live disables the cache.
+ */
+public class AccessPolicyDecisionCache implements EventSubscriber {
+
+    private static final Set<String> TOKEN_CLAIMS = Set.of("iat", "exp", "nbf", "jti");
+    private static final ObjectMapper MAPPER = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+            .enable(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+            .build();
+
+    private final ExpiringCache<Key, Result<Void>> decisions;
+    private final Duration ttl;
+    private final Object lock = new Object();
+    private long generation;
+
+    public AccessPolicyDecisionCache(int capacity, Duration ttl, Clock clock) {
+        this.decisions = new ExpiringCache<>(capacity, clock);
+        this.ttl = ttl;
+    }
+
+    /**
+     * Cache that never retains decisions.
+     */
+    public static AccessPolicyDecisionCache disabled() {
+        return new AccessPolicyDecisionCache(1, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the cached decision for the agent and the policy, evaluating it when missing.
+     */
+    public Result<Void> get(ParticipantAgent agent, String accessPolicyId, Supplier<Result<Void>> evaluation) {
+        if (ttl.isZero()) {
+            return evaluation.get();
+        }
+        var digest = digest(agent);
+        if (digest == null) {
+            return evaluation.get();
+        }
+        var key = new Key(agent.getIdentity(), digest, accessPolicyId);
+        var decision = decisions.get(key);
+        if (decision != null) {
+            return decision;
+        }
+
+        long observedGeneration;
+        synchronized (lock) {
+            observedGeneration = generation;
+        }
+        decision = evaluation.get();
+        synchronized (lock) {
+            if (generation == observedGeneration) {
+                decisions.put(key, decision, ttl);
+            }
+        }
+        return decision;
+    }
+
+    @Override
+    public <E extends Event> void on(EventEnvelope<E> event) {
+        if (event.getPayload() instanceof PolicyDefinitionEvent policyDefinitionEvent) {
+            var policyId = policyDefinitionEvent.getPolicyDefinitionId();
+            synchronized (lock) {
+                generation++;
+                decisions.invalidateIf(key -> key.accessPolicyId().equals(policyId));
+            }
+        }
+    }
+
+    public long hits() {
+        return decisions.hits();
+    }
+
+    public long misses() {
+        return decisions.misses();
+    }
+
+    @Nullable
+    private String digest(ParticipantAgent agent) {
+        var claims = new TreeMap<>(agent.getClaims());
+        claims.keySet().removeAll(TOKEN_CLAIMS);
+        try {
+            var json = MAPPER.writeValueAsBytes(new Object[]{ claims, new TreeMap<>(agent.getAttributes()) });
+            return Base64.getEncoder().encodeToString(MessageDigest.getInstance("SHA-256").digest(json));
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+
+    private record Key(String participantId, String claimsDigest, String accessPolicyId) {
+    }
+}
@@ -30,6 +30,7 @@ import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -45,19 +46,27 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     private final PolicyDefinitionStore policyStore;
     private final Monitor monitor;
     private final ContractDefinitionStore definitionStore;
+    private final AccessPolicyDecisionCache decisionCache;
 
     public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore) {
+        this(monitor, contractDefinitionStore, policyEngine, policyStore, AccessPolicyDecisionCache.disabled());
+    }
+
+    public ContractDefinitionResolverImpl(Monitor monitor, ContractDefinitionStore contractDefinitionStore, PolicyEngine policyEngine, PolicyDefinitionStore policyStore,
+                                          AccessPolicyDecisionCache decisionCache) {
         this.monitor = monitor;
         definitionStore = contractDefinitionStore;
         this.policyEngine = policyEngine;
         this.policyStore = policyStore;
+        this.decisionCache = decisionCache;
     }
 
     @NotNull
     @Override
     public Stream<ContractDefinition> definitionsFor(ParticipantAgent agent) {
+        var accessResults = new HashMap<String, Result<Void>>();
         return definitionStore.findAll(QuerySpec.max())
-                .filter(definition -> evaluateAccessPolicy(definition, agent));
+                .filter(definition -> isAccessGranted(definition, accessResults.computeIfAbsent(definition.getAccessPolicyId(), id -> evaluateAccessPolicy(id, agent))));
     }
 
     @Nullable
@@ -65,21 +74,33 @@ public class ContractDefinitionResolverImpl implements ContractDefinitionResolve
     public ContractDefinition definitionFor(ParticipantAgent agent, String definitionId) {
         return Optional.of(definitionId)
                 .map(definitionStore::findById)
-                .filter(definition -> evaluateAccessPolicy(definition, agent))
+                .filter(definition -> isAccessGranted(definition, doEvaluateAccessPolicy(definition.getAccessPolicyId(), agent)))
                 .orElse(null);
     }
 
     /**
-     * Determines the applicability of a definition to an agent by evaluating its access policy.
+     * Evaluates an access policy for an agent. The result only depends on the policy and on the agent, so it is shared
+     * by all the definitions referencing the same access policy within a single resolution, and it is cached across
+     * resolutions by the {@link AccessPolicyDecisionCache}. The cache only serves the catalog: a single definition, as
+     * resolved when validating a contract negotiation, is always evaluated against the current policy.
      */
-    private boolean evaluateAccessPolicy(ContractDefinition definition, ParticipantAgent agent) {
+    private Result<Void> evaluateAccessPolicy(String accessPolicyId, ParticipantAgent agent) {
+        return decisionCache.get(agent, accessPolicyId, () -> doEvaluateAccessPolicy(accessPolicyId, agent));
+    }
+
+    private Result<Void> doEvaluateAccessPolicy(String accessPolicyId, ParticipantAgent agent) {
         var policyContext = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, agent).build();
-        var accessResult = Optional.of(definition.getAccessPolicyId())
+        return Optional.of(accessPolicyId)
                 .map(policyStore::findById)
                 .map(PolicyDefinition::getPolicy)
                 .map(policy -> policyEngine.evaluate(CATALOGING_SCOPE, policy, policyContext))
-                .orElse(Result.failure(format("Policy %s not found", definition.getAccessPolicyId())));
+                .orElse(Result.failure(format("Policy %s not found", accessPolicyId)));
+    }
 
+    /**
+     * Determines the applicability of a definition to an agent from the evaluation result of its access policy.
+     */
+    private boolean isAccessGranted(ContractDefinition definition, Result<Void> accessResult) {
         if (accessResult.failed()) {
             monitor.debug(format("Access not granted for %s: \n%s", definition.getId(), String.join("\n", accessResult.getFailureMessages())));
             return false;
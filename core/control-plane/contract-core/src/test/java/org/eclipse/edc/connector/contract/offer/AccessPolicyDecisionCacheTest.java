@@ -0,0 +1,170 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.contract.offer;
+
+import org.eclipse.edc.connector.policy.spi.event.PolicyDefinitionUpdated;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessPolicyDecisionCacheTest {
+
+    private final Clock clock = Clock.fixed(Instant.now(), ZoneOffset.UTC);
+    private final AccessPolicyDecisionCache cache = new AccessPolicyDecisionCache(10, Duration.ofMinutes(1), clock);
+    private final Supplier<Result<Void>> evaluation = mock();
+
+    @Test
+    void get_shouldEvaluateOnce_whenSameAgentAndPolicy() {
+        when(evaluation.get()).thenReturn(Result.success());
+
+        cache.get(agent("participant"), "policy", evaluation);
+        var result = cache.get(agent("participant"), "policy", evaluation);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(evaluation).get();
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvaluate_whenDifferentAgentOrPolicy() {
+        when(evaluation.get()).thenReturn(Result.success(), Result.failure("denied"));
+
+        cache.get(agent("participant"), "policy", evaluation);
+        var result = cache.get(agent("other"), "policy", evaluation);
+        cache.get(agent("participant"), "otherPolicy", evaluation);
+
+        assertThat(result.failed()).isTrue();
+        verify(evaluation, times(3)).get();
+    }
+
+    @Test
+    void get_shouldEvaluateOnce_whenEqualAgentsAreBuiltFromDifferentTokens() {
+        when(evaluation.get()).thenReturn(Result.success());
+
+        cache.get(tokenAgent("participant", 1000L, "jti-1"), "policy", evaluation);
+        var result = cache.get(tokenAgent("participant", 2000L, "jti-2"), "policy", evaluation);
+
+        assertThat(result.succeeded()).isTrue();
+        verify(evaluation).get();
+        assertThat(cache.hits()).isEqualTo(1);
+    }
+
+    @Test
+    void get_shouldEvaluate_whenClaimsDiffer() {
+        when(evaluation.get()).thenReturn(Result.success());
+
+        cache.get(new ParticipantAgent(Map.of("region", "eu"), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant")), "policy", evaluation);
+        cache.get(new ParticipantAgent(Map.of("region", "us"), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant")), "policy", evaluation);
+
+        verify(evaluation, times(2)).get();
+    }
+
+    @Test
+    void get_shouldNotCache_whenClaimsCannotBeRepresented() {
+        when(evaluation.get()).thenReturn(Result.success());
+        var agent = new ParticipantAgent(Map.of("opaque", new Object()), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, "participant"));
+
+        cache.get(agent, "policy", evaluation);
+        cache.get(agent, "policy", evaluation);
+
+        verify(evaluation, times(2)).get();
+    }
+
+    @Test
+    void get_shouldAlwaysEvaluate_whenDisabled() {
+        var disabled = AccessPolicyDecisionCache.disabled();
+        when(evaluation.get()).thenReturn(Result.success());
+
+        disabled.get(agent("participant"), "policy", evaluation);
+        disabled.get(agent("participant"), "policy", evaluation);
+
+        verify(evaluation, times(2)).get();
+    }
+
+    @Test
+    void on_shouldInvalidateDecisions_whenPolicyChanges() {
+        when(evaluation.get()).thenReturn(Result.success());
+        cache.get(agent("participant"), "policy", evaluation);
+        cache.get(agent("participant"), "otherPolicy", evaluation);
+
+        cache.on(EventEnvelope.Builder.newInstance().at(clock.millis())
+                .payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+        cache.get(agent("participant"), "policy", evaluation);
+        cache.get(agent("participant"), "otherPolicy", evaluation);
+
+        verify(evaluation, times(3)).get();
+    }
+
+    @Test
+    void get_shouldNotCacheDecision_whenPolicyChangesDuringEvaluation() {
+        when(evaluation.get()).thenAnswer(invocation -> {
+            cache.on(EventEnvelope.Builder.newInstance().at(clock.millis())
+                    .payload(PolicyDefinitionUpdated.Builder.newInstance().policyDefinitionId("policy").build()).build());
+            return Result.success();
+        }).thenReturn(Result.success());
+
+        cache.get(agent("participant"), "policy", evaluation);
+        cache.get(agent("participant"), "policy", evaluation);
+
+        verify(evaluation, times(2)).get();
+    }
+
+    private ParticipantAgent tokenAgent(String identity, long issuedAt, String tokenId) {
+        var credential = new TestCredential("MembershipCredential", Map.of("level", "gold"));
+        var claims = Map.<String, Object>of("client_id", identity, "iat", issuedAt, "exp", issuedAt + 300, "jti", tokenId,
+                "vc", List.of(credential));
+        return new ParticipantAgent(claims, Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+
+    private ParticipantAgent agent(String identity) {
+        return new ParticipantAgent(Map.of("client_id", identity), Map.of(ParticipantAgent.PARTICIPANT_IDENTITY, identity));
+    }
+
+    /**
+     * Credential without value equality, as the ones found in the claims.
+     */
+    private static class TestCredential {
+        private final String type;
+        private final Map<String, Object> subject;
+
+        TestCredential(String type, Map<String, Object> subject) {
+            this.type = type;
+            this.subject = subject;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public Map<String, Object> getSubject() {
+            return subject;
+        }
+    }
+}
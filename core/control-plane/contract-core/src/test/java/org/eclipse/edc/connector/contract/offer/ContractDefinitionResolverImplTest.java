@@ -29,6 +29,8 @@ import org.eclipse.edc.spi.result.Result;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 import java.util.stream.Stream;
 
@@ -92,6 +94,23 @@ class ContractDefinitionResolverImplTest {
         verify(definitionStore).findAll(any());
     }
 
+    @Test
+    void definitionsFor_shouldEvaluateSharedAccessPolicyOnce() {
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var def = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(def);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success());
+        var definitions = Stream.of("1", "2", "3").map(id -> ContractDefinition.Builder.newInstance()
+                .id(id).accessPolicyId("access").contractPolicyId("contract").build());
+        when(definitionStore.findAll(any())).thenReturn(definitions);
+
+        var result = definitionService.definitionsFor(agent);
+
+        assertThat(result).hasSize(3);
+        verify(policyStore).findById("access");
+        verify(policyEngine).evaluate(eq(CATALOGING_SCOPE), eq(def.getPolicy()), isA(PolicyContext.class));
+    }
+
     @Test
     void definitionsFor_verifyPoliciesNotFound() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
@@ -124,6 +143,21 @@ class ContractDefinitionResolverImplTest {
         );
     }
 
+    @Test
+    void definitionFor_shouldNotUseDecisionCache() {
+        var decisionCache = new AccessPolicyDecisionCache(10, Duration.ofMinutes(1), Clock.systemUTC());
+        var resolver = new ContractDefinitionResolverImpl(mock(Monitor.class), definitionStore, policyEngine, policyStore, decisionCache);
+        var agent = new ParticipantAgent(Map.of(), Map.of());
+        var definition = PolicyDefinition.Builder.newInstance().policy(Policy.Builder.newInstance().build()).build();
+        when(policyStore.findById(any())).thenReturn(definition);
+        when(policyEngine.evaluate(any(), any(), isA(PolicyContext.class))).thenReturn(Result.success(), Result.failure("denied"));
+        when(definitionStore.findById("1")).thenReturn(createContractDefinition());
+
+        assertThat(resolver.definitionFor(agent, "1")).isNotNull();
+        assertThat(resolver.definitionFor(agent, "1")).isNull();
+        assertThat(decisionCache.hits()).isZero();
+    }
+
     @Test
     void definitionFor_notFound() {
         var agent = new ParticipantAgent(Map.of(), Map.of());
@@ -20,12 +20,22 @@ import org.eclipse.edc.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.catalog.spi.Dataset;
 import org.eclipse.edc.catalog.spi.DatasetResolver;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
+import org.eclipse.edc.connector.spi.catalog.CatalogStream;
 import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 import static java.lang.String.format;
 import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
@@ -35,6 +45,11 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     @PolicyScope
     public static final String CATALOGING_REQUEST_SCOPE = "request.catalog";
 
+    /**
+     * Number of datasets a streamed catalog reads in a single transaction.
+     */
+    public static final int DEFAULT_STREAM_PAGE_SIZE = 100;
+
     @Deprecated(since = "0.5.1")
     private static final String EDC_PROPERTY_PARTICIPANT_ID = EDC_NAMESPACE + "participantId";
 
@@ -42,6 +57,7 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
     private final DataServiceRegistry dataServiceRegistry;
     private final String participantId;
     private final TransactionContext transactionContext;
+    private final int streamPageSize;
 
     private final ProtocolTokenValidator protocolTokenValidator;
 
@@ -50,32 +66,53 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                                       ProtocolTokenValidator protocolTokenValidator,
                                       String participantId,
                                       TransactionContext transactionContext) {
+        this(datasetResolver, dataServiceRegistry, protocolTokenValidator, participantId, transactionContext, DEFAULT_STREAM_PAGE_SIZE);
+    }
+
+    public CatalogProtocolServiceImpl(DatasetResolver datasetResolver,
+                                      DataServiceRegistry dataServiceRegistry,
+                                      ProtocolTokenValidator protocolTokenValidator,
+                                      String participantId,
+                                      TransactionContext transactionContext,
+                                      int streamPageSize) {
         this.datasetResolver = datasetResolver;
         this.dataServiceRegistry = dataServiceRegistry;
         this.protocolTokenValidator = protocolTokenValidator;
         this.participantId = participantId;
         this.transactionContext = transactionContext;
+        this.streamPageSize = streamPageSize;
     }
 
     @Override
     @NotNull
     public ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
         return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE)
+                .compose(agent -> validate(agent, message.getQuerySpec()))
                 .map(agent -> {
                     try (var datasets = datasetResolver.query(agent, message.getQuerySpec())) {
-                        var dataServices = dataServiceRegistry.getDataServices();
-
-                        return Catalog.Builder.newInstance()
-                                .dataServices(dataServices)
-                                .datasets(datasets.toList())
-                                .participantId(participantId)
-                                .property(EDC_PROPERTY_PARTICIPANT_ID, participantId)
-                                .build();
+                        var datasetList = datasets.toList();
+
+                        var catalog = catalogBuilder().datasets(datasetList);
+
+                        var last = datasetList.isEmpty() ? null : datasetList.get(datasetList.size() - 1);
+                        var token = continuationToken(last, datasetList.size(), message.getQuerySpec());
+                        if (token != null) {
+                            catalog.property(DatasetResolver.CONTINUATION_TOKEN, token);
+                        }
+
+                        return catalog.build();
                     }
                 })
         );
     }
 
+    @Override
+    public @NotNull ServiceResult<CatalogStream> streamCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
+        return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE))
+                .compose(agent -> validate(agent, message.getQuerySpec()))
+                .map(agent -> new ResolvingCatalogStream(agent, message.getQuerySpec(), catalogBuilder().datasets(List.of()).build()));
+    }
+
     @Override
     public @NotNull ServiceResult<Dataset> getDataset(String datasetId, TokenRepresentation tokenRepresentation) {
         return transactionContext.execute(() -> protocolTokenValidator.verify(tokenRepresentation, CATALOGING_REQUEST_SCOPE)
@@ -89,5 +126,104 @@ public class CatalogProtocolServiceImpl implements CatalogProtocolService {
                 }));
     }
 
+    private ServiceResult<ParticipantAgent> validate(ParticipantAgent agent, QuerySpec querySpec) {
+        var validation = datasetResolver.validate(querySpec);
+        if (validation.failed()) {
+            return ServiceResult.badRequest(validation.getFailureMessages());
+        }
+        return ServiceResult.success(agent);
+    }
+
+    private Catalog.Builder catalogBuilder() {
+        return Catalog.Builder.newInstance()
+                .dataServices(dataServiceRegistry.getDataServices())
+                .participantId(participantId)
+                .property(EDC_PROPERTY_PARTICIPANT_ID, participantId);
+    }
+
+    /**
+     * A full page means that more datasets could be available.
+     */
+    @Nullable
+    private String continuationToken(@Nullable Dataset last, int count, QuerySpec querySpec) {
+        if (last == null || count != querySpec.getLimit()) {
+            return null;
+        }
+        return datasetResolver.continuationToken(last);
+    }
+
+    /**
+     * Streams the datasets reading them in pages, every page in its own short transaction, so that no transaction is
+     * held while the datasets are consumed, e.g. written to a slow client. Pages following the first one start from
+     * the continuation token of the last dataset, or from its offset when the resolver doesn't support tokens.
+     */
+    private class ResolvingCatalogStream implements CatalogStream {
+
+        private final ParticipantAgent agent;
+        private final QuerySpec querySpec;
+        private final Catalog catalog;
+
+        ResolvingCatalogStream(ParticipantAgent agent, QuerySpec querySpec, Catalog catalog) {
+            this.agent = agent;
+            this.querySpec = querySpec;
+            this.catalog = catalog;
+        }
+
+        @Override
+        public Catalog catalog() {
+            return catalog;
+        }
+
+        @Override
+        public @Nullable String forEachDataset(Consumer<Dataset> consumer) {
+            var pageQuery = page(querySpec.getFilterExpression(), querySpec.getOffset(), Math.min(querySpec.getLimit(), streamPageSize));
+            Dataset last = null;
+            var count = 0;
+            while (true) {
+                var page = readPage(pageQuery);
+                for (var dataset : page) {
+                    consumer.accept(dataset);
+                    last = dataset;
+                    count++;
+                }
+                if (page.size() < pageQuery.getLimit() || count >= querySpec.getLimit()) {
+                    return continuationToken(last, count, querySpec);
+                }
+                pageQuery = nextPage(last, count);
+            }
+        }
+
+        private List<Dataset> readPage(QuerySpec pageQuery) {
+            return transactionContext.execute(() -> {
+                try (var datasets = datasetResolver.query(agent, pageQuery)) {
+                    return datasets.toList();
+                }
+            });
+        }
+
+        private QuerySpec nextPage(Dataset last, int count) {
+            var limit = Math.min(querySpec.getLimit() - count, streamPageSize);
+            var token = datasetResolver.continuationToken(last);
+            if (token == null) {
+                return page(querySpec.getFilterExpression(), querySpec.getOffset() + count, limit);
+            }
+            var filter = querySpec.getFilterExpression().stream()
+                    .filter(criterion -> !DatasetResolver.CONTINUATION_TOKEN.equals(criterion.getOperandLeft()))
+                    .collect(Collectors.toCollection(ArrayList::new));
+            filter.add(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", token));
+            return page(filter, 0, limit);
+        }
+
+        private QuerySpec page(List<Criterion> filter, int offset, int limit) {
+            return QuerySpec.Builder.newInstance()
+                    .filter(filter)
+                    .sortField(querySpec.getSortField())
+                    .sortOrder(querySpec.getSortOrder())
+                    .offset(offset)
+                    .limit(limit)
+                    .build();
+        }
+    }
+
 }
 
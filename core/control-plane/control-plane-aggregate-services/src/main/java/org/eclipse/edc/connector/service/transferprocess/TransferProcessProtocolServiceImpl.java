@@ -315,7 +315,11 @@ public class TransferProcessProtocolServiceImpl implements TransferProcessProtoc
     }
 
     private void breakLease(TransferProcess process) {
-        transferProcessStore.save(process);
+        if (process.hasChanges()) {
+            transferProcessStore.save(process);
+        } else {
+            transferProcessStore.releaseLease(process.getId());
+        }
     }
 
     private void update(TransferProcess transferProcess) {
@@ -24,29 +24,39 @@ import org.eclipse.edc.connector.spi.protocol.ProtocolTokenValidator;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.query.Criterion;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.result.ServiceFailure;
 import org.eclipse.edc.spi.result.ServiceResult;
 import org.eclipse.edc.transaction.spi.NoopTransactionContext;
 import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
 
 import static java.util.Collections.emptyMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.service.catalog.CatalogProtocolServiceImpl.CATALOGING_REQUEST_SCOPE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.eclipse.edc.spi.result.ServiceFailure.Reason.BAD_REQUEST;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.NOT_FOUND;
 import static org.eclipse.edc.spi.result.ServiceFailure.Reason.UNAUTHORIZED;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 class CatalogProtocolServiceImplTest {
@@ -59,6 +69,11 @@ class CatalogProtocolServiceImplTest {
     private final CatalogProtocolServiceImpl service = new CatalogProtocolServiceImpl(datasetResolver,
             dataServiceRegistry, protocolTokenValidator, "participantId", transactionContext);
 
+    @BeforeEach
+    void setUp() {
+        when(datasetResolver.validate(any())).thenReturn(Result.success());
+    }
+
     @Nested
     class GetCatalog {
 
@@ -85,6 +100,40 @@ class CatalogProtocolServiceImplTest {
             verify(transactionContext).execute(any(TransactionContext.ResultTransactionBlock.class));
         }
 
+        @Test
+        void shouldAddContinuationToken_whenPageIsFull() {
+            var querySpec = QuerySpec.Builder.newInstance().limit(1).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+            var dataset = createDataset();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenReturn(Stream.of(dataset));
+            when(datasetResolver.continuationToken(dataset)).thenReturn("token");
+
+            var result = service.getCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(catalog ->
+                    assertThat(catalog.getProperties()).containsEntry(DatasetResolver.CONTINUATION_TOKEN, "token"));
+        }
+
+        @Test
+        void shouldNotAddContinuationToken_whenPageIsNotFull() {
+            var querySpec = QuerySpec.Builder.newInstance().limit(2).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenReturn(Stream.of(createDataset()));
+
+            var result = service.getCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(catalog ->
+                    assertThat(catalog.getProperties()).doesNotContainKey(DatasetResolver.CONTINUATION_TOKEN));
+        }
+
         @Test
         void shouldFail_whenTokenValidationFails() {
             var querySpec = QuerySpec.none();
@@ -97,6 +146,19 @@ class CatalogProtocolServiceImplTest {
 
             assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
         }
+
+        @Test
+        void shouldFail_whenQueryIsNotValid() {
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+            var tokenRepresentation = createTokenRepresentation();
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(datasetResolver.validate(any())).thenReturn(Result.failure("invalid continuation token"));
+
+            var result = service.getCatalog(message, tokenRepresentation);
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+            verify(datasetResolver, never()).query(any(), any());
+        }
     }
 
     @Nested
@@ -144,6 +206,122 @@ class CatalogProtocolServiceImplTest {
     }
 
 
+    @Nested
+    class StreamCatalog {
+
+        @Test
+        void shouldResolveDatasets_whenTheyAreConsumed() {
+            var querySpec = QuerySpec.Builder.newInstance().limit(2).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+            var participantAgent = createParticipantAgent();
+            var datasets = List.of(createDataset(), createDataset());
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(participantAgent));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenReturn(datasets.stream());
+            when(datasetResolver.continuationToken(datasets.get(1))).thenReturn("token");
+
+            var result = service.streamCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(catalogStream -> {
+                assertThat(catalogStream.catalog().getParticipantId()).isEqualTo("participantId");
+                assertThat(catalogStream.catalog().getDatasets()).isEmpty();
+                verify(datasetResolver, never()).query(any(), any());
+
+                var consumed = new ArrayList<Dataset>();
+                var continuationToken = catalogStream.forEachDataset(consumed::add);
+
+                assertThat(consumed).containsExactlyElementsOf(datasets);
+                assertThat(continuationToken).isEqualTo("token");
+            });
+            verify(datasetResolver).query(eq(participantAgent), eq(querySpec));
+            verify(transactionContext, times(2)).execute(any(TransactionContext.ResultTransactionBlock.class));
+        }
+
+        @Test
+        void shouldReadPagesInSeparateTransactions_andConsumeOutsideOfThem() {
+            var inTransaction = new AtomicBoolean();
+            var transactionContext = new NoopTransactionContext() {
+                @Override
+                public <T> T execute(TransactionContext.ResultTransactionBlock<T> block) {
+                    inTransaction.set(true);
+                    try {
+                        return super.execute(block);
+                    } finally {
+                        inTransaction.set(false);
+                    }
+                }
+            };
+            var pagingService = new CatalogProtocolServiceImpl(datasetResolver, dataServiceRegistry, protocolTokenValidator, "participantId", transactionContext, 1);
+            var querySpec = QuerySpec.Builder.newInstance().limit(3).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+            var datasets = List.of(createDataset(), createDataset(), createDataset());
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenReturn(Stream.of(datasets.get(0)), Stream.of(datasets.get(1)), Stream.of(datasets.get(2)));
+            when(datasetResolver.continuationToken(any())).thenReturn("token1", "token2", "token3");
+
+            var result = pagingService.streamCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(catalogStream -> {
+                var consumed = new ArrayList<Dataset>();
+                var continuationToken = catalogStream.forEachDataset(dataset -> {
+                    assertThat(inTransaction).isFalse();
+                    consumed.add(dataset);
+                });
+
+                assertThat(consumed).containsExactlyElementsOf(datasets);
+                assertThat(continuationToken).isEqualTo("token3");
+            });
+            var queries = ArgumentCaptor.forClass(QuerySpec.class);
+            verify(datasetResolver, times(3)).query(any(), queries.capture());
+            assertThat(queries.getAllValues()).allSatisfy(query -> assertThat(query.getLimit()).isEqualTo(1));
+            assertThat(queries.getAllValues().get(2).getFilterExpression())
+                    .containsExactly(new Criterion(DatasetResolver.CONTINUATION_TOKEN, "=", "token2"));
+        }
+
+        @Test
+        void shouldNotReturnContinuationToken_whenPageIsNotFull() {
+            var querySpec = QuerySpec.Builder.newInstance().limit(2).build();
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(querySpec).build();
+            var tokenRepresentation = createTokenRepresentation();
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(dataServiceRegistry.getDataServices()).thenReturn(List.of());
+            when(datasetResolver.query(any(), any())).thenReturn(Stream.of(createDataset()));
+
+            var result = service.streamCatalog(message, tokenRepresentation);
+
+            assertThat(result).isSucceeded().satisfies(catalogStream ->
+                    assertThat(catalogStream.forEachDataset(dataset -> { })).isNull());
+        }
+
+        @Test
+        void shouldFail_whenTokenValidationFails() {
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+            var tokenRepresentation = createTokenRepresentation();
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.unauthorized("unauthorized"));
+
+            var result = service.streamCatalog(message, tokenRepresentation);
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(UNAUTHORIZED);
+            verifyNoInteractions(datasetResolver);
+        }
+
+        @Test
+        void shouldFail_whenQueryIsNotValid() {
+            var message = CatalogRequestMessage.Builder.newInstance().protocol("protocol").querySpec(QuerySpec.none()).build();
+            var tokenRepresentation = createTokenRepresentation();
+            when(protocolTokenValidator.verify(eq(tokenRepresentation), eq(CATALOGING_REQUEST_SCOPE))).thenReturn(ServiceResult.success(createParticipantAgent()));
+            when(datasetResolver.validate(any())).thenReturn(Result.failure("invalid continuation token"));
+
+            var result = service.streamCatalog(message, tokenRepresentation);
+
+            assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(BAD_REQUEST);
+            verify(datasetResolver, never()).query(any(), any());
+        }
+    }
+
     private ParticipantAgent createParticipantAgent() {
         return new ParticipantAgent(emptyMap(), emptyMap());
     }
@@ -85,7 +85,6 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -304,7 +303,7 @@ class TransferProcessProtocolServiceImplTest {
 
         assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
         // state didn't change
-        verify(store, times(1)).save(argThat(tp -> tp.getState() == DEPROVISIONING.code()));
+        verify(store).releaseLease(transferProcess.getId());
         verifyNoInteractions(listener);
     }
 
@@ -336,7 +335,7 @@ class TransferProcessProtocolServiceImplTest {
                 .extracting(ServiceFailure::getReason)
                 .isEqualTo(BAD_REQUEST);
 
-        verify(store, times(1)).save(any());
+        verify(store).releaseLease(transferProcess.getId());
 
     }
 
@@ -393,7 +392,7 @@ class TransferProcessProtocolServiceImplTest {
 
         assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
         // state didn't change
-        verify(store, times(1)).save(argThat(tp -> tp.getState() == REQUESTED.code()));
+        verify(store).releaseLease(transferProcess.getId());
         verifyNoInteractions(listener);
     }
 
@@ -425,7 +424,7 @@ class TransferProcessProtocolServiceImplTest {
                 .extracting(ServiceFailure::getReason)
                 .isEqualTo(BAD_REQUEST);
 
-        verify(store, times(1)).save(any());
+        verify(store).releaseLease(transferProcess.getId());
 
     }
 
@@ -485,7 +484,7 @@ class TransferProcessProtocolServiceImplTest {
 
         assertThat(result).isFailed().extracting(ServiceFailure::getReason).isEqualTo(CONFLICT);
         // state didn't change
-        verify(store, times(1)).save(argThat(tp -> tp.getState() == DEPROVISIONING.code()));
+        verify(store).releaseLease(transferProcess.getId());
         verifyNoInteractions(listener);
     }
 
@@ -518,7 +517,7 @@ class TransferProcessProtocolServiceImplTest {
                 .extracting(ServiceFailure::getReason)
                 .isEqualTo(BAD_REQUEST);
 
-        verify(store, times(1)).save(any());
+        verify(store).releaseLease(transferProcess.getId());
 
     }
 
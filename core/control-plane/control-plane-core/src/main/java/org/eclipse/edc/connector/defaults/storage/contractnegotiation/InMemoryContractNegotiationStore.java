@@ -54,7 +54,7 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
 
     @Override
     public @Nullable ContractNegotiation findForCorrelationId(String correlationId) {
-        return super.findAll().filter(p -> correlationId.equals(p.getCorrelationId())).findFirst().orElse(null);
+        return findByCorrelationId(correlationId);
     }
 
     @Override
@@ -96,6 +96,11 @@ public class InMemoryContractNegotiationStore extends InMemoryStatefulEntityStor
         return findByIdAndLease(negotiation.getId());
     }
 
+    @Override
+    protected @Nullable String correlationId(ContractNegotiation entity) {
+        return entity.getCorrelationId();
+    }
+
     @NotNull
     private Stream<ContractAgreement> getAgreements() {
         return super.findAll()
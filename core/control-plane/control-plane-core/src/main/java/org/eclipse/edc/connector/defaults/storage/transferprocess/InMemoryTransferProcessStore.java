@@ -27,7 +27,6 @@ import java.util.UUID;
 import java.util.stream.Stream;
 
 import static java.lang.String.format;
-import static org.eclipse.edc.spi.query.Criterion.criterion;
 
 /**
  * An in-memory, threadsafe process store. This implementation is intended for testing purposes only.
@@ -44,9 +43,7 @@ public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<Tr
 
     @Override
     public @Nullable TransferProcess findForCorrelationId(String correlationId) {
-        var querySpec = QuerySpec.Builder.newInstance().filter(criterion("dataRequest.id", "=", correlationId)).build();
-
-        return super.findAll(querySpec).findFirst().orElse(null);
+        return findByCorrelationId(correlationId);
     }
 
     @Override
@@ -69,4 +66,9 @@ public class InMemoryTransferProcessStore extends InMemoryStatefulEntityStore<Tr
         return findByIdAndLease(transferProcess.getId());
     }
 
+    @Override
+    protected @Nullable String correlationId(TransferProcess entity) {
+        return entity.getCorrelationId();
+    }
+
 }
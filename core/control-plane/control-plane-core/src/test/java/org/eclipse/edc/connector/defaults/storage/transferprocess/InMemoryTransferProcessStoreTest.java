@@ -17,13 +17,41 @@ package org.eclipse.edc.connector.defaults.storage.transferprocess;
 import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
 import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.testfixtures.store.TransferProcessStoreTestBase;
+import org.junit.jupiter.api.Test;
 
 import java.time.Duration;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.connector.transfer.spi.testfixtures.store.TestFunctions.createTransferProcess;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.INITIAL;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.PROVISIONING;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+
 class InMemoryTransferProcessStoreTest extends TransferProcessStoreTestBase {
 
     private final InMemoryTransferProcessStore store = new InMemoryTransferProcessStore(CONNECTOR_NAME, clock, CriterionOperatorRegistryImpl.ofDefaults());
 
+    @Test
+    void nextNotLeased_shouldFollowStateChanges() {
+        store.save(createTransferProcess("id1", INITIAL));
+        store.save(createTransferProcess("id1", PROVISIONING));
+
+        assertThat(store.nextNotLeased(10, hasState(INITIAL.code()))).isEmpty();
+        assertThat(store.nextNotLeased(10, hasState(PROVISIONING.code()))).hasSize(1).first()
+                .satisfies(transferProcess -> assertThat(transferProcess.getId()).isEqualTo("id1"));
+    }
+
+    @Test
+    void delete_shouldRemoveEntityFromIndexes() {
+        var transferProcess = createTransferProcess("id1", INITIAL);
+        store.save(transferProcess);
+
+        store.delete("id1");
+
+        assertThat(store.nextNotLeased(10, hasState(INITIAL.code()))).isEmpty();
+        assertThat(store.findForCorrelationId(transferProcess.getCorrelationId())).isNull();
+    }
+
     @Override
     protected TransferProcessStore getTransferProcessStore() {
         return store;
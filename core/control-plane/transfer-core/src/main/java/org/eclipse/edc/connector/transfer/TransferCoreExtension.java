@@ -15,6 +15,7 @@
 
 package org.eclipse.edc.connector.transfer;
 
+import org.eclipse.edc.connector.core.entity.StateConcurrencyConfiguration;
 import org.eclipse.edc.connector.policy.spi.store.PolicyArchive;
 import org.eclipse.edc.connector.transfer.command.handlers.AddProvisionedResourceCommandHandler;
 import org.eclipse.edc.connector.transfer.command.handlers.DeprovisionCompleteCommandHandler;
@@ -37,6 +38,7 @@ import org.eclipse.edc.connector.transfer.spi.store.TransferProcessStore;
 import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
 import org.eclipse.edc.connector.transfer.spi.types.DeprovisionedResource;
 import org.eclipse.edc.connector.transfer.spi.types.ProvisionedContentResource;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
 import org.eclipse.edc.runtime.metamodel.annotation.CoreExtension;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -44,6 +46,7 @@ import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.asset.DataAddressResolver;
 import org.eclipse.edc.spi.command.CommandHandlerRegistry;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.protocol.ProtocolWebhook;
@@ -55,6 +58,7 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.spi.types.TypeManager;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.jetbrains.annotations.NotNull;
 
@@ -64,6 +68,7 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core data transfer services to the system.
@@ -81,6 +86,13 @@ public class TransferCoreExtension implements ServiceExtension {
     @Setting(value = "the batch size in the transfer process state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String TRANSFER_STATE_MACHINE_BATCH_SIZE = "edc.transfer.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the transfer process state machine, with more than one worker every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String TRANSFER_STATE_MACHINE_WORKERS = "edc.transfer.state-machine.workers";
+
+    @Setting(value = "the concurrency of the processor of a state in the transfer process state machine, as entries named after the state, e.g. edc.transfer.state-machine.concurrency.STARTING=4. " +
+            "Applied only with more than one worker, default value 1", type = "int")
+    private static final String TRANSFER_STATE_MACHINE_CONCURRENCY = "edc.transfer.state-machine.concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the transfer with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String TRANSFER_SEND_RETRY_LIMIT = "edc.transfer.send.retry.limit";
 
@@ -141,6 +153,12 @@ public class TransferCoreExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineWakeUpSignal wakeUpSignal;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     private TransferProcessManagerImpl processManager;
 
     @Override
@@ -162,7 +180,7 @@ public class TransferCoreExtension implements ServiceExtension {
         var endpointDataReferenceReceiverRegistry = new EndpointDataReferenceReceiverRegistryImpl(typeTransformerRegistry);
         context.registerService(EndpointDataReferenceReceiverRegistry.class, endpointDataReferenceReceiverRegistry);
 
-        eventRouter.register(TransferProcessStarted.class, endpointDataReferenceReceiverRegistry);
+        eventRouter.registerLossless(TransferProcessStarted.class, endpointDataReferenceReceiverRegistry);
 
         observable.registerListener(new TransferProcessEventListener(eventRouter, clock));
 
@@ -179,12 +197,16 @@ public class TransferCoreExtension implements ServiceExtension {
                 .monitor(monitor)
                 .telemetry(telemetry)
                 .executorInstrumentation(executorInstrumentation)
+                .wakeUpSignal(wakeUpSignal)
+                .transactionContext(transactionContext)
                 .vault(vault)
                 .clock(clock)
                 .observable(observable)
                 .store(transferProcessStore)
                 .policyArchive(policyArchive)
                 .batchSize(context.getSetting(TRANSFER_STATE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(TRANSFER_STATE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .concurrency(StateConcurrencyConfiguration.fromConfig(context, TRANSFER_STATE_MACHINE_CONCURRENCY, state -> TransferProcessStates.valueOf(state).code()))
                 .addressResolver(addressResolver)
                 .entityRetryProcessConfiguration(entityRetryProcessConfiguration)
                 .protocolWebhook(protocolWebhook)
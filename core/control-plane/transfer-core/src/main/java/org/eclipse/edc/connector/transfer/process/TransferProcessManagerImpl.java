@@ -103,6 +103,9 @@ import static org.eclipse.edc.spi.types.domain.DataAddress.EDC_DATA_ADDRESS_SECR
  */
 public class TransferProcessManagerImpl extends AbstractStateEntityManager<TransferProcess, TransferProcessStore>
         implements TransferProcessManager {
+
+    public static final String WAKE_UP_TOPIC = "transfer-process";
+
     private ResourceManifestGenerator manifestGenerator;
     private ProvisionManager provisionManager;
     private RemoteMessageDispatcherRegistry dispatcherRegistry;
@@ -119,6 +122,11 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     private TransferProcessManagerImpl() {
     }
 
+    @Override
+    protected String wakeUpTopic() {
+        return WAKE_UP_TOPIC;
+    }
+
     /**
      * Initiate a consumer request TransferProcess.
      */
@@ -164,14 +172,14 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processTransfersInState(INITIAL, this::processInitial))
-                .processor(processTransfersInState(PROVISIONING, this::processProvisioning))
-                .processor(processTransfersInState(PROVISIONED, this::processProvisioned))
-                .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting))
-                .processor(processProviderTransfersInState(STARTING, this::processStarting))
-                .processor(processTransfersInState(COMPLETING, this::processCompleting))
-                .processor(processTransfersInState(TERMINATING, this::processTerminating))
-                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning));
+                .processor(processTransfersInState(INITIAL, this::processInitial), concurrency(INITIAL.code()))
+                .processor(processTransfersInState(PROVISIONING, this::processProvisioning), concurrency(PROVISIONING.code()))
+                .processor(processTransfersInState(PROVISIONED, this::processProvisioned), concurrency(PROVISIONED.code()))
+                .processor(processConsumerTransfersInState(REQUESTING, this::processRequesting), concurrency(REQUESTING.code()))
+                .processor(processProviderTransfersInState(STARTING, this::processStarting), concurrency(STARTING.code()))
+                .processor(processTransfersInState(COMPLETING, this::processCompleting), concurrency(COMPLETING.code()))
+                .processor(processTransfersInState(TERMINATING, this::processTerminating), concurrency(TERMINATING.code()))
+                .processor(processTransfersInState(DEPROVISIONING, this::processDeprovisioning), concurrency(DEPROVISIONING.code()));
     }
 
     /**
@@ -460,16 +468,19 @@ public class TransferProcessManagerImpl extends AbstractStateEntityManager<Trans
     }
 
     private Processor processConsumerTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", CONSUMER.name()) };
         return createProcessor(function, filter);
     }
 
     private Processor processProviderTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()), isNotPending(), Criterion.criterion("type", "=", PROVIDER.name()) };
         return createProcessor(function, filter);
     }
 
     private Processor processTransfersInState(TransferProcessStates state, Function<TransferProcess, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()), isNotPending() };
         return createProcessor(function, filter);
     }
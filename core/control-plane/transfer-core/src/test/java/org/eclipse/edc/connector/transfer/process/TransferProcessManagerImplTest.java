@@ -57,6 +57,7 @@ import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -195,6 +196,37 @@ class TransferProcessManagerImplTest {
         verify(listener).initiated(any());
     }
 
+    @Test
+    void initiateConsumerRequest_shouldWakeUpStateMachineAfterCommit() {
+        var transactionContext = mock(TransactionContext.class);
+        var transactionalManager = TransferProcessManagerImpl.Builder.newInstance()
+                .provisionManager(provisionManager)
+                .dataFlowManager(dataFlowManager)
+                .dispatcherRegistry(dispatcherRegistry)
+                .manifestGenerator(manifestGenerator)
+                .monitor(mock())
+                .clock(clock)
+                .observable(new TransferProcessObservableImpl())
+                .store(transferProcessStore)
+                .policyArchive(policyArchive)
+                .addressResolver(addressResolver)
+                .protocolWebhook(protocolWebhook)
+                .provisionResponsesHandler(provisionResponsesHandler)
+                .deprovisionResponsesHandler(deprovisionResponsesHandler)
+                .transactionContext(transactionContext)
+                .build();
+        var transferRequest = TransferRequest.Builder.newInstance()
+                .id("1")
+                .dataDestination(DataAddress.Builder.newInstance().type("test").build())
+                .build();
+
+        transactionalManager.start();
+        transactionalManager.initiateConsumerRequest(transferRequest);
+        transactionalManager.stop();
+
+        verify(transactionContext).afterCommit(any());
+    }
+
     @Test
     void initial_consumer_shouldTransitionToProvisioning() {
         var transferProcess = createTransferProcess(INITIAL);
@@ -366,7 +398,7 @@ class TransferProcessManagerImplTest {
         await().untilAsserted(() -> {
             verify(policyArchive, atLeastOnce()).findPolicyForContract(anyString());
             verify(provisionResponsesHandler).handle(any(), any());
-            verify(transferProcessStore).save(any());
+            verify(transferProcessStore).releaseLease(process.getId());
             verify(provisionResponsesHandler, never()).postActions(any());
         });
     }
@@ -763,7 +795,7 @@ class TransferProcessManagerImplTest {
         await().untilAsserted(() -> {
             verify(policyArchive, atLeastOnce()).findPolicyForContract(anyString());
             verify(deprovisionResponsesHandler).handle(any(), any());
-            verify(transferProcessStore).save(any());
+            verify(transferProcessStore).releaseLease(transferProcess.getId());
             verify(deprovisionResponsesHandler, never()).postActions(any());
         });
     }
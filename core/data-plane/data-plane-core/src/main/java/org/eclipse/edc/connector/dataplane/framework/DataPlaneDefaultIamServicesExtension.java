@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.connector.dataplane.framework;
 
+import org.eclipse.edc.connector.dataplane.framework.iam.AccessTokenDataCache;
 import org.eclipse.edc.connector.dataplane.framework.iam.DefaultDataPlaneAccessTokenServiceImpl;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
@@ -21,6 +22,7 @@ import org.eclipse.edc.connector.dataplane.spi.store.AccessTokenDataStore;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.iam.LocalPublicKeyService;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.PrivateKeyResolver;
@@ -31,6 +33,8 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 import org.jetbrains.annotations.NotNull;
 
 import java.security.PrivateKey;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.function.Supplier;
 
 import static org.eclipse.edc.connector.dataplane.spi.TransferDataPlaneConfig.TOKEN_SIGNER_PRIVATE_KEY_ALIAS;
@@ -40,6 +44,18 @@ import static org.eclipse.edc.connector.dataplane.spi.TransferDataPlaneConfig.TO
 public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
 
     public static final String NAME = "Data Plane Framework Default IAM Services";
+
+    private static final long DEFAULT_TOKEN_CACHE_TTL_MS = 30_000;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 10_000;
+
+    @Setting(value = "Maximum time in milliseconds the data resolved from a valid access token is reused without validating the token again. It never exceeds the token expiration. 0 disables the cache. " +
+            "A token revoked on a data plane replica is evicted only from the cache of that replica, so the other replicas can accept it for up to this time: lower it when running multiple replicas",
+            type = "long", defaultValue = DEFAULT_TOKEN_CACHE_TTL_MS + "")
+    private static final String TOKEN_CACHE_TTL_MS = "edc.dataplane.token.cache.ttl-ms";
+
+    @Setting(value = "Maximum number of access tokens whose resolved data is cached", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dataplane.token.cache.size";
+
     @Inject
     private AccessTokenDataStore accessTokenDataStore;
     @Inject
@@ -48,6 +64,8 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     private PrivateKeyResolver privateKeyResolver;
     @Inject
     private LocalPublicKeyService localPublicKeyService;
+    @Inject
+    private Clock clock;
 
     @Override
     public String name() {
@@ -65,7 +83,12 @@ public class DataPlaneDefaultIamServicesExtension implements ServiceExtension {
     public DataPlaneAccessTokenService defaultAccessTokenService(ServiceExtensionContext context) {
         return new DefaultDataPlaneAccessTokenServiceImpl(new JwtGenerationService(),
                 accessTokenDataStore, context.getMonitor().withPrefix("DataPlane IAM"),
-                getPrivateKeySupplier(context), publicKeyIdSupplier(context), tokenValidationService, localPublicKeyService);
+                getPrivateKeySupplier(context), publicKeyIdSupplier(context), tokenValidationService, localPublicKeyService, accessTokenDataCache(context));
+    }
+
+    private AccessTokenDataCache accessTokenDataCache(ServiceExtensionContext context) {
+        var ttl = Duration.ofMillis(context.getSetting(TOKEN_CACHE_TTL_MS, DEFAULT_TOKEN_CACHE_TTL_MS));
+        return new AccessTokenDataCache(context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE), ttl, clock);
     }
 
     private Supplier<String> publicKeyIdSupplier(ServiceExtensionContext context) {
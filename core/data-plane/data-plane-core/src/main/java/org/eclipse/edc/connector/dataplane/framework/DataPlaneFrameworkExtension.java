@@ -15,10 +15,12 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.api.client.spi.transferprocess.TransferProcessApiClient;
+import org.eclipse.edc.connector.core.entity.StateConcurrencyConfiguration;
 import org.eclipse.edc.connector.dataplane.framework.iam.DataPlaneAuthorizationServiceImpl;
 import org.eclipse.edc.connector.dataplane.framework.manager.DataPlaneManagerImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceSelectionStrategy;
+import org.eclipse.edc.connector.dataplane.spi.DataFlowStates;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessControlService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAccessTokenService;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
@@ -33,12 +35,15 @@ import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.eclipse.edc.statemachine.retry.EntityRetryProcessConfiguration;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.eclipse.edc.util.concurrency.VirtualThreads;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
@@ -48,6 +53,7 @@ import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.D
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_ITERATION_WAIT;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_BASE_DELAY;
 import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_SEND_RETRY_LIMIT;
+import static org.eclipse.edc.connector.core.entity.AbstractStateEntityManager.DEFAULT_WORKERS;
 
 /**
  * Provides core services for the Data Plane Framework.
@@ -63,6 +69,13 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting(value = "the batch size in the data plane state machine. Default value " + DEFAULT_BATCH_SIZE, type = "int")
     private static final String DATAPLANE_MACHINE_BATCH_SIZE = "edc.dataplane.state-machine.batch-size";
 
+    @Setting(value = "the number of worker threads in the data plane state machine, with more than one worker every state is processed concurrently. Default value " + DEFAULT_WORKERS, type = "int")
+    private static final String DATAPLANE_MACHINE_WORKERS = "edc.dataplane.state-machine.workers";
+
+    @Setting(value = "the concurrency of the processor of a state in the data plane state machine, as entries named after the state, e.g. edc.dataplane.state-machine.concurrency.RECEIVED=4. " +
+            "Applied only with more than one worker, default value 1", type = "int")
+    private static final String DATAPLANE_MACHINE_CONCURRENCY = "edc.dataplane.state-machine.concurrency";
+
     @Setting(value = "how many times a specific operation must be tried before terminating the dataplane with error", type = "int", defaultValue = DEFAULT_SEND_RETRY_LIMIT + "")
     private static final String DATAPLANE_SEND_RETRY_LIMIT = "edc.dataplane.send.retry.limit";
 
@@ -72,6 +85,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Setting
     private static final String TRANSFER_THREADS = "edc.dataplane.transfer.threads";
     private static final int DEFAULT_TRANSFER_THREADS = 10;
+
+    private static final boolean DEFAULT_TRANSFER_VIRTUAL_THREADS = false;
+
+    @Setting(value = "If true, data transfers run on virtual threads instead of a pool of " + TRANSFER_THREADS + " threads. Requires Java 21 or later, falls back to the pool otherwise.",
+            type = "boolean", defaultValue = DEFAULT_TRANSFER_VIRTUAL_THREADS + "")
+    private static final String TRANSFER_VIRTUAL_THREADS = "edc.dataplane.transfer.virtual-threads";
     private DataPlaneManagerImpl dataPlaneManager;
 
     @Inject
@@ -86,6 +105,12 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineWakeUpSignal wakeUpSignal;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Inject
     private Telemetry telemetry;
 
@@ -112,10 +137,7 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var monitor = context.getMonitor();
 
-        var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
-        var executorService = Executors.newFixedThreadPool(numThreads);
-        var executorContainer = new DataTransferExecutorServiceContainer(
-                executorInstrumentation.instrument(executorService, "Data plane transfers"));
+        var executorContainer = createExecutorContainer(context);
         context.registerService(DataTransferExecutorServiceContainer.class, executorContainer);
 
         var transferServiceRegistry = new TransferServiceRegistryImpl(transferServiceSelectionStrategy);
@@ -128,9 +150,13 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         dataPlaneManager = DataPlaneManagerImpl.Builder.newInstance()
                 .waitStrategy(waitStrategy)
                 .batchSize(context.getSetting(DATAPLANE_MACHINE_BATCH_SIZE, DEFAULT_BATCH_SIZE))
+                .workers(context.getSetting(DATAPLANE_MACHINE_WORKERS, DEFAULT_WORKERS))
+                .concurrency(StateConcurrencyConfiguration.fromConfig(context, DATAPLANE_MACHINE_CONCURRENCY, state -> DataFlowStates.valueOf(state).code()))
                 .clock(clock)
                 .entityRetryProcessConfiguration(getEntityRetryProcessConfiguration(context))
                 .executorInstrumentation(executorInstrumentation)
+                .wakeUpSignal(wakeUpSignal)
+                .transactionContext(transactionContext)
                 .transferServiceRegistry(transferServiceRegistry)
                 .store(store)
                 .transferProcessClient(transferProcessApiClient)
@@ -162,6 +188,23 @@ public class DataPlaneFrameworkExtension implements ServiceExtension {
         return authorizationService;
     }
 
+    @NotNull
+    private DataTransferExecutorServiceContainer createExecutorContainer(ServiceExtensionContext context) {
+        var virtualThreads = context.getSetting(TRANSFER_VIRTUAL_THREADS, DEFAULT_TRANSFER_VIRTUAL_THREADS);
+        if (virtualThreads && VirtualThreads.isSupported()) {
+            var executorService = telemetry.contextPropagationMiddleware(VirtualThreads.newVirtualThreadPerTaskExecutor());
+            return new DataTransferExecutorServiceContainer(executorInstrumentation.instrument(executorService, "Data plane transfers"), true);
+        }
+
+        if (virtualThreads) {
+            context.getMonitor().warning("Virtual threads are not supported by Java %d, data transfers will run on a pool of %s threads"
+                    .formatted(Runtime.version().feature(), TRANSFER_THREADS));
+        }
+        var numThreads = context.getSetting(TRANSFER_THREADS, DEFAULT_TRANSFER_THREADS);
+        var executorService = Executors.newFixedThreadPool(numThreads);
+        return new DataTransferExecutorServiceContainer(executorInstrumentation.instrument(executorService, "Data plane transfers"));
+    }
+
     @NotNull
     private EntityRetryProcessConfiguration getEntityRetryProcessConfiguration(ServiceExtensionContext context) {
         var retryLimit = context.getSetting(DATAPLANE_SEND_RETRY_LIMIT, DEFAULT_SEND_RETRY_LIMIT);
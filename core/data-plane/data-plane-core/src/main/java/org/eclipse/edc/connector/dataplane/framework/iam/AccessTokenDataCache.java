@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Caches the {@link AccessTokenData} resolved from the tokens presented to the data plane public API, so that the
+ * token signature does not need to be verified and the data does not need to be fetched from the store on every
+ * request.
+ * <p>
+ * Entries are keyed by the SHA-256 hash of the token, so that the tokens themselves are not kept in memory. An entry
+ * expires after the configured maximum time to live, or when the token expires, whatever comes first. A zero maximum
+ * time to live disables the cache.
+ * <p>
+ * The cache is local to the data plane instance: a token revoked on another replica stays valid here until its entry
+ * expires, so the maximum time to live bounds how long a revoked token can still be accepted.
+ */
+public class AccessTokenDataCache {
+
+    private final ExpiringCache<String, AccessTokenData> entries;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public AccessTokenDataCache(int capacity, Duration maxTtl, Clock clock) {
+        this.entries = new ExpiringCache<>(capacity, clock);
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Cache that never retains entries.
+     */
+    public static AccessTokenDataCache disabled() {
+        return new AccessTokenDataCache(1, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the data resolved from the token, or null if it is not cached.
+     */
+    @Nullable
+    public AccessTokenData get(String token) {
+        return maxTtl.isZero() ? null : entries.get(hash(token));
+    }
+
+    /**
+     * Caches the data resolved from the token, until the token expires.
+     */
+    public void put(String token, AccessTokenData accessTokenData, @Nullable Instant tokenExpiration) {
+        if (maxTtl.isZero()) {
+            return;
+        }
+        var expiresAt = clock.instant().plus(maxTtl);
+        if (tokenExpiration != null && tokenExpiration.isBefore(expiresAt)) {
+            expiresAt = tokenExpiration;
+        }
+        entries.put(hash(token), accessTokenData, expiresAt);
+    }
+
+    /**
+     * Discards the data cached for the token with the given id. Only the cache of this instance is affected.
+     */
+    public void invalidate(String tokenId) {
+        entries.invalidateValuesIf(accessTokenData -> accessTokenData.id().equals(tokenId));
+    }
+
+    public long hits() {
+        return entries.hits();
+    }
+
+    public long misses() {
+        return entries.misses();
+    }
+
+    private String hash(String token) {
+        try {
+            var digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new EdcException(e);
+        }
+    }
+}
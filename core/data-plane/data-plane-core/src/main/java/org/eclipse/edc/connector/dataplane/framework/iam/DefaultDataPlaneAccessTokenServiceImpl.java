@@ -22,7 +22,10 @@ import org.eclipse.edc.spi.iam.PublicKeyResolver;
 import org.eclipse.edc.spi.iam.TokenParameters;
 import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.result.StoreResult;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.token.spi.KeyIdDecorator;
 import org.eclipse.edc.token.spi.TokenDecorator;
@@ -32,6 +35,7 @@ import org.eclipse.edc.token.spi.TokenValidationService;
 
 import java.security.PrivateKey;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -39,6 +43,9 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.connector.dataplane.framework.iam.DataPlaneAuthorizationServiceImpl.PROPERTY_PROCESS_ID;
+import static org.eclipse.edc.jwt.spi.JwtRegisteredClaimNames.EXPIRATION_TIME;
+
 /**
  * This implementation of the {@link DataPlaneAccessTokenService} uses a backing storage ({@link AccessTokenDataStore}) to keep a record of all
  * tokens it has issued. Tokens are in JWT format.
@@ -56,6 +63,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     private final Supplier<String> publicKeyIdSupplier;
     private final TokenValidationService tokenValidationService;
     private final PublicKeyResolver publicKeyResolver;
+    private final AccessTokenDataCache cache;
 
     public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
                                                   AccessTokenDataStore accessTokenDataStore,
@@ -64,6 +72,18 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
                                                   Supplier<String> publicKeyIdSupplier,
                                                   TokenValidationService tokenValidationService,
                                                   PublicKeyResolver publicKeyResolver) {
+        this(tokenGenerationService, accessTokenDataStore, monitor, privateKeySupplier, publicKeyIdSupplier, tokenValidationService, publicKeyResolver,
+                AccessTokenDataCache.disabled());
+    }
+
+    public DefaultDataPlaneAccessTokenServiceImpl(TokenGenerationService tokenGenerationService,
+                                                  AccessTokenDataStore accessTokenDataStore,
+                                                  Monitor monitor,
+                                                  Supplier<PrivateKey> privateKeySupplier,
+                                                  Supplier<String> publicKeyIdSupplier,
+                                                  TokenValidationService tokenValidationService,
+                                                  PublicKeyResolver publicKeyResolver,
+                                                  AccessTokenDataCache cache) {
         this.tokenGenerationService = tokenGenerationService;
         this.accessTokenDataStore = accessTokenDataStore;
         this.monitor = monitor;
@@ -71,6 +91,7 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
         this.publicKeyIdSupplier = publicKeyIdSupplier;
         this.tokenValidationService = tokenValidationService;
         this.publicKeyResolver = publicKeyResolver;
+        this.cache = cache;
     }
 
     /**
@@ -118,8 +139,17 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
     }
 
 
+    /**
+     * Resolves the {@link AccessTokenData} of a token. The data resolved from a valid token is cached until the token expires
+     * (see {@link AccessTokenDataCache}), so subsequent requests with the same token are not validated again.
+     */
     @Override
     public Result<AccessTokenData> resolve(String token) {
+        var cached = cache.get(token);
+        if (cached != null) {
+            return Result.success(cached);
+        }
+
         var validationResult = tokenValidationService.validate(token, publicKeyResolver, DATAPLANE_ACCESS_TOKEN_RULES);
         if (validationResult.failed()) {
             return validationResult.mapTo();
@@ -127,8 +157,32 @@ public class DefaultDataPlaneAccessTokenServiceImpl implements DataPlaneAccessTo
         var tokenId = validationResult.getContent().getStringClaim(TOKEN_ID);
         var existingAccessToken = accessTokenDataStore.getById(tokenId);
 
-        return existingAccessToken == null ?
-                Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId)) :
-                Result.success(existingAccessToken);
+        if (existingAccessToken == null) {
+            return Result.failure("AccessTokenData with ID '%s' does not exist.".formatted(tokenId));
+        }
+        var expiration = validationResult.getContent().getClaim(EXPIRATION_TIME) instanceof Date date ? date.toInstant() : null;
+        cache.put(token, existingAccessToken, expiration);
+        return Result.success(existingAccessToken);
+    }
+
+    /**
+     * Deletes the {@link AccessTokenData} of the tokens created for the transfer process, so that they cannot be resolved anymore.
+     */
+    @Override
+    public Result<Void> revoke(String transferProcessId, String reason) {
+        var query = QuerySpec.Builder.newInstance()
+                .filter(new Criterion("additionalProperties." + PROPERTY_PROCESS_ID, "=", transferProcessId))
+                .build();
+
+        var failures = accessTokenDataStore.query(query).stream()
+                .map(accessTokenData -> {
+                    cache.invalidate(accessTokenData.id());
+                    return accessTokenDataStore.deleteById(accessTokenData.id());
+                })
+                .filter(StoreResult::failed)
+                .map(StoreResult::getFailureDetail)
+                .toList();
+
+        return failures.isEmpty() ? Result.success() : Result.failure(failures);
     }
 }
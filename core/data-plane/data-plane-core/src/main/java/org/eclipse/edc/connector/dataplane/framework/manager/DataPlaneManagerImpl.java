@@ -54,6 +54,8 @@ import static org.eclipse.edc.spi.response.ResponseStatus.FATAL_ERROR;
  */
 public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, DataPlaneStore> implements DataPlaneManager {
 
+    public static final String WAKE_UP_TOPIC = "data-flow";
+
     private DataPlaneAuthorizationService authorizationService;
     private TransferServiceRegistry transferServiceRegistry;
     private TransferProcessApiClient transferProcessClient;
@@ -62,6 +64,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
 
     }
 
+    @Override
+    protected String wakeUpTopic() {
+        return WAKE_UP_TOPIC;
+    }
+
     @Override
     public Result<Boolean> validate(DataFlowStartMessage dataRequest) {
         // TODO for now no validation for pull scenario, since the transfer service registry
@@ -127,6 +134,11 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
             }
         }
 
+        if (FlowType.PULL.equals(dataFlow.getFlowType())) {
+            authorizationService.revokeEndpointDataReference(dataFlowId, reason)
+                    .onFailure(f -> monitor.warning("Cannot revoke the EDR of DataFlow %s: %s".formatted(dataFlowId, f.getFailureDetail())));
+        }
+
         dataFlow.transitToTerminated(reason);
         store.save(dataFlow);
         return StatusResult.success();
@@ -135,9 +147,9 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processDataFlowInState(RECEIVED, this::processReceived))
-                .processor(processDataFlowInState(COMPLETED, this::processCompleted))
-                .processor(processDataFlowInState(FAILED, this::processFailed));
+                .processor(processDataFlowInState(RECEIVED, this::processReceived), concurrency(RECEIVED.code()))
+                .processor(processDataFlowInState(COMPLETED, this::processCompleted), concurrency(COMPLETED.code()))
+                .processor(processDataFlowInState(FAILED, this::processFailed), concurrency(FAILED.code()));
     }
 
     private Result<Optional<DataAddress>> handleStart(DataFlowStartMessage startMessage, DataFlow.Builder dataFlowBuilder) {
@@ -237,6 +249,7 @@ public class DataPlaneManagerImpl extends AbstractStateEntityManager<DataFlow, D
     }
 
     private Processor processDataFlowInState(DataFlowStates state, Function<DataFlow, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()) };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
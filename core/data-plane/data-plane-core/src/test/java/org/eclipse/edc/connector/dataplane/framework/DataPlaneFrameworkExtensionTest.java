@@ -15,15 +15,23 @@
 package org.eclipse.edc.connector.dataplane.framework;
 
 import org.eclipse.edc.connector.dataplane.framework.registry.TransferServiceRegistryImpl;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.registry.TransferServiceRegistry;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.telemetry.Telemetry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.condition.JRE.JAVA_20;
+import static org.junit.jupiter.api.condition.JRE.JAVA_21;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 class DataPlaneFrameworkExtensionTest {
@@ -31,6 +39,7 @@ class DataPlaneFrameworkExtensionTest {
     @BeforeEach
     public void setUp(ServiceExtensionContext context) {
         context.registerService(ExecutorInstrumentation.class, ExecutorInstrumentation.noop());
+        context.registerService(Telemetry.class, new Telemetry());
     }
 
     @Test
@@ -40,4 +49,34 @@ class DataPlaneFrameworkExtensionTest {
         assertThat(context.getService(TransferServiceRegistry.class)).isInstanceOf(TransferServiceRegistryImpl.class);
     }
 
+    @Test
+    void initialize_shouldUseThreadPool_byDefault(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        extension.initialize(context);
+
+        assertThat(context.getService(DataTransferExecutorServiceContainer.class).isVirtualThreads()).isFalse();
+    }
+
+    @Test
+    @EnabledForJreRange(max = JAVA_20)
+    void initialize_shouldFallBackToThreadPool_whenVirtualThreadsNotSupported(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        when(context.getSetting("edc.dataplane.transfer.virtual-threads", false)).thenReturn(true);
+
+        extension.initialize(context);
+
+        assertThat(context.getService(DataTransferExecutorServiceContainer.class).isVirtualThreads()).isFalse();
+    }
+
+    @Test
+    @EnabledForJreRange(min = JAVA_21)
+    void initialize_shouldUseVirtualThreads_whenEnabled(ServiceExtensionContext context, DataPlaneFrameworkExtension extension) {
+        when(context.getSetting("edc.dataplane.transfer.virtual-threads", false)).thenReturn(true);
+
+        extension.initialize(context);
+
+        var container = context.getService(DataTransferExecutorServiceContainer.class);
+        assertThat(container.isVirtualThreads()).isTrue();
+        assertThat(container.getExecutorService().submit(() -> Thread.currentThread().toString()))
+                .succeedsWithin(5, TimeUnit.SECONDS).asString().startsWith("VirtualThread");
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.framework.iam;
+
+import org.eclipse.edc.connector.dataplane.spi.AccessTokenData;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDataCacheTest {
+
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final AccessTokenDataCache cache = new AccessTokenDataCache(10, Duration.ofMinutes(1), clock);
+
+    @Test
+    void get_shouldReturnCachedData_untilMaxTtlElapses() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("token", accessTokenData("id"), null);
+
+        assertThat(cache.get("token")).isNotNull().extracting(AccessTokenData::id).isEqualTo("id");
+
+        when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(2)));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenTokenExpired() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("token", accessTokenData("id"), now.plusSeconds(10));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(11));
+        assertThat(cache.get("token")).isNull();
+    }
+
+    @Test
+    void invalidate_shouldDiscardDataOfTokenId() {
+        when(clock.instant()).thenReturn(now);
+        cache.put("token", accessTokenData("id"), null);
+        cache.put("other-token", accessTokenData("other-id"), null);
+
+        cache.invalidate("id");
+
+        assertThat(cache.get("token")).isNull();
+        assertThat(cache.get("other-token")).isNotNull();
+    }
+
+    @Test
+    void disabled_shouldNeverCache() {
+        var disabled = AccessTokenDataCache.disabled();
+
+        disabled.put("token", accessTokenData("id"), null);
+
+        assertThat(disabled.get("token")).isNull();
+    }
+
+    private AccessTokenData accessTokenData(String id) {
+        return new AccessTokenData(id, ClaimToken.Builder.newInstance().build(), DataAddress.Builder.newInstance().type("test-type").build());
+    }
+}
@@ -28,6 +28,9 @@ import org.eclipse.edc.token.spi.TokenGenerationService;
 import org.eclipse.edc.token.spi.TokenValidationService;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
@@ -180,4 +183,56 @@ class DefaultDataPlaneAccessTokenServiceImplTest {
         verify(tokenValidationService).validate(eq("some-jwt"), any(), anyList());
         verify(store).getById(eq(tokenId));
     }
+
+    @Test
+    void resolve_shouldUseCache_whenTokenAlreadyResolved() {
+        var cachingService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService, store, mock(), mock(), mock(), tokenValidationService, mock(),
+                new AccessTokenDataCache(10, Duration.ofMinutes(1), Clock.systemUTC()));
+        var tokenId = "test-id";
+        var claimToken = ClaimToken.Builder.newInstance().claim("jti", tokenId).build();
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(claimToken));
+        when(store.getById(eq(tokenId))).thenReturn(new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build()));
+
+        cachingService.resolve("some-jwt");
+        var result = cachingService.resolve("some-jwt");
+
+        assertThat(result).isSucceeded().satisfies(atd -> Assertions.assertThat(atd.id()).isEqualTo(tokenId));
+        verify(tokenValidationService).validate(eq("some-jwt"), any(), anyList());
+        verify(store).getById(eq(tokenId));
+    }
+
+    @Test
+    void revoke_shouldDeleteTokensOfTransferProcess_andInvalidateCache() {
+        var cachingService = new DefaultDataPlaneAccessTokenServiceImpl(tokenGenService, store, mock(), mock(), mock(), tokenValidationService, mock(),
+                new AccessTokenDataCache(10, Duration.ofMinutes(1), Clock.systemUTC()));
+        var tokenId = "test-id";
+        var accessTokenData = new AccessTokenData(tokenId, ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build(), Map.of("process_id", "process-id"));
+        when(tokenValidationService.validate(anyString(), any(), anyList())).thenReturn(Result.success(ClaimToken.Builder.newInstance().claim("jti", tokenId).build()));
+        when(store.getById(eq(tokenId))).thenReturn(accessTokenData, (AccessTokenData) null);
+        when(store.query(any())).thenReturn(List.of(accessTokenData));
+        when(store.deleteById(tokenId)).thenReturn(StoreResult.success());
+        cachingService.resolve("some-jwt");
+
+        var result = cachingService.revoke("process-id", "terminated");
+
+        assertThat(result).isSucceeded();
+        verify(store).query(argThat(q -> q.getFilterExpression().get(0).getOperandLeft().equals("additionalProperties.process_id") &&
+                q.getFilterExpression().get(0).getOperandRight().equals("process-id")));
+        verify(store).deleteById(tokenId);
+        assertThat(cachingService.resolve("some-jwt")).isFailed();
+    }
+
+    @Test
+    void revoke_shouldFail_whenDeletionFails() {
+        var accessTokenData = new AccessTokenData("test-id", ClaimToken.Builder.newInstance().build(),
+                DataAddress.Builder.newInstance().type("test-type").build(), Map.of("process_id", "process-id"));
+        when(store.query(any())).thenReturn(List.of(accessTokenData));
+        when(store.deleteById(any())).thenReturn(StoreResult.notFound("not found"));
+
+        var result = accessTokenService.revoke("process-id", "terminated");
+
+        assertThat(result).isFailed();
+    }
 }
@@ -202,6 +202,20 @@ class DataPlaneManagerImplTest {
         verify(transferService).terminate(dataFlow);
     }
 
+    @Test
+    void terminate_shouldRevokeEndpointDataReference_whenPullFlow() {
+        var dataFlow = dataFlowBuilder().state(STARTED.code()).flowType(FlowType.PULL).build();
+        when(store.findByIdAndLease("dataFlowId")).thenReturn(StoreResult.success(dataFlow));
+        when(authorizationService.revokeEndpointDataReference(any(), any())).thenReturn(Result.success());
+
+        var result = manager.terminate("dataFlowId", "test-reason");
+
+        assertThat(result).isSucceeded();
+        verify(authorizationService).revokeEndpointDataReference("dataFlowId", "test-reason");
+        verify(store).save(argThat(d -> d.getState() == TERMINATED.code()));
+        verifyNoInteractions(transferService);
+    }
+
     @Test
     void terminate_shouldReturnFatalError_whenDataFlowDoesNotExist() {
         when(store.findByIdAndLease("dataFlowId")).thenReturn(StoreResult.notFound("not found"));
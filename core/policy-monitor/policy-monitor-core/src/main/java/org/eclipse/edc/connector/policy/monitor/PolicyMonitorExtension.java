@@ -30,12 +30,14 @@ import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
 import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.telemetry.Telemetry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
 
 import java.time.Clock;
 
@@ -63,6 +65,12 @@ public class PolicyMonitorExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private StateMachineWakeUpSignal wakeUpSignal;
+
+    @Inject
+    private TransactionContext transactionContext;
+
     @Inject
     private Telemetry telemetry;
 
@@ -103,6 +111,8 @@ public class PolicyMonitorExtension implements ServiceExtension {
                 .batchSize(context.getSetting(POLICY_MONITOR_BATCH_SIZE, DEFAULT_BATCH_SIZE))
                 .waitStrategy(waitStrategy)
                 .executorInstrumentation(executorInstrumentation)
+                .wakeUpSignal(wakeUpSignal)
+                .transactionContext(transactionContext)
                 .monitor(context.getMonitor())
                 .telemetry(telemetry)
                 .contractAgreementService(contractAgreementService)
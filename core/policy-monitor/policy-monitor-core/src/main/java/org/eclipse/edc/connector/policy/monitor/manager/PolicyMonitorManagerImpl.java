@@ -44,6 +44,8 @@ import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
 public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyMonitorEntry, PolicyMonitorStore>
         implements PolicyMonitorManager {
 
+    public static final String WAKE_UP_TOPIC = "policy-monitor";
+
     private PolicyEngine policyEngine;
     private TransferProcessService transferProcessService;
     private ContractAgreementService contractAgreementService;
@@ -52,10 +54,15 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
 
     }
 
+    @Override
+    protected String wakeUpTopic() {
+        return WAKE_UP_TOPIC;
+    }
+
     @Override
     protected StateMachineManager.Builder configureStateMachineManager(StateMachineManager.Builder builder) {
         return builder
-                .processor(processEntriesInState(STARTED, this::processMonitoring));
+                .processor(processEntriesInState(STARTED, this::processMonitoring), concurrency(STARTED.code()));
     }
 
     @Override
@@ -115,6 +122,7 @@ public class PolicyMonitorManagerImpl extends AbstractStateEntityManager<PolicyM
     }
 
     private Processor processEntriesInState(PolicyMonitorEntryStates state, Function<PolicyMonitorEntry, Boolean> function) {
+        actionableState(state.code());
         var filter = new Criterion[]{ hasState(state.code()) };
         return ProcessorImpl.Builder.newInstance(() -> store.nextNotLeased(batchSize, filter))
                 .process(telemetry.contextPropagationMiddleware(function))
@@ -137,7 +137,7 @@ class PolicyMonitorManagerImplTest {
         manager.start();
 
         await().untilAsserted(() -> {
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).releaseLease(entry.getId());
         });
     }
 
@@ -159,7 +159,7 @@ class PolicyMonitorManagerImplTest {
 
         await().untilAsserted(() -> {
             verify(transferProcessService, never()).terminate(any());
-            verify(store).save(argThat(it -> it.getState() == STARTED.code()));
+            verify(store).releaseLease(entry.getId());
         });
     }
 
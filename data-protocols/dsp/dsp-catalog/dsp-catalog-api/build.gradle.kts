@@ -21,6 +21,7 @@ dependencies {
     api(project(":data-protocols:dsp:dsp-spi"))
     api(project(":data-protocols:dsp:dsp-http-spi"))
     api(project(":spi:common:core-spi"))
+    api(project(":spi:common:json-ld-spi"))
     api(project(":spi:common:web-spi"))
     api(project(":spi:control-plane:control-plane-spi"))
 
@@ -31,6 +32,7 @@ dependencies {
     testImplementation(testFixtures(project(":extensions:common:http:jersey-core")))
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":data-protocols:dsp:dsp-catalog:dsp-catalog-transform"))
+    testImplementation(project(":extensions:common:json-ld"))
     testImplementation(libs.restAssured)
 }
 
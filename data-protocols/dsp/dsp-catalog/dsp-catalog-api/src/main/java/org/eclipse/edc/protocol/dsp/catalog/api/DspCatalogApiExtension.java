@@ -18,20 +18,25 @@ import org.eclipse.edc.catalog.spi.DataService;
 import org.eclipse.edc.catalog.spi.DataServiceRegistry;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.connector.spi.protocol.ProtocolVersionRegistry;
+import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.protocol.dsp.catalog.api.controller.DspCatalogApiController;
 import org.eclipse.edc.protocol.dsp.catalog.api.controller.DspCatalogApiController20241;
+import org.eclipse.edc.protocol.dsp.catalog.api.controller.StreamingCatalogWriter;
 import org.eclipse.edc.protocol.dsp.catalog.api.validation.CatalogRequestMessageValidator;
 import org.eclipse.edc.protocol.dsp.spi.configuration.DspApiConfiguration;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.query.CriterionOperatorRegistry;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 import org.eclipse.edc.web.spi.WebService;
 
 import static org.eclipse.edc.protocol.dsp.type.DspCatalogPropertyAndTypeNames.DSPACE_TYPE_CATALOG_REQUEST_MESSAGE;
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.protocol.dsp.version.DspVersions.V_2024_1;
 
 /**
@@ -42,6 +47,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Catalog Extension";
 
+    private static final boolean DEFAULT_STREAMING_ENABLED = false;
+    @Setting(value = "If true, catalogs are written to the response one dataset at a time, resolving datasets lazily, instead of being built in memory as a whole",
+            type = "boolean", defaultValue = DEFAULT_STREAMING_ENABLED + "")
+    private static final String STREAMING_ENABLED = "edc.dsp.catalog.streaming.enabled";
+
     @Inject
     private WebService webService;
     @Inject
@@ -58,6 +68,10 @@ public class DspCatalogApiExtension implements ServiceExtension {
     private CriterionOperatorRegistry criterionOperatorRegistry;
     @Inject
     private ProtocolVersionRegistry versionRegistry;
+    @Inject
+    private TypeTransformerRegistry transformerRegistry;
+    @Inject
+    private JsonLd jsonLd;
 
     @Override
     public String name() {
@@ -68,8 +82,11 @@ public class DspCatalogApiExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         validatorRegistry.register(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE, CatalogRequestMessageValidator.instance(criterionOperatorRegistry));
 
-        webService.registerResource(apiConfiguration.getContextAlias(), new DspCatalogApiController(service, dspRequestHandler));
-        webService.registerResource(apiConfiguration.getContextAlias(), new DspCatalogApiController20241(service, dspRequestHandler));
+        var catalogWriter = context.getSetting(STREAMING_ENABLED, DEFAULT_STREAMING_ENABLED)
+                ? new StreamingCatalogWriter(transformerRegistry.forContext("dsp-api"), jsonLd, DSP_SCOPE, context.getMonitor())
+                : null;
+        webService.registerResource(apiConfiguration.getContextAlias(), new DspCatalogApiController(service, dspRequestHandler, catalogWriter));
+        webService.registerResource(apiConfiguration.getContextAlias(), new DspCatalogApiController20241(service, dspRequestHandler, catalogWriter));
 
         dataServiceRegistry.register(DataService.Builder.newInstance()
                 .terms("connector")
@@ -23,6 +23,7 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.PathParam;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.catalog.spi.Catalog;
 import org.eclipse.edc.catalog.spi.CatalogRequestMessage;
 import org.eclipse.edc.catalog.spi.Dataset;
@@ -30,6 +31,7 @@ import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
+import org.jetbrains.annotations.Nullable;
 
 import static jakarta.ws.rs.core.HttpHeaders.AUTHORIZATION;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
@@ -49,15 +51,37 @@ public class DspCatalogApiController {
 
     private final CatalogProtocolService service;
     private final DspRequestHandler dspRequestHandler;
+    private final StreamingCatalogWriter catalogWriter;
 
     public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler) {
+        this(service, dspRequestHandler, null);
+    }
+
+    /**
+     * Creates the controller. If a {@link StreamingCatalogWriter} is passed, catalogs are streamed to the response
+     * with their datasets resolved lazily.
+     */
+    public DspCatalogApiController(CatalogProtocolService service, DspRequestHandler dspRequestHandler, @Nullable StreamingCatalogWriter catalogWriter) {
         this.service = service;
         this.dspRequestHandler = dspRequestHandler;
+        this.catalogWriter = catalogWriter;
     }
 
     @POST
     @Path(CATALOG_REQUEST)
     public Response requestCatalog(JsonObject jsonObject, @HeaderParam(AUTHORIZATION) String token) {
+        if (catalogWriter != null) {
+            var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, StreamingOutput.class)
+                    .token(token)
+                    .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
+                    .message(jsonObject)
+                    .serviceCall((message, tokenRepresentation) -> service.streamCatalog(message, tokenRepresentation).map(catalogWriter::output))
+                    .errorType(DSPACE_TYPE_CATALOG_ERROR)
+                    .build();
+
+            return dspRequestHandler.createResource(request);
+        }
+
         var request = PostDspRequest.Builder.newInstance(CatalogRequestMessage.class, Catalog.class)
                 .token(token)
                 .expectedMessageType(DSPACE_TYPE_CATALOG_REQUEST_MESSAGE)
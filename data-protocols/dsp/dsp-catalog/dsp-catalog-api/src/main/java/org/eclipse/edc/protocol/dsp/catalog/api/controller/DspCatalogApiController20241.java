@@ -20,6 +20,7 @@ import jakarta.ws.rs.Produces;
 import org.eclipse.edc.connector.spi.catalog.CatalogProtocolService;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.version.DspVersions;
+import org.jetbrains.annotations.Nullable;
 
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static org.eclipse.edc.protocol.dsp.catalog.api.CatalogApiPaths.BASE_PATH;
@@ -35,4 +36,8 @@ public class DspCatalogApiController20241 extends DspCatalogApiController {
     public DspCatalogApiController20241(CatalogProtocolService service, DspRequestHandler dspRequestHandler) {
         super(service, dspRequestHandler);
     }
+
+    public DspCatalogApiController20241(CatalogProtocolService service, DspRequestHandler dspRequestHandler, @Nullable StreamingCatalogWriter catalogWriter) {
+        super(service, dspRequestHandler, catalogWriter);
+    }
 }
@@ -0,0 +1,161 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.ws.rs.InternalServerErrorException;
+import jakarta.ws.rs.core.StreamingOutput;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.spi.catalog.CatalogStream;
+import org.eclipse.edc.jsonld.spi.JsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+
+/**
+ * Writes a {@link CatalogStream} to the response one dataset at a time, so that the datasets are never held in memory
+ * all together, neither as domain objects nor as JSON.
+ * <p>
+ * The catalog without datasets is transformed and compacted first. Markers are put in place of the datasets and of the
+ * continuation token, to find the keys under which they are written in the compacted form. Then every dataset is
+ * transformed, compacted with the same scope and written without its own {@code @context}.
+ */
+public class StreamingCatalogWriter {
+
+    private static final JsonGeneratorFactory GENERATOR_FACTORY = Json.createGeneratorFactory(Map.of());
+
+    private final String datasetMarker = "urn:uuid:" + UUID.randomUUID();
+    private final String continuationTokenMarker = "urn:uuid:" + UUID.randomUUID();
+    private final TypeTransformerRegistry transformerRegistry;
+    private final JsonLd jsonLd;
+    private final String scope;
+    private final Monitor monitor;
+
+    public StreamingCatalogWriter(TypeTransformerRegistry transformerRegistry, JsonLd jsonLd, String scope, Monitor monitor) {
+        this.transformerRegistry = transformerRegistry;
+        this.jsonLd = jsonLd;
+        this.scope = scope;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns the output that writes the catalog when the response is sent. Datasets are resolved only at that time.
+     *
+     * @param catalogStream the catalog stream.
+     * @return the streaming output.
+     */
+    public StreamingOutput output(CatalogStream catalogStream) {
+        return outputStream -> write(catalogStream, outputStream);
+    }
+
+    private void write(CatalogStream catalogStream, OutputStream outputStream) {
+        var catalog = compactedCatalog(catalogStream.catalog());
+        var datasetKey = keyOf(catalog, datasetMarker);
+        var continuationTokenKey = keyOf(catalog, continuationTokenMarker);
+
+        var generator = GENERATOR_FACTORY.createGenerator(outputStream);
+        generator.writeStartObject();
+        catalog.forEach((key, value) -> {
+            if (!key.equals(datasetKey) && !key.equals(continuationTokenKey)) {
+                generator.write(key, value);
+            }
+        });
+
+        generator.writeStartArray(datasetKey);
+        var continuationToken = catalogStream.forEachDataset(dataset -> writeDataset(dataset, generator));
+        generator.writeEnd();
+
+        if (continuationToken != null) {
+            generator.write(continuationTokenKey, continuationToken);
+        }
+        generator.writeEnd();
+        generator.flush();
+    }
+
+    private JsonObject compactedCatalog(Catalog catalog) {
+        var properties = new HashMap<>(Optional.ofNullable(catalog.getProperties()).orElseGet(HashMap::new));
+        properties.put(DatasetResolver.CONTINUATION_TOKEN, continuationTokenMarker);
+        var header = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .participantId(catalog.getParticipantId())
+                .dataServices(catalog.getDataServices())
+                .properties(properties)
+                .datasets(List.of())
+                .build();
+
+        return transformerRegistry.transform(header, JsonObject.class)
+                .map(json -> createObjectBuilder(json)
+                        .add(DCAT_DATASET_ATTRIBUTE, createArrayBuilder().add(createObjectBuilder().add(ID, datasetMarker)))
+                        .build())
+                .compose(json -> jsonLd.compact(json, scope))
+                .orElseThrow(failure -> internalServerError(Catalog.class, failure.getFailureDetail()));
+    }
+
+    private void writeDataset(Dataset dataset, JsonGenerator generator) {
+        var json = transformerRegistry.transform(dataset, JsonObject.class)
+                .compose(expanded -> jsonLd.compact(expanded, scope))
+                .map(compacted -> createObjectBuilder(compacted).remove(CONTEXT).build())
+                .orElseThrow(failure -> internalServerError(Dataset.class, failure.getFailureDetail()));
+
+        generator.write(json);
+    }
+
+    private String keyOf(JsonObject catalog, String marker) {
+        return catalog.entrySet().stream()
+                .filter(entry -> containsMarker(entry.getValue(), marker))
+                .map(Map.Entry::getKey)
+                .findFirst()
+                .orElseThrow(() -> internalServerError(Catalog.class, "compacted catalog does not contain marker " + marker));
+    }
+
+    private boolean containsMarker(JsonValue value, String marker) {
+        if (value instanceof JsonString string) {
+            return marker.equals(string.getString());
+        }
+        if (value instanceof JsonObject object) {
+            return marker.equals(object.getString(ID, null)) || marker.equals(object.getString(VALUE, null));
+        }
+        if (value.getValueType() == JsonValue.ValueType.ARRAY) {
+            return value.asJsonArray().stream().anyMatch(item -> containsMarker(item, marker));
+        }
+        return false;
+    }
+
+    private InternalServerErrorException internalServerError(Class<?> type, String detail) {
+        var errorCode = UUID.randomUUID();
+        monitor.warning("Error streaming %s, error id %s: %s".formatted(type.getSimpleName(), errorCode, detail));
+        return new InternalServerErrorException("Error code %s".formatted(errorCode));
+    }
+}
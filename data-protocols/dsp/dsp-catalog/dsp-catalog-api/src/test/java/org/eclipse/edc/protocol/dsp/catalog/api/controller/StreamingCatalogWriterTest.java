@@ -0,0 +1,168 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.catalog.api.controller;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.ws.rs.InternalServerErrorException;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.eclipse.edc.connector.spi.catalog.CatalogStream;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static jakarta.json.Json.createArrayBuilder;
+import static jakarta.json.Json.createObjectBuilder;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.CONTEXT;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.ID;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.TYPE;
+import static org.eclipse.edc.jsonld.spi.JsonLdKeywords.VALUE;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_CATALOG_TYPE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_ATTRIBUTE;
+import static org.eclipse.edc.jsonld.spi.PropertyAndTypeNames.DCAT_DATASET_TYPE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_PREFIX;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class StreamingCatalogWriterTest {
+
+    private static final String SCOPE = "DSP";
+
+    private final TypeTransformerRegistry transformerRegistry = mock();
+    private final TitaniumJsonLd jsonLd = new TitaniumJsonLd(mock());
+    private final StreamingCatalogWriter writer = new StreamingCatalogWriter(transformerRegistry, jsonLd, SCOPE, mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, SCOPE);
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE, SCOPE);
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenAnswer(i -> Result.success(catalogJson(i.getArgument(0))));
+        when(transformerRegistry.transform(any(Dataset.class), eq(JsonObject.class))).thenAnswer(i -> Result.success(datasetJson(i.getArgument(0))));
+    }
+
+    @Test
+    void shouldWriteCompactedCatalog_withDatasetsAndContinuationToken() throws Exception {
+        var catalogStream = catalogStream(List.of(dataset("dataset-1"), dataset("dataset-2")), "token");
+
+        var json = write(catalogStream);
+
+        assertThat(json.getJsonObject(CONTEXT)).containsKeys(DCAT_PREFIX, EDC_PREFIX);
+        assertThat(json.getString(ID)).isEqualTo("catalog-id");
+        assertThat(json.getString(TYPE)).isEqualTo("dcat:Catalog");
+        assertThat(json.getJsonArray("dcat:dataset")).hasSize(2).allSatisfy(dataset -> {
+            assertThat(dataset.asJsonObject()).doesNotContainKey(CONTEXT);
+            assertThat(dataset.asJsonObject().getString(TYPE)).isEqualTo("dcat:Dataset");
+        });
+        assertThat(json.getJsonArray("dcat:dataset").getJsonObject(0).getString(ID)).isEqualTo("dataset-1");
+        assertThat(json.getString("edc:continuationToken")).isEqualTo("token");
+    }
+
+    @Test
+    void shouldWriteEmptyDatasets_withoutContinuationToken() throws Exception {
+        var json = write(catalogStream(List.of(), null));
+
+        assertThat(json.getJsonArray("dcat:dataset")).isEmpty();
+        assertThat(json).doesNotContainKey("edc:continuationToken");
+    }
+
+    @Test
+    void shouldNotResolveDatasets_untilOutputIsWritten() throws Exception {
+        var catalogStream = mock(CatalogStream.class);
+        when(catalogStream.catalog()).thenReturn(Catalog.Builder.newInstance().id("catalog-id").dataServices(List.of()).datasets(List.of()).build());
+
+        var output = writer.output(catalogStream);
+
+        verifyNoInteractions(catalogStream);
+        output.write(new ByteArrayOutputStream());
+        verify(catalogStream).forEachDataset(any());
+    }
+
+    @Test
+    void shouldThrowInternalServerError_beforeWriting_whenCatalogTransformationFails() {
+        when(transformerRegistry.transform(any(Catalog.class), eq(JsonObject.class))).thenReturn(Result.failure("error"));
+        var outputStream = new ByteArrayOutputStream();
+
+        assertThatThrownBy(() -> writer.output(catalogStream(List.of(dataset("dataset-1")), null)).write(outputStream))
+                .isInstanceOf(InternalServerErrorException.class);
+        assertThat(outputStream.size()).isZero();
+    }
+
+    private JsonObject write(CatalogStream catalogStream) throws Exception {
+        var outputStream = new ByteArrayOutputStream();
+        writer.output(catalogStream).write(outputStream);
+        try (var reader = Json.createReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            return reader.readObject();
+        }
+    }
+
+    private CatalogStream catalogStream(List<Dataset> datasets, @Nullable String continuationToken) {
+        var catalog = Catalog.Builder.newInstance().id("catalog-id").dataServices(List.of()).datasets(List.of()).build();
+        return new CatalogStream() {
+            @Override
+            public Catalog catalog() {
+                return catalog;
+            }
+
+            @Override
+            public @Nullable String forEachDataset(Consumer<Dataset> consumer) {
+                datasets.forEach(consumer);
+                return continuationToken;
+            }
+        };
+    }
+
+    private Dataset dataset(String id) {
+        return Dataset.Builder.newInstance().id(id).build();
+    }
+
+    private JsonObject catalogJson(Catalog catalog) {
+        var builder = createObjectBuilder()
+                .add(ID, catalog.getId())
+                .add(TYPE, DCAT_CATALOG_TYPE)
+                .add(DCAT_DATASET_ATTRIBUTE, createArrayBuilder());
+        if (catalog.getProperties() != null) {
+            catalog.getProperties().forEach((key, value) -> builder.add(key, createArrayBuilder().add(createObjectBuilder().add(VALUE, value.toString()))));
+        }
+        assertThat(catalog.getProperties()).containsKey(DatasetResolver.CONTINUATION_TOKEN);
+        return builder.build();
+    }
+
+    private JsonObject datasetJson(Dataset dataset) {
+        return createObjectBuilder()
+                .add(ID, dataset.getId())
+                .add(TYPE, DCAT_DATASET_TYPE)
+                .build();
+    }
+}
@@ -27,6 +27,8 @@ dependencies {
     api(project(":data-protocols:dsp:dsp-spi"))
     api(project(":data-protocols:dsp:dsp-http-spi"))
 
+    implementation(project(":core:common:util"))
+
     testImplementation(project(":core:common:junit"))
     testImplementation(project(":extensions:common:http:jersey-core"))
 }
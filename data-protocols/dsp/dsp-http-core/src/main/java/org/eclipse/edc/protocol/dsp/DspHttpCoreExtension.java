@@ -30,6 +30,7 @@ import org.eclipse.edc.connector.transfer.spi.types.protocol.TransferTermination
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.policy.engine.spi.PolicyEngine;
 import org.eclipse.edc.policy.engine.spi.PolicyScope;
+import org.eclipse.edc.protocol.dsp.dispatcher.ClientCredentialsCache;
 import org.eclipse.edc.protocol.dsp.dispatcher.DspHttpRemoteMessageDispatcherImpl;
 import org.eclipse.edc.protocol.dsp.message.DspRequestHandlerImpl;
 import org.eclipse.edc.protocol.dsp.serialization.JsonLdRemoteMessageSerializerImpl;
@@ -39,11 +40,13 @@ import org.eclipse.edc.protocol.dsp.spi.serialization.JsonLdRemoteMessageSeriali
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.types.TypeManager;
@@ -51,6 +54,11 @@ import org.eclipse.edc.token.spi.TokenDecorator;
 import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
 import org.eclipse.edc.validator.spi.JsonObjectValidatorRegistry;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
 import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
 
@@ -64,6 +72,19 @@ public class DspHttpCoreExtension implements ServiceExtension {
 
     public static final String NAME = "Dataspace Protocol Core Extension";
 
+    private static final boolean DEFAULT_TOKEN_CACHE_ENABLED = true;
+    private static final int DEFAULT_TOKEN_CACHE_SIZE = 1_000;
+    private static final long DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_MS = 30_000;
+
+    @Setting(value = "Whether the tokens obtained for outgoing protocol messages are reused for the same counter-party and scopes until they expire", type = "boolean", defaultValue = DEFAULT_TOKEN_CACHE_ENABLED + "")
+    private static final String TOKEN_CACHE_ENABLED = "edc.dsp.token.cache.enabled";
+
+    @Setting(value = "Maximum number of cached tokens for outgoing protocol messages", type = "int", defaultValue = DEFAULT_TOKEN_CACHE_SIZE + "")
+    private static final String TOKEN_CACHE_SIZE = "edc.dsp.token.cache.size";
+
+    @Setting(value = "How long before its expiration, in milliseconds, a cached token stops being used for outgoing protocol messages", type = "long", defaultValue = DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_MS + "")
+    private static final String TOKEN_CACHE_EXPIRY_MARGIN_MS = "edc.dsp.token.cache.expiry-margin-ms";
+
     /**
      * Policy scope evaluated when a contract negotiation request is made.
      */
@@ -107,6 +128,14 @@ public class DspHttpCoreExtension implements ServiceExtension {
     @Inject
     private JsonObjectValidatorRegistry validatorRegistry;
 
+    @Inject
+    private ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    private Clock clock;
+
+    private ExecutorService tokenRefreshExecutor;
+
     @Override
     public String name() {
         return NAME;
@@ -122,7 +151,7 @@ public class DspHttpCoreExtension implements ServiceExtension {
             td = bldr -> bldr;
         }
 
-        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver);
+        var dispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, td, policyEngine, audienceResolver, clientCredentialsCache(context));
         registerNegotiationPolicyScopes(dispatcher);
         registerTransferProcessPolicyScopes(dispatcher);
         registerCatalogPolicyScopes(dispatcher);
@@ -130,6 +159,13 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return dispatcher;
     }
 
+    @Override
+    public void shutdown() {
+        if (tokenRefreshExecutor != null) {
+            tokenRefreshExecutor.shutdownNow();
+        }
+    }
+
     @Provider
     public DspRequestHandler dspRequestHandler() {
         return new DspRequestHandlerImpl(monitor, validatorRegistry, transformerRegistry.forContext("dsp-api"));
@@ -140,6 +176,16 @@ public class DspHttpCoreExtension implements ServiceExtension {
         return new JsonLdRemoteMessageSerializerImpl(transformerRegistry.forContext("dsp-api"), typeManager.getMapper(JSON_LD), jsonLdService, DSP_SCOPE);
     }
 
+    private ClientCredentialsCache clientCredentialsCache(ServiceExtensionContext context) {
+        if (!context.getSetting(TOKEN_CACHE_ENABLED, DEFAULT_TOKEN_CACHE_ENABLED)) {
+            return null;
+        }
+        tokenRefreshExecutor = executorInstrumentation.instrument(Executors.newSingleThreadExecutor(), "dsp-token-refresh");
+        var expiryMargin = Duration.ofMillis(context.getSetting(TOKEN_CACHE_EXPIRY_MARGIN_MS, DEFAULT_TOKEN_CACHE_EXPIRY_MARGIN_MS));
+        return new ClientCredentialsCache(identityService, context.getSetting(TOKEN_CACHE_SIZE, DEFAULT_TOKEN_CACHE_SIZE), expiryMargin,
+                tokenRefreshExecutor, typeManager.getMapper(), clock, context.getMonitor());
+    }
+
     private void registerNegotiationPolicyScopes(DspHttpRemoteMessageDispatcher dispatcher) {
         dispatcher.registerPolicyScope(ContractAgreementMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
         dispatcher.registerPolicyScope(ContractNegotiationEventMessage.class, CONTRACT_NEGOTIATION_REQUEST_SCOPE, ContractRemoteMessage::getPolicy);
@@ -0,0 +1,143 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Obtains the client credentials for outgoing messages from the {@link IdentityService}, reusing the token obtained
+ * for the same {@link TokenParameters} (audience, scopes and whatever the decorators added) until it is about to
+ * expire.
+ * <p>
+ * A token is reused until its expiration minus a safety margin. Its expiration is taken from the
+ * {@link TokenRepresentation#getExpiresIn()}, or from the <code>exp</code> claim if the token is a JWT; tokens whose
+ * expiration cannot be determined are never reused. When most of the lifetime of a reused token has elapsed, a new one
+ * is obtained in the background, so that the messages are never delayed by the token renewal.
+ */
+public class ClientCredentialsCache {
+
+    private static final String EXPIRATION_CLAIM = "exp";
+    private static final double REFRESH_THRESHOLD = 0.8;
+
+    private final IdentityService identityService;
+    private final ExpiringCache<Key, CachedToken> tokens;
+    private final Set<Key> refreshing = ConcurrentHashMap.newKeySet();
+    private final Duration expiryMargin;
+    private final Executor refreshExecutor;
+    private final ObjectMapper mapper;
+    private final Clock clock;
+    private final Monitor monitor;
+
+    public ClientCredentialsCache(IdentityService identityService, int capacity, Duration expiryMargin, Executor refreshExecutor,
+                                  ObjectMapper mapper, Clock clock, Monitor monitor) {
+        this.identityService = identityService;
+        this.tokens = new ExpiringCache<>(capacity, clock);
+        this.expiryMargin = expiryMargin;
+        this.refreshExecutor = refreshExecutor;
+        this.mapper = mapper;
+        this.clock = clock;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Returns a token for the parameters, reusing a cached one if it's still valid.
+     */
+    public Result<TokenRepresentation> obtainClientCredentials(TokenParameters parameters) {
+        var key = new Key(parameters.getClaims(), parameters.getHeaders());
+        var cached = tokens.get(key);
+        if (cached == null) {
+            return obtain(key, parameters);
+        }
+        if (!clock.instant().isBefore(cached.refreshAt()) && refreshing.add(key)) {
+            refreshExecutor.execute(() -> {
+                try {
+                    obtain(key, parameters)
+                            .onFailure(failure -> monitor.debug("Failed to refresh client credentials: " + failure.getFailureDetail()));
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        }
+        return Result.success(cached.token());
+    }
+
+    /**
+     * Discards the token obtained for the parameters, e.g. because it has been rejected by the counter-party.
+     */
+    public void invalidate(TokenParameters parameters) {
+        tokens.invalidate(new Key(parameters.getClaims(), parameters.getHeaders()));
+    }
+
+    public long hits() {
+        return tokens.hits();
+    }
+
+    public long misses() {
+        return tokens.misses();
+    }
+
+    private Result<TokenRepresentation> obtain(Key key, TokenParameters parameters) {
+        var now = clock.instant();
+        return identityService.obtainClientCredentials(parameters)
+                .onSuccess(token -> {
+                    var expiration = expiration(token, now);
+                    if (expiration != null) {
+                        var reusableUntil = expiration.minus(expiryMargin);
+                        var lifetime = Duration.between(now, reusableUntil);
+                        var refreshAt = now.plusMillis((long) (lifetime.toMillis() * REFRESH_THRESHOLD));
+                        tokens.put(key, new CachedToken(token, refreshAt), reusableUntil);
+                    }
+                });
+    }
+
+    @Nullable
+    private Instant expiration(TokenRepresentation token, Instant issuedAt) {
+        if (token.getExpiresIn() != null) {
+            return issuedAt.plusSeconds(token.getExpiresIn());
+        }
+        var parts = token.getToken() == null ? new String[0] : token.getToken().split("\\.");
+        if (parts.length != 3) {
+            return null;
+        }
+        try {
+            var claims = mapper.readValue(Base64.getUrlDecoder().decode(parts[1]), Map.class);
+            return claims.get(EXPIRATION_CLAIM) instanceof Number exp ? Instant.ofEpochSecond(exp.longValue()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private record Key(Map<String, Object> claims, Map<String, Object> headers) {
+    }
+
+    private record CachedToken(TokenRepresentation token, Instant refreshAt) {
+    }
+}
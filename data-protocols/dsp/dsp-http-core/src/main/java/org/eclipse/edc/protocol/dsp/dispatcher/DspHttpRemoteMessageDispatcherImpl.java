@@ -29,10 +29,13 @@ import org.eclipse.edc.spi.iam.AudienceResolver;
 import org.eclipse.edc.spi.iam.IdentityService;
 import org.eclipse.edc.spi.iam.RequestScope;
 import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
 import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.message.RemoteMessage;
 import org.eclipse.edc.token.spi.TokenDecorator;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -43,6 +46,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_UNAUTHORIZED;
 import static java.util.concurrent.CompletableFuture.failedFuture;
 import static org.eclipse.edc.spi.http.FallbackFactories.retryWhenStatusNot2xxOr4xx;
 import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
@@ -62,6 +66,7 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
     private final PolicyEngine policyEngine;
     private final TokenDecorator tokenDecorator;
     private final AudienceResolver audienceResolver;
+    private final ClientCredentialsCache credentialsCache;
 
 
     public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
@@ -69,11 +74,21 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                                               TokenDecorator decorator,
                                               PolicyEngine policyEngine,
                                               AudienceResolver audienceResolver) {
+        this(httpClient, identityService, decorator, policyEngine, audienceResolver, null);
+    }
+
+    public DspHttpRemoteMessageDispatcherImpl(EdcHttpClient httpClient,
+                                              IdentityService identityService,
+                                              TokenDecorator decorator,
+                                              PolicyEngine policyEngine,
+                                              AudienceResolver audienceResolver,
+                                              @Nullable ClientCredentialsCache credentialsCache) {
         this.httpClient = httpClient;
         this.identityService = identityService;
         this.policyEngine = policyEngine;
         this.tokenDecorator = decorator;
         this.audienceResolver = audienceResolver;
+        this.credentialsCache = credentialsCache;
     }
 
     @Override
@@ -116,14 +131,19 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
                 .claims(AUDIENCE_CLAIM, audienceResolver.resolve(message)) // enforce the audience, ignore anything a decorator might have set
                 .build();
 
-        return identityService.obtainClientCredentials(tokenParameters)
+        return obtainClientCredentials(tokenParameters)
                 .map(token -> {
                     var requestWithAuth = request.newBuilder()
                             .header("Authorization", token.getToken())
                             .build();
 
                     return httpClient.executeAsync(requestWithAuth, List.of(retryWhenStatusNot2xxOr4xx()))
-                            .thenApply(response -> handleResponse(response, responseType, handler.bodyExtractor));
+                            .thenApply(response -> {
+                                if (response.code() == HTTP_UNAUTHORIZED && credentialsCache != null) {
+                                    credentialsCache.invalidate(tokenParameters);
+                                }
+                                return handleResponse(response, responseType, handler.bodyExtractor);
+                            });
                 })
                 .orElse(failure -> failedFuture(new EdcException(format("Unable to obtain credentials: %s", failure.getFailureDetail()))));
     }
@@ -139,6 +159,10 @@ public class DspHttpRemoteMessageDispatcherImpl implements DspHttpRemoteMessageD
         policyScopes.put(messageClass, new PolicyScope<>(messageClass, scope, policyProvider));
     }
 
+    private Result<TokenRepresentation> obtainClientCredentials(TokenParameters tokenParameters) {
+        return credentialsCache != null ? credentialsCache.obtainClientCredentials(tokenParameters) : identityService.obtainClientCredentials(tokenParameters);
+    }
+
     @NotNull
     private <T> StatusResult<T> handleResponse(Response response, Class<T> responseType, DspHttpResponseBodyExtractor<T> bodyExtractor) {
         try (var responseBody = response.body()) {
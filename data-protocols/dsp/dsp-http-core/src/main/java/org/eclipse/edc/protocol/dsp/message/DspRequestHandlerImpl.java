@@ -17,6 +17,7 @@ package org.eclipse.edc.protocol.dsp.message;
 import jakarta.json.JsonObject;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.protocol.dsp.spi.message.DspRequestHandler;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
@@ -114,6 +115,10 @@ public class DspRequestHandlerImpl implements DspRequestHandler {
 
         var resource = serviceResult.getContent();
 
+        if (resource instanceof StreamingOutput) {
+            return Response.ok().type(MediaType.APPLICATION_JSON).entity(resource).build();
+        }
+
         var outputTransformation = transformerRegistry.transform(resource, JsonObject.class);
         if (outputTransformation.failed()) {
             var errorCode = UUID.randomUUID();
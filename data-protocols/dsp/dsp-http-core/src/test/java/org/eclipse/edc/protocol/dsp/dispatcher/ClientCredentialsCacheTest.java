@@ -0,0 +1,156 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.protocol.dsp.dispatcher;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.iam.IdentityService;
+import org.eclipse.edc.spi.iam.TokenParameters;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.Result;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.concurrent.Executor;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ClientCredentialsCacheTest {
+
+    private final Instant now = Instant.ofEpochSecond(Instant.now().getEpochSecond());
+    private final IdentityService identityService = mock();
+    private final Executor refreshExecutor = mock();
+    private final Clock clock = mock();
+    private final ClientCredentialsCache cache = new ClientCredentialsCache(identityService, 10, Duration.ofSeconds(30), refreshExecutor,
+            new ObjectMapper(), clock, mock(Monitor.class));
+
+    @BeforeEach
+    void setUp() {
+        when(clock.instant()).thenReturn(now);
+    }
+
+    @Test
+    void shouldReuseToken_whenSameParameters() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(jwt(now.plusSeconds(300))));
+
+        var first = cache.obtainClientCredentials(parameters("audience", "scope"));
+        var second = cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(identityService).obtainClientCredentials(any());
+        verifyNoInteractions(refreshExecutor);
+    }
+
+    @Test
+    void shouldObtainNewToken_whenDifferentParameters() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(jwt(now.plusSeconds(300))));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "other-scope"));
+        cache.obtainClientCredentials(parameters("other-audience", "scope"));
+
+        verify(identityService, times(3)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void shouldUseExpiresIn_whenProvided() {
+        var token = TokenRepresentation.Builder.newInstance().token("opaque").expiresIn(300L).build();
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService).obtainClientCredentials(any());
+    }
+
+    @Test
+    void shouldNotReuseToken_whenExpirationUnknown() {
+        var token = TokenRepresentation.Builder.newInstance().token("opaque").build();
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(token));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void shouldNotReuseToken_whenWithinExpiryMargin() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(jwt(now.plusSeconds(300))));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        when(clock.instant()).thenReturn(now.plusSeconds(271));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void shouldRefreshInBackground_whenMostOfLifetimeElapsed() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(jwt(now.plusSeconds(300))));
+        var first = cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        when(clock.instant()).thenReturn(now.plusSeconds(250));
+        var second = cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(second.getContent()).isSameAs(first.getContent());
+        verify(refreshExecutor).execute(any());
+    }
+
+    @Test
+    void shouldObtainNewToken_whenInvalidated() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.success(jwt(now.plusSeconds(300))));
+
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.invalidate(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    @Test
+    void shouldNotCache_whenObtainFails() {
+        when(identityService.obtainClientCredentials(any())).thenReturn(Result.failure("error"));
+
+        var result = cache.obtainClientCredentials(parameters("audience", "scope"));
+        cache.obtainClientCredentials(parameters("audience", "scope"));
+
+        assertThat(result.failed()).isTrue();
+        verify(identityService, times(2)).obtainClientCredentials(any());
+    }
+
+    private TokenParameters parameters(String audience, String scope) {
+        return TokenParameters.Builder.newInstance().claims("aud", audience).claims("scope", scope).build();
+    }
+
+    private TokenRepresentation jwt(Instant expiration) {
+        var encoder = Base64.getUrlEncoder().withoutPadding();
+        var header = encoder.encodeToString("{\"alg\":\"none\"}".getBytes(UTF_8));
+        var payload = encoder.encodeToString("{\"exp\":%d}".formatted(expiration.getEpochSecond()).getBytes(UTF_8));
+        return TokenRepresentation.Builder.newInstance().token(header + "." + payload + ".signature").build();
+    }
+}
@@ -355,6 +355,23 @@ class DspHttpRemoteMessageDispatcherImplTest {
             verify(bodyExtractor, never()).extractBody(any());
         }
 
+        @Test
+        void shouldInvalidateCachedToken_whenResponseIsUnauthorized() {
+            var credentialsCache = mock(ClientCredentialsCache.class);
+            var cachingDispatcher = new DspHttpRemoteMessageDispatcherImpl(httpClient, identityService, tokenDecorator, policyEngine, audienceResolver, credentialsCache);
+            when(credentialsCache.obtainClientCredentials(any()))
+                    .thenReturn(Result.success(TokenRepresentation.Builder.newInstance().token("token").build()));
+            when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
+            when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(dummyResponse(401)));
+            cachingDispatcher.registerMessage(TestMessage.class, requestFactory, bodyExtractor);
+
+            var future = cachingDispatcher.dispatch(String.class, new TestMessage());
+
+            assertThat(future).succeedsWithin(timeout).satisfies(result -> assertThat(result).isFailed());
+            verify(credentialsCache).invalidate(argThat(parameters -> AUDIENCE_VALUE.equals(parameters.getStringClaim(AUDIENCE_CLAIM))));
+            verifyNoInteractions(identityService);
+        }
+
         private void respondWith(okhttp3.Response response, DspHttpResponseBodyExtractor<Object> bodyExtractor) {
             when(requestFactory.createRequest(any())).thenReturn(new Request.Builder().url("http://url").build());
             when(httpClient.executeAsync(any(), isA(List.class))).thenReturn(completedFuture(response));
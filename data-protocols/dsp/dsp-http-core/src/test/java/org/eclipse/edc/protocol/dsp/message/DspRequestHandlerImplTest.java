@@ -16,6 +16,7 @@ package org.eclipse.edc.protocol.dsp.message;
 
 import jakarta.json.Json;
 import jakarta.json.JsonObject;
+import jakarta.ws.rs.core.StreamingOutput;
 import org.eclipse.edc.policy.model.Policy;
 import org.eclipse.edc.protocol.dsp.spi.message.GetDspRequest;
 import org.eclipse.edc.protocol.dsp.spi.message.PostDspRequest;
@@ -43,6 +44,7 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -231,6 +233,26 @@ class DspRequestHandlerImplTest {
             assertThat(result.getStatus()).isEqualTo(409);
         }
 
+        @Test
+        void shouldReturnStreamingOutput_withoutTransformingIt() {
+            var message = mock(TestProcessRemoteMessage.class);
+            StreamingOutput content = outputStream -> { };
+            when(validatorRegistry.validate(any(), any())).thenReturn(ValidationResult.success());
+            when(transformerRegistry.transform(any(), eq(TestProcessRemoteMessage.class))).thenReturn(Result.success(message));
+            var request = PostDspRequest.Builder.newInstance(TestProcessRemoteMessage.class, StreamingOutput.class)
+                    .token("token")
+                    .serviceCall((m, t) -> ServiceResult.success(content))
+                    .errorType("errorType")
+                    .build();
+
+            var result = handler.createResource(request);
+
+            assertThat(result.getStatus()).isEqualTo(200);
+            assertThat(result.getEntity()).isSameAs(content);
+            assertThat(result.getMediaType()).isEqualTo(APPLICATION_JSON_TYPE);
+            verify(transformerRegistry, never()).transform(any(), eq(JsonObject.class));
+        }
+
         @Test
         void shouldReturnInternalServerError_whenOutputTransformationFails() {
             var message = mock(TestProcessRemoteMessage.class);
@@ -33,7 +33,8 @@ public interface DspRequestHandler {
 
     /**
      * Verify identity, validate incoming message, transform, call the service to create the resource, transform it and
-     * return as response.
+     * return as response. A resource that is a {@link jakarta.ws.rs.core.StreamingOutput} is not transformed, but
+     * returned as response to write itself.
      *
      * @param request the request.
      * @return the response to be returned to the client.
@@ -19,6 +19,7 @@ import org.eclipse.edc.iam.did.spi.resolution.DidPublicKeyResolver;
 import org.eclipse.edc.iam.did.spi.resolution.DidResolverRegistry;
 import org.eclipse.edc.iam.identitytrust.DidCredentialServiceUrlResolver;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.PresentationVerificationCache;
 import org.eclipse.edc.iam.identitytrust.core.defaults.DefaultCredentialServiceClient;
 import org.eclipse.edc.iam.identitytrust.verification.MultiFormatPresentationVerifier;
 import org.eclipse.edc.identitytrust.ClaimTokenCreatorFunction;
@@ -58,6 +59,7 @@ import org.eclipse.edc.verifiablecredentials.linkeddata.LdpVerifier;
 import org.jetbrains.annotations.NotNull;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.util.Map;
 
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
@@ -70,6 +72,16 @@ public class IdentityAndTrustExtension implements ServiceExtension {
     public static final String CONNECTOR_DID_PROPERTY = "edc.iam.issuer.id";
     public static final String IATP_SELF_ISSUED_TOKEN_CONTEXT = "iatp-si";
 
+    public static final long DEFAULT_PRESENTATION_CACHE_TTL_MS = 60_000;
+    public static final int DEFAULT_PRESENTATION_CACHE_SIZE = 1_000;
+
+    @Setting(value = "Maximum time in milliseconds a verified presentation of a counter-party is reused for the same scopes. It never exceeds the expiration of the credentials. 0 disables the cache",
+            type = "long", defaultValue = DEFAULT_PRESENTATION_CACHE_TTL_MS + "")
+    public static final String PRESENTATION_CACHE_TTL_MS = "edc.iam.presentation.cache.ttl-ms";
+
+    @Setting(value = "Maximum number of cached verified presentations", type = "int", defaultValue = DEFAULT_PRESENTATION_CACHE_SIZE + "")
+    public static final String PRESENTATION_CACHE_SIZE = "edc.iam.presentation.cache.size";
+
     public static final String JSON_2020_SIGNATURE_SUITE = "JsonWebSignature2020";
 
 
@@ -147,8 +159,11 @@ public class IdentityAndTrustExtension implements ServiceExtension {
 
         var validationAction = tokenValidationAction();
 
+        var verificationCache = new PresentationVerificationCache(context.getSetting(PRESENTATION_CACHE_SIZE, DEFAULT_PRESENTATION_CACHE_SIZE),
+                Duration.ofMillis(context.getSetting(PRESENTATION_CACHE_TTL_MS, DEFAULT_PRESENTATION_CACHE_TTL_MS)), clock);
+
         return new IdentityAndTrustService(secureTokenService, getOwnDid(context), getPresentationVerifier(context),
-                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction);
+                getCredentialServiceClient(context), validationAction, registry, clock, credentialServiceUrlResolver, claimTokenFunction, verificationCache);
     }
 
     @Provider
@@ -26,6 +26,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.spi.CoreConstants.JSON_LD;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
@@ -47,6 +49,8 @@ class IdentityAndTrustExtensionTest {
     void verifyCorrectService(IdentityAndTrustExtension extension, ServiceExtensionContext context) {
         var configMock = mock(Config.class);
         when(configMock.getString(eq(IdentityAndTrustExtension.CONNECTOR_DID_PROPERTY))).thenReturn("did:web:test");
+        when(configMock.getInteger(eq(IdentityAndTrustExtension.PRESENTATION_CACHE_SIZE), anyInt())).thenAnswer(i -> i.getArgument(1));
+        when(configMock.getLong(eq(IdentityAndTrustExtension.PRESENTATION_CACHE_TTL_MS), anyLong())).thenAnswer(i -> i.getArgument(1));
         when(context.getConfig()).thenReturn(configMock);
 
         var is = extension.createIdentityService(context);
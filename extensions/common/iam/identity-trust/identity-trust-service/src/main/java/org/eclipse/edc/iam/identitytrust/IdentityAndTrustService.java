@@ -80,6 +80,7 @@ public class IdentityAndTrustService implements IdentityService {
     private final Clock clock;
     private final CredentialServiceUrlResolver credentialServiceUrlResolver;
     private final ClaimTokenCreatorFunction claimTokenCreatorFunction;
+    private final PresentationVerificationCache verificationCache;
 
     /**
      * Constructs a new instance of the {@link IdentityAndTrustService}.
@@ -91,6 +92,22 @@ public class IdentityAndTrustService implements IdentityService {
                                    PresentationVerifier presentationVerifier, CredentialServiceClient credentialServiceClient,
                                    TokenValidationAction tokenValidationAction,
                                    TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction) {
+        this(secureTokenService, myOwnDid, presentationVerifier, credentialServiceClient, tokenValidationAction, trustedIssuerRegistry, clock, csUrlResolver,
+                claimTokenCreatorFunction, PresentationVerificationCache.disabled());
+    }
+
+    /**
+     * Constructs a new instance of the {@link IdentityAndTrustService}, that caches the outcome of the presentation verifications.
+     *
+     * @param secureTokenService Instance of an STS, which can create SI tokens
+     * @param myOwnDid           The DID which belongs to "this connector"
+     * @param verificationCache  The cache of verified presentations
+     */
+    public IdentityAndTrustService(SecureTokenService secureTokenService, String myOwnDid,
+                                   PresentationVerifier presentationVerifier, CredentialServiceClient credentialServiceClient,
+                                   TokenValidationAction tokenValidationAction,
+                                   TrustedIssuerRegistry trustedIssuerRegistry, Clock clock, CredentialServiceUrlResolver csUrlResolver, ClaimTokenCreatorFunction claimTokenCreatorFunction,
+                                   PresentationVerificationCache verificationCache) {
         this.secureTokenService = secureTokenService;
         this.myOwnDid = myOwnDid;
         this.presentationVerifier = presentationVerifier;
@@ -100,6 +117,7 @@ public class IdentityAndTrustService implements IdentityService {
         this.clock = clock;
         this.credentialServiceUrlResolver = csUrlResolver;
         this.claimTokenCreatorFunction = claimTokenCreatorFunction;
+        this.verificationCache = verificationCache;
     }
 
     @Override
@@ -143,6 +161,13 @@ public class IdentityAndTrustService implements IdentityService {
         var accessToken = claimToken.getStringClaim(PRESENTATION_ACCESS_TOKEN_CLAIM);
         var issuer = claimToken.getStringClaim(ISSUER);
 
+        // the SI token has been verified, so the presentation verified for the same issuer and scopes can be reused
+        var scopes = context.getScopes();
+        var cached = verificationCache.get(issuer, scopes);
+        if (cached != null) {
+            return success(cached);
+        }
+
         var siTokenClaims = Map.of(PRESENTATION_ACCESS_TOKEN_CLAIM, accessToken,
                 ISSUED_AT, Instant.now().toString(),
                 AUDIENCE, issuer,
@@ -157,7 +182,7 @@ public class IdentityAndTrustService implements IdentityService {
 
         // get CS Url, execute VP request
         var vpResponse = credentialServiceUrlResolver.resolve(issuer)
-                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, context.getScopes().stream().toList()));
+                .compose(url -> credentialServiceClient.requestPresentation(url, siTokenString, scopes.stream().toList()));
 
         if (vpResponse.failed()) {
             return vpResponse.mapTo();
@@ -172,9 +197,11 @@ public class IdentityAndTrustService implements IdentityService {
         }).reduce(Result.success(), Result::merge);
         //todo: at this point we have established what the other participant's DID is, and that it's authentic
         // so we need to make sure that `iss == sub == DID`
-        return result.compose(u -> claimTokenCreatorFunction.apply(presentations.stream().map(p -> p.presentation().getCredentials().stream())
+        var credentials = presentations.stream().map(p -> p.presentation().getCredentials().stream())
                 .reduce(Stream.empty(), Stream::concat)
-                .toList()));
+                .toList();
+        return result.compose(u -> claimTokenCreatorFunction.apply(credentials))
+                .onSuccess(verifiedClaims -> verificationCache.put(issuer, scopes, verifiedClaims, credentials));
     }
 
     @NotNull
@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust;
+
+import org.eclipse.edc.identitytrust.model.VerifiableCredential;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.util.collection.ExpiringCache;
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Caches the outcome of successful presentation verifications, keyed by the DID of the counter-party and by the
+ * requested scopes, so that the presentation does not get requested and verified again on every incoming message.
+ * <p>
+ * An entry expires after the configured maximum time to live, or when the first of its credentials expires, whatever
+ * comes first. A zero maximum time to live disables the cache.
+ */
+public class PresentationVerificationCache {
+
+    private final ExpiringCache<Key, ClaimToken> results;
+    private final Duration maxTtl;
+    private final Clock clock;
+
+    public PresentationVerificationCache(int capacity, Duration maxTtl, Clock clock) {
+        this.results = new ExpiringCache<>(capacity, clock);
+        this.maxTtl = maxTtl;
+        this.clock = clock;
+    }
+
+    /**
+     * Cache that never retains results.
+     */
+    public static PresentationVerificationCache disabled() {
+        return new PresentationVerificationCache(1, Duration.ZERO, Clock.systemUTC());
+    }
+
+    /**
+     * Returns the claims verified for the counter-party and the scopes, or null if they are not cached.
+     */
+    @Nullable
+    public ClaimToken get(String issuer, Collection<String> scopes) {
+        if (maxTtl.isZero()) {
+            return null;
+        }
+        return results.get(new Key(issuer, Set.copyOf(scopes)));
+    }
+
+    /**
+     * Caches the claims verified for the counter-party and the scopes, until the first of the credentials expires.
+     */
+    public void put(String issuer, Collection<String> scopes, ClaimToken claimToken, List<VerifiableCredential> credentials) {
+        if (maxTtl.isZero()) {
+            return;
+        }
+        var expiresAt = credentials.stream()
+                .map(VerifiableCredential::getExpirationDate)
+                .filter(Objects::nonNull)
+                .reduce(clock.instant().plus(maxTtl), (a, b) -> a.isBefore(b) ? a : b);
+        results.put(new Key(issuer, Set.copyOf(scopes)), claimToken, expiresAt);
+    }
+
+    public long hits() {
+        return results.hits();
+    }
+
+    public long misses() {
+        return results.misses();
+    }
+
+    private record Key(String issuer, Set<String> scopes) {
+    }
+}
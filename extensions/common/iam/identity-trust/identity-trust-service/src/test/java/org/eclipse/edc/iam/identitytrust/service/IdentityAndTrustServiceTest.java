@@ -18,6 +18,7 @@ package org.eclipse.edc.iam.identitytrust.service;
 import com.nimbusds.jwt.JWTClaimsSet;
 import org.assertj.core.api.Assertions;
 import org.eclipse.edc.iam.identitytrust.IdentityAndTrustService;
+import org.eclipse.edc.iam.identitytrust.PresentationVerificationCache;
 import org.eclipse.edc.identitytrust.CredentialServiceClient;
 import org.eclipse.edc.identitytrust.CredentialServiceUrlResolver;
 import org.eclipse.edc.identitytrust.SecureTokenService;
@@ -45,6 +46,7 @@ import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
@@ -66,6 +68,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -381,4 +384,51 @@ class IdentityAndTrustServiceTest {
                     });
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class VerificationCache {
+
+        private final IdentityAndTrustService cachingService = new IdentityAndTrustService(mockedSts, EXPECTED_OWN_DID, mockedVerifier, mockedClient,
+                actionMock, trustedIssuerRegistryMock, Clock.systemUTC(), credentialServiceUrlResolverMock, vcs -> Result.success(ClaimToken.Builder.newInstance().claim("vc", vcs).build()),
+                new PresentationVerificationCache(10, Duration.ofMinutes(1), Clock.systemUTC()));
+
+        @Test
+        void verify_shouldReuseVerifiedPresentation_whenSameIssuerAndScopes() {
+            var presentation = createPresentationBuilder()
+                    .type("VerifiablePresentation")
+                    .credentials(List.of(createCredentialBuilder()
+                            .credentialSubjects(List.of(CredentialSubject.Builder.newInstance().id(CONSUMER_DID).claim("some-claim", "some-val").build()))
+                            .build()))
+                    .build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(success());
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            when(trustedIssuerRegistryMock.getTrustedIssuers()).thenReturn(Set.of(TRUSTED_ISSUER));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            var first = cachingService.verifyJwtToken(token, verificationContext());
+            var second = cachingService.verifyJwtToken(token, verificationContext());
+
+            assertThat(first).isSucceeded();
+            assertThat(second).isSucceeded().isEqualTo(first.getContent());
+            verify(actionMock, times(2)).apply(any());
+            verify(mockedClient).requestPresentation(any(), any(), any());
+            verify(mockedVerifier).verifyPresentation(any());
+        }
+
+        @Test
+        void verify_shouldNotCache_whenVerificationFails() {
+            var presentation = createPresentationBuilder().type("VerifiablePresentation").build();
+            var vpContainer = new VerifiablePresentationContainer("test-vp", CredentialFormat.JSON_LD, presentation);
+            when(mockedVerifier.verifyPresentation(any())).thenReturn(failure("Cryptographic error"));
+            when(mockedClient.requestPresentation(any(), any(), any())).thenReturn(success(List.of(vpContainer)));
+            var token = createJwt(CONSUMER_DID, EXPECTED_OWN_DID);
+
+            cachingService.verifyJwtToken(token, verificationContext());
+            var result = cachingService.verifyJwtToken(token, verificationContext());
+
+            assertThat(result).isFailed();
+            verify(mockedClient, times(2)).requestPresentation(any(), any(), any());
+        }
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.iam.identitytrust.service;
+
+import org.eclipse.edc.iam.identitytrust.PresentationVerificationCache;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.identitytrust.TestFunctions.createCredentialBuilder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PresentationVerificationCacheTest {
+
+    private static final String ISSUER = "did:web:consumer";
+    private final Instant now = Instant.now();
+    private final Clock clock = mock();
+    private final PresentationVerificationCache cache = new PresentationVerificationCache(10, Duration.ofMinutes(5), clock);
+    private final ClaimToken claimToken = ClaimToken.Builder.newInstance().build();
+
+    @Test
+    void get_shouldReturnClaims_whenSameIssuerAndScopes() {
+        when(clock.instant()).thenReturn(now);
+        cache.put(ISSUER, List.of("scope1", "scope2"), claimToken, List.of(createCredentialBuilder().build()));
+
+        assertThat(cache.get(ISSUER, Set.of("scope2", "scope1"))).isSameAs(claimToken);
+        assertThat(cache.get(ISSUER, Set.of("scope1"))).isNull();
+        assertThat(cache.get("did:web:other", Set.of("scope1", "scope2"))).isNull();
+        assertThat(cache.hits()).isEqualTo(1);
+        assertThat(cache.misses()).isEqualTo(2);
+    }
+
+    @Test
+    void get_shouldReturnNull_whenMaxTtlElapsed() {
+        when(clock.instant()).thenReturn(now, now.plus(Duration.ofMinutes(5)));
+        cache.put(ISSUER, List.of("scope"), claimToken, List.of(createCredentialBuilder().build()));
+
+        assertThat(cache.get(ISSUER, List.of("scope"))).isNull();
+    }
+
+    @Test
+    void get_shouldReturnNull_whenFirstCredentialExpired() {
+        when(clock.instant()).thenReturn(now, now.plus(Duration.ofMinutes(1)));
+        var credentials = List.of(
+                createCredentialBuilder().expirationDate(now.plus(Duration.ofMinutes(10))).build(),
+                createCredentialBuilder().expirationDate(now.plusSeconds(30)).build());
+        cache.put(ISSUER, List.of("scope"), claimToken, credentials);
+
+        assertThat(cache.get(ISSUER, List.of("scope"))).isNull();
+    }
+
+    @Test
+    void shouldNotCache_whenDisabled() {
+        var disabled = PresentationVerificationCache.disabled();
+        disabled.put(ISSUER, List.of("scope"), claimToken, List.of(createCredentialBuilder().build()));
+
+        assertThat(disabled.get(ISSUER, List.of("scope"))).isNull();
+    }
+}
@@ -18,6 +18,7 @@ public class JsonLdConfiguration {
 
     private boolean httpEnabled = false;
     private boolean httpsEnabled = false;
+    private int cacheSize = 256;
 
     private JsonLdConfiguration() {
 
@@ -31,6 +32,10 @@ public class JsonLdConfiguration {
         return httpsEnabled;
     }
 
+    public int getCacheSize() {
+        return cacheSize;
+    }
+
     public static class Builder {
 
         private final JsonLdConfiguration configuration = new JsonLdConfiguration();
@@ -49,6 +54,15 @@ public class JsonLdConfiguration {
             return this;
         }
 
+        /**
+         * Maximum number of remote documents, and of contexts extracted from them, kept across operations. 0 disables the
+         * cache.
+         */
+        public Builder cacheSize(int cacheSize) {
+            configuration.cacheSize = cacheSize;
+            return this;
+        }
+
         public JsonLdConfiguration build() {
             return configuration;
         }
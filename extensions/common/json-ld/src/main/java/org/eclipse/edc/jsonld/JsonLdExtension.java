@@ -62,6 +62,9 @@ public class JsonLdExtension implements ServiceExtension {
     private static final String DEFAULT_AVOID_VOCAB_CONTEXT = "false";
     @Setting(value = "If true disable the @vocab context definition. This could be used to avoid api breaking changes", type = "boolean", defaultValue = DEFAULT_AVOID_VOCAB_CONTEXT)
     private static final String AVOID_VOCAB_CONTEXT = "edc.jsonld.vocab.disable";
+    private static final int DEFAULT_CACHE_SIZE = 256;
+    @Setting(value = "Maximum number of remote json-ld documents and contexts cached across operations. 0 disables the cache", type = "int", defaultValue = DEFAULT_CACHE_SIZE + "")
+    private static final String CACHE_SIZE_SETTING = "edc.jsonld.cache.size";
     @Inject
     private TypeManager typeManager;
 
@@ -81,6 +84,7 @@ public class JsonLdExtension implements ServiceExtension {
         var configuration = JsonLdConfiguration.Builder.newInstance()
                 .httpEnabled(config.getBoolean(HTTP_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
                 .httpsEnabled(config.getBoolean(HTTPS_ENABLE_SETTING, DEFAULT_HTTP_HTTPS_RESOLUTION))
+                .cacheSize(config.getInteger(CACHE_SIZE_SETTING, DEFAULT_CACHE_SIZE))
                 .build();
         var monitor = context.getMonitor();
         var service = new TitaniumJsonLd(monitor, configuration);
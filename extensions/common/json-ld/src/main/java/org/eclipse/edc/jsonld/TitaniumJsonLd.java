@@ -16,6 +16,8 @@ package org.eclipse.edc.jsonld;
 
 import com.apicatalog.jsonld.JsonLdError;
 import com.apicatalog.jsonld.JsonLdOptions;
+import com.apicatalog.jsonld.context.cache.Cache;
+import com.apicatalog.jsonld.context.cache.LruCache;
 import com.apicatalog.jsonld.document.Document;
 import com.apicatalog.jsonld.document.JsonDocument;
 import com.apicatalog.jsonld.loader.DocumentLoader;
@@ -29,6 +31,7 @@ import org.eclipse.edc.jsonld.document.JarLoader;
 import org.eclipse.edc.jsonld.spi.JsonLd;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.Collections;
@@ -38,6 +41,7 @@ import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -51,6 +55,9 @@ import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
 
 /**
  * Implementation of the {@link JsonLd} interface that uses the Titanium library for all JSON-LD operations.
+ * <p>
+ * Remote documents and the contexts extracted from them are cached across operations, and so is the compaction
+ * context of each scope, which is rebuilt only when a namespace or a context is registered.
  */
 public class TitaniumJsonLd implements JsonLd {
     private static final Map<String, String> EMPTY_NAMESPACES = Collections.emptyMap();
@@ -61,6 +68,9 @@ public class TitaniumJsonLd implements JsonLd {
     private final Map<String, Map<String, String>> scopedNamespaces = new HashMap<>();
     private final Map<String, Set<String>> scopedContexts = new HashMap<>();
     private final CachedDocumentLoader documentLoader;
+    private final Map<String, JsonObject> compactionContexts = new ConcurrentHashMap<>();
+    private final SynchronizedCache<JsonValue> contextCache;
+    private final SynchronizedCache<Document> documentCache;
 
     public TitaniumJsonLd(Monitor monitor) {
         this(monitor, JsonLdConfiguration.Builder.newInstance().build());
@@ -69,6 +79,8 @@ public class TitaniumJsonLd implements JsonLd {
     public TitaniumJsonLd(Monitor monitor, JsonLdConfiguration configuration) {
         this.monitor = monitor;
         this.documentLoader = new CachedDocumentLoader(configuration, monitor);
+        this.contextCache = SynchronizedCache.of(configuration.getCacheSize());
+        this.documentCache = SynchronizedCache.of(configuration.getCacheSize());
     }
 
     @Override
@@ -76,7 +88,7 @@ public class TitaniumJsonLd implements JsonLd {
         try {
             var document = JsonDocument.of(injectVocab(json));
             var expanded = com.apicatalog.jsonld.JsonLd.expand(document)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             if (expanded.size() > 0) {
                 return Result.success(expanded.getJsonObject(0));
@@ -92,12 +104,9 @@ public class TitaniumJsonLd implements JsonLd {
     public Result<JsonObject> compact(JsonObject json, String scope) {
         try {
             var document = JsonDocument.of(json);
-            var jsonFactory = createBuilderFactory(Map.of());
-            var contextDocument = JsonDocument.of(jsonFactory.createObjectBuilder()
-                    .add(CONTEXT, createContext(scope))
-                    .build());
+            var contextDocument = JsonDocument.of(compactionContexts.computeIfAbsent(scope, this::createCompactionContext));
             var compacted = com.apicatalog.jsonld.JsonLd.compact(document, contextDocument)
-                    .options(new JsonLdOptions(documentLoader))
+                    .options(options())
                     .get();
             return Result.success(compacted);
         } catch (JsonLdError e) {
@@ -110,17 +119,34 @@ public class TitaniumJsonLd implements JsonLd {
     public void registerNamespace(String prefix, String contextIri, String scope) {
         var namespaces = scopedNamespaces.computeIfAbsent(scope, k -> new LinkedHashMap<>());
         namespaces.put(prefix, contextIri);
+        compactionContexts.clear();
     }
 
     @Override
     public void registerContext(String contextIri, String scope) {
         var contexts = scopedContexts.computeIfAbsent(scope, k -> new LinkedHashSet<>());
         contexts.add(contextIri);
+        compactionContexts.clear();
     }
 
     @Override
     public void registerCachedDocument(String contextUrl, URI uri) {
         documentLoader.register(contextUrl, uri);
+        clearCache(contextCache);
+        clearCache(documentCache);
+    }
+
+    private JsonLdOptions options() {
+        var options = new JsonLdOptions(documentLoader);
+        options.setContextCache(contextCache);
+        options.setDocumentCache(documentCache);
+        return options;
+    }
+
+    private void clearCache(@Nullable SynchronizedCache<?> cache) {
+        if (cache != null) {
+            cache.clear();
+        }
     }
 
     private JsonObject injectVocab(JsonObject json) {
@@ -140,6 +166,12 @@ public class TitaniumJsonLd implements JsonLd {
         return jsonObjectBuilder.build();
     }
 
+    private JsonObject createCompactionContext(String scope) {
+        return createBuilderFactory(Map.of()).createObjectBuilder()
+                .add(CONTEXT, createContext(scope))
+                .build();
+    }
+
     private JsonValue createContext(String scope) {
         var builder = createObjectBuilder();
         // Adds the configured namespaces for * and the input scope
@@ -177,8 +209,8 @@ public class TitaniumJsonLd implements JsonLd {
 
     private static class CachedDocumentLoader implements DocumentLoader {
 
-        private final Map<String, URI> uriCache = new HashMap<>();
-        private final Map<URI, Document> documentCache = new HashMap<>();
+        private final Map<String, URI> uriCache = new ConcurrentHashMap<>();
+        private final Map<URI, Document> documentCache = new ConcurrentHashMap<>();
         private final DocumentLoader loader;
         private final Monitor monitor;
 
@@ -197,8 +229,11 @@ public class TitaniumJsonLd implements JsonLd {
                     .map(uriCache::get)
                     .orElse(url);
 
-            return Optional.ofNullable(documentCache.get(uri))
-                    .orElse(loader.loadDocument(uri, options));
+            var document = documentCache.get(uri);
+            if (document != null) {
+                return document;
+            }
+            return loader.loadDocument(uri, options);
         }
 
         public void register(String contextUrl, URI uri) {
@@ -212,4 +247,45 @@ public class TitaniumJsonLd implements JsonLd {
 
     }
 
+    /**
+     * Thread-safe, bounded {@link Cache} shared by all the operations, keyed by document or context IRI.
+     */
+    private static class SynchronizedCache<V> implements Cache<String, V> {
+
+        private final int capacity;
+        private LruCache<String, V> entries;
+
+        private SynchronizedCache(int capacity) {
+            this.capacity = capacity;
+            this.entries = new LruCache<>(capacity);
+        }
+
+        /**
+         * Returns a cache with the given capacity, or null, which disables caching in Titanium, if the capacity is 0.
+         */
+        @Nullable
+        static <V> SynchronizedCache<V> of(int capacity) {
+            return capacity > 0 ? new SynchronizedCache<>(capacity) : null;
+        }
+
+        @Override
+        public synchronized boolean containsKey(String key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public synchronized V get(String key) {
+            return entries.get(key);
+        }
+
+        @Override
+        public synchronized void put(String key, V value) {
+            entries.put(key, value);
+        }
+
+        synchronized void clear() {
+            entries = new LruCache<>(capacity);
+        }
+    }
+
 }
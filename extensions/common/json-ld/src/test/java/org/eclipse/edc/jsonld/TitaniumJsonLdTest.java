@@ -21,6 +21,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.mockserver.integration.ClientAndServer;
+import org.mockserver.verify.VerificationTimes;
 
 import java.net.URI;
 
@@ -141,6 +142,22 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void compact_shouldUseNamespace_whenRegisteredAfterPreviousCompaction() {
+        var ns = "https://test.org/schema/";
+        var prefix = "customContext";
+        var expanded = createObjectBuilder()
+                .add(ns + "key1", createArrayBuilder().add(createObjectBuilder().add(VALUE, "value1").build()).build())
+                .build();
+        var service = defaultService();
+        assertThat(service.compact(expanded)).isSucceeded().satisfies(c -> assertThat(c.getJsonString(ns + "key1")).isNotNull());
+
+        service.registerNamespace(prefix, ns);
+        var compacted = service.compact(expanded);
+
+        assertThat(compacted).isSucceeded().satisfies(c -> assertThat(c.getJsonString(prefix + ":key1").getString()).isEqualTo("value1"));
+    }
+
     @Test
     void expandAndCompact_withCustomContext() {
         var context = "http://schema.org/";
@@ -291,6 +308,36 @@ class TitaniumJsonLdTest {
         });
     }
 
+    @Test
+    void documentResolution_shouldCallHttpEndpointOnce_whenContextIsUsedMultipleTimes() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = httpEnabledService();
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.once());
+    }
+
+    @Test
+    void documentResolution_shouldCallHttpEndpointEveryTime_whenCacheIsDisabled() {
+        server.when(request()).respond(response(getResourceFileContentAsString("test-context.jsonld")));
+        var jsonObject = createObjectBuilder()
+                .add(CONTEXT, "http://localhost:" + port)
+                .add("test:key", "value")
+                .build();
+        var service = new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).cacheSize(0).build());
+
+        assertThat(service.expand(jsonObject)).isSucceeded();
+        assertThat(service.expand(jsonObject)).isSucceeded();
+
+        server.verify(request(), VerificationTimes.exactly(2));
+    }
+
     private JsonLd httpEnabledService() {
         return new TitaniumJsonLd(monitor, JsonLdConfiguration.Builder.newInstance().httpEnabled(true).build());
     }
@@ -42,4 +42,9 @@ public class MicrometerExecutorInstrumentation implements ExecutorInstrumentatio
     public ExecutorService instrument(ExecutorService target, String name) {
         return ExecutorServiceMetrics.monitor(registry, target, name);
     }
+
+    @Override
+    public void rejected(String name) {
+        registry.counter("executor.rejected", "name", name).increment();
+    }
 }
@@ -19,7 +19,10 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Timestamp;
+import java.util.Arrays;
 import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 enum ArgumentHandlers implements ArgumentHandler {
     /**
@@ -203,5 +206,37 @@ enum ArgumentHandlers implements ArgumentHandler {
         public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
             statement.setNull(position, java.sql.Types.NULL);
         }
+    },
+    /**
+     * Sets any other argument into its corresponding position of a statement
+     */
+    OBJECT {
+        @Override
+        public boolean accepts(Object value) {
+            return value != null;
+        }
+
+        @Override
+        public void handle(PreparedStatement statement, int position, Object argument) throws SQLException {
+            statement.setObject(position, argument);
+        }
+    };
+
+    private static final Map<Class<?>, ArgumentHandler> HANDLERS_BY_TYPE = new ConcurrentHashMap<>();
+
+    /**
+     * Get the handler for the argument. The handler is resolved once for every argument type, then cached.
+     *
+     * @param argument the argument.
+     * @return the handler.
+     */
+    static ArgumentHandler forArgument(Object argument) {
+        if (argument == null) {
+            return NULL;
+        }
+        return HANDLERS_BY_TYPE.computeIfAbsent(argument.getClass(), type -> Arrays.stream(values())
+                .filter(handler -> handler.accepts(argument))
+                .findFirst()
+                .orElse(OBJECT));
     }
 }
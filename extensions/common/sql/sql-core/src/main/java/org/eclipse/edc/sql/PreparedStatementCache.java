@@ -0,0 +1,193 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the last used {@link PreparedStatement}s of every connection, so that repeated statements are not prepared
+ * again. Statements are cached per physical connection, resolved through {@link Connection#unwrap(Class)} and compared
+ * by identity, so they are reused across pooled connection checkouts. Since the statements reference their connection,
+ * the statements of a connection are dropped as soon as the connection is found closed: every time a statement is
+ * found closed and every time a new connection gets cached, which is when the pool replaces a closed connection.
+ * Every connection has its own lock, so connections are not contended. A statement is handed out to one caller at a
+ * time: if it is still in use (e.g. by an open result stream) the caller gets a new statement that gets closed after use.
+ */
+class PreparedStatementCache {
+
+    private final int size;
+    private final Map<ConnectionKey, ConnectionStatements> statements = new ConcurrentHashMap<>();
+
+    PreparedStatementCache(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Get a prepared statement for the sql. The returned {@link CachedStatement} must be closed after use, this gives
+     * the statement back to the cache or closes it when it is not cached.
+     *
+     * @param connection the connection.
+     * @param sql        the sql statement.
+     * @return the statement.
+     * @throws SQLException if the statement cannot be prepared.
+     */
+    CachedStatement acquire(Connection connection, String sql) throws SQLException {
+        if (size <= 0) {
+            return new CachedStatement(null, connection.prepareStatement(sql));
+        }
+
+        var key = new ConnectionKey(physicalConnection(connection));
+        var connectionStatements = statements.get(key);
+        if (connectionStatements == null) {
+            dropClosedConnections();
+            connectionStatements = statements.computeIfAbsent(key, k -> new ConnectionStatements());
+        }
+
+        synchronized (connectionStatements) {
+            var cached = connectionStatements.get(sql);
+            if (cached != null && cached.inUse) {
+                return new CachedStatement(null, connection.prepareStatement(sql));
+            }
+            if (cached != null && cached.statement.isClosed()) {
+                if (isClosed(key.connection())) {
+                    statements.remove(key, connectionStatements);
+                    return new CachedStatement(null, connection.prepareStatement(sql));
+                }
+                cached = null;
+            }
+            if (cached == null) {
+                cached = new CachedStatement(connectionStatements, connection.prepareStatement(sql));
+                connectionStatements.put(sql, cached);
+            } else {
+                cached.statement.clearParameters();
+            }
+            cached.inUse = true;
+            return cached;
+        }
+    }
+
+    /**
+     * The number of connections that have cached statements.
+     */
+    int connections() {
+        return statements.size();
+    }
+
+    private void dropClosedConnections() {
+        statements.keySet().removeIf(key -> isClosed(key.connection()));
+    }
+
+    private boolean isClosed(Connection connection) {
+        try {
+            return connection.isClosed();
+        } catch (SQLException e) {
+            return true;
+        }
+    }
+
+    private Connection physicalConnection(Connection connection) {
+        try {
+            if (connection.isWrapperFor(Connection.class)) {
+                var unwrapped = connection.unwrap(Connection.class);
+                if (unwrapped != null) {
+                    return unwrapped;
+                }
+            }
+        } catch (SQLException ignored) {
+            // the connection is used as it is
+        }
+        return connection;
+    }
+
+    /**
+     * Identity of a physical connection, connections that implement value equality are not merged.
+     */
+    private record ConnectionKey(Connection connection) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ConnectionKey other && other.connection == connection;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(connection);
+        }
+    }
+
+    /**
+     * The statements of a connection, least recently used first. It is also the lock of the connection.
+     */
+    private class ConnectionStatements extends LinkedHashMap<String, CachedStatement> {
+        ConnectionStatements() {
+            super(16, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CachedStatement> eldest) {
+            if (size() > size) {
+                eldest.getValue().evict();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A {@link PreparedStatement} handed out by the cache.
+     */
+    static class CachedStatement implements AutoCloseable {
+        private final ConnectionStatements owner;
+        private final PreparedStatement statement;
+        private boolean inUse;
+        private boolean evicted;
+
+        private CachedStatement(ConnectionStatements owner, PreparedStatement statement) {
+            this.owner = owner;
+            this.statement = statement;
+        }
+
+        PreparedStatement statement() {
+            return statement;
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (owner != null) {
+                synchronized (owner) {
+                    inUse = false;
+                    if (!evicted) {
+                        return;
+                    }
+                }
+            }
+            statement.close();
+        }
+
+        private void evict() {
+            evicted = true;
+            if (!inUse) {
+                try {
+                    statement.close();
+                } catch (SQLException ignored) {
+                    // the statement is not used anymore
+                }
+            }
+        }
+    }
+}
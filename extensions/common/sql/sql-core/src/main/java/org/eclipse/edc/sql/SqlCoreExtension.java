@@ -21,7 +21,9 @@ import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import static java.lang.Integer.parseInt;
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_FETCH_SIZE;
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE;
 import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.EDC_SQL_FETCH_SIZE;
+import static org.eclipse.edc.sql.SqlQueryExecutorConfiguration.EDC_SQL_STATEMENT_CACHE_SIZE;
 
 @Extension(value = SqlCoreExtension.NAME)
 public class SqlCoreExtension implements ServiceExtension {
@@ -36,7 +38,8 @@ public class SqlCoreExtension implements ServiceExtension {
     @Provider
     public QueryExecutor sqlQueryExecutor(ServiceExtensionContext context) {
         var fetchSize = context.getSetting(EDC_SQL_FETCH_SIZE, parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
-        var configuration = new SqlQueryExecutorConfiguration(fetchSize);
+        var statementCacheSize = context.getSetting(EDC_SQL_STATEMENT_CACHE_SIZE, parseInt(DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE));
+        var configuration = new SqlQueryExecutorConfiguration(fetchSize, statementCacheSize);
         return new SqlQueryExecutor(configuration);
     }
 
@@ -22,7 +22,6 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -37,6 +36,7 @@ import static java.util.stream.StreamSupport.stream;
 public class SqlQueryExecutor implements QueryExecutor {
 
     private final SqlQueryExecutorConfiguration configuration;
+    private final PreparedStatementCache statementCache;
 
     public SqlQueryExecutor() {
         this(SqlQueryExecutorConfiguration.ofDefaults());
@@ -44,6 +44,7 @@ public class SqlQueryExecutor implements QueryExecutor {
 
     public SqlQueryExecutor(SqlQueryExecutorConfiguration configuration) {
         this.configuration = configuration;
+        this.statementCache = new PreparedStatementCache(configuration.statementCacheSize());
     }
 
     @Override
@@ -52,7 +53,8 @@ public class SqlQueryExecutor implements QueryExecutor {
         Objects.requireNonNull(sql, "sql");
         Objects.requireNonNull(arguments, "arguments");
 
-        try (var statement = connection.prepareStatement(sql, PreparedStatement.RETURN_GENERATED_KEYS)) {
+        try (var cachedStatement = statementCache.acquire(connection, sql)) {
+            var statement = cachedStatement.statement();
             setArguments(statement, arguments);
             return statement.execute() ? 0 : statement.getUpdateCount();
         } catch (Exception exception) {
@@ -79,8 +81,9 @@ public class SqlQueryExecutor implements QueryExecutor {
             if (closeConnection) {
                 doorKeeper.takeCareOf(connection);
             }
-            var statement = connection.prepareStatement(sql);
-            doorKeeper.takeCareOf(statement);
+            var cachedStatement = statementCache.acquire(connection, sql);
+            doorKeeper.takeCareOf(cachedStatement);
+            var statement = cachedStatement.statement();
             statement.setFetchSize(configuration.fetchSize());
             setArguments(statement, arguments);
             var resultSet = statement.executeQuery();
@@ -106,14 +109,7 @@ public class SqlQueryExecutor implements QueryExecutor {
     }
 
     private void setArgument(PreparedStatement statement, int position, Object argument) throws SQLException {
-        var argumentHandler = Arrays.stream(ArgumentHandlers.values()).filter(it -> it.accepts(argument))
-                .findFirst().orElse(null);
-
-        if (argumentHandler != null) {
-            argumentHandler.handle(statement, position, argument);
-        } else {
-            statement.setObject(position, argument);
-        }
+        ArgumentHandlers.forArgument(argument).handle(statement, position, argument);
     }
 
     @NotNull
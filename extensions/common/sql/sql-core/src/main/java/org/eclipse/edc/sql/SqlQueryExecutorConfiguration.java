@@ -19,14 +19,23 @@ import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 /**
  * Configuration class for {@link SqlQueryExecutor}
  */
-public record SqlQueryExecutorConfiguration(int fetchSize) {
+public record SqlQueryExecutorConfiguration(int fetchSize, int statementCacheSize) {
 
     public static final String DEFAULT_EDC_SQL_FETCH_SIZE = "5000";
     @Setting(value = "Fetch size value used in SQL queries", defaultValue = DEFAULT_EDC_SQL_FETCH_SIZE)
     public static final String EDC_SQL_FETCH_SIZE = "edc.sql.fetch.size";
 
+    public static final String DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE = "0";
+    @Setting(value = "Maximum number of prepared statements kept open and reused for every database connection. 0 disables the cache",
+            type = "int", defaultValue = DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE)
+    public static final String EDC_SQL_STATEMENT_CACHE_SIZE = "edc.sql.statement.cache.size";
+
+    public SqlQueryExecutorConfiguration(int fetchSize) {
+        this(fetchSize, Integer.parseInt(DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE));
+    }
+
     public static SqlQueryExecutorConfiguration ofDefaults() {
-        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE));
+        return new SqlQueryExecutorConfiguration(Integer.parseInt(DEFAULT_EDC_SQL_FETCH_SIZE), Integer.parseInt(DEFAULT_EDC_SQL_STATEMENT_CACHE_SIZE));
     }
 
 }
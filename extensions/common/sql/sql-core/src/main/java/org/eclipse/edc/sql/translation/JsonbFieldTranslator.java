@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.spi.types.PathItem;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static java.util.Collections.nCopies;
+
+/**
+ * {@link FieldTranslator} for JSONB columns that translates equality and inclusion criteria into containment
+ * ({@code @>}) expressions, that can be served by a GIN index on the column. Other operators are translated using path
+ * operators, as done by {@link JsonFieldTranslator}.
+ * <p>
+ * Please note that containment is type sensitive: a string operand only matches JSON string values, while a number
+ * operand only matches JSON number values.
+ */
+public class JsonbFieldTranslator extends JsonFieldTranslator {
+
+    public JsonbFieldTranslator(String columnName) {
+        super(columnName);
+    }
+
+    @Override
+    public WhereClause toWhereClause(List<PathItem> path, Criterion criterion, SqlOperator operator) {
+        if (path.isEmpty()) {
+            return super.toWhereClause(path, criterion, operator);
+        }
+
+        var operandRight = criterion.getOperandRight();
+        if ("=".equals(operator.representation()) && isScalar(operandRight)) {
+            return containment(path, List.of(operandRight));
+        }
+
+        if ("in".equals(operator.representation()) && operandRight instanceof Collection<?> values &&
+                !values.isEmpty() && values.stream().allMatch(this::isScalar)) {
+            return containment(path, values);
+        }
+
+        return super.toWhereClause(path, criterion, operator);
+    }
+
+    private WhereClause containment(List<PathItem> path, Collection<?> values) {
+        var parameters = new ArrayList<>();
+        var clauses = new ArrayList<String>();
+        for (var value : values) {
+            clauses.add("%s @> %s".formatted(columnName, jsonbObject(path, value)));
+            path.forEach(item -> parameters.add(item.toString()));
+            parameters.add(value);
+        }
+        var sql = clauses.size() == 1 ? clauses.get(0) : "(%s)".formatted(String.join(" OR ", clauses));
+        return new WhereClause(sql, parameters);
+    }
+
+    /**
+     * Build a nested {@code jsonb_build_object} expression for the path, keys and value are passed as parameters.
+     */
+    private String jsonbObject(List<PathItem> path, Object value) {
+        var valuePlaceholder = PREPARED_STATEMENT_PLACEHOLDER + valueCast(value);
+        var builder = new StringBuilder();
+        path.forEach(item -> builder.append("jsonb_build_object(?::text, "));
+        builder.append(valuePlaceholder);
+        builder.append(String.join("", nCopies(path.size(), ")")));
+        return builder.toString();
+    }
+
+    private String valueCast(Object value) {
+        if (value instanceof Boolean) {
+            return "::boolean";
+        } else if (value instanceof Number) {
+            return "::numeric";
+        }
+        return "::text";
+    }
+
+    private boolean isScalar(Object value) {
+        return value instanceof String || value instanceof Number || value instanceof Boolean;
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PreparedStatementCacheTest {
+
+    private final Connection connection = mock(Connection.class);
+
+    @Test
+    void acquire_shouldPrepareEveryTimeAndClose_whenDisabled() throws SQLException {
+        var cache = new PreparedStatementCache(0);
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement);
+
+        try (var cached = cache.acquire(connection, "sql")) {
+            assertThat(cached.statement()).isSameAs(statement);
+        }
+        cache.acquire(connection, "sql").close();
+
+        verify(connection, times(2)).prepareStatement("sql");
+        verify(statement, times(2)).close();
+    }
+
+    @Test
+    void acquire_shouldReuseStatement() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement);
+
+        cache.acquire(connection, "sql").close();
+        try (var cached = cache.acquire(connection, "sql")) {
+            assertThat(cached.statement()).isSameAs(statement);
+        }
+
+        verify(connection).prepareStatement("sql");
+        verify(statement).clearParameters();
+        verify(statement, never()).close();
+    }
+
+    @Test
+    void acquire_shouldPrepareNewStatement_whenCachedOneIsInUse() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var statement = mock(PreparedStatement.class);
+        var other = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement, other);
+
+        try (var inUse = cache.acquire(connection, "sql")) {
+            try (var cached = cache.acquire(connection, "sql")) {
+                assertThat(cached.statement()).isSameAs(other);
+            }
+            assertThat(inUse.statement()).isSameAs(statement);
+        }
+
+        verify(other).close();
+        verify(statement, never()).close();
+    }
+
+    @Test
+    void acquire_shouldPrepareNewStatement_whenCachedOneIsClosed() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var statement = mock(PreparedStatement.class);
+        var other = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement, other);
+        when(statement.isClosed()).thenReturn(true);
+
+        cache.acquire(connection, "sql").close();
+        try (var cached = cache.acquire(connection, "sql")) {
+            assertThat(cached.statement()).isSameAs(other);
+        }
+    }
+
+    @Test
+    void acquire_shouldCloseEvictedStatement() throws SQLException {
+        var cache = new PreparedStatementCache(1);
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement);
+        when(connection.prepareStatement("other")).thenReturn(mock(PreparedStatement.class));
+
+        cache.acquire(connection, "sql").close();
+        cache.acquire(connection, "other").close();
+
+        verify(statement).close();
+    }
+
+    @Test
+    void acquire_shouldCloseEvictedStatementOnlyWhenReleased() throws SQLException {
+        var cache = new PreparedStatementCache(1);
+        var statement = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement);
+        when(connection.prepareStatement("other")).thenReturn(mock(PreparedStatement.class));
+
+        var inUse = cache.acquire(connection, "sql");
+        cache.acquire(connection, "other").close();
+        verify(statement, never()).close();
+
+        inUse.close();
+        verify(statement).close();
+    }
+
+    @Test
+    void acquire_shouldShareStatementsOfSamePhysicalConnection() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var physical = mock(Connection.class);
+        var statement = mock(PreparedStatement.class);
+        var wrapper = mock(Connection.class);
+        var otherWrapper = mock(Connection.class);
+        when(wrapper.isWrapperFor(Connection.class)).thenReturn(true);
+        when(wrapper.unwrap(Connection.class)).thenReturn(physical);
+        when(wrapper.prepareStatement("sql")).thenReturn(statement);
+        when(otherWrapper.isWrapperFor(Connection.class)).thenReturn(true);
+        when(otherWrapper.unwrap(Connection.class)).thenReturn(physical);
+
+        cache.acquire(wrapper, "sql").close();
+        try (var cached = cache.acquire(otherWrapper, "sql")) {
+            assertThat(cached.statement()).isSameAs(statement);
+        }
+
+        verify(otherWrapper, never()).prepareStatement(anyString());
+    }
+
+    @Test
+    void acquire_shouldDropStatementsOfConnection_whenConnectionIsFoundClosed() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var statement = mock(PreparedStatement.class);
+        var other = mock(PreparedStatement.class);
+        when(connection.prepareStatement("sql")).thenReturn(statement, other);
+
+        cache.acquire(connection, "sql").close();
+        when(statement.isClosed()).thenReturn(true);
+        when(connection.isClosed()).thenReturn(true);
+        try (var cached = cache.acquire(connection, "sql")) {
+            assertThat(cached.statement()).isSameAs(other);
+        }
+
+        assertThat(cache.connections()).isZero();
+        verify(other).close();
+    }
+
+    @Test
+    void acquire_shouldDropStatementsOfClosedConnections_whenNewConnectionIsCached() throws SQLException {
+        var cache = new PreparedStatementCache(10);
+        var newConnection = mock(Connection.class);
+        when(connection.prepareStatement("sql")).thenReturn(mock(PreparedStatement.class));
+        when(newConnection.prepareStatement("sql")).thenReturn(mock(PreparedStatement.class));
+
+        cache.acquire(connection, "sql").close();
+        when(connection.isClosed()).thenReturn(true);
+        cache.acquire(newConnection, "sql").close();
+
+        assertThat(cache.connections()).isEqualTo(1);
+    }
+}
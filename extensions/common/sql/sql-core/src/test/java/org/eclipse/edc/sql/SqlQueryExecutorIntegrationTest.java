@@ -105,6 +105,23 @@ public class SqlQueryExecutorIntegrationTest {
         assertThatThrownBy(() -> executor.execute(connection, "Lorem ipsum dolor sit amet")).isInstanceOf(EdcPersistenceException.class);
     }
 
+    @Test
+    void query_withStatementCache_shouldNotShareStatementOfOpenStream(Connection connection) {
+        var cachingExecutor = new SqlQueryExecutor(new SqlQueryExecutorConfiguration(5000, 10));
+        var first = insertRow(connection);
+        var second = insertRow(connection);
+        var sql = format("SELECT v FROM %s WHERE k = ?", table);
+        ResultSetMapper<String> mapper = rs -> rs.getString(1);
+
+        try (var outer = cachingExecutor.query(connection, false, mapper, sql, first.key)) {
+            var inner = cachingExecutor.single(connection, false, mapper, sql, second.key);
+
+            assertThat(inner).isEqualTo(second.value);
+            assertThat(outer).containsExactly(first.value);
+        }
+        assertThat(cachingExecutor.single(connection, false, mapper, sql, first.key)).isEqualTo(first.value);
+    }
+
     @NotNull
     private KeyValue insertRow(Connection connection) {
         var keyValue = new KeyValue(UUID.randomUUID().toString(), UUID.randomUUID().toString());
@@ -26,7 +26,6 @@ import java.math.BigDecimal;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
-import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.Date;
 import java.util.stream.Stream;
@@ -43,7 +42,7 @@ class SqlQueryExecutorTest {
     void setArgumentCorrectType(Object argument, MockitoPreparedStatementVerification verification) throws SQLException {
         var connection = Mockito.mock(Connection.class);
         var preparedStatement = Mockito.mock(PreparedStatement.class);
-        when(connection.prepareStatement(DUMMY_SQL, Statement.RETURN_GENERATED_KEYS)).thenReturn(preparedStatement);
+        when(connection.prepareStatement(DUMMY_SQL)).thenReturn(preparedStatement);
         when(preparedStatement.execute()).thenReturn(true);
 
         executor.execute(connection, DUMMY_SQL, argument);
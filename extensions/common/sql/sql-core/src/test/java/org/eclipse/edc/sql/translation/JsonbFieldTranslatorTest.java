@@ -0,0 +1,72 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.translation;
+
+import org.eclipse.edc.spi.types.PathItem;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+class JsonbFieldTranslatorTest {
+
+    private final JsonbFieldTranslator translator = new JsonbFieldTranslator("column_name");
+
+    @Test
+    void shouldTranslateEqualityToContainment() {
+        var operator = new SqlOperator("=", Object.class);
+        var criterion = criterion("json.nested.field", "=", "value");
+
+        var result = translator.toWhereClause(PathItem.parse("nested.field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name @> jsonb_build_object(?::text, jsonb_build_object(?::text, ?::text))");
+        assertThat(result.parameters()).containsExactly("nested", "field", "value");
+    }
+
+    @Test
+    void shouldCastValueByType() {
+        var operator = new SqlOperator("=", Object.class);
+
+        var number = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "=", 5), operator);
+        var bool = translator.toWhereClause(PathItem.parse("field"), criterion("json.field", "=", true), operator);
+
+        assertThat(number.sql()).isEqualTo("column_name @> jsonb_build_object(?::text, ?::numeric)");
+        assertThat(bool.sql()).isEqualTo("column_name @> jsonb_build_object(?::text, ?::boolean)");
+    }
+
+    @Test
+    void shouldTranslateInToContainmentDisjunction() {
+        var operator = new SqlOperator("in", Object.class);
+        var criterion = criterion("json.field", "in", List.of("a", "b"));
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("(column_name @> jsonb_build_object(?::text, ?::text) OR column_name @> jsonb_build_object(?::text, ?::text))");
+        assertThat(result.parameters()).containsExactly("field", "a", "field", "b");
+    }
+
+    @Test
+    void shouldFallbackToPathOperators_whenOperatorIsLike() {
+        var operator = new SqlOperator("like", String.class);
+        var criterion = criterion("json.field", "like", "val%");
+
+        var result = translator.toWhereClause(PathItem.parse("field"), criterion, operator);
+
+        assertThat(result.sql()).isEqualTo("column_name ->> 'field' like ?");
+        assertThat(result.parameters()).containsExactly("val%");
+    }
+}
@@ -17,6 +17,7 @@ package org.eclipse.edc.sql.lease;
 import org.eclipse.edc.sql.statement.SqlStatements;
 
 import static java.lang.String.format;
+import static java.util.Collections.nCopies;
 
 /**
  * Encapsulates statements and table/column names to manipulate lease entities.
@@ -30,6 +31,45 @@ public interface LeaseStatements extends SqlStatements {
 
     String getFindLeaseByEntityTemplate();
 
+    /**
+     * Statement that deletes the lease of an entity only if it is held by the given lease holder. Placeholders are the
+     * entity id and the lease holder.
+     *
+     * @return the statement.
+     */
+    String getReleaseLeaseTemplate();
+
+    /**
+     * Statement that deletes the expired leases of a set of entities. Placeholders are the {@code count} entity ids
+     * followed by the current timestamp.
+     *
+     * @param count the number of entity ids.
+     * @return the statement.
+     */
+    String getDeleteExpiredLeasesTemplate(int count);
+
+    /**
+     * Statement that assigns leases to a set of entities that are not currently leased and returns the ids of the
+     * entities that have been updated. Placeholders are {@code count} pairs of entity id and lease id.
+     *
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    String getUpdateLeasesTemplate(int count);
+
+    /**
+     * Statement that inserts {@code count} leases at once. Placeholders are, for every lease, the same as the ones of
+     * {@link #getInsertLeaseTemplate()}.
+     *
+     * @param count the number of leases.
+     * @return the statement.
+     */
+    default String getInsertLeasesTemplate(int count) {
+        return format("INSERT INTO %s (%s, %s, %s, %s) VALUES %s;", getLeaseTableName(),
+                getLeaseIdColumn(), getLeasedByColumn(), getLeasedAtColumn(), getLeaseDurationColumn(),
+                String.join(", ", nCopies(count, "(?, ?, ?, ?)")));
+    }
+
     default String getNotLeasedFilter() {
         return format("(%s IS NULL OR %s IN (SELECT %s FROM %s WHERE (? > (%s + %s))))",
                 getLeaseIdColumn(), getLeaseIdColumn(), getLeaseIdColumn(),
@@ -56,4 +96,46 @@ public interface LeaseStatements extends SqlStatements {
         return "lease_id";
     }
 
+    /**
+     * Utility that gives the statement to delete the expired leases of the entities stored in the passed table.
+     *
+     * @param entityTable the entity table name.
+     * @param entityIdColumn the entity id column name.
+     * @param count the number of entity ids.
+     * @return the statement.
+     */
+    default String deleteExpiredLeases(String entityTable, String entityIdColumn, int count) {
+        return format("DELETE FROM %s WHERE %s IN (SELECT %s FROM %s WHERE %s IN (%s)) AND (? > (%s + %s));",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), entityTable, entityIdColumn,
+                String.join(", ", nCopies(count, "?")), getLeasedAtColumn(), getLeaseDurationColumn());
+    }
+
+    /**
+     * Utility that gives the statement to delete the lease of an entity stored in the passed table, if held by the
+     * given lease holder.
+     *
+     * @param entityTable the entity table name.
+     * @param entityIdColumn the entity id column name.
+     * @return the statement.
+     */
+    default String releaseLease(String entityTable, String entityIdColumn) {
+        return format("DELETE FROM %s WHERE %s = (SELECT %s FROM %s WHERE %s = ?) AND %s = ?;",
+                getLeaseTableName(), getLeaseIdColumn(), getLeaseIdColumn(), entityTable, entityIdColumn,
+                getLeasedByColumn());
+    }
+
+    /**
+     * Utility that gives the statement to assign leases to the not leased entities stored in the passed table.
+     *
+     * @param entityTable the entity table name.
+     * @param entityIdColumn the entity id column name.
+     * @param count the number of entities.
+     * @return the statement.
+     */
+    default String updateLeases(String entityTable, String entityIdColumn, int count) {
+        return format("UPDATE %s SET %s = v.lease_id FROM (VALUES %s) AS v(entity_id, lease_id) WHERE %s = v.entity_id AND %s.%s IS NULL RETURNING %s;",
+                entityTable, getLeaseIdColumn(), String.join(", ", nCopies(count, "(?, ?)")),
+                entityIdColumn, entityTable, getLeaseIdColumn(), entityIdColumn);
+    }
+
 }
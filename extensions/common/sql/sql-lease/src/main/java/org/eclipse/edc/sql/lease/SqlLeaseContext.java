@@ -26,13 +26,21 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.time.Clock;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.toSet;
 
 /**
  * SQL-based implementation of the LeaseContext.
  * Acquiring a lease is implemented by adding an entry into the "lease" table in the database
  * Breaking a lease is implemented by deleting the respective entry
+ * Acquiring leases in bulk is implemented with a constant number of statements, regardless of the number of entities
  */
 public class SqlLeaseContext implements LeaseContext {
     private static final long DEFAULT_LEASE_DURATION = 60_000;
@@ -71,6 +79,13 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public void releaseLease(String entityId) {
+        trxContext.execute(() -> {
+            queryExecutor.execute(connection, statements.getReleaseLeaseTemplate(), entityId, leaseHolder);
+        });
+    }
+
     @Override
     public void acquireLease(String entityId) {
         trxContext.execute(() -> {
@@ -101,6 +116,47 @@ public class SqlLeaseContext implements LeaseContext {
         });
     }
 
+    @Override
+    public Set<String> acquireLeases(Collection<String> entityIds) {
+        var ids = new LinkedHashSet<>(entityIds);
+        if (ids.isEmpty()) {
+            return Set.of();
+        }
+
+        return trxContext.execute(() -> {
+            var now = clock.millis();
+            var duration = leaseDuration != null ? leaseDuration.toMillis() : DEFAULT_LEASE_DURATION;
+
+            //clean out old leases if present
+            var deleteArguments = Stream.concat(ids.stream(), Stream.of(now)).toArray();
+            queryExecutor.execute(connection, statements.getDeleteExpiredLeasesTemplate(ids.size()), deleteArguments);
+
+            // create new leases in DB
+            var leaseIds = new LinkedHashMap<String, String>();
+            ids.forEach(entityId -> leaseIds.put(entityId, UUID.randomUUID().toString()));
+            var insertArguments = leaseIds.values().stream()
+                    .flatMap(leaseId -> Stream.of(leaseId, leaseHolder, now, duration))
+                    .toArray();
+            queryExecutor.execute(connection, statements.getInsertLeasesTemplate(ids.size()), insertArguments);
+
+            //update not leased entities with lease -> effectively lease entities
+            var updateArguments = leaseIds.entrySet().stream()
+                    .flatMap(entry -> Stream.of(entry.getKey(), entry.getValue()))
+                    .toArray();
+            Set<String> leased;
+            try (var stream = queryExecutor.query(connection, false, resultSet -> resultSet.getString(1), statements.getUpdateLeasesTemplate(ids.size()), updateArguments)) {
+                leased = stream.collect(toSet());
+            }
+
+            // remove leases of entities that are leased by somebody else
+            leaseIds.entrySet().stream()
+                    .filter(entry -> !leased.contains(entry.getKey()))
+                    .forEach(entry -> queryExecutor.execute(connection, statements.getDeleteLeaseTemplate(), entry.getValue()));
+
+            return leased;
+        });
+    }
+
     /**
      * Fetches a lease for a particular entity
      *
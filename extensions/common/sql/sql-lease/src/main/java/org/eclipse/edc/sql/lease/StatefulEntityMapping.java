@@ -30,5 +30,6 @@ public class StatefulEntityMapping extends TranslationMapping {
         add("createdAt", statements.getCreatedAtColumn());
         add("traceContext", new JsonFieldTranslator(statements.getTraceContextColumn()));
         add("errorDetail", statements.getErrorDetailColumn());
+        add("nextEligibleAt", statements.getNextEligibleAtColumn());
     }
 }
@@ -45,4 +45,18 @@ public interface StatefulEntityStatements {
     default String getUpdatedAtColumn() {
         return "updated_at";
     }
+
+    default String getNextEligibleAtColumn() {
+        return "next_eligible_at";
+    }
+
+    /**
+     * Filter that excludes the entities that are waiting for the delay of a retry, to be used with the current time
+     * as parameter.
+     *
+     * @return the filter.
+     */
+    default String getEligibleFilter() {
+        return getNextEligibleAtColumn() + " <= ?";
+    }
 }
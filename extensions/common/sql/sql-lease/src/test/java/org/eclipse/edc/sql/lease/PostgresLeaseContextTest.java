@@ -36,6 +36,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 
 import static java.time.ZoneOffset.UTC;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -101,6 +102,27 @@ class PostgresLeaseContextTest {
         assertThatThrownBy(() -> leaseContext.breakLease(id)).isInstanceOf(IllegalStateException.class);
     }
 
+    @Test
+    void releaseLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        leaseContext.acquireLease("id1");
+
+        leaseContext.releaseLease("id1");
+
+        assertThat(isLeased("id1", connection)).isFalse();
+        assertThat(leaseContext.getLease("id1")).isNull();
+    }
+
+    @Test
+    void releaseLease_whenLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+
+        leaseContext.releaseLease("id1");
+
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo("someone-else");
+    }
+
     @Test
     void acquireLease(Connection connection) {
         var id = "test-id";
@@ -175,6 +197,58 @@ class PostgresLeaseContextTest {
         assertThat(newLease.getLeaseId()).isNotEqualTo(leaseId);
     }
 
+    @Test
+    void acquireLeases(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactlyInAnyOrder("id1", "id2");
+        assertThat(isLeased("id1", connection)).isTrue();
+        assertThat(isLeased("id2", connection)).isTrue();
+        assertThat(leaseContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeaseId).isNotEqualTo(leaseContext.getLease("id2").getLeaseId());
+        assertThat(leaseContext.getLease("id1")).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+    }
+
+    @Test
+    void acquireLeases_shouldSkipEntitiesLeasedByOther(Connection connection) {
+        insertTestEntity("id1", connection);
+        insertTestEntity("id2", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var otherLease = leaseContext.getLease("id1");
+
+        var leased = leaseContext.acquireLeases(List.of("id1", "id2"));
+
+        assertThat(leased).containsExactly("id2");
+        assertThat(leaseContext.getLease("id1")).usingRecursiveComparison().isEqualTo(otherLease);
+        assertThat(leaseContext.getLease("id2")).extracting(SqlLease::getLeasedBy).isEqualTo(LEASE_HOLDER);
+        assertThat(countLeases(connection)).isEqualTo(2);
+    }
+
+    @Test
+    void acquireLeases_whenExpiredLeasePresent_shouldDeleteOldLeaseAndAcquireNewLease(Connection connection) {
+        insertTestEntity("id1", connection);
+        builder.by("someone-else").withConnection(connection).acquireLease("id1");
+        var oldLease = leaseContext.getLease("id1");
+
+        var twoMinutesAheadClock = Clock.offset(Clock.fixed(now, UTC), Duration.of(2, ChronoUnit.MINUTES));
+        var twoMinutesAheadContext = SqlLeaseContextBuilder.with(transactionContext, LEASE_HOLDER, dialect, twoMinutesAheadClock, queryExecutor)
+                .withConnection(connection);
+        var leased = twoMinutesAheadContext.acquireLeases(List.of("id1"));
+
+        assertThat(leased).containsExactly("id1");
+        assertThat(twoMinutesAheadContext.getLease("id1")).isNotNull()
+                .extracting(SqlLease::getLeaseId).isNotEqualTo(oldLease.getLeaseId());
+        assertThat(countLeases(connection)).isEqualTo(1);
+    }
+
+    @Test
+    void acquireLeases_whenEmpty() {
+        assertThat(leaseContext.acquireLeases(List.of())).isEmpty();
+    }
+
     protected boolean isLeased(String entityId, Connection connection) {
         return transactionContext.execute(() -> {
             var entity = getTestEntity(entityId, connection);
@@ -199,6 +273,10 @@ class PostgresLeaseContextTest {
         });
     }
 
+    private long countLeases(Connection connection) {
+        return queryExecutor.single(connection, false, rs -> rs.getLong(1), "SELECT COUNT(*) FROM " + dialect.getLeaseTableName());
+    }
+
     private ResultSetMapper<TestEntity> map() {
         return (rs) -> new TestEntity(rs.getString("id"), rs.getString("lease_id"));
     }
@@ -232,6 +310,21 @@ class PostgresLeaseContextTest {
             return "SELECT * FROM edc_lease WHERE lease_id = (SELECT lease_id FROM " + getEntityTableName() + " WHERE id=?)";
         }
 
+        @Override
+        public String getDeleteExpiredLeasesTemplate(int count) {
+            return deleteExpiredLeases(getEntityTableName(), "id", count);
+        }
+
+        @Override
+        public String getUpdateLeasesTemplate(int count) {
+            return updateLeases(getEntityTableName(), "id", count);
+        }
+
+        @Override
+        public String getReleaseLeaseTemplate() {
+            return releaseLease(getEntityTableName(), "id");
+        }
+
         public String getEntityTableName() {
             return "edc_test_entity";
         }
@@ -0,0 +1,31 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial build file
+ *
+ */
+
+plugins {
+    `java-library`
+    `maven-publish`
+}
+
+dependencies {
+    api(project(":spi:common:core-spi"))
+
+    implementation(project(":spi:common:transaction-datasource-spi"))
+    implementation(libs.postgres)
+
+    testImplementation(project(":core:common:junit"))
+    testImplementation(libs.awaitility)
+    testImplementation(testFixtures(project(":extensions:common:sql:sql-core")))
+}
+
+
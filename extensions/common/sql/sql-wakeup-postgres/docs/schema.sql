@@ -0,0 +1,54 @@
+-- Notifies the state machines through the 'edc_state_change' channel (see the "edc.sql.wakeup.channel" setting)
+-- every time an entity is created or its state gets changed. The payload of the notification is the entity type passed
+-- as trigger argument, so that only the state machine of that entity type gets woken up.
+-- Postgres delivers the notification only after the transaction commits and collapses identical notifications
+-- raised in the same transaction.
+-- The triggers are dropped and created again, so the script can be applied on any Postgres version to upgrade them.
+CREATE OR REPLACE FUNCTION edc_notify_state_change() RETURNS TRIGGER AS
+$$
+BEGIN
+    PERFORM pg_notify('edc_state_change', TG_ARGV[0]);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- create the triggers only for the tables used in the runtime
+DROP TRIGGER IF EXISTS edc_transfer_process_state_change ON edc_transfer_process;
+CREATE TRIGGER edc_transfer_process_state_change
+    AFTER UPDATE OF state ON edc_transfer_process
+    FOR EACH ROW WHEN (OLD.state IS DISTINCT FROM NEW.state) EXECUTE FUNCTION edc_notify_state_change('transfer-process');
+
+DROP TRIGGER IF EXISTS edc_transfer_process_insert ON edc_transfer_process;
+CREATE TRIGGER edc_transfer_process_insert
+    AFTER INSERT ON edc_transfer_process
+    FOR EACH ROW EXECUTE FUNCTION edc_notify_state_change('transfer-process');
+
+DROP TRIGGER IF EXISTS edc_contract_negotiation_state_change ON edc_contract_negotiation;
+CREATE TRIGGER edc_contract_negotiation_state_change
+    AFTER UPDATE OF state ON edc_contract_negotiation
+    FOR EACH ROW WHEN (OLD.state IS DISTINCT FROM NEW.state) EXECUTE FUNCTION edc_notify_state_change('contract-negotiation');
+
+DROP TRIGGER IF EXISTS edc_contract_negotiation_insert ON edc_contract_negotiation;
+CREATE TRIGGER edc_contract_negotiation_insert
+    AFTER INSERT ON edc_contract_negotiation
+    FOR EACH ROW EXECUTE FUNCTION edc_notify_state_change('contract-negotiation');
+
+DROP TRIGGER IF EXISTS edc_data_plane_state_change ON edc_data_plane;
+CREATE TRIGGER edc_data_plane_state_change
+    AFTER UPDATE OF state ON edc_data_plane
+    FOR EACH ROW WHEN (OLD.state IS DISTINCT FROM NEW.state) EXECUTE FUNCTION edc_notify_state_change('data-flow');
+
+DROP TRIGGER IF EXISTS edc_data_plane_insert ON edc_data_plane;
+CREATE TRIGGER edc_data_plane_insert
+    AFTER INSERT ON edc_data_plane
+    FOR EACH ROW EXECUTE FUNCTION edc_notify_state_change('data-flow');
+
+DROP TRIGGER IF EXISTS edc_policy_monitor_state_change ON edc_policy_monitor;
+CREATE TRIGGER edc_policy_monitor_state_change
+    AFTER UPDATE OF state ON edc_policy_monitor
+    FOR EACH ROW WHEN (OLD.state IS DISTINCT FROM NEW.state) EXECUTE FUNCTION edc_notify_state_change('policy-monitor');
+
+DROP TRIGGER IF EXISTS edc_policy_monitor_insert ON edc_policy_monitor;
+CREATE TRIGGER edc_policy_monitor_insert
+    AFTER INSERT ON edc_policy_monitor
+    FOR EACH ROW EXECUTE FUNCTION edc_notify_state_change('policy-monitor');
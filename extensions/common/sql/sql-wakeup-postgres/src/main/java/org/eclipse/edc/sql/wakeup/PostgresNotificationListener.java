@@ -0,0 +1,109 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.wakeup;
+
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import static java.lang.String.format;
+
+/**
+ * Listens on a Postgres notification channel through a dedicated connection and raises the
+ * {@link StateMachineWakeUpSignal} every time notifications are received, for the topic carried as notification payload
+ * (e.g. the entity type), or for all topics when a notification has no payload.
+ * Notifications are delivered by Postgres only after the notifying transaction commits, so the woken up state machines
+ * will always see the changed entities. If the connection fails, it will be re-established after the poll timeout.
+ */
+public class PostgresNotificationListener implements Runnable {
+
+    private final Supplier<DataSource> dataSourceSupplier;
+    private final String channel;
+    private final int pollTimeoutMillis;
+    private final StateMachineWakeUpSignal wakeUpSignal;
+    private final Monitor monitor;
+    private final AtomicBoolean active = new AtomicBoolean(true);
+
+    public PostgresNotificationListener(Supplier<DataSource> dataSourceSupplier, String channel, int pollTimeoutMillis,
+                                        StateMachineWakeUpSignal wakeUpSignal, Monitor monitor) {
+        this.dataSourceSupplier = dataSourceSupplier;
+        this.channel = channel;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.wakeUpSignal = wakeUpSignal;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public void run() {
+        while (active.get()) {
+            try {
+                listen();
+            } catch (SQLException e) {
+                monitor.warning(format("Postgres notification listener on channel %s failed, will reconnect", channel), e);
+                pause();
+            }
+        }
+    }
+
+    /**
+     * Stop listening, the connection will be closed within the poll timeout.
+     */
+    public void stop() {
+        active.set(false);
+    }
+
+    private void listen() throws SQLException {
+        try (var connection = dataSourceSupplier.get().getConnection()) {
+            connection.setAutoCommit(true);
+            try (var statement = connection.createStatement()) {
+                statement.execute("LISTEN " + channel);
+            }
+            var pgConnection = connection.unwrap(PGConnection.class);
+            monitor.debug(() -> "Listening for Postgres notifications on channel " + channel);
+            while (active.get()) {
+                var notifications = pgConnection.getNotifications(pollTimeoutMillis);
+                if (notifications != null && notifications.length > 0) {
+                    raise(notifications);
+                }
+            }
+        }
+    }
+
+    private void raise(PGNotification[] notifications) {
+        var topics = Arrays.stream(notifications).map(PGNotification::getParameter).collect(Collectors.toSet());
+        if (topics.stream().anyMatch(topic -> topic == null || topic.isBlank())) {
+            wakeUpSignal.raise();
+        } else {
+            topics.forEach(wakeUpSignal::raise);
+        }
+    }
+
+    private void pause() {
+        try {
+            Thread.sleep(pollTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            active.set(false);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.wakeup;
+
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+
+import java.util.regex.Pattern;
+
+import static java.lang.String.format;
+import static org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry.DEFAULT_DATASOURCE;
+
+/**
+ * Bridges Postgres LISTEN/NOTIFY to the {@link StateMachineWakeUpSignal}, so state machines on every replica get
+ * woken up when entities are changed. The notifications are raised by the triggers defined in docs/schema.sql.
+ */
+@Extension(value = PostgresWakeUpExtension.NAME)
+public class PostgresWakeUpExtension implements ServiceExtension {
+
+    public static final String NAME = "Postgres State Machine Wake Up";
+
+    public static final String DEFAULT_CHANNEL = "edc_state_change";
+    public static final int DEFAULT_POLL_TIMEOUT = 1000;
+
+    @Setting(value = "Name of the datasource used to listen for notifications", defaultValue = DEFAULT_DATASOURCE)
+    public static final String DATASOURCE_SETTING_NAME = "edc.sql.wakeup.datasource.name";
+
+    @Setting(value = "Name of the Postgres notification channel", defaultValue = DEFAULT_CHANNEL)
+    public static final String CHANNEL_SETTING_NAME = "edc.sql.wakeup.channel";
+
+    @Setting(value = "Timeout in milliseconds for a single wait for notifications", defaultValue = DEFAULT_POLL_TIMEOUT + "", type = "int")
+    public static final String POLL_TIMEOUT_SETTING_NAME = "edc.sql.wakeup.poll-timeout";
+
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-zA-Z_][a-zA-Z0-9_]*");
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private StateMachineWakeUpSignal wakeUpSignal;
+
+    private PostgresNotificationListener listener;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        var dataSourceName = context.getSetting(DATASOURCE_SETTING_NAME, DEFAULT_DATASOURCE);
+        var channel = context.getSetting(CHANNEL_SETTING_NAME, DEFAULT_CHANNEL);
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new EdcException(format("Invalid value for %s: %s is not a valid channel name", CHANNEL_SETTING_NAME, channel));
+        }
+        var pollTimeout = context.getSetting(POLL_TIMEOUT_SETTING_NAME, DEFAULT_POLL_TIMEOUT);
+
+        listener = new PostgresNotificationListener(() -> dataSourceRegistry.resolve(dataSourceName), channel, pollTimeout,
+                wakeUpSignal, context.getMonitor());
+    }
+
+    @Override
+    public void start() {
+        var thread = new Thread(listener, "PostgresNotificationListener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void shutdown() {
+        listener.stop();
+    }
+}
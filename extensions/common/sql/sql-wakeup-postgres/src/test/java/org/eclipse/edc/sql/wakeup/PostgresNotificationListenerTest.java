@@ -0,0 +1,111 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.sql.wakeup;
+
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.entity.StateMachineWakeUpSignal;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class PostgresNotificationListenerTest {
+
+    private static final List<String> ENTITY_TABLES = List.of("edc_transfer_process", "edc_contract_negotiation", "edc_data_plane", "edc_policy_monitor");
+    private final StateMachineWakeUpSignal wakeUpSignal = mock();
+    private PostgresNotificationListener listener;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension setupExtension) {
+        listener = new PostgresNotificationListener(() -> setupExtension.getDataSourceRegistry().resolve(setupExtension.getDatasourceName()),
+                "edc_state_change", 100, wakeUpSignal, mock(Monitor.class));
+        Executors.newSingleThreadExecutor().submit(listener);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension setupExtension) {
+        listener.stop();
+        ENTITY_TABLES.forEach(table -> setupExtension.runQuery("DROP TABLE IF EXISTS " + table));
+    }
+
+    @Test
+    void shouldRaiseSignal_whenNotificationIsReceived(PostgresqlStoreSetupExtension setupExtension) {
+        await().untilAsserted(() -> {
+            setupExtension.runQuery("NOTIFY edc_state_change");
+
+            verify(wakeUpSignal, atLeastOnce()).raise();
+        });
+    }
+
+    @Test
+    void shouldRaiseSignalForTopic_whenNotificationHasPayload(PostgresqlStoreSetupExtension setupExtension) {
+        await().untilAsserted(() -> {
+            setupExtension.runQuery("NOTIFY edc_state_change, 'transfer-process'");
+
+            verify(wakeUpSignal, atLeastOnce()).raise("transfer-process");
+        });
+        verify(wakeUpSignal, never()).raise();
+    }
+
+    @Test
+    void shouldRaiseSignal_whenEntityStateChanges(PostgresqlStoreSetupExtension setupExtension) throws IOException {
+        setupExtension.runQuery("CREATE TABLE edc_transfer_process (id VARCHAR PRIMARY KEY, state INTEGER NOT NULL)");
+        setupExtension.runQuery(transferProcessTriggers());
+        setupExtension.runQuery("INSERT INTO edc_transfer_process (id, state) VALUES ('id', 100)");
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(wakeUpSignal).raise("transfer-process"));
+
+        setupExtension.runQuery("UPDATE edc_transfer_process SET state = 200 WHERE id = 'id'");
+
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(wakeUpSignal, times(2)).raise("transfer-process"));
+    }
+
+    @Test
+    void shouldNotRaiseSignal_whenEntityIsUpdatedWithoutStateChange(PostgresqlStoreSetupExtension setupExtension) throws IOException {
+        setupExtension.runQuery("CREATE TABLE edc_transfer_process (id VARCHAR PRIMARY KEY, state INTEGER NOT NULL)");
+        setupExtension.runQuery(transferProcessTriggers());
+        setupExtension.runQuery("INSERT INTO edc_transfer_process (id, state) VALUES ('id', 100)");
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(wakeUpSignal).raise("transfer-process"));
+
+        setupExtension.runQuery("UPDATE edc_transfer_process SET state = 100 WHERE id = 'id'");
+        setupExtension.runQuery("NOTIFY edc_state_change, 'marker'");
+
+        await().atMost(5, SECONDS).untilAsserted(() -> verify(wakeUpSignal).raise("marker"));
+        verify(wakeUpSignal).raise("transfer-process");
+    }
+
+    private String transferProcessTriggers() throws IOException {
+        var schema = Files.readString(Paths.get("docs/schema.sql"));
+        return schema.lines().takeWhile(line -> !line.contains("edc_contract_negotiation")).collect(Collectors.joining("\n"));
+    }
+}
@@ -51,6 +51,16 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         transaction.registerSynchronization(sync);
     }
 
+    @Override
+    public void afterCommit(Runnable action) {
+        var transaction = transactions.get();
+        if (transaction == null) {
+            action.run();
+        } else {
+            transaction.registerAfterCommit(action);
+        }
+    }
+
     @Override
     public void execute(TransactionBlock block) {
         execute((ResultTransactionBlock<Void>) () -> {
@@ -101,6 +111,9 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
                     });
                 }
                 transactions.remove();
+                if (!transaction.isRollbackOnly()) {
+                    transaction.getAfterCommitActions().forEach(this::runAfterCommit);
+                }
             }
         }
     }
@@ -110,10 +123,19 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
         resources.add(resource);
     }
 
+    private void runAfterCommit(Runnable action) {
+        try {
+            action.run();
+        } catch (Exception e) {
+            monitor.severe("Error executing after commit action", e);
+        }
+    }
+
 
     private static class Transaction {
         private boolean rollbackOnly = false;
         private List<TransactionSynchronization> synchronizations;  // lazy instantiate the collection to avoid object creation if not needed
+        private List<Runnable> afterCommitActions;
 
         boolean isRollbackOnly() {
             return rollbackOnly;
@@ -127,6 +149,17 @@ public class LocalTransactionContext implements TransactionContext, LocalTransac
             return synchronizations == null ? emptyList() : synchronizations;
         }
 
+        List<Runnable> getAfterCommitActions() {
+            return afterCommitActions == null ? emptyList() : afterCommitActions;
+        }
+
+        void registerAfterCommit(Runnable action) {
+            if (afterCommitActions == null) {
+                afterCommitActions = new ArrayList<>();
+            }
+            afterCommitActions.add(action);
+        }
+
         void registerSynchronization(TransactionSynchronization sync) {
             if (synchronizations == null) {
                 synchronizations = new ArrayList<>();
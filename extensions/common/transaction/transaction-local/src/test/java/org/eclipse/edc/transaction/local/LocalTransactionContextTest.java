@@ -24,7 +24,9 @@ import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -154,6 +156,41 @@ class LocalTransactionContextTest {
         verify(sync, times(1)).beforeCompletion();
     }
 
+    @Test
+    void verifyAfterCommit() {
+        var action = mock(Runnable.class);
+
+        transactionContext.execute(() -> {
+            transactionContext.afterCommit(action);
+            verify(action, never()).run();
+        });
+
+        var inOrder = inOrder(dsResource, action);
+        inOrder.verify(dsResource).commit();
+        inOrder.verify(action).run();
+    }
+
+    @Test
+    void verifyAfterCommit_notExecutedOnRollback() {
+        var action = mock(Runnable.class);
+
+        assertThrows(EdcException.class, () -> transactionContext.execute(() -> {
+            transactionContext.afterCommit(action);
+            throw new RuntimeException();
+        }));
+
+        verify(action, never()).run();
+    }
+
+    @Test
+    void verifyAfterCommit_executedImmediatelyWithoutTransaction() {
+        var action = mock(Runnable.class);
+
+        transactionContext.afterCommit(action);
+
+        verify(action).run();
+    }
+
     @BeforeEach
     void setUp() {
         transactionContext = new LocalTransactionContext(mock(Monitor.class));
@@ -5,6 +5,8 @@ plugins {
 dependencies {
     api(project(":spi:common:core-spi"))
     api(project(":spi:control-plane:control-plane-spi"))
+    implementation(project(":spi:common:transaction-spi"))
+    implementation(project(":core:common:state-machine"))
 
     testImplementation(project(":core:common:junit"))
 }
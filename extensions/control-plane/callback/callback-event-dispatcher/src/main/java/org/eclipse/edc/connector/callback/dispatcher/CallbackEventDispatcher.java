@@ -14,9 +14,13 @@
 
 package org.eclipse.edc.connector.callback.dispatcher;
 
+import org.eclipse.edc.connector.callback.dispatcher.outbox.CallbackOutboxSender;
+import org.eclipse.edc.connector.contract.spi.event.contractnegotiation.ContractNegotiationEvent;
 import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
 import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessEvent;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventEnvelope;
@@ -24,6 +28,7 @@ import org.eclipse.edc.spi.event.EventSubscriber;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.jetbrains.annotations.Nullable;
 
 import java.net.URI;
 import java.util.List;
@@ -35,7 +40,9 @@ import static java.lang.String.format;
 /**
  * Subscriber for invoking callbacks associated to {@link Event}. If the {@link CallbackAddress#getEvents()} matches
  * the {@link Event#name()}, the callback is the invoked using a {@link RemoteMessageDispatcherRegistry} with protocol
- * extracted by {@link CallbackAddress#getUri()}
+ * extracted by {@link CallbackAddress#getUri()}.
+ * When a {@link CallbackOutboxSender} is set, callbacks are not invoked directly but stored for background delivery,
+ * in order for every process and callback address.
  */
 public class CallbackEventDispatcher implements EventSubscriber {
     private final RemoteMessageDispatcherRegistry dispatcher;
@@ -43,13 +50,19 @@ public class CallbackEventDispatcher implements EventSubscriber {
     private final Monitor monitor;
     private final CallbackRegistry callbackRegistry;
     private final CallbackProtocolResolverRegistry resolverRegistry;
+    private final CallbackOutboxSender outbox;
 
     public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor) {
+        this(dispatcher, callbackRegistry, resolveRegistry, transactional, monitor, null);
+    }
+
+    public CallbackEventDispatcher(RemoteMessageDispatcherRegistry dispatcher, CallbackRegistry callbackRegistry, CallbackProtocolResolverRegistry resolveRegistry, boolean transactional, Monitor monitor, @Nullable CallbackOutboxSender outbox) {
         this.dispatcher = dispatcher;
         this.callbackRegistry = callbackRegistry;
         this.transactional = transactional;
         this.resolverRegistry = resolveRegistry;
         this.monitor = monitor;
+        this.outbox = outbox;
     }
 
     @Override
@@ -61,10 +74,12 @@ public class CallbackEventDispatcher implements EventSubscriber {
             if (matches(eventName, callback)) {
                 try {
                     var protocol = resolverRegistry.resolve(URI.create(callback.getUri()).getScheme());
-                    if (protocol != null) {
-                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
-                    } else {
+                    if (protocol == null) {
                         monitor.warning(format("Failed to resolve protocol for URI %s", callback.getUri()));
+                    } else if (outbox != null) {
+                        outbox.enqueue(outboxEntry(callback, eventEnvelope, protocol));
+                    } else {
+                        dispatcher.dispatch(Object.class, new CallbackEventRemoteMessage<>(callback, eventEnvelope, protocol)).get();
                     }
                 } catch (Exception e) {
                     monitor.severe(format("Failed to invoke callback at URI: %s", callback.getUri()), e);
@@ -89,6 +104,30 @@ public class CallbackEventDispatcher implements EventSubscriber {
                 .collect(Collectors.toList());
     }
 
+    private <E extends Event> CallbackOutboxEntry outboxEntry(CallbackAddress callback, EventEnvelope<E> eventEnvelope, String protocol) {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .orderingKey(orderingKey(eventEnvelope.getPayload(), callback))
+                .callbackAddress(callback)
+                .envelope(eventEnvelope)
+                .protocol(protocol)
+                .build();
+    }
+
+    /**
+     * Callbacks for events of the same process are delivered in order to every callback address, so a slow callback
+     * address doesn't hold the others. Callbacks for other events are not ordered.
+     */
+    @Nullable
+    private String orderingKey(Event event, CallbackAddress callback) {
+        String processId = null;
+        if (event instanceof TransferProcessEvent transferProcessEvent) {
+            processId = transferProcessEvent.getTransferProcessId();
+        } else if (event instanceof ContractNegotiationEvent contractNegotiationEvent) {
+            processId = contractNegotiationEvent.getContractNegotiationId();
+        }
+        return processId == null ? null : processId + "|" + callback.getUri();
+    }
+
     private boolean matches(String eventName, CallbackAddress callbackAddress) {
         return callbackAddress.getEvents().stream().anyMatch(eventName::startsWith);
     }
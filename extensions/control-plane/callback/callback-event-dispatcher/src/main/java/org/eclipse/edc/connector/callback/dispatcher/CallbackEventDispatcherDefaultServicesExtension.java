@@ -0,0 +1,46 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher;
+
+import org.eclipse.edc.connector.callback.dispatcher.outbox.InMemoryCallbackOutboxStore;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import static org.eclipse.edc.connector.callback.dispatcher.CallbackEventDispatcherDefaultServicesExtension.NAME;
+
+@Extension(value = NAME)
+public class CallbackEventDispatcherDefaultServicesExtension implements ServiceExtension {
+
+    public static final String NAME = "Callback dispatcher Default Services";
+
+    private static final int DEFAULT_OUTBOX_MEMORY_CAPACITY = 10000;
+
+    @Setting(value = "The maximum number of callbacks waiting for delivery in the in-memory callback outbox", type = "int", defaultValue = DEFAULT_OUTBOX_MEMORY_CAPACITY + "")
+    private static final String OUTBOX_MEMORY_CAPACITY = "edc.callback.outbox.memory.capacity";
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public CallbackOutboxStore callbackOutboxStore(ServiceExtensionContext context) {
+        return new InMemoryCallbackOutboxStore(context.getSetting(OUTBOX_MEMORY_CAPACITY, DEFAULT_OUTBOX_MEMORY_CAPACITY));
+    }
+}
@@ -15,17 +15,25 @@
 package org.eclipse.edc.connector.callback.dispatcher;
 
 import org.eclipse.edc.connector.callback.CallbackProtocolResolverRegistryImpl;
+import org.eclipse.edc.connector.callback.dispatcher.outbox.CallbackOutboxSender;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
 import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
 import org.eclipse.edc.runtime.metamodel.annotation.Provides;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.event.Event;
 import org.eclipse.edc.spi.event.EventRouter;
 import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.retry.ExponentialWaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
 
 @Provides(CallbackProtocolResolverRegistry.class)
 @Extension(value = CallbackEventDispatcherExtension.NAME)
@@ -33,6 +41,41 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
 
     public static final String NAME = "Callback dispatcher extension";
 
+    private static final boolean DEFAULT_OUTBOX_ENABLED = false;
+    private static final long DEFAULT_OUTBOX_ITERATION_WAIT = 1000L;
+    private static final int DEFAULT_OUTBOX_BATCH_SIZE = 20;
+    private static final int DEFAULT_OUTBOX_ENDPOINT_MAX_INFLIGHT = 5;
+    private static final int DEFAULT_OUTBOX_RETRY_LIMIT = -1;
+    private static final long DEFAULT_OUTBOX_RETRY_BASE_DELAY = 1000L;
+    private static final long DEFAULT_OUTBOX_RETRY_MAX_DELAY = 60000L;
+    private static final long DEFAULT_OUTBOX_LEASE = 60000L;
+
+    @Setting(value = "If true, callbacks are stored in the callback outbox and delivered in background instead of being invoked while handling the event. " +
+            "Transactional callbacks are stored only if the outbox store takes part in the transaction", type = "boolean", defaultValue = DEFAULT_OUTBOX_ENABLED + "")
+    private static final String OUTBOX_ENABLED = "edc.callback.outbox.enabled";
+
+    @Setting(value = "The time in milliseconds the callback outbox waits before looking again for callbacks to deliver, when none was found", type = "long", defaultValue = DEFAULT_OUTBOX_ITERATION_WAIT + "")
+    private static final String OUTBOX_ITERATION_WAIT_MILLIS = "edc.callback.outbox.iteration-wait-millis";
+
+    @Setting(value = "The number of callbacks fetched from the outbox at every iteration", type = "int", defaultValue = DEFAULT_OUTBOX_BATCH_SIZE + "")
+    private static final String OUTBOX_BATCH_SIZE = "edc.callback.outbox.batch-size";
+
+    @Setting(value = "The maximum number of concurrent callback deliveries to the same endpoint", type = "int", defaultValue = DEFAULT_OUTBOX_ENDPOINT_MAX_INFLIGHT + "")
+    private static final String OUTBOX_ENDPOINT_MAX_INFLIGHT = "edc.callback.outbox.endpoint.max-inflight";
+
+    @Setting(value = "The number of times a failed callback delivery is retried before being dropped, -1 retries without limit", type = "int", defaultValue = DEFAULT_OUTBOX_RETRY_LIMIT + "")
+    private static final String OUTBOX_RETRY_LIMIT = "edc.callback.outbox.retry.limit";
+
+    @Setting(value = "The delay in milliseconds before the first retry of a failed callback delivery, doubled at every further retry", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_BASE_DELAY + "")
+    private static final String OUTBOX_RETRY_BASE_DELAY_MILLIS = "edc.callback.outbox.retry.base-delay-millis";
+
+    @Setting(value = "The maximum delay in milliseconds between two attempts of a failed callback delivery", type = "long", defaultValue = DEFAULT_OUTBOX_RETRY_MAX_DELAY + "")
+    private static final String OUTBOX_RETRY_MAX_DELAY_MILLIS = "edc.callback.outbox.retry.max-delay-millis";
+
+    @Setting(value = "The time in milliseconds a callback fetched from the outbox is reserved for delivery by this connector instance, it should exceed the callback timeout",
+            type = "long", defaultValue = DEFAULT_OUTBOX_LEASE + "")
+    private static final String OUTBOX_LEASE_MILLIS = "edc.callback.outbox.lease-millis";
+
     @Inject
     RemoteMessageDispatcherRegistry dispatcherRegistry;
 
@@ -45,6 +88,20 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
     @Inject
     CallbackRegistry callbackRegistry;
 
+    @Inject
+    CallbackOutboxStore outboxStore;
+
+    @Inject
+    ExecutorInstrumentation executorInstrumentation;
+
+    @Inject
+    TransactionContext transactionContext;
+
+    @Inject
+    Clock clock;
+
+    private CallbackOutboxSender outbox;
+
     @Override
     public String name() {
         return NAME;
@@ -56,9 +113,44 @@ public class CallbackEventDispatcherExtension implements ServiceExtension {
         var resolverRegistry = new CallbackProtocolResolverRegistryImpl();
         context.registerService(CallbackProtocolResolverRegistry.class, resolverRegistry);
 
-        // Event listener for invoking callbacks in sync (transactional) and async (not transactional)
-        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor));
-        router.register(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor));
+        if (context.getSetting(OUTBOX_ENABLED, DEFAULT_OUTBOX_ENABLED)) {
+            outbox = CallbackOutboxSender.Builder.newInstance()
+                    .store(outboxStore)
+                    .dispatcherRegistry(dispatcherRegistry)
+                    .monitor(monitor)
+                    .transactionContext(transactionContext)
+                    .clock(clock)
+                    .executorInstrumentation(executorInstrumentation)
+                    .waitStrategy(new ExponentialWaitStrategy(context.getSetting(OUTBOX_ITERATION_WAIT_MILLIS, DEFAULT_OUTBOX_ITERATION_WAIT)))
+                    .batchSize(context.getSetting(OUTBOX_BATCH_SIZE, DEFAULT_OUTBOX_BATCH_SIZE))
+                    .maxInFlightPerEndpoint(context.getSetting(OUTBOX_ENDPOINT_MAX_INFLIGHT, DEFAULT_OUTBOX_ENDPOINT_MAX_INFLIGHT))
+                    .retryLimit(context.getSetting(OUTBOX_RETRY_LIMIT, DEFAULT_OUTBOX_RETRY_LIMIT))
+                    .retryBaseDelayMillis(context.getSetting(OUTBOX_RETRY_BASE_DELAY_MILLIS, DEFAULT_OUTBOX_RETRY_BASE_DELAY))
+                    .retryMaxDelayMillis(context.getSetting(OUTBOX_RETRY_MAX_DELAY_MILLIS, DEFAULT_OUTBOX_RETRY_MAX_DELAY))
+                    .leaseMillis(context.getSetting(OUTBOX_LEASE_MILLIS, DEFAULT_OUTBOX_LEASE))
+                    .build();
+        }
+
+        // Event listener for invoking callbacks in sync (transactional) and async (not transactional). Transactional
+        // callbacks go to the outbox only if it's stored with the transition, otherwise they are invoked directly so
+        // that a failed invocation makes the transition fail
+        var transactionalOutbox = outboxStore.isTransactional() ? outbox : null;
+        router.registerSync(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, true, monitor, transactionalOutbox));
+        router.registerLossless(Event.class, new CallbackEventDispatcher(dispatcherRegistry, callbackRegistry, resolverRegistry, false, monitor, outbox));
 
     }
+
+    @Override
+    public void start() {
+        if (outbox != null) {
+            outbox.start();
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (outbox != null) {
+            outbox.stop();
+        }
+    }
 }
@@ -0,0 +1,261 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher.outbox;
+
+import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.retry.WaitStrategy;
+import org.eclipse.edc.spi.system.ExecutorInstrumentation;
+import org.eclipse.edc.statemachine.StateMachineManager;
+import org.eclipse.edc.transaction.spi.NoopTransactionContext;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+
+import static java.lang.String.format;
+
+/**
+ * Delivers the callbacks stored in the {@link CallbackOutboxStore} in background, so that slow callback endpoints don't
+ * hold the state machines nor the event router threads:
+ * <ul>
+ *     <li>due entries are leased in batches and dispatched asynchronously, so that connector instances sharing the
+ *     store don't deliver the same entry concurrently</li>
+ *     <li>entries with the same ordering key are delivered one at a time, in order</li>
+ *     <li>the number of concurrent deliveries to the same endpoint (scheme, host and port) is limited</li>
+ *     <li>failed deliveries are retried with an exponential delay, up to a maximum delay, without limit unless a retry
+ *     limit is set</li>
+ * </ul>
+ */
+public class CallbackOutboxSender {
+
+    private final Set<String> inFlightKeys = ConcurrentHashMap.newKeySet();
+    private final Map<String, Semaphore> endpointPermits = new ConcurrentHashMap<>();
+    private CallbackOutboxStore store;
+    private RemoteMessageDispatcherRegistry dispatcherRegistry;
+    private Monitor monitor;
+    private TransactionContext transactionContext = new NoopTransactionContext();
+    private Clock clock = Clock.systemUTC();
+    private ExecutorInstrumentation executorInstrumentation = ExecutorInstrumentation.noop();
+    private WaitStrategy waitStrategy = () -> 1000L;
+    private int batchSize = 20;
+    private int maxInFlightPerEndpoint = 5;
+    private int retryLimit = -1;
+    private long retryBaseDelayMillis = 1000L;
+    private long retryMaxDelayMillis = 60000L;
+    private long leaseMillis = 60000L;
+    private StateMachineManager stateMachineManager;
+
+    private CallbackOutboxSender() {
+    }
+
+    public void start() {
+        stateMachineManager = StateMachineManager.Builder.newInstance("callback-outbox", monitor, executorInstrumentation, waitStrategy)
+                .processor(this::sendDueEntries)
+                .build();
+        stateMachineManager.start();
+    }
+
+    public void stop() {
+        if (stateMachineManager != null) {
+            stateMachineManager.stop();
+        }
+    }
+
+    /**
+     * Stores the entry for delivery. When called in a transaction, the delivery loop is woken up once the transaction
+     * commits, so that the entry can be found.
+     *
+     * @param entry the entry.
+     */
+    public void enqueue(CallbackOutboxEntry entry) {
+        store.save(entry);
+        transactionContext.afterCommit(this::wakeUp);
+    }
+
+    /**
+     * Leases and dispatches the due entries that are not blocked by an in-flight delivery with the same ordering key.
+     * Entries to endpoints that already have the maximum number of deliveries in flight are not leased, so that a slow
+     * endpoint doesn't hold back the deliveries to the other ones.
+     *
+     * @return the number of dispatched entries.
+     */
+    Long sendDueEntries() {
+        var dispatched = 0L;
+        var now = clock.millis();
+        for (var entry : store.leaseDue(batchSize, now, now + leaseMillis, saturatedEndpoints())) {
+            if (!inFlightKeys.add(entry.getOrderingKey())) {
+                continue;
+            }
+            var permits = endpointPermits.computeIfAbsent(entry.getEndpoint(), k -> new Semaphore(maxInFlightPerEndpoint));
+            if (!permits.tryAcquire()) {
+                inFlightKeys.remove(entry.getOrderingKey());
+                store.release(entry.getId());
+                continue;
+            }
+
+            dispatch(entry).whenComplete((result, throwable) -> {
+                try {
+                    if (throwable != null) {
+                        onFailure(entry, throwable.getMessage());
+                    } else if (result.failed()) {
+                        onFailure(entry, result.getFailureDetail());
+                    } else {
+                        store.delete(entry.getId());
+                    }
+                } finally {
+                    permits.release();
+                    inFlightKeys.remove(entry.getOrderingKey());
+                    wakeUp();
+                }
+            });
+            dispatched++;
+        }
+        return dispatched;
+    }
+
+    private CompletableFuture<StatusResult<Object>> dispatch(CallbackOutboxEntry entry) {
+        try {
+            var message = new CallbackEventRemoteMessage<>(entry.getCallbackAddress(), entry.getEnvelope(), entry.getProtocol());
+            return dispatcherRegistry.dispatch(Object.class, message);
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void onFailure(CallbackOutboxEntry entry, String reason) {
+        var uri = entry.getCallbackAddress().getUri();
+        if (retryLimit >= 0 && entry.getAttempts() >= retryLimit) {
+            monitor.severe(format("Failed to invoke callback at URI: %s, giving up after %d attempts: %s", uri, entry.getAttempts() + 1, reason));
+            store.delete(entry.getId());
+            return;
+        }
+
+        var delay = Math.min(retryMaxDelayMillis, retryBaseDelayMillis << Math.min(entry.getAttempts(), 30));
+        monitor.warning(format("Failed to invoke callback at URI: %s, retrying in %d ms: %s", uri, delay, reason));
+        entry.attemptFailed(clock.millis() + delay);
+        store.save(entry);
+    }
+
+    private Set<String> saturatedEndpoints() {
+        return endpointPermits.entrySet().stream()
+                .filter(it -> it.getValue().availablePermits() == 0)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    private void wakeUp() {
+        if (stateMachineManager != null) {
+            stateMachineManager.wakeUp();
+        }
+    }
+
+    public static class Builder {
+        private final CallbackOutboxSender sender;
+
+        private Builder() {
+            sender = new CallbackOutboxSender();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder store(CallbackOutboxStore store) {
+            sender.store = store;
+            return this;
+        }
+
+        public Builder dispatcherRegistry(RemoteMessageDispatcherRegistry dispatcherRegistry) {
+            sender.dispatcherRegistry = dispatcherRegistry;
+            return this;
+        }
+
+        public Builder monitor(Monitor monitor) {
+            sender.monitor = monitor;
+            return this;
+        }
+
+        public Builder transactionContext(TransactionContext transactionContext) {
+            sender.transactionContext = transactionContext;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            sender.clock = clock;
+            return this;
+        }
+
+        public Builder executorInstrumentation(ExecutorInstrumentation executorInstrumentation) {
+            sender.executorInstrumentation = executorInstrumentation;
+            return this;
+        }
+
+        public Builder waitStrategy(WaitStrategy waitStrategy) {
+            sender.waitStrategy = waitStrategy;
+            return this;
+        }
+
+        public Builder batchSize(int batchSize) {
+            sender.batchSize = batchSize;
+            return this;
+        }
+
+        public Builder maxInFlightPerEndpoint(int maxInFlightPerEndpoint) {
+            sender.maxInFlightPerEndpoint = maxInFlightPerEndpoint;
+            return this;
+        }
+
+        public Builder retryLimit(int retryLimit) {
+            sender.retryLimit = retryLimit;
+            return this;
+        }
+
+        public Builder retryBaseDelayMillis(long retryBaseDelayMillis) {
+            sender.retryBaseDelayMillis = retryBaseDelayMillis;
+            return this;
+        }
+
+        public Builder retryMaxDelayMillis(long retryMaxDelayMillis) {
+            sender.retryMaxDelayMillis = retryMaxDelayMillis;
+            return this;
+        }
+
+        public Builder leaseMillis(long leaseMillis) {
+            sender.leaseMillis = leaseMillis;
+            return this;
+        }
+
+        public CallbackOutboxSender build() {
+            Objects.requireNonNull(sender.store, "store");
+            Objects.requireNonNull(sender.dispatcherRegistry, "dispatcherRegistry");
+            Objects.requireNonNull(sender.monitor, "monitor");
+            if (sender.maxInFlightPerEndpoint < 1) {
+                throw new IllegalArgumentException("The maximum number of in-flight callbacks per endpoint must be at least 1");
+            }
+            return sender;
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher.outbox;
+
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.spi.EdcException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory implementation of the {@link CallbackOutboxStore}, entries do not survive a restart. The number of entries
+ * is bounded: new entries are rejected when the store is full.
+ */
+public class InMemoryCallbackOutboxStore implements CallbackOutboxStore {
+
+    private final Map<String, CallbackOutboxEntry> entries = new LinkedHashMap<>();
+    private final Map<String, Long> leases = new HashMap<>();
+    private final int capacity;
+
+    public InMemoryCallbackOutboxStore(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void save(CallbackOutboxEntry entry) {
+        if (entries.size() >= capacity && !entries.containsKey(entry.getId())) {
+            throw new EdcException("The callback outbox is full, %d callbacks are waiting for delivery".formatted(capacity));
+        }
+        entries.put(entry.getId(), entry);
+        leases.remove(entry.getId());
+    }
+
+    @Override
+    public synchronized List<CallbackOutboxEntry> leaseDue(int max, long now, long leaseUntil, Set<String> excludedEndpoints) {
+        var result = new ArrayList<CallbackOutboxEntry>();
+        var orderingKeys = new HashSet<String>();
+        for (var entry : entries.values()) {
+            if (result.size() >= max) {
+                break;
+            }
+            if (orderingKeys.add(entry.getOrderingKey()) && entry.getNextAttemptAt() <= now &&
+                    leases.getOrDefault(entry.getId(), 0L) <= now && !excludedEndpoints.contains(entry.getEndpoint())) {
+                leases.put(entry.getId(), leaseUntil);
+                result.add(entry);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void release(String id) {
+        leases.remove(id);
+    }
+
+    @Override
+    public synchronized void delete(String id) {
+        entries.remove(id);
+        leases.remove(id);
+    }
+}
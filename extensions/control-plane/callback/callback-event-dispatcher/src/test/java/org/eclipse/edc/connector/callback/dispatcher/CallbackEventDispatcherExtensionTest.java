@@ -50,7 +50,7 @@ public class CallbackEventDispatcherExtensionTest {
 
         extension.initialize(context);
 
-        verify(router).register(eq(Event.class), argThat(callbackEventDispatcherMatcher(false)));
+        verify(router).registerLossless(eq(Event.class), argThat(callbackEventDispatcherMatcher(false)));
         verify(router).registerSync(eq(Event.class), argThat(callbackEventDispatcherMatcher(true)));
 
     }
@@ -14,7 +14,9 @@
 
 package org.eclipse.edc.connector.callback.dispatcher;
 
+import org.eclipse.edc.connector.callback.dispatcher.outbox.CallbackOutboxSender;
 import org.eclipse.edc.connector.spi.callback.CallbackEventRemoteMessage;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
 import org.eclipse.edc.connector.spi.callback.CallbackProtocolResolverRegistry;
 import org.eclipse.edc.connector.spi.callback.CallbackRegistry;
 import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
@@ -38,6 +40,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
@@ -176,6 +179,54 @@ public class CallbackEventDispatcherTest {
 
     }
 
+    @Test
+    void verifyShouldEnqueue_whenOutboxIsSet() {
+        var outbox = mock(CallbackOutboxSender.class);
+        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, true, monitor, outbox);
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+
+        var callback = CallbackAddress.Builder.newInstance()
+                .uri("local://test")
+                .events(Set.of("transfer.process.completed"))
+                .transactional(true)
+                .build();
+
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(callback))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(CallbackOutboxEntry.class);
+        verify(outbox).enqueue(captor.capture());
+        assertThat(captor.getValue().getOrderingKey()).isEqualTo("id|local://test");
+        assertThat(captor.getValue().getProtocol()).isEqualTo("local");
+        assertThat(captor.getValue().getCallbackAddress()).isSameAs(callback);
+        verifyNoInteractions(registry);
+    }
+
+    @Test
+    void verifyShouldEnqueueWithOrderingKeyPerCallbackAddress_whenOutboxIsSet() {
+        var outbox = mock(CallbackOutboxSender.class);
+        dispatcher = new CallbackEventDispatcher(registry, callbackRegistry, resolverRegistry, false, monitor, outbox);
+        when(resolverRegistry.resolve("local")).thenReturn("local");
+
+        var first = CallbackAddress.Builder.newInstance().uri("local://first").events(Set.of("transfer.process.completed")).build();
+        var second = CallbackAddress.Builder.newInstance().uri("local://second").events(Set.of("transfer.process.completed")).build();
+
+        var event = TransferProcessCompleted.Builder.newInstance()
+                .transferProcessId("id")
+                .callbackAddresses(List.of(first, second))
+                .build();
+
+        dispatcher.on(envelope(event));
+
+        var captor = ArgumentCaptor.forClass(CallbackOutboxEntry.class);
+        verify(outbox, times(2)).enqueue(captor.capture());
+        assertThat(captor.getAllValues()).extracting(CallbackOutboxEntry::getOrderingKey).containsExactly("id|local://first", "id|local://second");
+    }
+
     @SuppressWarnings("unchecked")
     private <T extends Event> EventEnvelope<T> envelope(T event) {
         return EventEnvelope.Builder.newInstance().id("test").at(10).payload(event).build();
@@ -0,0 +1,204 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher.outbox;
+
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.message.RemoteMessageDispatcherRegistry;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.response.StatusResult;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.spi.response.ResponseStatus.ERROR_RETRY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CallbackOutboxSenderTest {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore(100);
+    private final RemoteMessageDispatcherRegistry dispatcherRegistry = mock(RemoteMessageDispatcherRegistry.class);
+    private final Monitor monitor = mock(Monitor.class);
+    private final Clock clock = Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC);
+
+    @Test
+    void sendDueEntries_shouldDeleteEntryWhenDelivered() {
+        var sender = sender().build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+
+        var dispatched = sender.sendDueEntries();
+
+        assertThat(dispatched).isEqualTo(1);
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).isEmpty();
+    }
+
+    @Test
+    void enqueue_shouldWakeUpAfterCommit() {
+        var transactionContext = mock(TransactionContext.class);
+        var sender = sender().transactionContext(transactionContext).build();
+
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+
+        assertThat(store.leaseDue(10, clock.millis(), clock.millis(), Set.of())).hasSize(1);
+        verify(transactionContext).afterCommit(any());
+    }
+
+    @Test
+    void sendDueEntries_shouldRescheduleEntryWhenDeliveryFails() {
+        var sender = sender().retryBaseDelayMillis(100).build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.failure(ERROR_RETRY, "error")));
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+
+        sender.sendDueEntries();
+
+        assertThat(store.leaseDue(10, clock.millis(), clock.millis(), Set.of())).isEmpty();
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).hasSize(1).first().satisfies(entry -> {
+            assertThat(entry.getAttempts()).isEqualTo(1);
+            assertThat(entry.getNextAttemptAt()).isGreaterThan(clock.millis());
+        });
+        verify(monitor).warning(anyString());
+    }
+
+    @Test
+    void sendDueEntries_shouldRescheduleEntryWhenDispatchThrows() {
+        var sender = sender().build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenThrow(new RuntimeException("error"));
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+
+        sender.sendDueEntries();
+
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).hasSize(1).first().extracting(CallbackOutboxEntry::getAttempts).isEqualTo(1);
+    }
+
+    @Test
+    void sendDueEntries_shouldDropEntryWhenRetryLimitIsReached() {
+        var sender = sender().retryLimit(1).build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var entry = entry("process1", "http://host:8080/callback");
+        entry.attemptFailed(0);
+        sender.enqueue(entry);
+
+        sender.sendDueEntries();
+
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).isEmpty();
+        verify(monitor).severe(anyString());
+    }
+
+    @Test
+    void sendDueEntries_shouldRetryWithoutLimitAndCapDelay_whenNoRetryLimitIsSet() {
+        var sender = sender().retryBaseDelayMillis(100).retryMaxDelayMillis(1000).build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.failedFuture(new RuntimeException("error")));
+        var entry = entry("process1", "http://host:8080/callback");
+        for (var i = 0; i < 100; i++) {
+            entry.attemptFailed(0);
+        }
+        sender.enqueue(entry);
+
+        sender.sendDueEntries();
+
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).hasSize(1).first().satisfies(e -> {
+            assertThat(e.getAttempts()).isEqualTo(101);
+            assertThat(e.getNextAttemptAt()).isEqualTo(clock.millis() + 1000);
+        });
+    }
+
+    @Test
+    void sendDueEntries_shouldNotSendEntryWhileAnotherOfSameOrderingKeyIsInFlight() {
+        var sender = sender().build();
+        var pending = new CompletableFuture<StatusResult<Object>>();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(pending);
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+
+        assertThat(sender.sendDueEntries()).isEqualTo(1);
+        assertThat(sender.sendDueEntries()).isEqualTo(0);
+
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(CompletableFuture.completedFuture(StatusResult.success("any")));
+        pending.complete(StatusResult.success("any"));
+
+        assertThat(sender.sendDueEntries()).isEqualTo(1);
+        assertThat(store.leaseDue(10, Long.MAX_VALUE, Long.MAX_VALUE, Set.of())).isEmpty();
+        verify(dispatcherRegistry, times(2)).dispatch(any(), any());
+    }
+
+    @Test
+    void sendDueEntries_shouldLimitInFlightEntriesPerEndpoint() {
+        var sender = sender().maxInFlightPerEndpoint(1).build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(new CompletableFuture<>());
+        sender.enqueue(entry("process1", "http://host:8080/callback"));
+        sender.enqueue(entry("process2", "http://host:8080/other"));
+        sender.enqueue(entry("process3", "http://another:8080/callback"));
+
+        var dispatched = sender.sendDueEntries();
+
+        assertThat(dispatched).isEqualTo(2);
+        verify(dispatcherRegistry, times(2)).dispatch(any(), any());
+    }
+
+    @Test
+    void sendDueEntries_shouldNotLeaseEntriesOfSaturatedEndpoint() {
+        var sender = sender().maxInFlightPerEndpoint(1).batchSize(1).build();
+        when(dispatcherRegistry.dispatch(any(), any())).thenReturn(new CompletableFuture<>());
+        sender.enqueue(entry("process1", "http://slow:8080/callback"));
+        sender.enqueue(entry("process2", "http://slow:8080/callback"));
+        sender.enqueue(entry("process3", "http://another:8080/callback"));
+
+        assertThat(sender.sendDueEntries()).isEqualTo(1);
+        assertThat(sender.sendDueEntries()).isEqualTo(1);
+
+        verify(dispatcherRegistry).dispatch(any(), argThat(message -> message.getCounterPartyAddress().startsWith("http://another")));
+        assertThat(store.leaseDue(10, clock.millis(), clock.millis(), Set.of())).extracting(CallbackOutboxEntry::getOrderingKey).containsExactly("process2");
+    }
+
+    @Test
+    void build_shouldFailWhenMaxInFlightPerEndpointIsNotPositive() {
+        assertThatThrownBy(() -> sender().maxInFlightPerEndpoint(0).build()).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private CallbackOutboxSender.Builder sender() {
+        return CallbackOutboxSender.Builder.newInstance()
+                .store(store)
+                .dispatcherRegistry(dispatcherRegistry)
+                .monitor(monitor)
+                .clock(clock);
+    }
+
+    private CallbackOutboxEntry entry(String orderingKey, String uri) {
+        var callback = CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("transfer.process")).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId(orderingKey).build();
+        return CallbackOutboxEntry.Builder.newInstance()
+                .orderingKey(orderingKey)
+                .callbackAddress(callback)
+                .envelope(EventEnvelope.Builder.newInstance().id("envelope").at(10).payload(event).build())
+                .protocol("http")
+                .build();
+    }
+}
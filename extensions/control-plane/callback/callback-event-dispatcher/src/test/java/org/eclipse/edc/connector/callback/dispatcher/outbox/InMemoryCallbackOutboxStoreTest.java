@@ -0,0 +1,139 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.callback.dispatcher.outbox;
+
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InMemoryCallbackOutboxStoreTest {
+
+    private final InMemoryCallbackOutboxStore store = new InMemoryCallbackOutboxStore(3);
+
+    @Test
+    void leaseDue_shouldReturnOnlyFirstEntryForOrderingKey() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process1", 0));
+        store.save(entry("3", "process2", 0));
+
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1", "3");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnEntriesOfKeyWhenFirstIsNotDue() {
+        store.save(entry("1", "process1", 200));
+        store.save(entry("2", "process1", 0));
+        store.save(entry("3", "process2", 0));
+
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("3");
+    }
+
+    @Test
+    void leaseDue_shouldLimitResults() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process2", 0));
+
+        var due = store.leaseDue(1, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnLeasedEntries() {
+        store.save(entry("1", "process1", 0));
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+        assertThat(store.leaseDue(10, 150, 250, Set.of())).isEmpty();
+        assertThat(store.leaseDue(10, 200, 300, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnEntriesOfExcludedEndpoints() {
+        store.save(entry("1", "process1", 0));
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of("http://test"))).isEmpty();
+    }
+
+    @Test
+    void release_shouldMakeEntryAvailableAgain() {
+        store.save(entry("1", "process1", 0));
+        store.leaseDue(10, 100, 200, Set.of());
+
+        store.release("1");
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void save_shouldKeepOrderWhenUpdated() {
+        var first = entry("1", "process1", 0);
+        store.save(first);
+        store.save(entry("2", "process1", 0));
+
+        first.attemptFailed(50);
+        store.save(first);
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+        assertThat(due.get(0).getAttempts()).isEqualTo(1);
+    }
+
+    @Test
+    void save_shouldRejectNewEntry_whenFull() {
+        var first = entry("1", "process1", 0);
+        store.save(first);
+        store.save(entry("2", "process1", 0));
+        store.save(entry("3", "process1", 0));
+
+        assertThatThrownBy(() -> store.save(entry("4", "process1", 0))).isInstanceOf(EdcException.class);
+        first.attemptFailed(50);
+        store.save(first);
+    }
+
+    @Test
+    void delete_shouldUnblockNextEntryOfKey() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process1", 0));
+
+        store.delete("1");
+
+        assertThat(store.leaseDue(10, 100, 100, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("2");
+    }
+
+    private CallbackOutboxEntry entry(String id, String orderingKey, long nextAttemptAt) {
+        var callback = CallbackAddress.Builder.newInstance().uri("http://test").events(Set.of("transfer.process")).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId(orderingKey).build();
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .orderingKey(orderingKey)
+                .callbackAddress(callback)
+                .envelope(EventEnvelope.Builder.newInstance().id("envelope").at(10).payload(event).build())
+                .protocol("http")
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
@@ -19,12 +19,16 @@ CREATE TABLE IF NOT EXISTS edc_asset
 (
     asset_id           VARCHAR NOT NULL,
     created_at         BIGINT  NOT NULL,
-    properties         JSON    DEFAULT '{}',
-    private_properties JSON    DEFAULT '{}',
-    data_address       JSON    DEFAULT '{}',
+    properties         JSONB   DEFAULT '{}',
+    private_properties JSONB   DEFAULT '{}',
+    data_address       JSONB   DEFAULT '{}',
     PRIMARY KEY (asset_id)
 );
 
 COMMENT ON COLUMN edc_asset.properties IS 'Asset properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.private_properties IS 'Asset private properties serialized as JSON';
 COMMENT ON COLUMN edc_asset.data_address IS 'Asset DataAddress serialized as JSON';
+
+-- serves the containment queries used when edc.sql.asset.jsonb.containment is enabled
+CREATE INDEX IF NOT EXISTS edc_asset_properties_idx ON edc_asset USING GIN (properties jsonb_path_ops);
+CREATE INDEX IF NOT EXISTS edc_asset_private_properties_idx ON edc_asset USING GIN (private_properties jsonb_path_ops);
@@ -28,4 +28,10 @@ public interface ConfigurationKeys {
     @Setting(required = true)
     String DATASOURCE_SETTING_NAME = "edc.datasource.asset.name";
 
+    /**
+     * Whether equality and inclusion criteria on asset properties are translated to JSONB containment queries.
+     */
+    @Setting(value = "Translate equality and 'in' criteria on asset properties into JSONB containment queries that can use a GIN index. Requires the JSONB schema.", type = "boolean", defaultValue = "false")
+    String JSONB_CONTAINMENT_SETTING = "edc.sql.asset.jsonb.containment";
+
 }
@@ -52,13 +52,15 @@ public class SqlAssetIndexServiceExtension implements ServiceExtension {
     public void initialize(ServiceExtensionContext context) {
         var dataSourceName = context.getConfig().getString(ConfigurationKeys.DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
 
-        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(), queryExecutor);
+        var jsonbContainment = context.getConfig().getBoolean(ConfigurationKeys.JSONB_CONTAINMENT_SETTING, false);
+
+        var sqlAssetLoader = new SqlAssetIndex(dataSourceRegistry, dataSourceName, transactionContext, typeManager.getMapper(), getDialect(jsonbContainment), queryExecutor);
 
         context.registerService(AssetIndex.class, sqlAssetLoader);
         context.registerService(DataAddressResolver.class, sqlAssetLoader);
     }
 
-    private AssetStatements getDialect() {
-        return dialect != null ? dialect : new PostgresDialectStatements();
+    private AssetStatements getDialect(boolean jsonbContainment) {
+        return dialect != null ? dialect : new PostgresDialectStatements(jsonbContainment);
     }
 }
@@ -16,7 +16,9 @@ package org.eclipse.edc.connector.store.sql.assetindex.schema.postgres;
 
 import org.eclipse.edc.connector.store.sql.assetindex.schema.AssetStatements;
 import org.eclipse.edc.spi.query.Criterion;
+import org.eclipse.edc.sql.translation.FieldTranslator;
 import org.eclipse.edc.sql.translation.JsonFieldTranslator;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.SqlOperator;
 import org.eclipse.edc.sql.translation.TranslationMapping;
 import org.eclipse.edc.sql.translation.WhereClause;
@@ -32,11 +34,22 @@ import static java.util.Objects.requireNonNullElse;
 public class AssetMapping extends TranslationMapping {
 
     public AssetMapping(AssetStatements statements) {
+        this(statements, JsonFieldTranslator::new);
+    }
+
+    /**
+     * Create the mapping using a custom {@link FieldTranslator} for the JSON columns, e.g. a {@link JsonbFieldTranslator}
+     * when they are stored as JSONB.
+     *
+     * @param statements the statements.
+     * @param jsonFieldTranslator creates the field translator for a JSON column name.
+     */
+    public AssetMapping(AssetStatements statements, Function<String, FieldTranslator> jsonFieldTranslator) {
         add("id", statements.getAssetIdColumn());
         add("createdAt", statements.getCreatedAtColumn());
-        add("properties", new JsonFieldTranslator(statements.getPropertiesColumn()));
-        add("privateProperties", new JsonFieldTranslator(statements.getPrivatePropertiesColumn()));
-        add("dataAddress", new JsonFieldTranslator(statements.getDataAddressColumn()));
+        add("properties", jsonFieldTranslator.apply(statements.getPropertiesColumn()));
+        add("privateProperties", jsonFieldTranslator.apply(statements.getPrivatePropertiesColumn()));
+        add("dataAddress", jsonFieldTranslator.apply(statements.getDataAddressColumn()));
     }
 
     /**
@@ -15,17 +15,41 @@
 package org.eclipse.edc.connector.store.sql.assetindex.schema.postgres;
 
 import org.eclipse.edc.connector.store.sql.assetindex.schema.BaseSqlDialectStatements;
+import org.eclipse.edc.spi.query.QuerySpec;
 import org.eclipse.edc.sql.dialect.PostgresDialect;
+import org.eclipse.edc.sql.translation.JsonbFieldTranslator;
 import org.eclipse.edc.sql.translation.PostgresqlOperatorTranslator;
+import org.eclipse.edc.sql.translation.SqlQueryStatement;
 
 public class PostgresDialectStatements extends BaseSqlDialectStatements {
 
+    private final boolean jsonbContainment;
+
     public PostgresDialectStatements() {
+        this(false);
+    }
+
+    /**
+     * Create the statements.
+     *
+     * @param jsonbContainment if true, equality and inclusion criteria on JSON columns are translated to JSONB
+     *                         containment expressions, which requires the columns to be JSONB.
+     */
+    public PostgresDialectStatements(boolean jsonbContainment) {
         super(new PostgresqlOperatorTranslator());
+        this.jsonbContainment = jsonbContainment;
     }
 
     @Override
     public String getFormatAsJsonOperator() {
         return PostgresDialect.getJsonCastOperator();
     }
+
+    @Override
+    public SqlQueryStatement createQuery(QuerySpec querySpec) {
+        if (!jsonbContainment) {
+            return super.createQuery(querySpec);
+        }
+        return new SqlQueryStatement(getSelectAssetTemplate(), querySpec, new AssetMapping(this, JsonbFieldTranslator::new), operatorTranslator);
+    }
 }
@@ -45,6 +45,7 @@ public class SqlAssetIndexServiceExtensionTest {
         var config = mock(Config.class);
         when(context.getConfig()).thenReturn(config);
         when(config.getString(any(), any())).thenReturn("test");
+        when(config.getBoolean(any(), any())).thenReturn(false);
 
         extension.initialize(context);
 
@@ -0,0 +1,44 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+-- Statements are designed for and tested with Postgres only!
+
+CREATE TABLE IF NOT EXISTS edc_callback_outbox
+(
+    id               VARCHAR   NOT NULL PRIMARY KEY,
+    sequence         BIGSERIAL NOT NULL,
+    ordering_key     VARCHAR   NOT NULL,
+    endpoint         VARCHAR   NOT NULL,
+    callback_address JSON      NOT NULL,
+    envelope         JSON      NOT NULL,
+    event_type       VARCHAR   NOT NULL,
+    protocol         VARCHAR   NOT NULL,
+    attempts         INTEGER   DEFAULT 0 NOT NULL,
+    next_attempt_at  BIGINT    DEFAULT 0 NOT NULL,
+    leased_until     BIGINT    DEFAULT 0 NOT NULL
+);
+
+COMMENT ON COLUMN edc_callback_outbox.sequence IS 'delivery order of the entries with the same ordering key';
+COMMENT ON COLUMN edc_callback_outbox.endpoint IS 'scheme, host and port of the callback address';
+COMMENT ON COLUMN edc_callback_outbox.callback_address IS 'CallbackAddress serialized as JSON';
+COMMENT ON COLUMN edc_callback_outbox.envelope IS 'EventEnvelope serialized as JSON';
+COMMENT ON COLUMN edc_callback_outbox.event_type IS 'class name of the event carried by the envelope';
+COMMENT ON COLUMN edc_callback_outbox.next_attempt_at IS 'posix timestamp before which the entry must not be delivered';
+COMMENT ON COLUMN edc_callback_outbox.leased_until IS 'posix timestamp until which the entry is being delivered by a connector instance';
+
+CREATE INDEX IF NOT EXISTS callback_outbox_ordering_key_sequence_index
+    ON edc_callback_outbox (ordering_key, sequence);
+
+CREATE INDEX IF NOT EXISTS callback_outbox_next_attempt_at_index
+    ON edc_callback_outbox (next_attempt_at);
@@ -0,0 +1,150 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.callback;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.store.sql.callback.schema.CallbackOutboxStatements;
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.persistence.EdcPersistenceException;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.store.AbstractSqlStore;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * SQL implementation of the {@link CallbackOutboxStore}. Entries are saved in the ambient transaction, so the callbacks
+ * of a state transition are stored only if the transition commits, and they survive a restart. The envelope is stored
+ * together with the class name of its event, that is needed to read it back. Due entries are leased with
+ * {@code FOR UPDATE SKIP LOCKED}, so connector instances sharing the table don't deliver the same entry concurrently.
+ */
+public class SqlCallbackOutboxStore extends AbstractSqlStore implements CallbackOutboxStore {
+
+    private final CallbackOutboxStatements statements;
+
+    public SqlCallbackOutboxStore(DataSourceRegistry dataSourceRegistry, String dataSourceName, TransactionContext transactionContext,
+                                  ObjectMapper objectMapper, CallbackOutboxStatements statements, QueryExecutor queryExecutor) {
+        super(dataSourceRegistry, dataSourceName, transactionContext, objectMapper, queryExecutor);
+        this.statements = statements;
+    }
+
+    @Override
+    public void save(CallbackOutboxEntry entry) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var updated = queryExecutor.execute(connection, statements.getUpdateAttemptTemplate(),
+                        entry.getAttempts(), entry.getNextAttemptAt(), 0L, entry.getId());
+                if (updated == 0) {
+                    queryExecutor.execute(connection, statements.getInsertTemplate(),
+                            entry.getId(),
+                            entry.getOrderingKey(),
+                            entry.getEndpoint(),
+                            toJson(entry.getCallbackAddress()),
+                            toJson(entry.getEnvelope()),
+                            entry.getEnvelope().getPayload().getClass().getName(),
+                            entry.getProtocol(),
+                            entry.getAttempts(),
+                            entry.getNextAttemptAt());
+                }
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public List<CallbackOutboxEntry> leaseDue(int max, long now, long leaseUntil, Set<String> excludedEndpoints) {
+        return transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                var arguments = new ArrayList<>();
+                arguments.add(leaseUntil);
+                arguments.add(now);
+                arguments.add(now);
+                arguments.addAll(excludedEndpoints);
+                arguments.add(max);
+                var template = statements.getLeaseDueTemplate(excludedEndpoints.size());
+                return queryExecutor.query(connection, true, this::mapEntry, template, arguments.toArray()).toList();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void release(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getReleaseTemplate(), 0L, id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void delete(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                queryExecutor.execute(connection, statements.getDeleteTemplate(), id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public boolean isTransactional() {
+        return true;
+    }
+
+    private CallbackOutboxEntry mapEntry(ResultSet resultSet) throws SQLException {
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(resultSet.getString(statements.getIdColumn()))
+                .orderingKey(resultSet.getString(statements.getOrderingKeyColumn()))
+                .callbackAddress(fromJson(resultSet.getString(statements.getCallbackAddressColumn()), CallbackAddress.class))
+                .envelope(mapEnvelope(resultSet.getString(statements.getEnvelopeColumn()), resultSet.getString(statements.getEventTypeColumn())))
+                .protocol(resultSet.getString(statements.getProtocolColumn()))
+                .attempts(resultSet.getInt(statements.getAttemptsColumn()))
+                .nextAttemptAt(resultSet.getLong(statements.getNextAttemptAtColumn()))
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private EventEnvelope<? extends Event> mapEnvelope(String json, String eventType) {
+        Class<? extends Event> eventClass;
+        try {
+            eventClass = Class.forName(eventType).asSubclass(Event.class);
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new EdcPersistenceException(e);
+        }
+
+        var envelope = fromJson(json, JsonNode.class);
+        return EventEnvelope.Builder.newInstance()
+                .id(envelope.get("id").asText())
+                .at(envelope.get("at").asLong())
+                .payload(fromJson(envelope.get("payload").toString(), eventClass))
+                .build();
+    }
+}
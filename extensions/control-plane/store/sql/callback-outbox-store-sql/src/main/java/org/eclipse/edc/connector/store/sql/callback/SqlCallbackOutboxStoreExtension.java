@@ -0,0 +1,78 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.callback;
+
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxStore;
+import org.eclipse.edc.connector.store.sql.callback.schema.CallbackOutboxStatements;
+import org.eclipse.edc.connector.store.sql.callback.schema.postgres.PostgresCallbackOutboxStatements;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.transaction.datasource.spi.DataSourceRegistry;
+import org.eclipse.edc.transaction.spi.TransactionContext;
+
+/**
+ * Provides the Sql Store for the callbacks waiting to be delivered
+ */
+@Extension(value = SqlCallbackOutboxStoreExtension.NAME)
+public class SqlCallbackOutboxStoreExtension implements ServiceExtension {
+
+    public static final String NAME = "Sql Callback Outbox Store";
+
+    @Setting(value = "Name of the datasource to use for accessing the callback outbox store")
+    private static final String DATASOURCE_SETTING_NAME = "edc.datasource.callbackoutbox.name";
+
+    @Inject
+    private DataSourceRegistry dataSourceRegistry;
+
+    @Inject
+    private TransactionContext transactionContext;
+
+    @Inject(required = false)
+    private CallbackOutboxStatements statements;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private QueryExecutor queryExecutor;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public CallbackOutboxStore callbackOutboxStore(ServiceExtensionContext context) {
+        return new SqlCallbackOutboxStore(dataSourceRegistry, getDataSourceName(context), transactionContext,
+                typeManager.getMapper(), getStatementImpl(), queryExecutor);
+    }
+
+    /**
+     * returns an externally-provided sql statement dialect, or postgres as a default
+     */
+    private CallbackOutboxStatements getStatementImpl() {
+        return statements != null ? statements : new PostgresCallbackOutboxStatements();
+    }
+
+    private String getDataSourceName(ServiceExtensionContext context) {
+        return context.getConfig().getString(DATASOURCE_SETTING_NAME, DataSourceRegistry.DEFAULT_DATASOURCE);
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.callback.schema;
+
+import java.util.Collections;
+
+import static java.lang.String.format;
+
+public class BaseSqlCallbackOutboxStatements implements CallbackOutboxStatements {
+
+    @Override
+    public String getInsertTemplate() {
+        return executeStatement()
+                .column(getIdColumn())
+                .column(getOrderingKeyColumn())
+                .column(getEndpointColumn())
+                .jsonColumn(getCallbackAddressColumn())
+                .jsonColumn(getEnvelopeColumn())
+                .column(getEventTypeColumn())
+                .column(getProtocolColumn())
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .insertInto(getTableName());
+    }
+
+    @Override
+    public String getUpdateAttemptTemplate() {
+        return executeStatement()
+                .column(getAttemptsColumn())
+                .column(getNextAttemptAtColumn())
+                .column(getLeasedUntilColumn())
+                .update(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getReleaseTemplate() {
+        return executeStatement()
+                .column(getLeasedUntilColumn())
+                .update(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getDeleteTemplate() {
+        return executeStatement()
+                .delete(getTableName(), getIdColumn());
+    }
+
+    @Override
+    public String getLeaseDueTemplate(int excludedEndpoints) {
+        var endpointFilter = excludedEndpoints == 0 ? "" :
+                format(" AND entry.%s NOT IN (%s)", getEndpointColumn(), String.join(", ", Collections.nCopies(excludedEndpoints, "?")));
+        return format("WITH leased AS (UPDATE %1$s SET %2$s = ? WHERE %3$s IN (SELECT entry.%3$s FROM %1$s entry " +
+                        "WHERE entry.%4$s <= ? AND entry.%2$s <= ?%5$s AND NOT EXISTS (SELECT 1 FROM %1$s previous " +
+                        "WHERE previous.%6$s = entry.%6$s AND previous.%7$s < entry.%7$s) " +
+                        "ORDER BY entry.%7$s LIMIT ? FOR UPDATE SKIP LOCKED) RETURNING *) SELECT * FROM leased ORDER BY %7$s",
+                getTableName(), getLeasedUntilColumn(), getIdColumn(), getNextAttemptAtColumn(), endpointFilter,
+                getOrderingKeyColumn(), getSequenceColumn());
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.callback.schema;
+
+import org.eclipse.edc.sql.statement.SqlStatements;
+
+/**
+ * Sql Statements for the Callback Outbox Store
+ */
+public interface CallbackOutboxStatements extends SqlStatements {
+
+    default String getTableName() {
+        return "edc_callback_outbox";
+    }
+
+    default String getIdColumn() {
+        return "id";
+    }
+
+    default String getSequenceColumn() {
+        return "sequence";
+    }
+
+    default String getOrderingKeyColumn() {
+        return "ordering_key";
+    }
+
+    default String getEndpointColumn() {
+        return "endpoint";
+    }
+
+    default String getCallbackAddressColumn() {
+        return "callback_address";
+    }
+
+    default String getEnvelopeColumn() {
+        return "envelope";
+    }
+
+    default String getEventTypeColumn() {
+        return "event_type";
+    }
+
+    default String getProtocolColumn() {
+        return "protocol";
+    }
+
+    default String getAttemptsColumn() {
+        return "attempts";
+    }
+
+    default String getNextAttemptAtColumn() {
+        return "next_attempt_at";
+    }
+
+    default String getLeasedUntilColumn() {
+        return "leased_until";
+    }
+
+    String getInsertTemplate();
+
+    String getUpdateAttemptTemplate();
+
+    String getReleaseTemplate();
+
+    String getDeleteTemplate();
+
+    /**
+     * Leases the first entry of every ordering key, if its next attempt is due, it is not leased and its endpoint is not
+     * excluded, and returns the leased entries in the order they have been stored. Rows locked by a concurrent lease are
+     * skipped. Parameters: the lease expiration, the current time (twice), the excluded endpoints and the maximum number
+     * of entries.
+     *
+     * @param excludedEndpoints the number of excluded endpoints.
+     */
+    String getLeaseDueTemplate(int excludedEndpoints);
+}
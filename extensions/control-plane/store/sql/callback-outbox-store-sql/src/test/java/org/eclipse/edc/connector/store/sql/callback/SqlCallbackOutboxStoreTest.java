@@ -0,0 +1,188 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.store.sql.callback;
+
+import org.eclipse.edc.connector.spi.callback.CallbackOutboxEntry;
+import org.eclipse.edc.connector.store.sql.callback.schema.postgres.PostgresCallbackOutboxStatements;
+import org.eclipse.edc.connector.transfer.spi.event.TransferProcessCompleted;
+import org.eclipse.edc.junit.annotations.ComponentTest;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+import org.eclipse.edc.sql.QueryExecutor;
+import org.eclipse.edc.sql.testfixtures.PostgresqlStoreSetupExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ComponentTest
+@ExtendWith(PostgresqlStoreSetupExtension.class)
+class SqlCallbackOutboxStoreTest {
+
+    private final PostgresCallbackOutboxStatements statements = new PostgresCallbackOutboxStatements();
+    private SqlCallbackOutboxStore store;
+
+    @BeforeEach
+    void setUp(PostgresqlStoreSetupExtension extension, QueryExecutor queryExecutor) throws IOException {
+        store = new SqlCallbackOutboxStore(extension.getDataSourceRegistry(), extension.getDatasourceName(),
+                extension.getTransactionContext(), new TypeManager().getMapper(), statements, queryExecutor);
+
+        var schema = Files.readString(Paths.get("docs/schema.sql"));
+        extension.runQuery(schema);
+    }
+
+    @AfterEach
+    void tearDown(PostgresqlStoreSetupExtension extension) {
+        extension.runQuery("DROP TABLE " + statements.getTableName() + " CASCADE");
+    }
+
+    @Test
+    void leaseDue_shouldReturnSavedEntry() {
+        var entry = entry("1", "process1", 0);
+        store.save(entry);
+
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).hasSize(1).first().satisfies(found -> {
+            assertThat(found).usingRecursiveComparison().ignoringFields("envelope").isEqualTo(entry);
+            assertThat(found.getEnvelope()).usingRecursiveComparison().isEqualTo(entry.getEnvelope());
+            assertThat(found.getEnvelope().getPayload()).isInstanceOf(TransferProcessCompleted.class);
+        });
+    }
+
+    @Test
+    void leaseDue_shouldReturnOnlyFirstEntryForOrderingKey() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process1", 0));
+        store.save(entry("3", "process2", 0));
+
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1", "3");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnEntriesOfKeyWhenFirstIsNotDue() {
+        store.save(entry("1", "process1", 200));
+        store.save(entry("2", "process1", 0));
+        store.save(entry("3", "process2", 0));
+
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("3");
+    }
+
+    @Test
+    void leaseDue_shouldLimitResults() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process2", 0));
+
+        var due = store.leaseDue(1, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnLeasedEntries() {
+        store.save(entry("1", "process1", 0));
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+        assertThat(store.leaseDue(10, 150, 250, Set.of())).isEmpty();
+        assertThat(store.leaseDue(10, 200, 300, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void leaseDue_shouldNotReturnEntriesOfExcludedEndpoints() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process2", 0, "http://other:8080/callback"));
+
+        var due = store.leaseDue(10, 100, 200, Set.of("http://test", "http://another"));
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("2");
+    }
+
+    @Test
+    void release_shouldMakeEntryAvailableAgain() {
+        store.save(entry("1", "process1", 0));
+        store.leaseDue(10, 100, 200, Set.of());
+
+        store.release("1");
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void save_shouldReleaseLease() {
+        var entry = entry("1", "process1", 0);
+        store.save(entry);
+        store.leaseDue(10, 100, 200, Set.of());
+
+        entry.attemptFailed(50);
+        store.save(entry);
+
+        assertThat(store.leaseDue(10, 100, 200, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+    }
+
+    @Test
+    void save_shouldKeepOrderWhenUpdated() {
+        var first = entry("1", "process1", 0);
+        store.save(first);
+        store.save(entry("2", "process1", 0));
+
+        first.attemptFailed(50);
+        store.save(first);
+        var due = store.leaseDue(10, 100, 100, Set.of());
+
+        assertThat(due).extracting(CallbackOutboxEntry::getId).containsExactly("1");
+        assertThat(due.get(0).getAttempts()).isEqualTo(1);
+        assertThat(due.get(0).getNextAttemptAt()).isEqualTo(50);
+    }
+
+    @Test
+    void delete_shouldUnblockNextEntryOfKey() {
+        store.save(entry("1", "process1", 0));
+        store.save(entry("2", "process1", 0));
+
+        store.delete("1");
+
+        assertThat(store.leaseDue(10, 100, 100, Set.of())).extracting(CallbackOutboxEntry::getId).containsExactly("2");
+    }
+
+    private CallbackOutboxEntry entry(String id, String orderingKey, long nextAttemptAt) {
+        return entry(id, orderingKey, nextAttemptAt, "http://test");
+    }
+
+    private CallbackOutboxEntry entry(String id, String orderingKey, long nextAttemptAt, String uri) {
+        var callback = CallbackAddress.Builder.newInstance().uri(uri).events(Set.of("test")).transactional(true).build();
+        var event = TransferProcessCompleted.Builder.newInstance().transferProcessId(orderingKey).callbackAddresses(List.of(callback)).build();
+        return CallbackOutboxEntry.Builder.newInstance()
+                .id(id)
+                .orderingKey(orderingKey)
+                .callbackAddress(callback)
+                .envelope(EventEnvelope.Builder.newInstance().id("envelope-" + id).at(10).payload(event).build())
+                .protocol("http")
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
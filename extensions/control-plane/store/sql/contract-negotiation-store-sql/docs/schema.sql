@@ -59,22 +59,31 @@ CREATE TABLE IF NOT EXISTS edc_contract_negotiation
     trace_context        JSON,
     pending              BOOLEAN DEFAULT FALSE,
     protocol_messages    JSON,
+    next_eligible_at     BIGINT  DEFAULT 0 NOT NULL,
     lease_id             VARCHAR
         CONSTRAINT contract_negotiation_lease_lease_id_fk
             REFERENCES edc_lease
             ON DELETE SET NULL
 );
 
+-- adds the column to databases created before it was introduced
+ALTER TABLE edc_contract_negotiation ADD COLUMN IF NOT EXISTS next_eligible_at BIGINT DEFAULT 0 NOT NULL;
+
 COMMENT ON COLUMN edc_contract_negotiation.agreement_id IS 'ContractAgreement serialized as JSON';
 
 COMMENT ON COLUMN edc_contract_negotiation.contract_offers IS 'List<ContractOffer> serialized as JSON';
 
 COMMENT ON COLUMN edc_contract_negotiation.trace_context IS 'Map<String,String> serialized as JSON';
 
+COMMENT ON COLUMN edc_contract_negotiation.next_eligible_at IS 'posix timestamp before which the negotiation is waiting for a retry';
+
 
 CREATE INDEX IF NOT EXISTS contract_negotiation_correlationid_index
     ON edc_contract_negotiation (correlation_id);
 
+CREATE INDEX IF NOT EXISTS contract_negotiation_state_next_eligible_at_index
+    ON edc_contract_negotiation (state, next_eligible_at);
+
 CREATE UNIQUE INDEX IF NOT EXISTS contract_negotiation_id_uindex
     ON edc_contract_negotiation (id);
 
@@ -112,6 +112,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                     leaseContext.withConnection(connection).breakLease(id);
                     update(connection, id, negotiation);
                 }
+                negotiation.markSaved();
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -119,6 +120,17 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
 
     }
 
+    @Override
+    public void releaseLease(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.withConnection(connection).releaseLease(id);
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
     @Override
     public void delete(String negotiationId) {
         transactionContext.execute(() -> {
@@ -176,16 +188,19 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).toList();
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var now = clock.millis();
             var statement = statements.createNegotiationsQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), now)
+                    .addWhereClause(statements.getEligibleFilter(), now);
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(getConnection(), true, contractNegotiationWithAgreementMapper(connection), statement.getQueryAsString(), statement.getParameters())
             ) {
                 var negotiations = stream.collect(toList());
-                negotiations.forEach(cn -> leaseContext.withConnection(connection).acquireLease(cn.getId()));
-                return negotiations;
+                var ids = negotiations.stream().map(ContractNegotiation::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return negotiations.stream().filter(cn -> leased.contains(cn.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -273,6 +288,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 updatedValues.isPending(),
                 updatedValues.getCorrelationId(),
                 toJson(updatedValues.getProtocolMessages()),
+                updatedValues.getNextEligibleAt(),
                 negotiationId);
     }
 
@@ -303,7 +319,8 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 negotiation.getCreatedAt(),
                 negotiation.getUpdatedAt(),
                 negotiation.isPending(),
-                toJson(negotiation.getProtocolMessages()));
+                toJson(negotiation.getProtocolMessages()),
+                negotiation.getNextEligibleAt());
     }
 
     private void upsertAgreement(ContractAgreement contractAgreement) {
@@ -388,6 +405,7 @@ public class SqlContractNegotiationStore extends AbstractSqlStore implements Con
                 .contractAgreement(agreementMapper.mapResultSet(resultSet))
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .nextEligibleAt(resultSet.getLong(statements.getNextEligibleAtColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .contractOffers(fromJson(resultSet.getString(statements.getContractOffersColumn()), new TypeReference<>() {
                 }))
@@ -60,6 +60,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getPendingColumn())
                 .column(getCorrelationIdColumn())
                 .jsonColumn(getProtocolMessagesColumn())
+                .column(getNextEligibleAtColumn())
                 .update(getContractNegotiationTable(), getIdColumn());
     }
 
@@ -84,6 +85,7 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 .column(getUpdatedAtColumn())
                 .column(getPendingColumn())
                 .jsonColumn(getProtocolMessagesColumn())
+                .column(getNextEligibleAtColumn())
                 .insertInto(getContractNegotiationTable());
     }
 
@@ -171,4 +173,19 @@ public class BaseSqlDialectStatements implements ContractNegotiationStatements {
                 getLeaseTableName(), getLeaseIdColumn(), getContractNegotiationTable(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeases(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeases(getContractNegotiationTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getReleaseLeaseTemplate() {
+        return releaseLease(getContractNegotiationTable(), getIdColumn());
+    }
+
 }
@@ -37,12 +37,16 @@ CREATE TABLE IF NOT EXISTS edc_transfer_process
     transfer_type              VARCHAR,
     protocol_messages          JSON,
     data_plane_id              VARCHAR,
+    next_eligible_at           BIGINT  DEFAULT 0 NOT NULL,
     lease_id                   VARCHAR
         CONSTRAINT transfer_process_lease_lease_id_fk
             REFERENCES edc_lease
             ON DELETE SET NULL
 );
 
+-- adds the column to databases created before it was introduced
+ALTER TABLE edc_transfer_process ADD COLUMN IF NOT EXISTS next_eligible_at BIGINT DEFAULT 0 NOT NULL;
+
 COMMENT ON COLUMN edc_transfer_process.trace_context IS 'Java Map serialized as JSON';
 
 COMMENT ON COLUMN edc_transfer_process.resource_manifest IS 'java ResourceManifest serialized as JSON';
@@ -53,10 +57,15 @@ COMMENT ON COLUMN edc_transfer_process.content_data_address IS 'DataAddress seri
 
 COMMENT ON COLUMN edc_transfer_process.deprovisioned_resources IS 'List of deprovisioned resources, serialized as JSON';
 
+COMMENT ON COLUMN edc_transfer_process.next_eligible_at IS 'posix timestamp before which the transfer process is waiting for a retry';
+
 
 CREATE UNIQUE INDEX IF NOT EXISTS transfer_process_id_uindex
     ON edc_transfer_process (transferprocess_id);
 
+CREATE INDEX IF NOT EXISTS transfer_process_state_next_eligible_at_index
+    ON edc_transfer_process (state, next_eligible_at);
+
 CREATE TABLE IF NOT EXISTS edc_data_request
 (
     datarequest_id      VARCHAR NOT NULL
@@ -76,16 +76,19 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var now = clock.millis();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), now)
+                    .addWhereClause(statements.getEligibleFilter(), now);
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapTransferProcess, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var transferProcesses = stream.collect(Collectors.toList());
-                transferProcesses.forEach(transferProcess -> leaseContext.withConnection(connection).acquireLease(transferProcess.getId()));
-                return transferProcesses;
+                var ids = transferProcesses.stream().map(TransferProcess::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return transferProcesses.stream().filter(transferProcess -> leased.contains(transferProcess.getId())).collect(toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -150,6 +153,18 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 } else {
                     insert(conn, entity);
                 }
+                entity.markSaved();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void releaseLease(String id) {
+        transactionContext.execute(() -> {
+            try (var conn = getConnection()) {
+                leaseContext.by(leaseHolderName).withConnection(conn).releaseLease(id);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -258,6 +273,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.getTransferType(),
                 toJson(process.getProtocolMessages()),
                 process.getDataPlaneId(),
+                process.getNextEligibleAt(),
                 process.getId());
 
         var newDr = process.getDataRequest();
@@ -315,7 +331,8 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 process.isPending(),
                 process.getTransferType(),
                 toJson(process.getProtocolMessages()),
-                process.getDataPlaneId());
+                process.getDataPlaneId(),
+                process.getNextEligibleAt());
 
         //insert DataRequest
         var dr = process.getDataRequest();
@@ -346,6 +363,7 @@ public class SqlTransferProcessStore extends AbstractSqlStore implements Transfe
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .nextEligibleAt(resultSet.getLong(statements.getNextEligibleAtColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .resourceManifest(fromJson(resultSet.getString(statements.getResourceManifestColumn()), ResourceManifest.class))
                 .provisionedResourceSet(fromJson(resultSet.getString(statements.getProvisionedResourceSetColumn()), ProvisionedResourceSet.class))
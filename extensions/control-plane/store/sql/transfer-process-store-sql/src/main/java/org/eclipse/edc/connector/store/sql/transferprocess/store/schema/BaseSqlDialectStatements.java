@@ -61,6 +61,21 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 getLeaseTableName(), getLeaseIdColumn(), getTransferProcessTableName(), getIdColumn());
     }
 
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeases(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeases(getTransferProcessTableName(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getReleaseLeaseTemplate() {
+        return releaseLease(getTransferProcessTableName(), getIdColumn());
+    }
+
     @Override
     public String getInsertStatement() {
         return executeStatement()
@@ -83,6 +98,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getTransferTypeColumn())
                 .jsonColumn(getProtocolMessagesColumn())
                 .column(getDataPlaneIdColumn())
+                .column(getNextEligibleAtColumn())
                 .insertInto(getTransferProcessTableName());
     }
 
@@ -109,6 +125,7 @@ public abstract class BaseSqlDialectStatements implements TransferProcessStoreSt
                 .column(getTransferTypeColumn())
                 .jsonColumn(getProtocolMessagesColumn())
                 .column(getDataPlaneIdColumn())
+                .column(getNextEligibleAtColumn())
                 .update(getTransferProcessTableName(), getIdColumn());
     }
 
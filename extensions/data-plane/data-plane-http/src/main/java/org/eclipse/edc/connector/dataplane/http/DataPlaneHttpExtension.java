@@ -19,6 +19,7 @@ import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestParamsProviderImpl;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSinkFactory;
 import org.eclipse.edc.connector.dataplane.http.pipeline.HttpDataSourceFactory;
+import org.eclipse.edc.connector.dataplane.http.pipeline.InFlightRequestLimiter;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
@@ -44,6 +45,16 @@ public class DataPlaneHttpExtension implements ServiceExtension {
     @Setting
     private static final String EDC_DATAPLANE_HTTP_SINK_PARTITION_SIZE = "edc.dataplane.http.sink.partition.size";
 
+    private static final boolean DEFAULT_SINK_ASYNC_ENABLED = false;
+    private static final int DEFAULT_SINK_ASYNC_MAX_IN_FLIGHT = 5;
+
+    @Setting(value = "If true, the HTTP sink sends parts with non-blocking requests instead of blocking an executor thread per partition.", type = "boolean", defaultValue = DEFAULT_SINK_ASYNC_ENABLED + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_ASYNC_ENABLED = "edc.dataplane.http.sink.async.enabled";
+
+    @Setting(value = "Maximum number of requests the asynchronous HTTP sink keeps in flight towards a single destination. " +
+            "Values above edc.http.client.max-requests-per-host only queue the additional requests in the HTTP client.", type = "int", defaultValue = DEFAULT_SINK_ASYNC_MAX_IN_FLIGHT + "")
+    private static final String EDC_DATAPLANE_HTTP_SINK_ASYNC_MAX_IN_FLIGHT = "edc.dataplane.http.sink.async.max.inflight";
+
     @Inject
     private EdcHttpClient httpClient;
 
@@ -77,7 +88,12 @@ public class DataPlaneHttpExtension implements ServiceExtension {
         var sourceFactory = new HttpDataSourceFactory(httpClient, paramsProvider, monitor, httpRequestFactory);
         pipelineService.registerFactory(sourceFactory);
 
-        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory);
+        InFlightRequestLimiter inFlightLimiter = null;
+        if (context.getSetting(EDC_DATAPLANE_HTTP_SINK_ASYNC_ENABLED, DEFAULT_SINK_ASYNC_ENABLED)) {
+            inFlightLimiter = new InFlightRequestLimiter(context.getSetting(EDC_DATAPLANE_HTTP_SINK_ASYNC_MAX_IN_FLIGHT, DEFAULT_SINK_ASYNC_MAX_IN_FLIGHT));
+        }
+
+        var sinkFactory = new HttpDataSinkFactory(httpClient, executorContainer.getExecutorService(), sinkPartitionSize, monitor, paramsProvider, httpRequestFactory, inFlightLimiter);
         pipelineService.registerFactory(sinkFactory);
     }
 
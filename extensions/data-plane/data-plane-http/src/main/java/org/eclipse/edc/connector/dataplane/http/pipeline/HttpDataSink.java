@@ -15,20 +15,36 @@
 
 package org.eclipse.edc.connector.dataplane.http.pipeline;
 
+import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
 import org.eclipse.edc.spi.http.EdcHttpClient;
+import org.eclipse.edc.spi.telemetry.TraceCarrier;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult.failure;
 
 /**
  * Writes data in a streaming fashion to an HTTP endpoint.
+ * <p>
+ * When an {@link InFlightRequestLimiter} is configured, parts are sent with non-blocking calls instead of blocking one
+ * executor thread per partition. The source is only read further once a permit for the destination becomes available,
+ * which propagates backpressure from a slow destination back to the source without blocking the transfer thread.
  */
 public class HttpDataSink extends ParallelSink {
     private static final StreamResult<Object> ERROR_WRITING_DATA = StreamResult.error("Error writing data");
@@ -36,6 +52,32 @@ public class HttpDataSink extends ParallelSink {
     private HttpRequestParams params;
     private EdcHttpClient httpClient;
     private HttpRequestFactory requestFactory;
+    private InFlightRequestLimiter inFlightLimiter;
+
+    @Override
+    public CompletableFuture<StreamResult<Object>> transfer(DataSource source) {
+        if (inFlightLimiter == null) {
+            return super.transfer(source);
+        }
+
+        try {
+            var streamResult = source.openPartStream();
+            if (streamResult.failed()) {
+                return completedFuture(failure(streamResult.getFailure()));
+            }
+
+            var partStream = streamResult.getContent();
+            var dispatch = telemetry.contextPropagationMiddleware(() -> transferPartsAsync(partStream), telemetry.getTraceCarrierWithCurrentContext());
+            return supplyAsync(dispatch, executorService)
+                    .thenCompose(result -> result)
+                    .whenComplete((result, throwable) -> partStream.close())
+                    .exceptionally(throwable -> StreamResult.error("Unhandled exception raised when transferring data: " + throwable.getMessage()));
+        } catch (Exception e) {
+            var errorMessage = format("Error processing data transfer request - Request ID: %s", requestId);
+            monitor.severe(errorMessage, e);
+            return completedFuture(StreamResult.error(errorMessage));
+        }
+    }
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
@@ -55,9 +97,115 @@ public class HttpDataSink extends ParallelSink {
         return StreamResult.success();
     }
 
+    private CompletableFuture<StreamResult<Object>> transferPartsAsync(Stream<DataSource.Part> parts) {
+        var transfer = new AsyncTransfer(parts.iterator(), telemetry.getTraceCarrierWithCurrentContext());
+        transfer.sendParts();
+        return transfer.result;
+    }
+
     private HttpDataSink() {
     }
 
+    /**
+     * Sends every part without waiting for the response, holding a destination permit until the response is received.
+     * No thread waits for a permit: when none is available, the part is handed to the permits and the transfer is
+     * resumed on the executor by the request that releases the next permit. Stops reading the source as soon as a
+     * request fails, and completes once all the requests sent have completed.
+     */
+    private class AsyncTransfer {
+        private final CompletableFuture<StreamResult<Object>> result = new CompletableFuture<>();
+        private final AtomicBoolean failed = new AtomicBoolean();
+        // the reading of the source is outstanding as well, so the result doesn't complete while a part waits for a permit
+        private final AtomicInteger outstanding = new AtomicInteger(1);
+        private final Iterator<DataSource.Part> parts;
+        private final TraceCarrier traceCarrier;
+        private volatile Throwable readFailure;
+
+        AsyncTransfer(Iterator<DataSource.Part> parts, TraceCarrier traceCarrier) {
+            this.parts = parts;
+            this.traceCarrier = traceCarrier;
+        }
+
+        void sendParts() {
+            try {
+                while (!failed.get() && parts.hasNext()) {
+                    var part = parts.next();
+                    var request = requestFactory.toRequest(params, part);
+                    var permits = inFlightLimiter.permitsFor(request.url());
+                    if (!permits.tryAcquire()) {
+                        permits.acquire(() -> resume(part, request, permits));
+                        return;
+                    }
+                    send(part, request, permits);
+                }
+            } catch (Exception e) {
+                readFailure = e;
+                failed.set(true);
+            }
+            completed();
+        }
+
+        private void resume(DataSource.Part part, Request request, InFlightRequestLimiter.Permits permits) {
+            try {
+                executorService.execute(telemetry.contextPropagationMiddleware(() -> {
+                    send(part, request, permits);
+                    sendParts();
+                    return null;
+                }, traceCarrier)::get);
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                readFailure = e;
+                failed.set(true);
+                completed();
+            }
+        }
+
+        private void send(DataSource.Part part, Request request, InFlightRequestLimiter.Permits permits) {
+            if (failed.get()) {
+                permits.release();
+                return;
+            }
+
+            outstanding.incrementAndGet();
+            CompletableFuture<Response> response;
+            try {
+                response = httpClient.executeAsync(request, List.of());
+            } catch (Exception e) {
+                response = CompletableFuture.failedFuture(e);
+            }
+            response.whenComplete((r, throwable) -> {
+                try {
+                    if (throwable != null) {
+                        monitor.severe(format("Error writing HTTP data %s to endpoint %s for request: %s", part.name(), request.url().url(), request), throwable);
+                        failed.set(true);
+                    } else {
+                        try (r) {
+                            if (!r.isSuccessful()) {
+                                monitor.severe(format("Error {%s: %s} received writing HTTP data %s to endpoint %s for request: %s",
+                                        r.code(), r.message(), part.name(), request.url().url(), request));
+                                failed.set(true);
+                            }
+                        }
+                    }
+                } finally {
+                    permits.release();
+                    completed();
+                }
+            });
+        }
+
+        private void completed() {
+            if (outstanding.decrementAndGet() > 0) {
+                return;
+            }
+            if (readFailure != null) {
+                result.completeExceptionally(readFailure);
+            } else {
+                result.complete(failed.get() ? ERROR_WRITING_DATA : complete());
+            }
+        }
+    }
+
     public static class Builder extends ParallelSink.Builder<Builder, HttpDataSink> {
 
         public static Builder newInstance() {
@@ -83,6 +231,14 @@ public class HttpDataSink extends ParallelSink {
             return this;
         }
 
+        /**
+         * Enables the asynchronous mode, limiting the requests in flight per destination with the given limiter.
+         */
+        public Builder inFlightLimiter(InFlightRequestLimiter inFlightLimiter) {
+            sink.inFlightLimiter = inFlightLimiter;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.requestFactory, "requestFactory");
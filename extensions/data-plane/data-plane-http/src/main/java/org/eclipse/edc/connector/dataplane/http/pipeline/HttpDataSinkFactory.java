@@ -25,6 +25,7 @@ import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.types.domain.transfer.DataFlowStartMessage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.concurrent.ExecutorService;
 
@@ -40,12 +41,26 @@ public class HttpDataSinkFactory implements DataSinkFactory {
     private final Monitor monitor;
     private final HttpRequestParamsProvider requestParamsProvider;
     private final HttpRequestFactory requestFactory;
+    private final InFlightRequestLimiter inFlightLimiter;
 
     public HttpDataSinkFactory(EdcHttpClient httpClient,
                                ExecutorService executorService,
                                int partitionSize,
                                Monitor monitor,
                                HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory) {
+        this(httpClient, executorService, partitionSize, monitor, requestParamsProvider, requestFactory, null);
+    }
+
+    /**
+     * Creates a factory whose sinks write asynchronously when an {@link InFlightRequestLimiter} is passed, blocking otherwise.
+     */
+    public HttpDataSinkFactory(EdcHttpClient httpClient,
+                               ExecutorService executorService,
+                               int partitionSize,
+                               Monitor monitor,
+                               HttpRequestParamsProvider requestParamsProvider, HttpRequestFactory requestFactory,
+                               @Nullable InFlightRequestLimiter inFlightLimiter) {
+        this.inFlightLimiter = inFlightLimiter;
         this.httpClient = httpClient;
         this.executorService = executorService;
         this.partitionSize = partitionSize;
@@ -79,6 +94,7 @@ public class HttpDataSinkFactory implements DataSinkFactory {
                 .executorService(executorService)
                 .monitor(monitor)
                 .requestFactory(requestFactory)
+                .inFlightLimiter(inFlightLimiter)
                 .build();
     }
 }
@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.HttpUrl;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounds the number of requests that asynchronous {@link HttpDataSink}s keep in flight towards a single destination.
+ * Permits are shared across all the sinks created by the same {@link HttpDataSinkFactory}, so concurrent transfers to
+ * the same endpoint cannot exceed the limit together. Permits are never waited for: a sink that doesn't get one registers
+ * a callback, that is run by the sink that releases the next permit.
+ */
+public class InFlightRequestLimiter {
+    private final int maxInFlight;
+    private final Map<String, Permits> permits = new ConcurrentHashMap<>();
+
+    public InFlightRequestLimiter(int maxInFlight) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("maxInFlight must be greater than 0, got " + maxInFlight);
+        }
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Returns the permits of the destination addressed by the url. A destination is identified by scheme, host and port.
+     *
+     * @param url the request url.
+     * @return the permits guarding the destination.
+     */
+    public Permits permitsFor(HttpUrl url) {
+        return permits.computeIfAbsent(url.scheme() + "://" + url.host() + ":" + url.port(), k -> new Permits(maxInFlight));
+    }
+
+    /**
+     * The permits of a destination. Permits are handed to the callbacks in the order they were registered.
+     */
+    public static class Permits {
+        private final Queue<Runnable> waiting = new ArrayDeque<>();
+        private int available;
+
+        private Permits(int available) {
+            this.available = available;
+        }
+
+        /**
+         * Acquires a permit if one is available and no callback is waiting for it.
+         *
+         * @return true if the permit was acquired.
+         */
+        public synchronized boolean tryAcquire() {
+            if (available > 0 && waiting.isEmpty()) {
+                available--;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Runs the callback once a permit has been acquired for it: right away if one is available, otherwise on the
+         * thread that releases the next permit, so the callback must not block.
+         *
+         * @param onAcquired the callback, it owns the permit and must release it.
+         */
+        public void acquire(Runnable onAcquired) {
+            synchronized (this) {
+                if (!tryAcquire()) {
+                    waiting.add(onAcquired);
+                    return;
+                }
+            }
+            onAcquired.run();
+        }
+
+        /**
+         * Releases a permit, handing it to the first waiting callback if any.
+         */
+        public void release() {
+            Runnable next;
+            synchronized (this) {
+                next = waiting.poll();
+                if (next == null) {
+                    available++;
+                    return;
+                }
+            }
+            next.run();
+        }
+
+        public synchronized int availablePermits() {
+            return available;
+        }
+    }
+}
@@ -18,12 +18,15 @@ package org.eclipse.edc.connector.dataplane.http.pipeline;
 import io.netty.handler.codec.http.HttpMethod;
 import okhttp3.HttpUrl;
 import okhttp3.Request;
+import okhttp3.Response;
 import org.eclipse.edc.connector.dataplane.http.params.HttpRequestFactory;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpDataAddress;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParams;
 import org.eclipse.edc.connector.dataplane.http.spi.HttpRequestParamsProvider;
 import org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.http.EdcHttpClient;
 import org.eclipse.edc.spi.monitor.Monitor;
@@ -39,15 +42,24 @@ import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.eclipse.edc.connector.dataplane.http.testfixtures.TestFunctions.createHttpResponse;
 import static org.eclipse.edc.dataaddress.httpdata.spi.HttpDataAddressSchema.HTTP_DATA_TYPE;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class HttpDataSinkFactoryTest {
@@ -139,6 +151,93 @@ class HttpDataSinkFactoryTest {
                 .satisfies(result -> assertThat(result.succeeded()).isTrue());
     }
 
+    @Test
+    void verifyAsyncTransfer_shouldNotBlockOnExecute() throws IOException {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().build());
+        when(provider.provideSinkParams(request)).thenReturn(createParams());
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList())).thenReturn(CompletableFuture.completedFuture(createHttpResponse().build()));
+        var asyncFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory, new InFlightRequestLimiter(2));
+
+        var future = asyncFactory.createSink(request).transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+        verify(httpClient, never()).execute(any());
+    }
+
+    @Test
+    void verifyAsyncTransfer_shouldFail_whenResponseIsNotSuccessful() {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().build());
+        when(provider.provideSinkParams(request)).thenReturn(createParams());
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        when(httpClient.executeAsync(isA(Request.class), anyList())).thenReturn(CompletableFuture.completedFuture(createHttpResponse().code(500).build()));
+        var asyncFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory, new InFlightRequestLimiter(2));
+
+        var future = asyncFactory.createSink(request).transfer(new InputStreamDataSource("test", new ByteArrayInputStream("test".getBytes())));
+
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.failed()).isTrue());
+    }
+
+    @Test
+    void verifyAsyncTransfer_shouldWaitForPermit_whenMaxInFlightReached() {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().build());
+        when(provider.provideSinkParams(request)).thenReturn(createParams());
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        var firstResponse = new CompletableFuture<Response>();
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenReturn(firstResponse)
+                .thenReturn(CompletableFuture.completedFuture(createHttpResponse().build()));
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(
+                new InputStreamDataSource("first", new ByteArrayInputStream("1".getBytes())),
+                new InputStreamDataSource("second", new ByteArrayInputStream("2".getBytes())))));
+        var asyncFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory, new InFlightRequestLimiter(1));
+
+        var future = asyncFactory.createSink(request).transfer(source);
+
+        verify(httpClient, after(200).times(1)).executeAsync(isA(Request.class), anyList());
+        firstResponse.complete(createHttpResponse().build());
+        verify(httpClient, timeout(5000).times(2)).executeAsync(isA(Request.class), anyList());
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+    }
+
+    @Test
+    void verifyAsyncTransfer_shouldNotBlockTransferThread_whenWaitingForPermit() {
+        var request = createRequest(HttpDataAddress.Builder.newInstance().build());
+        when(provider.provideSinkParams(request)).thenReturn(createParams());
+        when(requestFactory.toRequest(any(), any())).thenReturn(createHttpRequest());
+        var firstResponse = new CompletableFuture<Response>();
+        when(httpClient.executeAsync(isA(Request.class), anyList()))
+                .thenReturn(firstResponse)
+                .thenReturn(CompletableFuture.completedFuture(createHttpResponse().build()));
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(
+                new InputStreamDataSource("first", new ByteArrayInputStream("1".getBytes())),
+                new InputStreamDataSource("second", new ByteArrayInputStream("2".getBytes())))));
+        var asyncFactory = new HttpDataSinkFactory(httpClient, executorService, 5, monitor, provider, requestFactory, new InFlightRequestLimiter(1));
+
+        var future = asyncFactory.createSink(request).transfer(source);
+
+        verify(httpClient, timeout(5000).times(1)).executeAsync(isA(Request.class), anyList());
+        assertThat(executorService.submit(() -> "free")).succeedsWithin(5, TimeUnit.SECONDS);
+        assertThat(future).isNotDone();
+        firstResponse.complete(createHttpResponse().build());
+        assertThat(future).succeedsWithin(10, TimeUnit.SECONDS)
+                .satisfies(result -> assertThat(result.succeeded()).isTrue());
+        verify(httpClient, times(2)).executeAsync(isA(Request.class), anyList());
+    }
+
+    private HttpRequestParams createParams() {
+        return HttpRequestParams.Builder.newInstance()
+                .baseUrl("http://some.base.url")
+                .method(HttpMethod.POST.name())
+                .contentType("application/json")
+                .build();
+    }
+
     private DataFlowStartMessage createRequest(DataAddress destination) {
         return DataFlowStartMessage.Builder.newInstance()
                 .id(UUID.randomUUID().toString())
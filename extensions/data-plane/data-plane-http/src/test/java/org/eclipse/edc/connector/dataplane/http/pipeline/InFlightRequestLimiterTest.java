@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.dataplane.http.pipeline;
+
+import okhttp3.HttpUrl;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InFlightRequestLimiterTest {
+
+    private final InFlightRequestLimiter limiter = new InFlightRequestLimiter(2);
+
+    @Test
+    void permitsFor_shouldSharePermits_whenSameDestination() {
+        var permits = limiter.permitsFor(HttpUrl.get("http://host:8080/path/one"));
+
+        assertThat(limiter.permitsFor(HttpUrl.get("http://host:8080/path/two?query=value"))).isSameAs(permits);
+        assertThat(permits.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void permitsFor_shouldNotSharePermits_whenDifferentDestination() {
+        var permits = limiter.permitsFor(HttpUrl.get("http://host:8080/path"));
+
+        assertThat(limiter.permitsFor(HttpUrl.get("http://host:9090/path"))).isNotSameAs(permits);
+        assertThat(limiter.permitsFor(HttpUrl.get("https://host:8080/path"))).isNotSameAs(permits);
+        assertThat(limiter.permitsFor(HttpUrl.get("http://other:8080/path"))).isNotSameAs(permits);
+    }
+
+    @Test
+    void acquire_shouldRunCallbackRightAway_whenPermitIsAvailable() {
+        var permits = limiter.permitsFor(HttpUrl.get("http://host:8080/path"));
+        var acquired = new AtomicBoolean();
+
+        permits.acquire(() -> acquired.set(true));
+
+        assertThat(acquired).isTrue();
+        assertThat(permits.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void acquire_shouldRunCallbackOnRelease_whenNoPermitIsAvailable() {
+        var permits = limiter.permitsFor(HttpUrl.get("http://host:8080/path"));
+        permits.tryAcquire();
+        permits.tryAcquire();
+        var acquired = new AtomicBoolean();
+
+        permits.acquire(() -> acquired.set(true));
+        assertThat(acquired).isFalse();
+        assertThat(permits.tryAcquire()).isFalse();
+
+        permits.release();
+        assertThat(acquired).isTrue();
+        assertThat(permits.availablePermits()).isZero();
+    }
+
+    @Test
+    void constructor_shouldThrow_whenMaxInFlightNotPositive() {
+        assertThatThrownBy(() -> new InFlightRequestLimiter(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.dataplane.kafka;
 
+import org.apache.kafka.clients.producer.ProducerConfig;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.dataplane.kafka.config.KafkaPropertiesFactory;
@@ -26,6 +27,8 @@ import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 
 import java.time.Clock;
+import java.util.Optional;
+import java.util.Properties;
 
 @Extension(value = DataPlaneKafkaExtension.NAME)
 public class DataPlaneKafkaExtension implements ServiceExtension {
@@ -37,6 +40,15 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
     @Setting(value = "The partitionSize used by the kafka data sink", type = "int", defaultValue = "5", min = 1)
     private static final String EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE = "edc.dataplane.kafka.sink.partition.size";
 
+    @Setting(value = "Default linger.ms of the kafka data sink producers, the destination address can override it. Defaults to the kafka client default.", type = "int", min = 0)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_LINGER_MS = "edc.dataplane.kafka.sink.linger.ms";
+
+    @Setting(value = "Default batch.size of the kafka data sink producers, the destination address can override it. Defaults to the kafka client default.", type = "int", min = 0)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_BATCH_SIZE = "edc.dataplane.kafka.sink.batch.size";
+
+    @Setting(value = "Default max.in.flight.requests.per.connection of the kafka data sink producers, the destination address can override it. Defaults to the kafka client default.", type = "int", min = 1)
+    private static final String EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT = "edc.dataplane.kafka.sink.max.in.flight.requests.per.connection";
+
     @Inject
     private DataTransferExecutorServiceContainer executorContainer;
 
@@ -58,7 +70,20 @@ public class DataPlaneKafkaExtension implements ServiceExtension {
         
         var sinkPartitionSize = context.getSetting(EDC_DATAPLANE_KAFKA_SINK_PARTITION_SIZE, DEFAULT_PARTITION_SIZE);
 
+        var producerDefaults = producerDefaults(context);
+
         pipelineService.registerFactory(new KafkaDataSourceFactory(monitor, propertiesFactory, clock));
-        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize));
+        pipelineService.registerFactory(new KafkaDataSinkFactory(executorContainer.getExecutorService(), monitor, propertiesFactory, sinkPartitionSize, producerDefaults));
+    }
+
+    private Properties producerDefaults(ServiceExtensionContext context) {
+        var producerDefaults = new Properties();
+        Optional.ofNullable(context.getSetting(EDC_DATAPLANE_KAFKA_SINK_LINGER_MS, null))
+                .ifPresent(value -> producerDefaults.put(ProducerConfig.LINGER_MS_CONFIG, value));
+        Optional.ofNullable(context.getSetting(EDC_DATAPLANE_KAFKA_SINK_BATCH_SIZE, null))
+                .ifPresent(value -> producerDefaults.put(ProducerConfig.BATCH_SIZE_CONFIG, value));
+        Optional.ofNullable(context.getSetting(EDC_DATAPLANE_KAFKA_SINK_MAX_IN_FLIGHT, null))
+                .ifPresent(value -> producerDefaults.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, value));
+        return producerDefaults;
     }
 }
@@ -17,17 +17,27 @@ package org.eclipse.edc.dataplane.kafka.pipeline;
 import org.apache.kafka.clients.producer.KafkaProducer;
 import org.apache.kafka.clients.producer.Producer;
 import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
 import org.eclipse.edc.connector.dataplane.util.sink.ParallelSink;
-import org.eclipse.edc.spi.result.AbstractResult;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
+import static java.lang.String.format;
+
+/**
+ * Publishes every part as a record of the destination topic. A partition of parts is reported as transferred only
+ * after the broker acknowledged all of its records, so that the transfer cannot complete with lost records. Records
+ * are batched by the producer according to its {@code linger.ms} and {@code batch.size} settings.
+ */
 class KafkaDataSink extends ParallelSink implements Closeable {
 
     private String topic;
@@ -45,24 +55,41 @@ class KafkaDataSink extends ParallelSink implements Closeable {
 
     @Override
     protected StreamResult<Object> transferParts(List<DataSource.Part> parts) {
-        return parts.stream()
-                .map(this::publishPart)
-                .filter(AbstractResult::failed)
-                .findFirst()
-                .orElse(StreamResult.success());
+        var acknowledgements = new ArrayList<Future<RecordMetadata>>(parts.size());
+        for (var part : parts) {
+            try {
+                acknowledgements.add(producer.send(toRecord(part)));
+            } catch (IOException e) {
+                return StreamResult.error("Failed to open part with name: " + part.name());
+            } catch (Exception e) {
+                monitor.severe(format("Failed to publish part %s to topic %s", part.name(), topic), e);
+                return StreamResult.error(format("Failed to publish part %s to topic %s: %s", part.name(), topic, e.getMessage()));
+            }
+        }
+
+        for (var acknowledgement : acknowledgements) {
+            try {
+                acknowledgement.get();
+            } catch (ExecutionException e) {
+                monitor.severe(format("Failed to publish record to topic %s", topic), e.getCause());
+                return StreamResult.error(format("Failed to publish record to topic %s: %s", topic, e.getCause().getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return StreamResult.error(format("Interrupted while waiting for the acknowledgement of topic %s", topic));
+            }
+        }
+        return StreamResult.success();
     }
 
-    private StreamResult<Object> publishPart(DataSource.Part part) {
+    /**
+     * Records coming from a Kafka source keep their key, so that they land on the same partition of the destination.
+     */
+    private ProducerRecord<String, byte[]> toRecord(DataSource.Part part) throws IOException {
+        if (part instanceof KafkaDataSource.KafkaPart kafkaPart) {
+            return new ProducerRecord<>(topic, kafkaPart.key(), kafkaPart.value());
+        }
         try (var is = part.openStream()) {
-            // asynchronous publishing
-            producer.send(new ProducerRecord<>(topic, null, is.readAllBytes()), (metadata, exception) -> {
-                if (exception != null) {
-                    monitor.warning("Failed to publish message:  " + metadata, exception);
-                }
-            });
-            return StreamResult.success();
-        } catch (IOException e) {
-            return StreamResult.error("Failed to open part with name: " + part.name());
+            return new ProducerRecord<>(topic, null, is.readAllBytes());
         }
     }
 
@@ -88,13 +115,20 @@ class KafkaDataSink extends ParallelSink implements Closeable {
             return this;
         }
 
+        Builder producer(Producer<String, byte[]> producer) {
+            sink.producer = producer;
+            return this;
+        }
+
         @Override
         protected void validate() {
             Objects.requireNonNull(sink.monitor, "monitor");
             Objects.requireNonNull(sink.topic, "topic");
-            Objects.requireNonNull(producerProperties, "producerProperties");
 
-            sink.producer = new KafkaProducer<>(producerProperties);
+            if (sink.producer == null) {
+                Objects.requireNonNull(producerProperties, "producerProperties");
+                sink.producer = new KafkaProducer<>(producerProperties);
+            }
         }
     }
 }
@@ -27,6 +27,7 @@ import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Properties;
 import java.util.concurrent.ExecutorService;
 
 import static org.eclipse.edc.dataaddress.kafka.spi.KafkaDataAddressSchema.KAFKA_TYPE;
@@ -39,8 +40,18 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
     private final KafkaPropertiesFactory propertiesFactory;
     private final Validator<DataAddress> validation;
     private final int partitionSize;
+    private final Properties producerDefaults;
 
     public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize) {
+        this(executorService, monitor, propertiesFactory, partitionSize, new Properties());
+    }
+
+    /**
+     * Creates a factory whose producers use the given defaults, e.g. {@code linger.ms} and {@code batch.size}, unless
+     * the destination address overrides them.
+     */
+    public KafkaDataSinkFactory(ExecutorService executorService, Monitor monitor, KafkaPropertiesFactory propertiesFactory, int partitionSize, Properties producerDefaults) {
+        this.producerDefaults = producerDefaults;
         this.executorService = executorService;
         this.monitor = monitor;
         this.propertiesFactory = propertiesFactory;
@@ -67,8 +78,10 @@ public class KafkaDataSinkFactory implements DataSinkFactory {
         }
 
         var destination = request.getDestinationDataAddress();
-        var producerProps = propertiesFactory.getProducerProperties(destination.getProperties())
-                .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail()));
+        var producerProps = new Properties();
+        producerProps.putAll(producerDefaults);
+        producerProps.putAll(propertiesFactory.getProducerProperties(destination.getProperties())
+                .orElseThrow(failure -> new IllegalArgumentException(failure.getFailureDetail())));
 
         return KafkaDataSink.Builder.newInstance()
                 .monitor(monitor)
@@ -62,7 +62,7 @@ class KafkaDataSource implements DataSource {
         var stream = openRecordsStream()
                 .flatMap(consumerRecords -> consumerRecords.partitions().stream()
                         .flatMap(p -> consumerRecords.records(p).stream())
-                        .map(KafkaPart::new)
+                        .map(consumerRecord -> new KafkaPart(name, consumerRecord))
                         .map(Part.class::cast))
                 .onClose(() -> consumer.close());
 
@@ -137,11 +137,16 @@ class KafkaDataSource implements DataSource {
         }
     }
 
-    private class KafkaPart implements Part {
+    /**
+     * A part carrying a single record, whose key is preserved when it is published again by a {@link KafkaDataSink}.
+     */
+    static class KafkaPart implements Part {
 
+        private final String name;
         private final ConsumerRecord<String, byte[]> consumerRecord;
 
-        private KafkaPart(ConsumerRecord<String, byte[]> consumerRecord) {
+        KafkaPart(String name, ConsumerRecord<String, byte[]> consumerRecord) {
+            this.name = name;
             this.consumerRecord = consumerRecord;
         }
 
@@ -154,6 +159,14 @@ class KafkaDataSource implements DataSource {
         public InputStream openStream() {
             return new ByteArrayInputStream(consumerRecord.value());
         }
+
+        String key() {
+            return consumerRecord.key();
+        }
+
+        byte[] value() {
+            return consumerRecord.value();
+        }
     }
 
     private class ConsumerRecordsIterator implements Iterator<ConsumerRecords<String, byte[]>> {
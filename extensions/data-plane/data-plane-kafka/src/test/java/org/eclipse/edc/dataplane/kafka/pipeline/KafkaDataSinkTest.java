@@ -0,0 +1,119 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.dataplane.kafka.pipeline;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.InputStreamDataSource;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.StreamResult;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class KafkaDataSinkTest {
+
+    private static final String TOPIC = "topic";
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+    private final Monitor monitor = mock();
+
+    @AfterEach
+    void tearDown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    void transfer_shouldSucceed_onlyOnceAllRecordsAreAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer);
+
+        var future = sink.transfer(source(part("one"), part("two")));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(2));
+        assertThat(future).isNotDone();
+
+        producer.completeNext();
+        producer.completeNext();
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result.succeeded()).isTrue());
+    }
+
+    @Test
+    void transfer_shouldFail_whenRecordIsNotAcknowledged() {
+        var producer = new MockProducer<>(false, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer);
+
+        var future = sink.transfer(source(part("one")));
+
+        await().untilAsserted(() -> assertThat(producer.history()).hasSize(1));
+        producer.errorNext(new RuntimeException("broker unavailable"));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> {
+            assertThat(result.failed()).isTrue();
+            assertThat(result.getFailureDetail()).contains("broker unavailable");
+        });
+    }
+
+    @Test
+    void transfer_shouldKeepRecordKey_whenPartComesFromKafka() {
+        var producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer());
+        var sink = createSink(producer);
+        var record = new ConsumerRecord<>("source", 0, 0L, "key", "value".getBytes());
+
+        var future = sink.transfer(source(new KafkaDataSource.KafkaPart("name", record)));
+
+        assertThat(future).succeedsWithin(5, TimeUnit.SECONDS).satisfies(result -> assertThat(result.succeeded()).isTrue());
+        assertThat(producer.history()).singleElement().satisfies(sent -> {
+            assertThat(sent.topic()).isEqualTo(TOPIC);
+            assertThat(sent.key()).isEqualTo("key");
+            assertThat(sent.value()).isEqualTo("value".getBytes());
+        });
+    }
+
+    private KafkaDataSink createSink(MockProducer<String, byte[]> producer) {
+        return KafkaDataSink.Builder.newInstance()
+                .requestId("requestId")
+                .topic(TOPIC)
+                .producer(producer)
+                .partitionSize(5)
+                .executorService(executorService)
+                .monitor(monitor)
+                .build();
+    }
+
+    private DataSource source(DataSource.Part... parts) {
+        DataSource source = mock();
+        when(source.openPartStream()).thenReturn(StreamResult.success(Stream.of(parts)));
+        return source;
+    }
+
+    private DataSource.Part part(String content) {
+        return new InputStreamDataSource(content, new ByteArrayInputStream(content.getBytes()));
+    }
+}
@@ -18,6 +18,7 @@ import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiV2Co
 import org.eclipse.edc.connector.dataplane.spi.Endpoint;
 import org.eclipse.edc.connector.dataplane.spi.iam.DataPlaneAuthorizationService;
 import org.eclipse.edc.connector.dataplane.spi.iam.PublicEndpointGeneratorService;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -74,6 +75,9 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
     @Inject
     private DataPlaneAuthorizationService authorizationService;
 
@@ -91,10 +95,12 @@ public class DataPlanePublicApiV2Extension implements ServiceExtension {
     @Override
     public void initialize(ServiceExtensionContext context) {
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
-        var executorService = executorInstrumentation.instrument(
-                Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
-                "Data plane proxy transfers"
-        );
+        // a virtual thread executor is not bounded, there is no need to keep proxy transfers on a dedicated pool
+        var executorService = executorContainer.isVirtualThreads() ? executorContainer.getExecutorService() :
+                executorInstrumentation.instrument(
+                        Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
+                        "Data plane proxy transfers"
+                );
 
         var publicEndpoint = context.getSetting(PUBLIC_ENDPOINT, null);
         if (publicEndpoint == null) {
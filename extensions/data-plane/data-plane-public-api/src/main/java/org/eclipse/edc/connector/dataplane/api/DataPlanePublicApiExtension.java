@@ -17,6 +17,7 @@ package org.eclipse.edc.connector.dataplane.api;
 
 import org.eclipse.edc.connector.dataplane.api.controller.DataPlanePublicApiController;
 import org.eclipse.edc.connector.dataplane.api.validation.ConsumerPullTransferDataAddressResolver;
+import org.eclipse.edc.connector.dataplane.spi.pipeline.DataTransferExecutorServiceContainer;
 import org.eclipse.edc.connector.dataplane.spi.pipeline.PipelineService;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
@@ -79,6 +80,9 @@ public class DataPlanePublicApiExtension implements ServiceExtension {
     @Inject
     private ExecutorInstrumentation executorInstrumentation;
 
+    @Inject
+    private DataTransferExecutorServiceContainer executorContainer;
+
     @Override
     public String name() {
         return NAME;
@@ -89,10 +93,12 @@ public class DataPlanePublicApiExtension implements ServiceExtension {
         var validationEndpoint = context.getConfig().getString(CONTROL_PLANE_VALIDATION_ENDPOINT);
         var dataAddressResolver = new ConsumerPullTransferDataAddressResolver(httpClient, validationEndpoint, typeManager.getMapper());
         var configuration = webServiceConfigurer.configure(context, webServer, PUBLIC_SETTINGS);
-        var executorService = executorInstrumentation.instrument(
-                Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
-                "Data plane proxy transfers"
-        );
+        // a virtual thread executor is not bounded, there is no need to keep proxy transfers on a dedicated pool
+        var executorService = executorContainer.isVirtualThreads() ? executorContainer.getExecutorService() :
+                executorInstrumentation.instrument(
+                        Executors.newFixedThreadPool(DEFAULT_THREAD_POOL),
+                        "Data plane proxy transfers"
+                );
         var monitor = context.getMonitor().withPrefix("DataPlane Public API");
         var publicApiController = new DataPlanePublicApiController(pipelineService, dataAddressResolver, executorService, monitor);
         webService.registerResource(configuration.getContextAlias(), publicApiController);
@@ -31,10 +31,18 @@ CREATE TABLE IF NOT EXISTS edc_data_plane
     source               JSON,
     destination          JSON,
     properties           JSON,
-    flow_type            VARCHAR
+    flow_type            VARCHAR,
+    next_eligible_at     BIGINT  DEFAULT 0 NOT NULL
 );
 
+-- adds the column to databases created before it was introduced
+ALTER TABLE edc_data_plane ADD COLUMN IF NOT EXISTS next_eligible_at BIGINT DEFAULT 0 NOT NULL;
+
 COMMENT ON COLUMN edc_data_plane.trace_context IS 'Java Map serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.source IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.destination IS 'DataAddress serialized as JSON';
 COMMENT ON COLUMN edc_data_plane.properties IS 'Java Map serialized as JSON';
+COMMENT ON COLUMN edc_data_plane.next_eligible_at IS 'posix timestamp before which the data flow is waiting for a retry';
+
+CREATE INDEX IF NOT EXISTS data_plane_state_next_eligible_at_index
+    ON edc_data_plane (state, next_eligible_at);
@@ -82,16 +82,19 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var now = clock.millis();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), now)
+                    .addWhereClause(statements.getEligibleFilter(), now);
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapDataFlow, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var ids = entries.stream().map(DataFlow::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -128,6 +131,18 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 } else {
                     insert(connection, entity);
                 }
+                entity.markSaved();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void releaseLease(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.by(leaseHolderName).withConnection(connection).releaseLease(id);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -149,7 +164,8 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getSource()),
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
-                dataFlow.getFlowType().toString()
+                dataFlow.getFlowType().toString(),
+                dataFlow.getNextEligibleAt()
         );
     }
 
@@ -167,6 +183,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 toJson(dataFlow.getDestination()),
                 toJson(dataFlow.getProperties()),
                 dataFlow.getFlowType().toString(),
+                dataFlow.getNextEligibleAt(),
                 dataFlow.getId());
     }
 
@@ -178,6 +195,7 @@ public class SqlDataPlaneStore extends AbstractSqlStore implements DataPlaneStor
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .nextEligibleAt(resultSet.getLong(statements.getNextEligibleAtColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .callbackAddress(Optional.ofNullable(resultSet.getString(statements.getCallbackAddressColumn())).map(URI::create).orElse(null))
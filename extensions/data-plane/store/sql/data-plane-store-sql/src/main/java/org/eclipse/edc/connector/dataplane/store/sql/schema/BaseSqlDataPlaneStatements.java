@@ -45,6 +45,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .column(getNextEligibleAtColumn())
                 .insertInto(getDataPlaneTable());
     }
 
@@ -62,6 +63,7 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
                 .jsonColumn(getDestinationColumn())
                 .jsonColumn(getPropertiesColumn())
                 .column(getFlowTypeColumn())
+                .column(getNextEligibleAtColumn())
                 .update(getDataPlaneTable(), getIdColumn());
     }
 
@@ -102,4 +104,19 @@ public class BaseSqlDataPlaneStatements implements DataPlaneStatements {
         return format("SELECT * FROM %s  WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getDataPlaneTable(), getIdColumn());
     }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeases(getDataPlaneTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeases(getDataPlaneTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getReleaseLeaseTemplate() {
+        return releaseLease(getDataPlaneTable(), getIdColumn());
+    }
 }
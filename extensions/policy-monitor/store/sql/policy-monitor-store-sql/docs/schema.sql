@@ -28,5 +28,14 @@ CREATE TABLE IF NOT EXISTS edc_policy_monitor
                     REFERENCES edc_lease
                     ON DELETE SET NULL,
     properties           JSON,
-    contract_id          VARCHAR
+    contract_id          VARCHAR,
+    next_eligible_at     BIGINT  DEFAULT 0 NOT NULL
 );
+
+-- adds the column to databases created before it was introduced
+ALTER TABLE edc_policy_monitor ADD COLUMN IF NOT EXISTS next_eligible_at BIGINT DEFAULT 0 NOT NULL;
+
+COMMENT ON COLUMN edc_policy_monitor.next_eligible_at IS 'posix timestamp before which the entry is waiting for a retry';
+
+CREATE INDEX IF NOT EXISTS policy_monitor_state_next_eligible_at_index
+    ON edc_policy_monitor (state, next_eligible_at);
@@ -75,16 +75,19 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
         return transactionContext.execute(() -> {
             var filter = Arrays.stream(criteria).collect(toList());
             var querySpec = QuerySpec.Builder.newInstance().filter(filter).limit(max).build();
+            var now = clock.millis();
             var statement = statements.createQuery(querySpec)
-                    .addWhereClause(statements.getNotLeasedFilter(), clock.millis());
+                    .addWhereClause(statements.getNotLeasedFilter(), now)
+                    .addWhereClause(statements.getEligibleFilter(), now);
 
             try (
                     var connection = getConnection();
                     var stream = queryExecutor.query(connection, true, this::mapEntry, statement.getQueryAsString(), statement.getParameters())
             ) {
                 var entries = stream.collect(Collectors.toList());
-                entries.forEach(entry -> leaseContext.withConnection(connection).acquireLease(entry.getId()));
-                return entries;
+                var ids = entries.stream().map(PolicyMonitorEntry::getId).toList();
+                var leased = leaseContext.withConnection(connection).acquireLeases(ids);
+                return entries.stream().filter(entry -> leased.contains(entry.getId())).collect(Collectors.toList());
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -121,6 +124,18 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 } else {
                     insert(connection, entity);
                 }
+                entity.markSaved();
+            } catch (SQLException e) {
+                throw new EdcPersistenceException(e);
+            }
+        });
+    }
+
+    @Override
+    public void releaseLease(String id) {
+        transactionContext.execute(() -> {
+            try (var connection = getConnection()) {
+                leaseContext.by(leaseHolderName).withConnection(connection).releaseLease(id);
             } catch (SQLException e) {
                 throw new EdcPersistenceException(e);
             }
@@ -147,7 +162,8 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 entry.getStateTimestamp(),
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
-                entry.getContractId()
+                entry.getContractId(),
+                entry.getNextEligibleAt()
         );
     }
 
@@ -161,6 +177,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 toJson(entry.getTraceContext()),
                 entry.getErrorDetail(),
                 entry.getContractId(),
+                entry.getNextEligibleAt(),
                 entry.getId());
     }
 
@@ -172,6 +189,7 @@ public class SqlPolicyMonitorStore extends AbstractSqlStore implements PolicyMon
                 .state(resultSet.getInt(statements.getStateColumn()))
                 .stateTimestamp(resultSet.getLong(statements.getStateTimestampColumn()))
                 .stateCount(resultSet.getInt(statements.getStateCountColumn()))
+                .nextEligibleAt(resultSet.getLong(statements.getNextEligibleAtColumn()))
                 .traceContext(fromJson(resultSet.getString(statements.getTraceContextColumn()), getTypeRef()))
                 .errorDetail(resultSet.getString(statements.getErrorDetailColumn()))
                 .contractId(resultSet.getString(statements.getContractIdColumn()))
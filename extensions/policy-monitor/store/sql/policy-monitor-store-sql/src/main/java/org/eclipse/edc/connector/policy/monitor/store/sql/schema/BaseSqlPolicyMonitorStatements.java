@@ -40,6 +40,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEligibleAtColumn())
                 .insertInto(getPolicyMonitorTable());
     }
 
@@ -53,6 +54,7 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
                 .jsonColumn(getTraceContextColumn())
                 .column(getErrorDetailColumn())
                 .column(getContractIdColumn())
+                .column(getNextEligibleAtColumn())
                 .update(getPolicyMonitorTable(), getIdColumn());
     }
 
@@ -93,4 +95,19 @@ public class BaseSqlPolicyMonitorStatements implements PolicyMonitorStatements {
         return format("SELECT * FROM %s WHERE %s = (SELECT lease_id FROM %s WHERE %s=? )",
                 getLeaseTableName(), getLeaseIdColumn(), getPolicyMonitorTable(), getIdColumn());
     }
+
+    @Override
+    public String getDeleteExpiredLeasesTemplate(int count) {
+        return deleteExpiredLeases(getPolicyMonitorTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getUpdateLeasesTemplate(int count) {
+        return updateLeases(getPolicyMonitorTable(), getIdColumn(), count);
+    }
+
+    @Override
+    public String getReleaseLeaseTemplate() {
+        return releaseLease(getPolicyMonitorTable(), getIdColumn());
+    }
 }
@@ -132,6 +132,7 @@ include(":extensions:common:monitor:monitor-jdk-logger")
 include(":extensions:common:sql:sql-core")
 include(":extensions:common:sql:sql-lease")
 include(":extensions:common:sql:sql-pool:sql-pool-apache-commons")
+include(":extensions:common:sql:sql-wakeup-postgres")
 include(":extensions:common:transaction")
 include(":extensions:common:transaction:transaction-atomikos")
 include(":extensions:common:transaction:transaction-local")
@@ -162,6 +163,7 @@ include(":extensions:control-plane:transfer:transfer-pull-http-dynamic-receiver"
 include(":extensions:control-plane:provision:provision-http")
 
 include(":extensions:control-plane:store:sql:asset-index-sql")
+include(":extensions:control-plane:store:sql:callback-outbox-store-sql")
 include(":extensions:control-plane:store:sql:contract-definition-store-sql")
 include(":extensions:control-plane:store:sql:contract-negotiation-store-sql")
 include(":extensions:control-plane:store:sql:control-plane-sql")
@@ -241,6 +243,7 @@ include(":spi:data-plane-selector:data-plane-selector-spi")
 include(":spi:policy-monitor:policy-monitor-spi")
 
 // modules for system tests ------------------------------------------------------------------------
+include(":system-tests:benchmarks")
 include(":system-tests:e2e-transfer-test:backend-service")
 include(":system-tests:e2e-transfer-test:control-plane")
 include(":system-tests:e2e-transfer-test:data-plane")
@@ -16,15 +16,25 @@ package org.eclipse.edc.catalog.spi;
 
 import org.eclipse.edc.spi.agent.ParticipantAgent;
 import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.result.Result;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
 /**
  * Resolves {@link Dataset}s for the {@link Catalog}
  */
 public interface DatasetResolver {
 
+    /**
+     * Key of the {@link Catalog} property that contains the continuation token, when more datasets could be available.
+     * To get the next page, the same token can be passed back as a filter criterion with this key as left operand.
+     */
+    String CONTINUATION_TOKEN = EDC_NAMESPACE + "continuationToken";
+
     /**
      * Resolves {@link Dataset}s given the {@link ParticipantAgent} and a {@link QuerySpec}
      *
@@ -35,6 +45,17 @@ public interface DatasetResolver {
     @NotNull
     Stream<Dataset> query(ParticipantAgent agent, QuerySpec querySpec);
 
+    /**
+     * Validates the query before it gets resolved, e.g. the continuation token passed in the filter, so that a malformed
+     * query can be rejected as a bad request.
+     *
+     * @param querySpec the query spec.
+     * @return failure if the query cannot be resolved.
+     */
+    default Result<Void> validate(QuerySpec querySpec) {
+        return Result.success();
+    }
+
     /**
      * Resolves a {@link Dataset} given its id
      *
@@ -43,4 +64,15 @@ public interface DatasetResolver {
      * @return the {@link Dataset} if found, null otherwise.
      */
     Dataset getById(ParticipantAgent participantAgent, String id);
+
+    /**
+     * Returns the continuation token that permits to query the datasets following the passed one, if supported.
+     *
+     * @param last the last dataset returned by {@link #query(ParticipantAgent, QuerySpec)}.
+     * @return the continuation token, null if pagination by token is not supported.
+     */
+    @Nullable
+    default String continuationToken(Dataset last) {
+        return null;
+    }
 }
@@ -0,0 +1,57 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.spi.entity;
+
+/**
+ * Signal that can be raised to wake up the state machines, so they don't wait for the next iteration to pick up
+ * entities that changed state outside them (e.g. through the protocol services or on another replica).
+ * The signal can be raised for a topic, e.g. an entity type, to wake up only the state machines subscribed to it.
+ */
+public interface StateMachineWakeUpSignal {
+
+    /**
+     * Subscribe a listener that will be called every time the signal is raised, whatever the topic.
+     *
+     * @param listener the listener.
+     */
+    void subscribe(Runnable listener);
+
+    /**
+     * Subscribe a listener that will be called every time the signal is raised for the topic or for all topics.
+     *
+     * @param topic    the topic.
+     * @param listener the listener.
+     */
+    void subscribe(String topic, Runnable listener);
+
+    /**
+     * Unsubscribe a listener.
+     *
+     * @param listener the listener.
+     */
+    void unsubscribe(Runnable listener);
+
+    /**
+     * Raise the signal, notifying all the subscribed listeners.
+     */
+    void raise();
+
+    /**
+     * Raise the signal for a topic, notifying only the listeners subscribed to it or to all topics.
+     *
+     * @param topic the topic.
+     */
+    void raise(String topic);
+}
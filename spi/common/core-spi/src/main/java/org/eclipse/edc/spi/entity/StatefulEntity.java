@@ -36,6 +36,8 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     protected Map<String, String> traceContext = new HashMap<>();
     protected String errorDetail;
     protected boolean pending = false;
+    protected long nextEligibleAt;
+    private boolean changed;
 
     protected StatefulEntity() {
     }
@@ -67,10 +69,27 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
 
     public void setErrorDetail(String errorDetail) {
         this.errorDetail = errorDetail;
+        changed = true;
     }
 
     public void setPending(boolean pending) {
         this.pending = pending;
+        changed = true;
+    }
+
+    /**
+     * The time, in epoch millis, before which the entity must not be handed out for processing because it is waiting
+     * for the delay of a retry. It is reset when the entity transitions to another state.
+     *
+     * @return the timestamp, 0 if the entity is eligible immediately.
+     */
+    public long getNextEligibleAt() {
+        return nextEligibleAt;
+    }
+
+    public void setNextEligibleAt(long nextEligibleAt) {
+        this.nextEligibleAt = nextEligibleAt;
+        changed = true;
     }
 
     /**
@@ -80,6 +99,31 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
      */
     public void updateStateTimestamp() {
         stateTimestamp = clock.millis();
+        changed = true;
+    }
+
+    @Override
+    public void setModified() {
+        super.setModified();
+        changed = true;
+    }
+
+    /**
+     * Tells whether the entity has been changed since it has been built (e.g. by the store that loaded it) or saved.
+     * An entity without changes does not need to be written back, releasing its lease is enough.
+     * Changes made directly on nested objects are not tracked, they need to be signaled with {@link #setModified()}.
+     *
+     * @return true if the entity has been changed, false otherwise.
+     */
+    public boolean hasChanges() {
+        return changed;
+    }
+
+    /**
+     * Marks the entity as not having changes, to be called by the store once it has been persisted.
+     */
+    public void markSaved() {
+        changed = false;
     }
 
     public abstract T copy();
@@ -92,6 +136,9 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
     public abstract String stateAsString();
 
     protected void transitionTo(int targetState) {
+        if (state != targetState) {
+            nextEligibleAt = 0;
+        }
         stateCount = state == targetState ? stateCount + 1 : 1;
         state = targetState;
         updateStateTimestamp();
@@ -110,6 +157,7 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
                 .errorDetail(errorDetail)
                 .clock(clock)
                 .pending(pending)
+                .nextEligibleAt(nextEligibleAt)
                 .build();
     }
 
@@ -156,6 +204,11 @@ public abstract class StatefulEntity<T extends StatefulEntity<T>> extends Mutabl
             return self();
         }
 
+        public B nextEligibleAt(long nextEligibleAt) {
+            entity.nextEligibleAt = nextEligibleAt;
+            return self();
+        }
+
         protected T build() {
             super.build();
             if (entity.id == null) {
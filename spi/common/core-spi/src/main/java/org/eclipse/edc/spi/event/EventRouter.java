@@ -39,6 +39,17 @@ public interface EventRouter {
      */
     <E extends Event> void register(Class<E> eventKind, EventSubscriber subscriber);
 
+    /**
+     * Register a new asynchronous subscriber that must not miss any event: when the events are delivered to the
+     * asynchronous subscribers through bounded queues, the queue of this subscriber is not bounded, so its events never
+     * get dropped.
+     *
+     * @param subscriber that will receive every published event
+     */
+    default <E extends Event> void registerLossless(Class<E> eventKind, EventSubscriber subscriber) {
+        register(eventKind, subscriber);
+    }
+
     /**
      * Publish an event to all the subscribers
      *
@@ -14,6 +14,10 @@
 
 package org.eclipse.edc.spi.persistence;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Interface for storage implementations that need to "lease" certain entities, i.e. block them from subsequent
  * read/write access.
@@ -27,6 +31,19 @@ public interface LeaseContext {
      */
     void breakLease(String entityId);
 
+    /**
+     * Releases the exclusive Lock on an entity if it is held by the current holder, otherwise it does nothing.
+     *
+     * @param entityId The database ID of the entity
+     */
+    default void releaseLease(String entityId) {
+        try {
+            breakLease(entityId);
+        } catch (IllegalStateException e) {
+            // entity is leased by someone else
+        }
+    }
+
     /**
      * Acquires the exclusive Lock on an entity
      *
@@ -34,4 +51,23 @@ public interface LeaseContext {
      * @throws RuntimeException or subclass if the lease could not be acquired, e.g. because another holder holds it.
      */
     void acquireLease(String entityId);
+
+    /**
+     * Acquires the exclusive Lock on a set of entities. Entities that are currently leased are skipped.
+     *
+     * @param entityIds The database IDs of the entities
+     * @return the IDs of the entities that have been leased.
+     */
+    default Set<String> acquireLeases(Collection<String> entityIds) {
+        var leased = new LinkedHashSet<String>();
+        for (var entityId : entityIds) {
+            try {
+                acquireLease(entityId);
+                leased.add(entityId);
+            } catch (IllegalStateException e) {
+                // entity is already leased
+            }
+        }
+        return leased;
+    }
 }
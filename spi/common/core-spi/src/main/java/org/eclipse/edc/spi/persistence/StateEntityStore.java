@@ -83,8 +83,25 @@ public interface StateEntityStore<T> {
 
     /**
      * Persists the entity. This follows UPSERT semantics, so if the object didn't exit before, it's created.
+     * Stateful entities should be marked as saved afterwards, see {@link org.eclipse.edc.spi.entity.StatefulEntity#markSaved()}.
      *
      * @param entity the entity.
      */
     void save(T entity);
+
+    /**
+     * Releases the lease held on the entity by the current runtime, without writing the entity. Meant to give back
+     * entities that have been leased but not changed, e.g. when their processing has been skipped. A lease held by
+     * someone else is left untouched.
+     * <p>
+     * The default implementation re-saves the stored entity, implementors should override it with a lighter operation.
+     *
+     * @param id the entity id.
+     */
+    default void releaseLease(String id) {
+        var entity = findById(id);
+        if (entity != null) {
+            save(entity);
+        }
+    }
 }
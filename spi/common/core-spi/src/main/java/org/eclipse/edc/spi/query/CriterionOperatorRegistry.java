@@ -25,6 +25,7 @@ public interface CriterionOperatorRegistry {
     String IN = "in";
     String LIKE = "like";
     String CONTAINS = "contains";
+    String GREATER_THAN = ">";
 
     /**
      * Register an operator with the related operator predicate.
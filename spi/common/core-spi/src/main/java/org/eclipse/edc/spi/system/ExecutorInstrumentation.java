@@ -61,4 +61,12 @@ public interface ExecutorInstrumentation {
     default ExecutorService instrument(ExecutorService target, String name) {
         return target;
     }
+
+    /**
+     * Count a task that an instrumented executor rejected, e.g. because its queue was full.
+     *
+     * @param name name of the executor, as passed when instrumenting it.
+     */
+    default void rejected(String name) {
+    }
 }
@@ -21,6 +21,7 @@ import io.opentelemetry.context.propagation.TextMapGetter;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -104,6 +105,16 @@ public class Telemetry {
         };
     }
 
+    /**
+     * Wraps an executor service so that the submitted tasks run with the trace context of the submitting thread
+     *
+     * @param executorService The wrapped executor service
+     * @return The resulting executor service with the context propagation middleware
+     */
+    public ExecutorService contextPropagationMiddleware(ExecutorService executorService) {
+        return Context.taskWrapping(executorService);
+    }
+
     private Scope propagateTraceContext(TraceCarrier carrier) {
         Context extractedContext = openTelemetry.getPropagators().getTextMapPropagator()
                 .extract(Context.current(), carrier, new TraceCarrierTextMapGetter());
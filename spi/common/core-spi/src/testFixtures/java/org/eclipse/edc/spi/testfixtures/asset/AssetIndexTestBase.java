@@ -361,6 +361,23 @@ public abstract class AssetIndexTestBase {
             assertThat(assetsFound).isNotNull().hasSize(2);
         }
 
+        @Test
+        @DisplayName("Query assets using the > operator on the id")
+        void greaterThan() {
+            getAssetIndex().create(getAsset("a"));
+            getAssetIndex().create(getAsset("b"));
+            getAssetIndex().create(getAsset("c"));
+            var spec = QuerySpec.Builder.newInstance()
+                    .filter(new Criterion(Asset.PROPERTY_ID, ">", "a"))
+                    .sortField(Asset.PROPERTY_ID)
+                    .sortOrder(SortOrder.ASC)
+                    .build();
+
+            var assetsFound = getAssetIndex().queryAssets(spec);
+
+            assertThat(assetsFound).extracting(Asset::getId).containsExactly("b", "c");
+        }
+
         @Test
         @DisplayName("Query assets using the IN operator, invalid right operand")
         void shouldThrowException_whenOperatorInAndInvalidRightOperand() {
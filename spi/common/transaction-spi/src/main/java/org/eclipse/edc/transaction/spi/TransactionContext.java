@@ -44,6 +44,14 @@ public interface TransactionContext {
      */
     void registerSynchronization(TransactionSynchronization sync);
 
+    /**
+     * Registers an action that will be executed after the current transaction commits, and discarded if it is rolled
+     * back. If no transaction is active the action is executed immediately.
+     */
+    default void afterCommit(Runnable action) {
+        action.run();
+    }
+
     /**
      * Defines a block of transactional code.
      */
@@ -141,6 +141,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void addContractOffer(ContractOffer offer) {
         contractOffers.add(offer);
+        setModified();
     }
 
     /**
@@ -185,10 +186,12 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        setModified();
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        setModified();
     }
 
     /**
@@ -437,6 +440,7 @@ public class ContractNegotiation extends StatefulEntity<ContractNegotiation> {
      */
     public void setCorrelationId(String correlationId) {
         this.correlationId = correlationId;
+        setModified();
     }
 
     public enum Type {
@@ -712,6 +712,20 @@ public abstract class ContractNegotiationStoreTestBase {
             assertThat(batch).hasSize(5).isSubsetOf(negotiations);
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var waiting = createNegotiation("waiting");
+            waiting.setNextEligibleAt(clock.millis() + 60_000);
+            getContractNegotiationStore().save(waiting);
+            var due = createNegotiation("due");
+            due.setNextEligibleAt(clock.millis() - 1);
+            getContractNegotiationStore().save(due);
+
+            var leased = getContractNegotiationStore().nextNotLeased(10, hasState(REQUESTED.code()));
+
+            assertThat(leased).extracting(ContractNegotiation::getId).containsExactly("due");
+        }
+
         @Test
         void typeFilter() {
             range(0, 5).mapToObj(it -> createNegotiationBuilder("1" + it)
@@ -802,6 +816,39 @@ public abstract class ContractNegotiationStoreTestBase {
         }
     }
 
+    @Nested
+    class ReleaseLease {
+        @Test
+        void shouldReleaseTheLease() {
+            var id = UUID.randomUUID().toString();
+            getContractNegotiationStore().save(createNegotiation(id));
+            getContractNegotiationStore().findByIdAndLease(id);
+
+            getContractNegotiationStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+            assertThat(getContractNegotiationStore().findByIdAndLease(id)).isSucceeded();
+        }
+
+        @Test
+        void shouldNotReleaseTheLease_whenEntityIsLeasedBySomeoneElse() {
+            var id = UUID.randomUUID().toString();
+            getContractNegotiationStore().save(createNegotiation(id));
+            leaseEntity(id, "other owner");
+
+            getContractNegotiationStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getContractNegotiationStore().releaseLease("unexistent");
+
+            assertThat(getContractNegotiationStore().findById("unexistent")).isNull();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
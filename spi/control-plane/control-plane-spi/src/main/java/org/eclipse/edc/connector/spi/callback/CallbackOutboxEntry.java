@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.spi.callback;
+
+import org.eclipse.edc.spi.event.Event;
+import org.eclipse.edc.spi.event.EventEnvelope;
+import org.eclipse.edc.spi.types.domain.callback.CallbackAddress;
+
+import java.net.URI;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * A callback invocation waiting in the {@link CallbackOutboxStore} to be delivered.
+ * Entries with the same ordering key (e.g. the id of the transfer process that emitted the event) are delivered one at
+ * a time, in the order they have been stored.
+ */
+public class CallbackOutboxEntry {
+
+    private String id;
+    private String orderingKey;
+    private CallbackAddress callbackAddress;
+    private EventEnvelope<? extends Event> envelope;
+    private String protocol;
+    private int attempts;
+    private long nextAttemptAt;
+
+    private CallbackOutboxEntry() {
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getOrderingKey() {
+        return orderingKey;
+    }
+
+    public CallbackAddress getCallbackAddress() {
+        return callbackAddress;
+    }
+
+    public EventEnvelope<? extends Event> getEnvelope() {
+        return envelope;
+    }
+
+    public String getProtocol() {
+        return protocol;
+    }
+
+    /**
+     * The endpoint the callback is delivered to: scheme, host and port of the callback address.
+     *
+     * @return the endpoint.
+     */
+    public String getEndpoint() {
+        var uri = callbackAddress.getUri();
+        try {
+            var parsed = URI.create(uri);
+            return parsed.getScheme() + "://" + parsed.getAuthority();
+        } catch (IllegalArgumentException e) {
+            return uri;
+        }
+    }
+
+    /**
+     * The number of failed delivery attempts.
+     *
+     * @return the number of failed attempts.
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * The time, in epoch millis, before which the entry must not be delivered.
+     *
+     * @return the timestamp.
+     */
+    public long getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    /**
+     * Records a failed delivery attempt.
+     *
+     * @param nextAttemptAt the time, in epoch millis, of the next attempt.
+     */
+    public void attemptFailed(long nextAttemptAt) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    public static class Builder {
+        private final CallbackOutboxEntry entry;
+
+        private Builder() {
+            entry = new CallbackOutboxEntry();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        public Builder id(String id) {
+            entry.id = id;
+            return this;
+        }
+
+        public Builder orderingKey(String orderingKey) {
+            entry.orderingKey = orderingKey;
+            return this;
+        }
+
+        public Builder callbackAddress(CallbackAddress callbackAddress) {
+            entry.callbackAddress = callbackAddress;
+            return this;
+        }
+
+        public Builder envelope(EventEnvelope<? extends Event> envelope) {
+            entry.envelope = envelope;
+            return this;
+        }
+
+        public Builder protocol(String protocol) {
+            entry.protocol = protocol;
+            return this;
+        }
+
+        public Builder attempts(int attempts) {
+            entry.attempts = attempts;
+            return this;
+        }
+
+        public Builder nextAttemptAt(long nextAttemptAt) {
+            entry.nextAttemptAt = nextAttemptAt;
+            return this;
+        }
+
+        public CallbackOutboxEntry build() {
+            Objects.requireNonNull(entry.callbackAddress, "callbackAddress");
+            Objects.requireNonNull(entry.envelope, "envelope");
+            Objects.requireNonNull(entry.protocol, "protocol");
+            if (entry.id == null) {
+                entry.id = UUID.randomUUID().toString();
+            }
+            if (entry.orderingKey == null) {
+                entry.orderingKey = entry.id;
+            }
+            return entry;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.spi.callback;
+
+import org.eclipse.edc.runtime.metamodel.annotation.ExtensionPoint;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Stores the callback invocations that are waiting to be delivered. Implementations that store the entries in the same
+ * transaction of the state transition that emitted the event make callbacks durable.
+ */
+@ExtensionPoint
+public interface CallbackOutboxStore {
+
+    /**
+     * Persists the entry. This follows UPSERT semantics, an updated entry keeps its position in the delivery order and
+     * its lease is released.
+     *
+     * @param entry the entry.
+     */
+    void save(CallbackOutboxEntry entry);
+
+    /**
+     * Leases the entries that can be delivered: for every ordering key only the first stored entry is considered, and
+     * it is returned only if its next attempt is due and it is not leased. The returned entries are leased until the
+     * given time, so they are not returned again, to this or to another connector instance sharing the store, while they
+     * are being delivered. An entry is leased until it is saved, deleted or released, or until the lease expires.
+     *
+     * @param max               the maximum number of entries.
+     * @param now               the current time, in epoch millis.
+     * @param leaseUntil        the time, in epoch millis, until which the returned entries are leased.
+     * @param excludedEndpoints the endpoints (see {@link CallbackOutboxEntry#getEndpoint()}) whose entries must not be
+     *                          returned, e.g. because they have too many deliveries in flight.
+     * @return the entries, in the order they have been stored.
+     */
+    List<CallbackOutboxEntry> leaseDue(int max, long now, long leaseUntil, Set<String> excludedEndpoints);
+
+    /**
+     * Releases the lease of an entry that has not been delivered, so that it can be leased again right away.
+     *
+     * @param id the entry id.
+     */
+    void release(String id);
+
+    /**
+     * Whether {@link #save(CallbackOutboxEntry)} takes part in the ambient transaction, so that the entries of a
+     * transition that gets rolled back are not stored, and whether the entries are durable. Only then the store can
+     * hold the callbacks of transactional callback addresses.
+     *
+     * @return true if the entries are saved in the ambient transaction and are durable.
+     */
+    default boolean isTransactional() {
+        return false;
+    }
+
+    /**
+     * Deletes the entry, e.g. once it has been delivered.
+     *
+     * @param id the entry id.
+     */
+    void delete(String id);
+}
@@ -37,6 +37,19 @@ public interface CatalogProtocolService {
     @NotNull
     ServiceResult<Catalog> getCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation);
 
+    /**
+     * Returns a catalog given a {@link CatalogRequestMessage} and a {@link ClaimToken}, with its datasets resolved
+     * lazily while they are consumed.
+     *
+     * @param message             the request message.
+     * @param tokenRepresentation the claim token.
+     * @return succeeded result with the {@link CatalogStream}, failed result otherwise.
+     */
+    @NotNull
+    default ServiceResult<CatalogStream> streamCatalog(CatalogRequestMessage message, TokenRepresentation tokenRepresentation) {
+        return getCatalog(message, tokenRepresentation).map(CatalogStream::of);
+    }
+
     /**
      * Returns a dataset given its id and a {@link ClaimToken}
      *
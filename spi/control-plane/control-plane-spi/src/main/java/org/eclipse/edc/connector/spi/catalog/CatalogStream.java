@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.connector.spi.catalog;
+
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.DatasetResolver;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Catalog} whose datasets are resolved lazily, so that they can be written one at a time instead of being
+ * held in memory all together.
+ */
+public interface CatalogStream {
+
+    /**
+     * Wraps a catalog whose datasets are already resolved.
+     *
+     * @param catalog the catalog.
+     * @return the catalog stream.
+     */
+    static CatalogStream of(Catalog catalog) {
+        var properties = new HashMap<>(Optional.ofNullable(catalog.getProperties()).orElseGet(HashMap::new));
+        var continuationToken = properties.remove(DatasetResolver.CONTINUATION_TOKEN);
+        var header = Catalog.Builder.newInstance()
+                .id(catalog.getId())
+                .participantId(catalog.getParticipantId())
+                .dataServices(catalog.getDataServices())
+                .properties(properties)
+                .datasets(List.of())
+                .build();
+
+        return new CatalogStream() {
+            @Override
+            public Catalog catalog() {
+                return header;
+            }
+
+            @Override
+            public @Nullable String forEachDataset(Consumer<Dataset> consumer) {
+                Optional.ofNullable(catalog.getDatasets()).ifPresent(datasets -> datasets.forEach(consumer));
+                return continuationToken == null ? null : continuationToken.toString();
+            }
+        };
+    }
+
+    /**
+     * Returns the catalog without its datasets and without the continuation token.
+     *
+     * @return the catalog.
+     */
+    Catalog catalog();
+
+    /**
+     * Resolves the datasets of the catalog and passes them to the consumer one at a time.
+     *
+     * @param consumer the dataset consumer.
+     * @return the continuation token to get the following datasets, null if no more datasets are available.
+     */
+    @Nullable
+    String forEachDataset(Consumer<Dataset> consumer);
+}
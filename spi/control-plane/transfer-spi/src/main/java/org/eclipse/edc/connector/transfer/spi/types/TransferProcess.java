@@ -163,6 +163,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     public void setContentDataAddress(DataAddress dataAddress) {
         contentDataAddress = dataAddress;
+        setModified();
     }
 
     public void transitionProvisioning(ResourceManifest manifest) {
@@ -251,10 +252,12 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
 
     public void lastSentProtocolMessage(String id) {
         protocolMessages.setLastSent(id);
+        setModified();
     }
 
     public void protocolMessageReceived(String id) {
         protocolMessages.addReceived(id);
+        setModified();
     }
 
     public void transitionProvisioningRequested() {
@@ -378,6 +381,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
      */
     public void setCorrelationId(String correlationId) {
         dataRequest.setId(correlationId);
+        setModified();
     }
 
     @JsonIgnore
@@ -421,6 +425,7 @@ public class TransferProcess extends StatefulEntity<TransferProcess> {
     @JsonIgnore
     public void updateDestination(DataAddress dataAddress) {
         dataRequest.updateDestination(dataAddress);
+        setModified();
     }
 
     @JsonIgnore
@@ -86,6 +86,21 @@ class TransferProcessTest {
         assertThat(process).usingRecursiveComparison().isEqualTo(copy);
     }
 
+    @Test
+    void verifyChangesAreTracked() {
+        var process = TransferProcess.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .state(TransferProcessStates.STARTED.code())
+                .build();
+
+        assertThat(process.hasChanges()).isFalse();
+        assertThat(process.copy().hasChanges()).isFalse();
+
+        process.lastSentProtocolMessage("message-id");
+
+        assertThat(process.hasChanges()).isTrue();
+    }
+
     @Test
     void verifyConsumerTransitions() {
         var process = TransferProcess.Builder.newInstance().id(UUID.randomUUID().toString()).type(CONSUMER).build();
@@ -144,6 +144,20 @@ public abstract class TransferProcessStoreTestBase {
                     .allMatch(id -> isLeasedBy(id, CONNECTOR_NAME));
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var waiting = createTransferProcess("waiting", STARTED);
+            waiting.setNextEligibleAt(clock.millis() + 60_000);
+            getTransferProcessStore().save(waiting);
+            var due = createTransferProcess("due", STARTED);
+            due.setNextEligibleAt(clock.millis() - 1);
+            getTransferProcessStore().save(due);
+
+            var leased = getTransferProcessStore().nextNotLeased(10, hasState(STARTED.code()));
+
+            assertThat(leased).extracting(TransferProcess::getId).containsExactly("due");
+        }
+
         @Test
         void shouldOnlyReturnFreeItems() {
             var state = STARTED;
@@ -943,6 +957,39 @@ public abstract class TransferProcessStoreTestBase {
         }
     }
 
+    @Nested
+    class ReleaseLease {
+        @Test
+        void shouldReleaseTheLease() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(createTransferProcess(id));
+            getTransferProcessStore().findByIdAndLease(id);
+
+            getTransferProcessStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+            assertThat(getTransferProcessStore().findByIdAndLease(id)).isSucceeded();
+        }
+
+        @Test
+        void shouldNotReleaseTheLease_whenEntityIsLeasedBySomeoneElse() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(createTransferProcess(id));
+            leaseEntity(id, "other owner");
+
+            getTransferProcessStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getTransferProcessStore().releaseLease("unexistent");
+
+            assertThat(getTransferProcessStore().findById("unexistent")).isNull();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
@@ -973,6 +1020,45 @@ public abstract class TransferProcessStoreTestBase {
 
             assertThat(result).isFailed().extracting(StoreFailure::getReason).isEqualTo(ALREADY_LEASED);
         }
+
+        @Test
+        void shouldNotReturnEntityInPreviousState_whenLeasedEntityIsChangedAndSaved() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(createTransferProcess(id, STARTED));
+
+            var leased = getTransferProcessStore().findByIdAndLease(id).getContent();
+            leased.transitionCompleted();
+            getTransferProcessStore().save(leased);
+
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(STARTED.code()))).isEmpty();
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(COMPLETED.code())))
+                    .extracting(TransferProcess::getId).containsExactly(id);
+        }
+
+        @Test
+        void shouldReturnEntityOnce_whenItGoesBackToPreviousState() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(createTransferProcessBuilder(id).state(STARTED.code()).stateTimestamp(clock.millis() - 1000).build());
+
+            var leased = getTransferProcessStore().findByIdAndLease(id).getContent();
+            leased.transitionCompleted();
+            getTransferProcessStore().save(leased);
+            getTransferProcessStore().save(createTransferProcessBuilder(id).state(STARTED.code()).stateTimestamp(clock.millis()).build());
+
+            assertThat(getTransferProcessStore().nextNotLeased(10, hasState(STARTED.code())))
+                    .extracting(TransferProcess::getId).containsExactly(id);
+        }
+
+        @Test
+        void shouldNotChangeStoredEntity_whenLeasedEntityIsChangedButNotSaved() {
+            var id = UUID.randomUUID().toString();
+            getTransferProcessStore().save(createTransferProcess(id, STARTED));
+
+            var leased = getTransferProcessStore().findByIdAndLease(id).getContent();
+            leased.transitionCompleted();
+
+            assertThat(getTransferProcessStore().findById(id)).extracting(TransferProcess::getState).isEqualTo(STARTED.code());
+        }
     }
 
     @Nested
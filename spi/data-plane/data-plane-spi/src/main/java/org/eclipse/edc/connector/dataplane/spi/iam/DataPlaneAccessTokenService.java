@@ -51,4 +51,17 @@ public interface DataPlaneAccessTokenService {
      * @return A {@link AccessTokenData} that contains the original claims and the data resource ({@link DataAddress}. If the token could not be restored, a failure is returned.
      */
     Result<AccessTokenData> resolve(String token);
+
+    /**
+     * Revokes the tokens that were created for a transfer process, so that they cannot be resolved anymore.
+     * <p>
+     * The default implementation does nothing, which suits implementations that don't keep track of the tokens they create.
+     *
+     * @param transferProcessId The ID of the transfer process for which the tokens were created.
+     * @param reason            The reason of the revocation.
+     * @return A failure if the tokens could not be revoked.
+     */
+    default Result<Void> revoke(String transferProcessId, String reason) {
+        return Result.success();
+    }
 }
@@ -78,4 +78,16 @@ public interface DataPlaneAuthorizationService {
      * @return The {@link DataAddress} that was encapsulated in the original {@link DataFlowStartMessage}
      */
     Result<DataAddress> authorize(String token, Map<String, Object> requestData);
+
+    /**
+     * Revokes the endpoint data references created for a transfer process, e.g. because the transfer has been terminated.
+     * Subsequent invocations of {@link #authorize(String, Map)} with their tokens will fail.
+     *
+     * @param transferProcessId The ID of the transfer process.
+     * @param reason            The reason of the revocation.
+     * @return A failure if the references could not be revoked.
+     */
+    default Result<Void> revokeEndpointDataReference(String transferProcessId, String reason) {
+        return Result.success();
+    }
 }
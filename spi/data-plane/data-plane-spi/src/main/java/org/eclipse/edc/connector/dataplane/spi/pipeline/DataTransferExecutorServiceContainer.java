@@ -23,12 +23,26 @@ import java.util.concurrent.ExecutorService;
  */
 public class DataTransferExecutorServiceContainer {
     private final ExecutorService executorService;
+    private final boolean virtualThreads;
 
     public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService) {
+        this(executorService, false);
+    }
+
+    public DataTransferExecutorServiceContainer(@NotNull ExecutorService executorService, boolean virtualThreads) {
         this.executorService = executorService;
+        this.virtualThreads = virtualThreads;
     }
 
     public @NotNull ExecutorService getExecutorService() {
         return executorService;
     }
+
+    /**
+     * Whether the executor service starts a virtual thread per task. Such an executor is not bounded, so it can be
+     * shared by blocking transfers of any kind instead of sizing a dedicated pool for each of them.
+     */
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
 }
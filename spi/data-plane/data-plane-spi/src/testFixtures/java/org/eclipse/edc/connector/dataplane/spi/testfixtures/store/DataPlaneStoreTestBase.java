@@ -115,6 +115,20 @@ public abstract class DataPlaneStoreTestBase {
             assertThat(leased).extracting(MutableEntity::getUpdatedAt).isSorted();
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var waiting = createDataFlow("waiting", RECEIVED);
+            waiting.setNextEligibleAt(System.currentTimeMillis() + 60_000);
+            getStore().save(waiting);
+            var due = createDataFlow("due", RECEIVED);
+            due.setNextEligibleAt(System.currentTimeMillis() - 1);
+            getStore().save(due);
+
+            var leased = getStore().nextNotLeased(10, hasState(RECEIVED.code()));
+
+            assertThat(leased).extracting(DataFlow::getId).containsExactly("due");
+        }
+
         @Test
         void shouldReturnFreeEntities() {
             var state = RECEIVED;
@@ -180,6 +194,39 @@ public abstract class DataPlaneStoreTestBase {
         }
     }
 
+    @Nested
+    class ReleaseLease {
+        @Test
+        void shouldReleaseTheLease() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            getStore().findByIdAndLease(id);
+
+            getStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+            assertThat(getStore().findByIdAndLease(id)).isSucceeded();
+        }
+
+        @Test
+        void shouldNotReleaseTheLease_whenEntityIsLeasedBySomeoneElse() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createDataFlow(id, RECEIVED));
+            leaseEntity(id, "other owner");
+
+            getStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getStore().releaseLease("unexistent");
+
+            assertThat(getStore().findById("unexistent")).isNull();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
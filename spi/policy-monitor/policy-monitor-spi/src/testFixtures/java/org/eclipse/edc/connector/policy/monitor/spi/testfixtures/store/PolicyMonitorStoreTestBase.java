@@ -91,6 +91,20 @@ public abstract class PolicyMonitorStoreTestBase {
             assertThat(leased).extracting(MutableEntity::getUpdatedAt).isSorted();
         }
 
+        @Test
+        void shouldNotReturnEntitiesWaitingForRetry() {
+            var waiting = createPolicyMonitorEntry("waiting", STARTED);
+            waiting.setNextEligibleAt(System.currentTimeMillis() + 60_000);
+            getStore().save(waiting);
+            var due = createPolicyMonitorEntry("due", STARTED);
+            due.setNextEligibleAt(System.currentTimeMillis() - 1);
+            getStore().save(due);
+
+            var leased = getStore().nextNotLeased(10, hasState(STARTED.code()));
+
+            assertThat(leased).extracting(PolicyMonitorEntry::getId).containsExactly("due");
+        }
+
         @Test
         void shouldReturnFreeEntities() {
             var state = STARTED;
@@ -165,6 +179,39 @@ public abstract class PolicyMonitorStoreTestBase {
         return Duration.ofMillis(500);
     }
 
+    @Nested
+    class ReleaseLease {
+        @Test
+        void shouldReleaseTheLease() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createPolicyMonitorEntry(id, STARTED));
+            getStore().findByIdAndLease(id);
+
+            getStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, CONNECTOR_NAME)).isFalse();
+            assertThat(getStore().findByIdAndLease(id)).isSucceeded();
+        }
+
+        @Test
+        void shouldNotReleaseTheLease_whenEntityIsLeasedBySomeoneElse() {
+            var id = UUID.randomUUID().toString();
+            getStore().save(createPolicyMonitorEntry(id, STARTED));
+            leaseEntity(id, "other owner");
+
+            getStore().releaseLease(id);
+
+            assertThat(isLeasedBy(id, "other owner")).isTrue();
+        }
+
+        @Test
+        void shouldDoNothing_whenEntityDoesNotExist() {
+            getStore().releaseLease("unexistent");
+
+            assertThat(getStore().findById("unexistent")).isNull();
+        }
+    }
+
     @Nested
     class FindByIdAndLease {
         @Test
@@ -0,0 +1,56 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial build file
+ *
+ */
+
+plugins {
+    java
+}
+
+dependencies {
+    implementation(project(":core:common:connector-core"))
+    implementation(project(":core:common:policy-engine"))
+    implementation(project(":core:common:token-core"))
+    implementation(project(":core:common:transform-core"))
+    implementation(project(":core:control-plane:control-plane-core"))
+    implementation(project(":data-protocols:dsp:dsp-negotiation:dsp-negotiation-transform"))
+    implementation(project(":data-protocols:dsp:dsp-spi"))
+    implementation(project(":extensions:common:json-ld"))
+    implementation(libs.nimbus.jwt)
+
+    implementation(libs.jmh.core)
+    annotationProcessor(libs.jmh.generator)
+}
+
+edcBuild {
+    publish.set(false)
+}
+
+val jmhResults = layout.buildDirectory.file("reports/jmh/results.json")
+
+tasks.register<JavaExec>("jmh") {
+    group = "benchmark"
+    description = "Runs the JMH benchmarks, a subset can be selected with -Pjmh.include=<regexp>"
+    classpath = sourceSets["main"].runtimeClasspath
+    mainClass.set("org.openjdk.jmh.Main")
+    outputs.file(jmhResults)
+    outputs.upToDateWhen { false }
+
+    val include = providers.gradleProperty("jmh.include").orElse(".*")
+    argumentProviders.add(CommandLineArgumentProvider {
+        listOf(include.get(), "-rf", "json", "-rff", jmhResults.get().asFile.absolutePath)
+    })
+
+    doFirst {
+        jmhResults.get().asFile.parentFile.mkdirs()
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.Json;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.catalog.spi.DataService;
+import org.eclipse.edc.catalog.spi.Dataset;
+import org.eclipse.edc.catalog.spi.Distribution;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractRequestMessage;
+import org.eclipse.edc.connector.core.base.agent.NoOpParticipantIdMapper;
+import org.eclipse.edc.core.transform.TypeTransformerRegistryImpl;
+import org.eclipse.edc.core.transform.transformer.dcat.from.JsonObjectFromCatalogTransformer;
+import org.eclipse.edc.core.transform.transformer.dcat.from.JsonObjectFromDataServiceTransformer;
+import org.eclipse.edc.core.transform.transformer.dcat.from.JsonObjectFromDatasetTransformer;
+import org.eclipse.edc.core.transform.transformer.dcat.from.JsonObjectFromDistributionTransformer;
+import org.eclipse.edc.core.transform.transformer.edc.to.JsonValueToGenericTypeTransformer;
+import org.eclipse.edc.core.transform.transformer.odrl.OdrlTransformersFactory;
+import org.eclipse.edc.core.transform.transformer.odrl.from.JsonObjectFromPolicyTransformer;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.jsonld.util.JacksonJsonLd;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.from.JsonObjectFromContractRequestMessageTransformer;
+import org.eclipse.edc.protocol.dsp.negotiation.transform.to.JsonObjectToContractRequestMessageTransformer;
+import org.eclipse.edc.spi.monitor.ConsoleMonitor;
+import org.eclipse.edc.spi.types.domain.offer.ContractOffer;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCAT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DCT_SCHEMA;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_PREFIX;
+import static org.eclipse.edc.jsonld.spi.Namespaces.DSPACE_SCHEMA;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_PREFIX;
+import static org.eclipse.edc.policy.model.OdrlNamespace.ODRL_SCHEMA;
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+import static org.eclipse.edc.spi.CoreConstants.EDC_PREFIX;
+
+/**
+ * Fixtures that reproduce the setup of the Dataspace Protocol API: the same transformers and json-ld namespaces, and
+ * messages shaped like the ones exchanged between connectors.
+ */
+public final class DspFixtures {
+
+    public static final String PROTOCOL = "dataspace-protocol-http";
+
+    private DspFixtures() {
+    }
+
+    /**
+     * Transformer registry with the transformers used by the DSP catalog and negotiation endpoints.
+     */
+    public static TypeTransformerRegistry transformerRegistry() {
+        var jsonFactory = Json.createBuilderFactory(Map.of());
+        var mapper = JacksonJsonLd.createObjectMapper();
+        var participantIdMapper = new NoOpParticipantIdMapper();
+        var registry = new TypeTransformerRegistryImpl();
+
+        registry.register(new JsonObjectFromCatalogTransformer(jsonFactory, mapper, participantIdMapper));
+        registry.register(new JsonObjectFromDatasetTransformer(jsonFactory, mapper));
+        registry.register(new JsonObjectFromDistributionTransformer(jsonFactory));
+        registry.register(new JsonObjectFromDataServiceTransformer(jsonFactory));
+        registry.register(new JsonObjectFromPolicyTransformer(jsonFactory, participantIdMapper));
+        registry.register(new JsonObjectFromContractRequestMessageTransformer(jsonFactory));
+
+        OdrlTransformersFactory.jsonObjectToOdrlTransformers(participantIdMapper).forEach(registry::register);
+        registry.register(new JsonValueToGenericTypeTransformer(mapper));
+        registry.register(new JsonObjectToContractRequestMessageTransformer());
+
+        return registry;
+    }
+
+    /**
+     * Json-ld service with the namespaces registered for the DSP scope.
+     */
+    public static TitaniumJsonLd jsonLd() {
+        var jsonLd = new TitaniumJsonLd(new ConsoleMonitor(null, ConsoleMonitor.Level.WARNING));
+        jsonLd.registerNamespace(EDC_PREFIX, EDC_NAMESPACE);
+        jsonLd.registerNamespace(DCAT_PREFIX, DCAT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DCT_PREFIX, DCT_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(ODRL_PREFIX, ODRL_SCHEMA, DSP_SCOPE);
+        jsonLd.registerNamespace(DSPACE_PREFIX, DSPACE_SCHEMA, DSP_SCOPE);
+        return jsonLd;
+    }
+
+    /**
+     * Catalog with the given number of datasets, every one with an offer and a distribution.
+     */
+    public static Catalog catalog(int datasets) {
+        var dataService = DataService.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .terms("connector")
+                .endpointUrl("https://provider.example.com/protocol")
+                .build();
+
+        return Catalog.Builder.newInstance()
+                .id(UUID.randomUUID().toString())
+                .participantId("provider")
+                .dataService(dataService)
+                .datasets(IntStream.range(0, datasets)
+                        .mapToObj(i -> Dataset.Builder.newInstance()
+                                .id("asset-" + i)
+                                .offer("offer-" + i, policy("asset-" + i))
+                                .distribution(Distribution.Builder.newInstance().format("HttpData-PULL").dataService(dataService).build())
+                                .property(EDC_NAMESPACE + "name", "Asset " + i)
+                                .property(EDC_NAMESPACE + "description", "A dataset shared in the benchmark catalog")
+                                .property(EDC_NAMESPACE + "contenttype", "application/json")
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    /**
+     * Initial contract request message, as sent by a consumer that starts a negotiation.
+     */
+    public static ContractRequestMessage contractRequestMessage() {
+        var offer = ContractOffer.Builder.newInstance()
+                .id("offer-0")
+                .assetId("asset-0")
+                .policy(policy("asset-0"))
+                .build();
+
+        var consumerPid = UUID.randomUUID().toString();
+        return ContractRequestMessage.Builder.newInstance()
+                .consumerPid(consumerPid)
+                .processId(consumerPid)
+                .protocol(PROTOCOL)
+                .counterPartyAddress("https://provider.example.com/protocol")
+                .callbackAddress("https://consumer.example.com/protocol")
+                .contractOffer(offer)
+                .build();
+    }
+
+    private static Policy policy(String target) {
+        var use = Action.Builder.newInstance().type("use").build();
+        return Policy.Builder.newInstance()
+                .target(target)
+                .assigner("provider")
+                .permission(Permission.Builder.newInstance()
+                        .action(use)
+                        .constraint(AtomicConstraint.Builder.newInstance()
+                                .leftExpression(new LiteralExpression(EDC_NAMESPACE + "Membership"))
+                                .operator(Operator.EQ)
+                                .rightExpression(new LiteralExpression("active"))
+                                .build())
+                        .build())
+                .build();
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.catalog.spi.Catalog;
+import org.eclipse.edc.connector.contract.spi.types.negotiation.ContractRequestMessage;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.transform.spi.TypeTransformerRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transformation of DSP messages from and to their json-ld representation, as done by the protocol API controllers
+ * and by the protocol dispatchers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DspTransformerBenchmark {
+
+    @Param({ "1", "50" })
+    public int datasets;
+
+    private TypeTransformerRegistry transformerRegistry;
+    private Catalog catalog;
+    private ContractRequestMessage contractRequest;
+    private JsonObject expandedContractRequest;
+
+    @Setup
+    public void setUp() {
+        transformerRegistry = DspFixtures.transformerRegistry();
+        catalog = DspFixtures.catalog(datasets);
+        contractRequest = DspFixtures.contractRequestMessage();
+
+        var jsonLd = DspFixtures.jsonLd();
+        var contractRequestJson = transformerRegistry.transform(contractRequest, JsonObject.class).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        expandedContractRequest = jsonLd.expand(contractRequestJson).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        transformerRegistry.transform(expandedContractRequest, ContractRequestMessage.class).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> catalogToJson() {
+        return transformerRegistry.transform(catalog, JsonObject.class);
+    }
+
+    @Benchmark
+    public Result<JsonObject> contractRequestToJson() {
+        return transformerRegistry.transform(contractRequest, JsonObject.class);
+    }
+
+    @Benchmark
+    public Result<ContractRequestMessage> jsonToContractRequest() {
+        return transformerRegistry.transform(expandedContractRequest, ContractRequestMessage.class);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.connector.defaults.storage.transferprocess.InMemoryTransferProcessStore;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.Criterion;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.REQUESTING;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.hasState;
+import static org.eclipse.edc.spi.persistence.StateEntityStore.isNotPending;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * A state machine iteration on the in-memory store: fetch and lease a batch of entities in a state, then save them
+ * back, that releases the lease.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InMemoryStatefulEntityStoreBenchmark {
+
+    private static final int BATCH_SIZE = 20;
+
+    @Param({ "1000", "10000" })
+    public int entities;
+
+    private InMemoryTransferProcessStore store;
+    private Criterion[] filter;
+
+    @Setup
+    public void setUp() {
+        store = new InMemoryTransferProcessStore(Clock.systemUTC(), CriterionOperatorRegistryImpl.ofDefaults());
+        TransferProcessFixtures.transferProcesses(entities).forEach(store::save);
+        filter = new Criterion[]{ hasState(REQUESTING.code()), isNotPending(), criterion("type", "=", "CONSUMER") };
+    }
+
+    @Benchmark
+    public List<TransferProcess> nextNotLeased() {
+        var batch = store.nextNotLeased(BATCH_SIZE, filter);
+        batch.forEach(store::save);
+        return batch;
+    }
+}
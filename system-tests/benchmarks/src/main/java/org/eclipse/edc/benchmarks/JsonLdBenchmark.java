@@ -0,0 +1,83 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import jakarta.json.JsonObject;
+import org.eclipse.edc.jsonld.TitaniumJsonLd;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.protocol.dsp.type.DspConstants.DSP_SCOPE;
+
+/**
+ * Expansion of incoming and compaction of outgoing DSP messages, that's done by the json-ld interceptor on every
+ * request and response of the protocol API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonLdBenchmark {
+
+    @Param({ "1", "50" })
+    public int datasets;
+
+    private TitaniumJsonLd jsonLd;
+    private JsonObject expandedCatalog;
+    private JsonObject compactedCatalog;
+    private JsonObject compactedContractRequest;
+
+    @Setup
+    public void setUp() {
+        jsonLd = DspFixtures.jsonLd();
+        var transformerRegistry = DspFixtures.transformerRegistry();
+
+        var catalog = transformerRegistry.transform(DspFixtures.catalog(datasets), JsonObject.class).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        expandedCatalog = jsonLd.expand(catalog).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        compactedCatalog = jsonLd.compact(expandedCatalog, DSP_SCOPE).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+
+        var contractRequest = transformerRegistry.transform(DspFixtures.contractRequestMessage(), JsonObject.class).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+        compactedContractRequest = jsonLd.compact(contractRequest, DSP_SCOPE).orElseThrow(failure -> new IllegalStateException(failure.getFailureDetail()));
+    }
+
+    @Benchmark
+    public Result<JsonObject> expandCatalog() {
+        return jsonLd.expand(compactedCatalog);
+    }
+
+    @Benchmark
+    public Result<JsonObject> compactCatalog() {
+        return jsonLd.compact(expandedCatalog, DSP_SCOPE);
+    }
+
+    @Benchmark
+    public Result<JsonObject> expandContractRequest() {
+        return jsonLd.expand(compactedContractRequest);
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.policy.engine.PolicyEngineImpl;
+import org.eclipse.edc.policy.engine.RuleBindingRegistryImpl;
+import org.eclipse.edc.policy.engine.ScopeFilter;
+import org.eclipse.edc.policy.engine.spi.PolicyContext;
+import org.eclipse.edc.policy.engine.spi.PolicyContextImpl;
+import org.eclipse.edc.policy.engine.spi.PolicyEngine;
+import org.eclipse.edc.policy.model.Action;
+import org.eclipse.edc.policy.model.AtomicConstraint;
+import org.eclipse.edc.policy.model.LiteralExpression;
+import org.eclipse.edc.policy.model.Operator;
+import org.eclipse.edc.policy.model.Permission;
+import org.eclipse.edc.policy.model.Policy;
+import org.eclipse.edc.policy.model.Prohibition;
+import org.eclipse.edc.spi.agent.ParticipantAgent;
+import org.eclipse.edc.spi.result.Result;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.policy.engine.spi.PolicyEngine.ALL_SCOPES;
+import static org.eclipse.edc.spi.CoreConstants.EDC_NAMESPACE;
+
+/**
+ * Evaluation of a contract policy with multiple permissions and a prohibition, as it happens for every offer in a
+ * catalog request and for every contract negotiation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PolicyEngineBenchmark {
+
+    private static final String SCOPE = "contract.negotiation";
+    private static final String MEMBERSHIP = EDC_NAMESPACE + "Membership";
+    private static final String REGION = EDC_NAMESPACE + "Region";
+    private static final String PURPOSE = EDC_NAMESPACE + "Purpose";
+    private static final String DISMANTLER = EDC_NAMESPACE + "Dismantler";
+
+    private PolicyEngine policyEngine;
+    private Policy policy;
+    private ParticipantAgent participantAgent;
+
+    @Setup
+    public void setUp() {
+        var bindingRegistry = new RuleBindingRegistryImpl();
+        policyEngine = new PolicyEngineImpl(new ScopeFilter(bindingRegistry));
+
+        bindingRegistry.bind("use", ALL_SCOPES);
+        List.of(MEMBERSHIP, REGION, PURPOSE, DISMANTLER).forEach(key -> {
+            bindingRegistry.bind(key, ALL_SCOPES);
+            policyEngine.registerFunction(ALL_SCOPES, Permission.class, key, (operator, rightValue, rule, context) -> matchesClaim(key, operator, rightValue, context));
+            policyEngine.registerFunction(ALL_SCOPES, Prohibition.class, key, (operator, rightValue, rule, context) -> matchesClaim(key, operator, rightValue, context));
+        });
+
+        var use = Action.Builder.newInstance().type("use").build();
+        policy = Policy.Builder.newInstance()
+                .permission(Permission.Builder.newInstance().action(use)
+                        .constraint(constraint(MEMBERSHIP, Operator.EQ, "active"))
+                        .constraint(constraint(REGION, Operator.IN, List.of("eu", "us")))
+                        .build())
+                .permission(Permission.Builder.newInstance().action(use)
+                        .constraint(constraint(PURPOSE, Operator.EQ, "quality-analysis"))
+                        .build())
+                .prohibition(Prohibition.Builder.newInstance().action(use)
+                        .constraint(constraint(DISMANTLER, Operator.EQ, "true"))
+                        .build())
+                .build();
+
+        participantAgent = new ParticipantAgent(Map.of(
+                MEMBERSHIP, "active",
+                REGION, "eu",
+                PURPOSE, "quality-analysis",
+                DISMANTLER, "false"
+        ), Map.of());
+    }
+
+    @Benchmark
+    public Result<Void> evaluate() {
+        var context = PolicyContextImpl.Builder.newInstance().additional(ParticipantAgent.class, participantAgent).build();
+        return policyEngine.evaluate(SCOPE, policy, context);
+    }
+
+    private static AtomicConstraint constraint(String key, Operator operator, Object value) {
+        return AtomicConstraint.Builder.newInstance()
+                .leftExpression(new LiteralExpression(key))
+                .operator(operator)
+                .rightExpression(new LiteralExpression(value))
+                .build();
+    }
+
+    private static boolean matchesClaim(String key, Operator operator, Object rightValue, PolicyContext context) {
+        var claim = context.getContextData(ParticipantAgent.class).getClaims().get(key);
+        return switch (operator) {
+            case EQ -> Objects.equals(claim, rightValue);
+            case IN -> rightValue instanceof List<?> list && list.contains(claim);
+            default -> false;
+        };
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.core.store.CriterionOperatorRegistryImpl;
+import org.eclipse.edc.connector.core.store.ReflectionBasedQueryResolver;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.spi.query.QueryResolver;
+import org.eclipse.edc.spi.query.QuerySpec;
+import org.eclipse.edc.spi.query.SortOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates.STARTED;
+import static org.eclipse.edc.spi.query.Criterion.criterion;
+
+/**
+ * Query on the in-memory transfer processes, shaped like the ones issued through the management API.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryResolverBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int entities;
+
+    private QueryResolver<TransferProcess> queryResolver;
+    private List<TransferProcess> transferProcesses;
+    private QuerySpec querySpec;
+
+    @Setup
+    public void setUp() {
+        queryResolver = new ReflectionBasedQueryResolver<>(TransferProcess.class, CriterionOperatorRegistryImpl.ofDefaults());
+        transferProcesses = TransferProcessFixtures.transferProcesses(entities);
+        querySpec = QuerySpec.Builder.newInstance()
+                .filter(List.of(
+                        criterion("state", "=", STARTED.code()),
+                        criterion("type", "=", "CONSUMER"),
+                        criterion("dataRequest.assetId", "in", List.of("asset-2", "asset-12", "asset-22"))
+                ))
+                .sortField("stateTimestamp")
+                .sortOrder(SortOrder.DESC)
+                .limit(50)
+                .build();
+    }
+
+    @Benchmark
+    public List<TransferProcess> query() {
+        return queryResolver.query(transferProcesses.stream(), querySpec).toList();
+    }
+}
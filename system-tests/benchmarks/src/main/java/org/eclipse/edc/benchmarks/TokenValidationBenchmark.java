@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.ECDSASigner;
+import com.nimbusds.jose.jwk.Curve;
+import com.nimbusds.jose.jwk.gen.ECKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import org.eclipse.edc.spi.iam.ClaimToken;
+import org.eclipse.edc.spi.iam.PublicKeyResolver;
+import org.eclipse.edc.spi.iam.TokenRepresentation;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.token.TokenValidationServiceImpl;
+import org.eclipse.edc.token.rules.AudienceValidationRule;
+import org.eclipse.edc.token.rules.ExpirationIssuedAtValidationRule;
+import org.eclipse.edc.token.rules.NotBeforeValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationRule;
+import org.eclipse.edc.token.spi.TokenValidationService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static java.time.temporal.ChronoUnit.HOURS;
+
+/**
+ * Validation of an ES256 signed token carrying the claims of a counter-party, as it's done for every protocol request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenValidationBenchmark {
+
+    private static final String AUDIENCE = "https://provider.example.com";
+
+    private TokenValidationService tokenValidationService;
+    private TokenRepresentation tokenRepresentation;
+    private PublicKeyResolver publicKeyResolver;
+    private List<TokenValidationRule> rules;
+
+    @Setup
+    public void setUp() throws JOSEException {
+        var key = new ECKeyGenerator(Curve.P_256).keyID(UUID.randomUUID().toString()).generate();
+        var publicKey = key.toECPublicKey();
+        publicKeyResolver = id -> key.getKeyID().equals(id) ? Result.success(publicKey) : Result.failure("Unknown key " + id);
+
+        var now = Instant.now();
+        var claims = new JWTClaimsSet.Builder()
+                .issuer("did:web:consumer.example.com")
+                .subject("did:web:consumer.example.com")
+                .audience(AUDIENCE)
+                .jwtID(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .notBeforeTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, HOURS)))
+                .claim("client_id", "consumer")
+                .claim("scope", "read")
+                .build();
+        var jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.ES256).keyID(key.getKeyID()).build(), claims);
+        jwt.sign(new ECDSASigner(key));
+        tokenRepresentation = TokenRepresentation.Builder.newInstance().token(jwt.serialize()).build();
+
+        var clock = Clock.systemUTC();
+        rules = List.of(
+                new AudienceValidationRule(AUDIENCE),
+                new NotBeforeValidationRule(clock, 5),
+                new ExpirationIssuedAtValidationRule(clock, 5)
+        );
+        tokenValidationService = new TokenValidationServiceImpl();
+    }
+
+    @Benchmark
+    public Result<ClaimToken> validate() {
+        return tokenValidationService.validate(tokenRepresentation, publicKeyResolver, rules);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ *  Copyright (c) 2024 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+package org.eclipse.edc.benchmarks;
+
+import org.eclipse.edc.connector.transfer.spi.types.DataRequest;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcess;
+import org.eclipse.edc.connector.transfer.spi.types.TransferProcessStates;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcess.Type.CONSUMER;
+import static org.eclipse.edc.connector.transfer.spi.types.TransferProcess.Type.PROVIDER;
+
+/**
+ * Transfer processes spread over the states that are handled by the state machine, as they are in a store of a
+ * connector that is exchanging data.
+ */
+public final class TransferProcessFixtures {
+
+    private static final TransferProcessStates[] STATES = {
+            TransferProcessStates.INITIAL, TransferProcessStates.REQUESTING, TransferProcessStates.STARTED,
+            TransferProcessStates.COMPLETED, TransferProcessStates.TERMINATED
+    };
+
+    private TransferProcessFixtures() {
+    }
+
+    public static List<TransferProcess> transferProcesses(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> TransferProcess.Builder.newInstance()
+                        .id(UUID.randomUUID().toString())
+                        .type(i % 2 == 0 ? CONSUMER : PROVIDER)
+                        .state(STATES[i % STATES.length].code())
+                        .stateTimestamp(i)
+                        .dataRequest(DataRequest.Builder.newInstance()
+                                .id(UUID.randomUUID().toString())
+                                .assetId("asset-" + i % 100)
+                                .contractId("contract-" + i % 100)
+                                .connectorAddress("https://counter-party.example.com/protocol")
+                                .protocol(DspFixtures.PROTOCOL)
+                                .destinationType("HttpData")
+                                .build())
+                        .build())
+                .toList();
+    }
+}